@@ -1,6 +1,7 @@
 import benchmarksprintf;
 import benchmarktypes;
 import benchmarkio;
+import benchmarkworkers;
 import ballerina/io;
 
 map<function()> functions;
@@ -17,6 +18,7 @@ function addFunctions() {
     addSprintfFunctions();
     addIoFunctions();
     addStringFunctions();
+    addWorkerFunctions();
 }
 
 function addJSONFunctions() {
@@ -140,3 +142,10 @@ function addStringFunctions() {
     functions["benchmarkStringSplit"] = benchmarktypes:benchmarkStringSplit;
     functions["benchmarkStringUnescape"] = benchmarktypes:benchmarkStringUnescape;
 }
+
+function addWorkerFunctions() {
+    functions["benchmarkWorkerAsyncSend"] = benchmarkworkers:benchmarkWorkerAsyncSend;
+    functions["benchmarkWorkerSyncSend"] = benchmarkworkers:benchmarkWorkerSyncSend;
+    functions["benchmarkWorkerFlush"] = benchmarkworkers:benchmarkWorkerFlush;
+    functions["benchmarkWorkerFanOutFanIn"] = benchmarkworkers:benchmarkWorkerFanOutFanIn;
+}
@@ -0,0 +1,168 @@
+// Worker send and receive statements must be top level statements of a worker. Each benchmark therefore exchanges
+// a fixed number of messages, unrolled below, instead of looping over them. With so few messages per channel, the
+// time is dominated by starting and waiting for the workers, so these benchmarks measure the cost of a whole worker
+// exchange rather than the throughput of the channel queue. The throughput of async sends over a channel is
+// benchmarked with millions of messages by WorkerDataChannelBenchmark.
+
+public function benchmarkWorkerAsyncSend() {
+    worker w1 {
+        1 -> w2;
+        2 -> w2;
+        3 -> w2;
+        4 -> w2;
+        5 -> w2;
+        6 -> w2;
+        7 -> w2;
+        8 -> w2;
+    }
+
+    worker w2 {
+        int v1 = <- w1;
+        int v2 = <- w1;
+        int v3 = <- w1;
+        int v4 = <- w1;
+        int v5 = <- w1;
+        int v6 = <- w1;
+        int v7 = <- w1;
+        int v8 = <- w1;
+        int sum = v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8;
+    }
+
+    wait w2;
+}
+
+public function benchmarkWorkerSyncSend() {
+    worker w1 {
+        error? r1 = 1 ->> w2;
+        error? r2 = 2 ->> w2;
+        error? r3 = 3 ->> w2;
+        error? r4 = 4 ->> w2;
+        error? r5 = 5 ->> w2;
+        error? r6 = 6 ->> w2;
+        error? r7 = 7 ->> w2;
+        error? r8 = 8 ->> w2;
+    }
+
+    worker w2 {
+        int v1 = <- w1;
+        int v2 = <- w1;
+        int v3 = <- w1;
+        int v4 = <- w1;
+        int v5 = <- w1;
+        int v6 = <- w1;
+        int v7 = <- w1;
+        int v8 = <- w1;
+        int sum = v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8;
+    }
+
+    wait w2;
+}
+
+public function benchmarkWorkerFlush() {
+    worker w1 {
+        1 -> w2;
+        2 -> w2;
+        3 -> w2;
+        4 -> w2;
+        5 -> w2;
+        6 -> w2;
+        7 -> w2;
+        8 -> w2;
+        error? result = flush w2;
+    }
+
+    worker w2 {
+        int v1 = <- w1;
+        int v2 = <- w1;
+        int v3 = <- w1;
+        int v4 = <- w1;
+        int v5 = <- w1;
+        int v6 = <- w1;
+        int v7 = <- w1;
+        int v8 = <- w1;
+        int sum = v1 + v2 + v3 + v4 + v5 + v6 + v7 + v8;
+    }
+
+    wait w1;
+}
+
+public function benchmarkWorkerFanOutFanIn() {
+    worker w1 {
+        1 -> w2;
+        1 -> w3;
+        2 -> w2;
+        2 -> w3;
+        3 -> w2;
+        3 -> w3;
+        4 -> w2;
+        4 -> w3;
+        5 -> w2;
+        5 -> w3;
+        6 -> w2;
+        6 -> w3;
+        7 -> w2;
+        7 -> w3;
+        8 -> w2;
+        8 -> w3;
+    }
+
+    worker w2 {
+        int v1 = <- w1;
+        int v2 = <- w1;
+        int v3 = <- w1;
+        int v4 = <- w1;
+        int v5 = <- w1;
+        int v6 = <- w1;
+        int v7 = <- w1;
+        int v8 = <- w1;
+        v1 -> w4;
+        v2 -> w4;
+        v3 -> w4;
+        v4 -> w4;
+        v5 -> w4;
+        v6 -> w4;
+        v7 -> w4;
+        v8 -> w4;
+    }
+
+    worker w3 {
+        int v1 = <- w1;
+        int v2 = <- w1;
+        int v3 = <- w1;
+        int v4 = <- w1;
+        int v5 = <- w1;
+        int v6 = <- w1;
+        int v7 = <- w1;
+        int v8 = <- w1;
+        v1 -> w4;
+        v2 -> w4;
+        v3 -> w4;
+        v4 -> w4;
+        v5 -> w4;
+        v6 -> w4;
+        v7 -> w4;
+        v8 -> w4;
+    }
+
+    worker w4 {
+        int a1 = <- w2;
+        int b1 = <- w3;
+        int a2 = <- w2;
+        int b2 = <- w3;
+        int a3 = <- w2;
+        int b3 = <- w3;
+        int a4 = <- w2;
+        int b4 = <- w3;
+        int a5 = <- w2;
+        int b5 = <- w3;
+        int a6 = <- w2;
+        int b6 = <- w3;
+        int a7 = <- w2;
+        int b7 = <- w3;
+        int a8 = <- w2;
+        int b8 = <- w3;
+        int sum = a1 + a2 + a3 + a4 + a5 + a6 + a7 + a8 + b1 + b2 + b3 + b4 + b5 + b6 + b7 + b8;
+    }
+
+    wait w4;
+}
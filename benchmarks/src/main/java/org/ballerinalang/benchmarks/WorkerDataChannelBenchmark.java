@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.benchmarks;
+
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.scheduling.WorkerDataChannel;
+import org.ballerinalang.jvm.types.BTypes;
+
+import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Benchmark of the throughput of async sends over {@link WorkerDataChannel}s, with enough messages per channel for
+ * the time to be spent in the channel rather than in starting the strands. The worker benchmarks written in Ballerina
+ * can only exchange a handful of messages per channel, since worker interactions have to be top level statements.
+ * <p>
+ * Usage: {@code WorkerDataChannelBenchmark [warmup iterations] [benchmark iterations]}
+ *
+ * @since 1.2.0
+ */
+public class WorkerDataChannelBenchmark {
+
+    private static final PrintStream out = System.out;
+    private static final String CHANNEL_NAME = "w1->w2";
+    private static final int SCHEDULER_THREADS = 4;
+
+    public static void main(String[] args) {
+        int warmupIterations = args.length > 0 ? Integer.parseInt(args[0]) : 3;
+        int benchmarkIterations = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        out.println("Benchmark,Total Time (ms),Throughput (messages/second)");
+        run("asyncSendSinglePair", 1, 2000000, warmupIterations, benchmarkIterations);
+        run("asyncSendEightPairs", 8, 500000, warmupIterations, benchmarkIterations);
+    }
+
+    private static void run(String name, int pairs, int messagesPerPair, int warmupIterations,
+                            int benchmarkIterations) {
+        for (int i = 0; i < warmupIterations; i++) {
+            asyncSend(pairs, messagesPerPair);
+        }
+        long elapsedNanos = 0;
+        for (int i = 0; i < benchmarkIterations; i++) {
+            elapsedNanos += asyncSend(pairs, messagesPerPair);
+        }
+        long messages = (long) pairs * messagesPerPair * benchmarkIterations;
+        out.println(name + "," + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + ","
+                + (long) (messages / (elapsedNanos / 1e9)));
+    }
+
+    /**
+     * Send messages from one strand to another over each of the given number of channels.
+     *
+     * @param pairs           number of sending and receiving strand pairs
+     * @param messagesPerPair number of messages sent over each channel
+     * @return time taken to send and receive all the messages, in nanoseconds
+     */
+    private static long asyncSend(int pairs, int messagesPerPair) {
+        Scheduler scheduler = new Scheduler(SCHEDULER_THREADS, false);
+        AtomicLong sum = new AtomicLong();
+        for (int i = 0; i < pairs; i++) {
+            WorkerDataChannel channel = new WorkerDataChannel(CHANNEL_NAME);
+            Function<Object[], Object> sender = params -> {
+                for (long j = 0; j < messagesPerPair; j++) {
+                    channel.sendData(j, (Strand) params[0]);
+                }
+                return null;
+            };
+            // The number and the sum of the messages received so far, kept across the runs of the receiver, which
+            // returns when the strand is blocked and takes the message again when resumed, as generated code does
+            long[] received = new long[2];
+            Function<Object[], Object> receiver = params -> {
+                Strand strand = (Strand) params[0];
+                try {
+                    while (received[0] < messagesPerPair) {
+                        Object message = channel.tryTakeData(strand);
+                        if (strand.isYielded()) {
+                            return null;
+                        }
+                        received[0]++;
+                        received[1] += (Long) message;
+                    }
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+                sum.addAndGet(received[1]);
+                return null;
+            };
+            scheduler.schedule(new Object[1], receiver, null, null, null, BTypes.typeNull);
+            scheduler.schedule(new Object[1], sender, null, null, null, BTypes.typeNull);
+        }
+
+        long startTime = System.nanoTime();
+        scheduler.start();
+        long elapsedNanos = System.nanoTime() - startTime;
+        if (sum.get() != pairs * ((long) messagesPerPair * (messagesPerPair - 1) / 2)) {
+            throw new IllegalStateException("messages were lost or duplicated");
+        }
+        return elapsedNanos;
+    }
+}
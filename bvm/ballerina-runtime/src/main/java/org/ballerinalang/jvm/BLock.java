@@ -20,52 +20,82 @@ package org.ballerinalang.jvm;
 import org.ballerinalang.jvm.scheduling.State;
 import org.ballerinalang.jvm.scheduling.Strand;
 
-import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * {@code VarLock} represents lock object for variables in jvm.
+ * <p>
+ * The owning strand is set with a CAS and re-entrant locking only updates a hold count, hence uncontended lock and
+ * unlock neither allocate nor take a monitor. Strands which fail to acquire the lock are added to a lock-free wait
+ * queue and yield with {@link State#BLOCK_AND_YIELD}, and each unlock hands over to the first waiting strand through
+ * the scheduler.
  *
  * @since 1.0.0
  */
 public class BLock {
 
-    private ArrayDeque<Strand> current;
+    private static final AtomicReferenceFieldUpdater<BLock, Strand> OWNER =
+            AtomicReferenceFieldUpdater.newUpdater(BLock.class, Strand.class, "owner");
 
-    private ArrayDeque<Strand> waitingForLock;
+    private volatile Strand owner;
+
+    /**
+     * Number of times the owner has acquired the lock. Only accessed by the owning strand.
+     */
+    private int holdCount;
+
+    private final Queue<Strand> waitingForLock;
 
     public BLock() {
-        this.current = new ArrayDeque<>();
-        this.waitingForLock = new ArrayDeque<>();
+        this.waitingForLock = new ConcurrentLinkedQueue<>();
     }
 
-    public synchronized boolean lock(Strand strand) {
-        if (isLockFree() || lockedBySameContext(strand)) {
-            current.offerLast(strand);
+    public boolean lock(Strand strand) {
+        if (owner == strand) {
+            holdCount++;
+            return true;
+        }
+        if (tryAcquire(strand)) {
             return true;
         }
-
-        waitingForLock.offerLast(strand);
 
         // Strand state change
         strand.setState(State.BLOCK_AND_YIELD);
         strand.blockedOnExtern = false;
-        return false;
-    }
 
-    public synchronized void unlock() {
-        //current cannot be empty as unlock cannot be called without lock being called first.
-        current.removeLast();
-        if (!waitingForLock.isEmpty()) {
-            Strand strand = waitingForLock.removeFirst();
-            strand.scheduler.unblockStrand(strand);
+        while (true) {
+            waitingForLock.offer(strand);
+            // If the lock was released before this strand got into the queue, no unlock is left to unblock it.
+            // Unless some other thread has already taken it out of the queue to unblock it, retry acquiring.
+            if (owner != null || !waitingForLock.remove(strand)) {
+                return false;
+            }
+            if (tryAcquire(strand)) {
+                strand.setState(State.RUNNABLE);
+                return true;
+            }
         }
     }
 
-    private boolean isLockFree() {
-        return current.isEmpty();
+    public void unlock() {
+        //owner cannot be empty as unlock cannot be called without lock being called first.
+        if (--holdCount > 0) {
+            return;
+        }
+        owner = null;
+        Strand strand = waitingForLock.poll();
+        if (strand != null) {
+            strand.scheduler.unblockStrand(strand);
+        }
     }
 
-    private boolean lockedBySameContext(Strand ctx) {
-        return current.getLast() == ctx;
+    private boolean tryAcquire(Strand strand) {
+        if (owner == null && OWNER.compareAndSet(this, null, strand)) {
+            holdCount = 1;
+            return true;
+        }
+        return false;
     }
 }
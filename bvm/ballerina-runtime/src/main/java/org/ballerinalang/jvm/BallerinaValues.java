@@ -18,9 +18,15 @@
 package org.ballerinalang.jvm;
 
 import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BMapType;
 import org.ballerinalang.jvm.types.BPackage;
 import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.BooleanMapValue;
+import org.ballerinalang.jvm.values.FloatMapValue;
+import org.ballerinalang.jvm.values.IntMapValue;
 import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.MapValueImpl;
 import org.ballerinalang.jvm.values.ObjectValue;
@@ -67,6 +73,31 @@ public class BallerinaValues {
         return record;
     }
 
+    /**
+     * Method that creates a runtime map value of the given type. Maps constrained to int, float or boolean store
+     * their values unboxed.
+     *
+     * @param mapType type of the map.
+     * @param <K> type of the keys.
+     * @param <V> type of the values.
+     * @return value of the map.
+     */
+    public static <K, V> MapValueImpl<K, V> createMapValue(BType mapType) {
+        if (mapType.getTag() == TypeTags.MAP_TAG) {
+            switch (((BMapType) mapType).getConstrainedType().getTag()) {
+                case TypeTags.INT_TAG:
+                    return new IntMapValue<>(mapType);
+                case TypeTags.FLOAT_TAG:
+                    return new FloatMapValue<>(mapType);
+                case TypeTags.BOOLEAN_TAG:
+                    return new BooleanMapValue<>(mapType);
+                default:
+                    break;
+            }
+        }
+        return new MapValueImpl<>(mapType);
+    }
+
     /**
      * Method that creates a runtime object value using the given package id and object type name.
      *
@@ -0,0 +1,355 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BStructureType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.RefValue;
+import org.ballerinalang.jvm.values.StringValue;
+import org.ballerinalang.jvm.values.utils.StringUtils;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+
+/**
+ * {@code InMemoryTable} is the row store backing in-memory tables.
+ * <p>
+ * Each row is kept as an array of column values in the field order of the constraint type. Rows are never modified
+ * after they are inserted, so iterators and copies share them and only copy the row set itself. Reference values
+ * are copied when a record is added and again when a record is read, which keeps the table isolated from the
+ * records it was built from.
+ * <p>
+ * Primary key columns are backed by a hash index which also enforces uniqueness. Other columns can be marked as
+ * indexed, which gives them an {@code IDX_} index in the table database copy that queries are evaluated on.
+ * <p>
+ * Table queries are evaluated in SQL, so a table that is queried is also copied into the table database. The copy
+ * is kept for later queries, and rows added afterwards are inserted into it as well. Removing a row only marks the
+ * copy as stale, and it is rebuilt by the next query.
+ *
+ * @since 1.2.0
+ */
+public class InMemoryTable {
+
+    private static final String UNASSIGNABLE_UNIONTYPE_EXCEPTION =
+            "Corresponding Union type in the record is not an assignable nillable type";
+    private static final Object[][] EMPTY_ROWS = new Object[0][];
+
+    private final BStructureType constraintType;
+    private final String[] columnNames;
+    private final List<ColumnDefinition> columnDefs;
+    private final ArrayValue primaryKeys;
+    private final int[] primaryKeyColumns;
+    private final Map<Object, Object[]> primaryKeyIndex;
+    private final Set<String> indexColumns;
+    private final Set<Object[]> rows;
+    private Object[][] snapshot = EMPTY_ROWS;
+    private String queryTableName;
+    private boolean queryTableStale;
+
+    public InMemoryTable(BStructureType constraintType, ArrayValue primaryKeys) {
+        this(constraintType, primaryKeys, null);
+    }
+
+    public InMemoryTable(BStructureType constraintType, ArrayValue primaryKeys, ArrayValue indexColumns) {
+        this.constraintType = constraintType;
+        BField[] fields = constraintType.getFields().values().toArray(new BField[0]);
+        this.columnNames = new String[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            validateColumnType(fields[i]);
+            this.columnNames[i] = fields[i].getFieldName();
+        }
+        this.columnDefs = TableUtils.generateColumnDefinitions(constraintType);
+        this.primaryKeys = primaryKeys;
+        if (primaryKeys != null && primaryKeys.size() > 0) {
+            this.primaryKeyColumns = new int[primaryKeys.size()];
+            for (int i = 0; i < this.primaryKeyColumns.length; i++) {
+                this.primaryKeyColumns[i] = getColumnIndex(primaryKeys.getString(i));
+            }
+            this.primaryKeyIndex = new HashMap<>();
+        } else {
+            this.primaryKeyColumns = null;
+            this.primaryKeyIndex = null;
+        }
+        this.indexColumns = new LinkedHashSet<>();
+        if (indexColumns != null) {
+            for (int i = 0; i < indexColumns.size(); i++) {
+                this.indexColumns.add(columnNames[getColumnIndex(indexColumns.getString(i))]);
+            }
+        }
+        this.rows = new LinkedHashSet<>();
+    }
+
+    private InMemoryTable(InMemoryTable source) {
+        this.constraintType = source.constraintType;
+        this.columnNames = source.columnNames;
+        this.columnDefs = source.columnDefs;
+        this.primaryKeys = source.primaryKeys;
+        this.primaryKeyColumns = source.primaryKeyColumns;
+        this.primaryKeyIndex = source.primaryKeyIndex == null ? null : new HashMap<>(source.primaryKeyIndex);
+        this.indexColumns = source.indexColumns;
+        this.rows = new LinkedHashSet<>(source.rows);
+        this.snapshot = source.snapshot;
+    }
+
+    /**
+     * Adds the given record as a new row of the table.
+     *
+     * @param data record to be added
+     */
+    public synchronized void insert(MapValue<String, Object> data) {
+        Object[] row = new Object[columnNames.length];
+        for (int i = 0; i < columnNames.length; i++) {
+            row[i] = copyValue(data.get(columnNames[i]));
+        }
+
+        Object key = null;
+        if (primaryKeyIndex != null) {
+            key = getPrimaryKey(row);
+            if (primaryKeyIndex.containsKey(key)) {
+                throw TableUtils.createTableOperationError(
+                        "execute update failed: Unique index or primary key violation: " + describePrimaryKey(row));
+            }
+        }
+        if (queryTableName != null && !queryTableStale) {
+            TableProvider.getInstance().insertData(queryTableName, createRecord(row));
+        }
+        if (primaryKeyIndex != null) {
+            primaryKeyIndex.put(key, row);
+        }
+        rows.add(row);
+        snapshot = null;
+    }
+
+    /**
+     * Removes the given row from the table.
+     *
+     * @param row row returned by an iterator of this table
+     * @return true if the row was present in the table
+     */
+    synchronized boolean delete(Object[] row) {
+        if (!rows.remove(row)) {
+            return false;
+        }
+        if (primaryKeyIndex != null) {
+            primaryKeyIndex.remove(getPrimaryKey(row));
+        }
+        queryTableStale = true;
+        snapshot = null;
+        return true;
+    }
+
+    /**
+     * Creates an iterator over the rows that are in the table at the time of the call. Rows added or removed
+     * afterwards are not visible to the iterator.
+     *
+     * @return iterator over the current rows
+     */
+    public synchronized InMemoryTableIterator createIterator() {
+        if (snapshot == null) {
+            snapshot = rows.toArray(EMPTY_ROWS);
+        }
+        return new InMemoryTableIterator(this, snapshot);
+    }
+
+    /**
+     * Returns the name of the table database copy of this table, which is used to evaluate queries over it. The
+     * copy is created on the first call, and rebuilt if rows were removed since it was last used.
+     *
+     * @return name of the table in the table database
+     */
+    synchronized String getQueryTableName() {
+        TableProvider tableProvider = TableProvider.getInstance();
+        if (queryTableName != null && queryTableStale) {
+            tableProvider.dropTable(queryTableName);
+            queryTableName = null;
+        }
+        if (queryTableName == null) {
+            queryTableName = tableProvider.exportTable(this);
+            queryTableStale = false;
+        }
+        return queryTableName;
+    }
+
+    /**
+     * Drops the table database copy of this table, if one was created.
+     */
+    public synchronized void release() {
+        if (queryTableName != null) {
+            TableProvider.getInstance().dropTable(queryTableName);
+            queryTableName = null;
+        }
+    }
+
+    /**
+     * Creates a table with the same rows and indexes. Rows are shared since they are never modified.
+     *
+     * @return copy of the table
+     */
+    public synchronized InMemoryTable copy() {
+        return new InMemoryTable(this);
+    }
+
+    public synchronized int size() {
+        return rows.size();
+    }
+
+    public BStructureType getConstraintType() {
+        return constraintType;
+    }
+
+    public ArrayValue getPrimaryKeys() {
+        return primaryKeys;
+    }
+
+    /**
+     * Returns the columns which are indexed in the table database copy of this table.
+     *
+     * @return names of the indexed columns
+     */
+    Set<String> getIndexColumns() {
+        return indexColumns;
+    }
+
+    List<ColumnDefinition> getColumnDefinitions() {
+        return columnDefs;
+    }
+
+    MapValueImpl<String, Object> createRecord(Object[] row) {
+        MapValueImpl<String, Object> record = new MapValueImpl<>(constraintType);
+        for (int i = 0; i < columnNames.length; i++) {
+            record.put(columnNames[i], copyValue(row[i]));
+        }
+        return record;
+    }
+
+    private int getColumnIndex(String columnName) {
+        for (int i = 0; i < columnNames.length; i++) {
+            if (columnNames[i].equals(columnName)) {
+                return i;
+            }
+        }
+        throw TableUtils.createTableOperationError("column not found for table : " + columnName);
+    }
+
+    private Object getPrimaryKey(Object[] row) {
+        if (primaryKeyColumns.length == 1) {
+            return toPrimaryKeyValue(row, primaryKeyColumns[0]);
+        }
+        Object[] key = new Object[primaryKeyColumns.length];
+        for (int i = 0; i < primaryKeyColumns.length; i++) {
+            key[i] = toPrimaryKeyValue(row, primaryKeyColumns[i]);
+        }
+        return Arrays.asList(key);
+    }
+
+    private Object toPrimaryKeyValue(Object[] row, int columnIndex) {
+        Object value = row[columnIndex];
+        if (value == null) {
+            throw TableUtils.createTableOperationError(
+                    "execute update failed: NULL not allowed for primary key column : " + columnNames[columnIndex]);
+        }
+        return toIndexKey(value);
+    }
+
+    private String describePrimaryKey(Object[] row) {
+        StringJoiner sj = new StringJoiner(", ", "(", ")");
+        for (int columnIndex : primaryKeyColumns) {
+            sj.add(columnNames[columnIndex] + "=" + StringUtils.getStringValue(row[columnIndex]));
+        }
+        return sj.toString();
+    }
+
+    private static Object toIndexKey(Object value) {
+        if (value == null || value instanceof Long || value instanceof Double || value instanceof Boolean
+                || value instanceof String) {
+            return value;
+        }
+        if (value instanceof StringValue) {
+            return ((StringValue) value).getValue();
+        }
+        if (value instanceof DecimalValue) {
+            // Compare decimals by value, so that 1.0 and 1.00 map to the same key
+            return ((DecimalValue) value).value().stripTrailingZeros();
+        }
+        return StringUtils.getStringValue(value);
+    }
+
+    private static Object copyValue(Object value) {
+        if (value instanceof RefValue) {
+            return ((RefValue) value).copy(new HashMap<>());
+        }
+        return value;
+    }
+
+    private static void validateColumnType(BField field) {
+        BType fieldType = field.getFieldType();
+        switch (fieldType.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.XML_TAG:
+            case TypeTags.ARRAY_TAG:
+                return;
+            case TypeTags.UNION_TAG:
+                List<BType> members = ((BUnionType) fieldType).getMemberTypes();
+                if (members.size() != 2) {
+                    throw TableUtils.createTableOperationError(UNASSIGNABLE_UNIONTYPE_EXCEPTION);
+                }
+                BType memberType;
+                if (members.get(0).getTag() == TypeTags.NULL_TAG) {
+                    memberType = members.get(1);
+                } else if (members.get(1).getTag() == TypeTags.NULL_TAG) {
+                    memberType = members.get(0);
+                } else {
+                    throw TableUtils.createTableOperationError(UNASSIGNABLE_UNIONTYPE_EXCEPTION);
+                }
+                switch (memberType.getTag()) {
+                    case TypeTags.INT_TAG:
+                    case TypeTags.STRING_TAG:
+                    case TypeTags.FLOAT_TAG:
+                    case TypeTags.DECIMAL_TAG:
+                    case TypeTags.BOOLEAN_TAG:
+                    case TypeTags.JSON_TAG:
+                    case TypeTags.XML_TAG:
+                    case TypeTags.ARRAY_TAG:
+                        return;
+                    default:
+                        throw TableUtils.createTableOperationError("Unsupported nillable field for table : "
+                                                                           + fieldType);
+                }
+            default:
+                throw TableUtils.createTableOperationError("Unsupported column type for table : " + fieldType);
+        }
+    }
+}
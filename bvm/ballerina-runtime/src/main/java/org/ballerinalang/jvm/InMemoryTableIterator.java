@@ -0,0 +1,189 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BStructureType;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.DecimalValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.StringValue;
+import org.ballerinalang.jvm.values.utils.StringUtils;
+
+import java.util.List;
+
+/**
+ * <p>
+ * {@link DataIterator} implementation over the rows of an {@link InMemoryTable}. The column getters read the
+ * stored values directly and convert them the same way the JDBC driver of the former H2 backed tables did, so that
+ * the JSON and XML data sources produce the same output.
+ * </p>
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class InMemoryTableIterator implements DataIterator {
+
+    private final InMemoryTable table;
+    private Object[][] rows;
+    private Object[] currentRow;
+    private int cursor = -1;
+
+    InMemoryTableIterator(InMemoryTable table, Object[][] rows) {
+        this.table = table;
+        this.rows = rows;
+    }
+
+    @Override
+    public boolean next() {
+        if (++cursor < rows.length) {
+            currentRow = rows[cursor];
+            return true;
+        }
+        cursor = rows.length;
+        currentRow = null;
+        return false;
+    }
+
+    @Override
+    public void close() {
+        rows = new Object[0][];
+        currentRow = null;
+    }
+
+    @Override
+    public void reset() {
+        close();
+    }
+
+    /**
+     * Removes the current row from the table.
+     *
+     * @return true if the row was still present in the table
+     */
+    public boolean remove() {
+        return table.delete(currentRow);
+    }
+
+    @Override
+    public String getString(int columnIndex) {
+        Object value = getValue(columnIndex);
+        if (value == null || value instanceof String) {
+            return (String) value;
+        }
+        if (value instanceof StringValue) {
+            return ((StringValue) value).getValue();
+        }
+        if (value instanceof Boolean) {
+            return (Boolean) value ? "TRUE" : "FALSE";
+        }
+        if (value instanceof DecimalValue) {
+            return ((DecimalValue) value).value().toString();
+        }
+        if (value instanceof ArrayValue && ((ArrayValue) value).getElementType().getTag() == TypeTags.BYTE_TAG) {
+            return toHexString(((ArrayValue) value).getBytes());
+        }
+        if (value instanceof Long || value instanceof Double) {
+            return value.toString();
+        }
+        return StringUtils.getJsonString(value);
+    }
+
+    @Override
+    public Long getInt(int columnIndex) {
+        return (Long) getValue(columnIndex);
+    }
+
+    @Override
+    public Double getFloat(int columnIndex) {
+        return (Double) getValue(columnIndex);
+    }
+
+    @Override
+    public Boolean getBoolean(int columnIndex) {
+        return (Boolean) getValue(columnIndex);
+    }
+
+    @Override
+    public String getBlob(int columnIndex) {
+        ArrayValue value = (ArrayValue) getValue(columnIndex);
+        return value == null ? null : new String(value.getBytes());
+    }
+
+    @Override
+    public DecimalValue getDecimal(int columnIndex) {
+        return (DecimalValue) getValue(columnIndex);
+    }
+
+    @Override
+    public Object[] getStruct(int columnIndex) {
+        // Record typed columns are not supported by in-memory tables
+        return null;
+    }
+
+    @Override
+    public Object[] getArray(int columnIndex) {
+        ArrayValue value = (ArrayValue) getValue(columnIndex);
+        if (value == null) {
+            return new Object[] {null};
+        }
+        int length = value.size();
+        Object[] arrayData = new Object[length];
+        for (int i = 0; i < length; i++) {
+            Object element = value.getRefValue(i);
+            arrayData[i] = element instanceof DecimalValue ? ((DecimalValue) element).value() : element;
+        }
+        return arrayData;
+    }
+
+    @Override
+    public MapValueImpl<String, Object> generateNext() {
+        if (currentRow == null) {
+            throw TableUtils.createTableOperationError("error in generating next row of data : no current row");
+        }
+        return table.createRecord(currentRow);
+    }
+
+    @Override
+    public List<ColumnDefinition> getColumnDefinitions() {
+        return table.getColumnDefinitions();
+    }
+
+    @Override
+    public BStructureType getStructType() {
+        return table.getConstraintType();
+    }
+
+    private Object getValue(int columnIndex) {
+        if (currentRow == null) {
+            throw TableUtils.createTableOperationError("error in reading column : no current row");
+        }
+        return currentRow[columnIndex - 1];
+    }
+
+    private static String toHexString(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+        }
+        return sb.toString();
+    }
+}
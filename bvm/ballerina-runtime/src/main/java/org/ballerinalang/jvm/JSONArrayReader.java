@@ -0,0 +1,220 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the elements of a top level JSON array one at a time, from a {@link Reader}. Only the element which is being
+ * read is kept in memory, along with a fixed size read buffer, so arrays which are much larger than the available
+ * memory can be processed. Each element is parsed with {@link JSONParser}.
+ *
+ * @since 1.2.0
+ */
+public class JSONArrayReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+    // The element buffer is dropped after reading an element larger than this, instead of being kept for reuse
+    private static final int MAX_RETAINED_ELEMENT_SIZE = 64 * 1024;
+    private static final int EOF = -1;
+
+    private final Reader reader;
+    private final char[] buff = new char[BUFFER_SIZE];
+    private int index;
+    private int count;
+    private int line = 1;
+    private int column;
+
+    private StringBuilder element = new StringBuilder();
+    private State state = State.NOT_STARTED;
+
+    public JSONArrayReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Checks whether there is an element left to be read.
+     *
+     * @return true if there is an element left to be read
+     * @throws BallerinaException if the document does not start with an array, or if it cannot be read
+     */
+    public boolean hasNext() throws BallerinaException {
+        if (state == State.NOT_STARTED) {
+            if (nextNonWhitespace() != '[') {
+                state = State.ENDED;
+                throw error("expected [");
+            }
+            if (peekNonWhitespace() == ']') {
+                nextChar();
+                end();
+            } else {
+                state = State.ELEMENT_READY;
+            }
+        }
+        return state == State.ELEMENT_READY;
+    }
+
+    /**
+     * Reads the next element of the array.
+     *
+     * @return the next element
+     * @throws BallerinaException if the element is not valid JSON, or if the document cannot be read
+     * @throws NoSuchElementException if there are no more elements
+     */
+    public Object next() throws BallerinaException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        peekNonWhitespace();
+        int elementLine = line;
+        int elementColumn = column + 1;
+        int depth = 0;
+        char quote = 0;
+        boolean escaped = false;
+        element.setLength(0);
+        while (true) {
+            int next = nextChar();
+            if (next == EOF) {
+                state = State.ENDED;
+                throw error("unexpected end of JSON document");
+            }
+            char ch = (char) next;
+            if (quote != 0) {
+                if (escaped) {
+                    escaped = false;
+                } else if (ch == '\\') {
+                    escaped = true;
+                } else if (ch == quote) {
+                    quote = 0;
+                }
+            } else if (ch == '"' || ch == '\'') {
+                quote = ch;
+            } else if (ch == '{' || ch == '[') {
+                depth++;
+            } else if ((ch == '}' || ch == ']') && depth > 0) {
+                depth--;
+            } else if (ch == ',' && depth == 0) {
+                state = State.ELEMENT_READY;
+                break;
+            } else if (ch == ']' && depth == 0) {
+                end();
+                break;
+            }
+            element.append(ch);
+        }
+
+        String value = element.toString();
+        if (element.capacity() > MAX_RETAINED_ELEMENT_SIZE) {
+            element = new StringBuilder();
+        }
+        try {
+            return JSONParser.parse(value);
+        } catch (BallerinaException e) {
+            throw new BallerinaException("invalid array element at line: " + elementLine + " column: " +
+                                         elementColumn + ": " + (value.trim().isEmpty() ? "expected a JSON value" :
+                                         e.getMessage()));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        state = State.ENDED;
+        reader.close();
+    }
+
+    private void end() throws BallerinaException {
+        state = State.ENDED;
+        if (nextNonWhitespace() != EOF) {
+            throw error("JSON document has already ended");
+        }
+    }
+
+    private int nextNonWhitespace() throws BallerinaException {
+        int ch;
+        do {
+            ch = nextChar();
+        } while (isWhitespace(ch));
+        return ch;
+    }
+
+    private int peekNonWhitespace() throws BallerinaException {
+        while (true) {
+            if (index == count && !fill()) {
+                return EOF;
+            }
+            char ch = buff[index];
+            if (!isWhitespace(ch)) {
+                return ch;
+            }
+            nextChar();
+        }
+    }
+
+    private int nextChar() throws BallerinaException {
+        if (index == count && !fill()) {
+            return EOF;
+        }
+        char ch = buff[index++];
+        if (ch == '\n') {
+            line++;
+            column = 0;
+        } else {
+            column++;
+        }
+        return ch;
+    }
+
+    private boolean fill() throws BallerinaException {
+        try {
+            int read;
+            do {
+                read = reader.read(buff);
+            } while (read == 0);
+            if (read < 0) {
+                return false;
+            }
+            index = 0;
+            count = read;
+            return true;
+        } catch (IOException e) {
+            state = State.ENDED;
+            throw new BallerinaException("Error reading JSON: " + e.getMessage());
+        }
+    }
+
+    private static boolean isWhitespace(int ch) {
+        return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\r';
+    }
+
+    private BallerinaException error(String message) {
+        return new BallerinaException(message + " at line: " + line + " column: " + column);
+    }
+
+    /**
+     * The position of the reader in the array.
+     */
+    private enum State {
+        NOT_STARTED, ELEMENT_READY, ENDED
+    }
+}
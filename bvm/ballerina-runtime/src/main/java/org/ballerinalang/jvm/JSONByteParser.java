@@ -0,0 +1,650 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BStructureType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.MapValueImpl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A JSON parser which reads UTF-8 encoded bytes directly, without decoding them to characters first.
+ * <p>
+ * This parser only accepts well formed documents, which are parsed to the same values as {@link JSONParser} would
+ * produce. For any other input, including the lenient syntax accepted by {@link JSONParser} and malformed documents,
+ * it throws {@link UnsupportedInputException}, so that the caller can parse the input again with {@link JSONParser}
+ * and report the same values and errors as before.
+ *
+ * @since 1.2.0
+ */
+@SuppressWarnings("unchecked")
+class JSONByteParser {
+
+    // Documents nested deeper than this are left to the state machine, which does not use the call stack
+    private static final int MAX_DEPTH = 512;
+    private static final int NAME_CACHE_SIZE = 512;
+    private static final int MAX_CACHED_NAME_LENGTH = 64;
+
+    private static final BMapType JSON_MAP_TYPE = new BMapType(BTypes.typeJSON);
+    private static final BArrayType JSON_ARRAY_TYPE = new BArrayType(BTypes.typeJSON);
+    private static final UnsupportedInputException UNSUPPORTED_INPUT = new UnsupportedInputException();
+
+    private static ThreadLocal<JSONByteParser> tlParser = ThreadLocal.withInitial(JSONByteParser::new);
+
+    // Field names seen by this thread, so that repeated names share a single string
+    private final byte[][] cachedNameBytes = new byte[NAME_CACHE_SIZE][];
+    private final String[] cachedNames = new String[NAME_CACHE_SIZE];
+    private char[] charBuff = new char[256];
+    private Object[] elements = new Object[64];
+    private int elementCount;
+
+    private byte[] input;
+    private int pos;
+    private int limit;
+    private int depth;
+
+    /**
+     * Parses the given UTF-8 encoded JSON document.
+     *
+     * @param bytes  the bytes which contain the document
+     * @param offset the index of the first byte of the document
+     * @param length the number of bytes in the document
+     * @return JSON structure
+     * @throws UnsupportedInputException if the document has to be parsed by {@link JSONParser}
+     */
+    static Object parse(byte[] bytes, int offset, int length) {
+        JSONByteParser parser = tlParser.get();
+        parser.reset(bytes, offset, length);
+        try {
+            Object value = parser.parseValue(parser.nextToken());
+            parser.checkDocumentEnd();
+            return value;
+        } finally {
+            parser.release();
+        }
+    }
+
+    /**
+     * Parses the given UTF-8 encoded JSON document to a record, without creating a JSON object for it. The result is
+     * the same as parsing the document and converting it with
+     * {@link JSONUtils#convertJSONToRecord(Object, BStructureType)}.
+     *
+     * @param bytes      the bytes which contain the document
+     * @param offset     the index of the first byte of the document
+     * @param length     the number of bytes in the document
+     * @param structType the type of the record
+     * @return the record
+     * @throws UnsupportedInputException if the document has to be parsed and converted the usual way
+     */
+    static MapValueImpl<String, Object> parseRecord(byte[] bytes, int offset, int length,
+                                                    BStructureType structType) {
+        JSONByteParser parser = tlParser.get();
+        parser.reset(bytes, offset, length);
+        try {
+            if (parser.nextToken() != '{') {
+                throw UNSUPPORTED_INPUT;
+            }
+            MapValueImpl<String, Object> record = parser.parseRecord(structType);
+            parser.checkDocumentEnd();
+            return record;
+        } catch (RuntimeException e) {
+            // Conversion errors are reported by converting the JSON value again
+            throw UNSUPPORTED_INPUT;
+        } finally {
+            parser.release();
+        }
+    }
+
+    private void reset(byte[] bytes, int offset, int length) {
+        this.input = bytes;
+        this.pos = offset;
+        this.limit = offset + length;
+        this.depth = 0;
+        this.elementCount = 0;
+    }
+
+    private void release() {
+        // Do not keep the input or the values of a failed parse reachable from the thread
+        input = null;
+        Arrays.fill(elements, 0, elementCount, null);
+    }
+
+    /**
+     * Skips whitespace and returns the next byte, consuming it.
+     */
+    private int nextToken() {
+        byte[] bytes = input;
+        int i = pos;
+        while (i < limit) {
+            byte b = bytes[i++];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                pos = i;
+                return b;
+            }
+        }
+        throw UNSUPPORTED_INPUT;
+    }
+
+    private void checkDocumentEnd() {
+        byte[] bytes = input;
+        for (int i = pos; i < limit; i++) {
+            byte b = bytes[i];
+            if (b != ' ' && b != '\n' && b != '\r' && b != '\t') {
+                throw UNSUPPORTED_INPUT;
+            }
+        }
+    }
+
+    private Object parseValue(int first) {
+        switch (first) {
+            case '"':
+                return parseString();
+            case '{':
+                return parseObject();
+            case '[':
+                return parseArray();
+            case '\'':
+                throw UNSUPPORTED_INPUT;
+            default:
+                return parseNonStringValue();
+        }
+    }
+
+    private void skipValue(int first) {
+        switch (first) {
+            case '"':
+                skipString();
+                break;
+            case '{':
+                enter();
+                int ch = nextToken();
+                if (ch != '}') {
+                    while (true) {
+                        if (ch != '"') {
+                            throw UNSUPPORTED_INPUT;
+                        }
+                        skipString();
+                        if (nextToken() != ':') {
+                            throw UNSUPPORTED_INPUT;
+                        }
+                        skipValue(nextToken());
+                        ch = nextToken();
+                        if (ch == '}') {
+                            break;
+                        }
+                        if (ch != ',') {
+                            throw UNSUPPORTED_INPUT;
+                        }
+                        ch = nextToken();
+                    }
+                }
+                depth--;
+                break;
+            case '[':
+                enter();
+                ch = nextToken();
+                if (ch != ']') {
+                    while (true) {
+                        skipValue(ch);
+                        ch = nextToken();
+                        if (ch == ']') {
+                            break;
+                        }
+                        if (ch != ',') {
+                            throw UNSUPPORTED_INPUT;
+                        }
+                        ch = nextToken();
+                    }
+                }
+                depth--;
+                break;
+            case '\'':
+                throw UNSUPPORTED_INPUT;
+            default:
+                parseNonStringValue();
+                break;
+        }
+    }
+
+    private void enter() {
+        if (++depth > MAX_DEPTH) {
+            throw UNSUPPORTED_INPUT;
+        }
+    }
+
+    private MapValueImpl<String, Object> parseObject() {
+        enter();
+        MapValueImpl<String, Object> object = new MapValueImpl<>(JSON_MAP_TYPE);
+        int ch = nextToken();
+        if (ch != '}') {
+            while (true) {
+                if (ch != '"') {
+                    throw UNSUPPORTED_INPUT;
+                }
+                String name = parseFieldName();
+                if (nextToken() != ':') {
+                    throw UNSUPPORTED_INPUT;
+                }
+                object.put(name, parseValue(nextToken()));
+                ch = nextToken();
+                if (ch == '}') {
+                    break;
+                }
+                if (ch != ',') {
+                    throw UNSUPPORTED_INPUT;
+                }
+                ch = nextToken();
+            }
+        }
+        depth--;
+        return object;
+    }
+
+    @SuppressWarnings("deprecation")
+    private ArrayValueImpl parseArray() {
+        enter();
+        int ch = nextToken();
+        if (ch == ']') {
+            depth--;
+            return new ArrayValueImpl(JSON_ARRAY_TYPE);
+        }
+
+        // Elements are collected on a stack shared by nested arrays, since every JSON value is a valid element
+        int start = elementCount;
+        while (true) {
+            Object element = parseValue(ch);
+            if (elementCount == elements.length) {
+                Object[] newElements = new Object[elements.length * 2];
+                System.arraycopy(elements, 0, newElements, 0, elementCount);
+                elements = newElements;
+            }
+            elements[elementCount++] = element;
+            ch = nextToken();
+            if (ch == ']') {
+                break;
+            }
+            if (ch != ',') {
+                throw UNSUPPORTED_INPUT;
+            }
+            ch = nextToken();
+        }
+        depth--;
+
+        Object[] values = new Object[elementCount - start];
+        System.arraycopy(elements, start, values, 0, values.length);
+        Arrays.fill(elements, start, elementCount, null);
+        elementCount = start;
+        return new ArrayValueImpl(values, JSON_ARRAY_TYPE);
+    }
+
+    private MapValueImpl<String, Object> parseRecord(BStructureType structType) {
+        enter();
+        Map<String, BField> fields = structType.getFields();
+        Map<String, Object> values = new HashMap<>();
+        int ch = nextToken();
+        if (ch != '}') {
+            while (true) {
+                if (ch != '"') {
+                    throw UNSUPPORTED_INPUT;
+                }
+                BField field = fields.get(parseFieldName());
+                if (nextToken() != ':') {
+                    throw UNSUPPORTED_INPUT;
+                }
+                ch = nextToken();
+                if (field == null) {
+                    // Fields which are not in the record are not converted, so they are not created either
+                    skipValue(ch);
+                } else if (isStructure(field.type)) {
+                    if (ch != '{') {
+                        throw UNSUPPORTED_INPUT;
+                    }
+                    values.put(field.name, parseRecord((BStructureType) field.type));
+                } else {
+                    values.put(field.name, JSONUtils.convertJSON(parseValue(ch), field.type));
+                }
+                ch = nextToken();
+                if (ch == '}') {
+                    break;
+                }
+                if (ch != ',') {
+                    throw UNSUPPORTED_INPUT;
+                }
+                ch = nextToken();
+            }
+        }
+        depth--;
+
+        MapValueImpl<String, Object> record = new MapValueImpl<>(structType);
+        for (BField field : fields.values()) {
+            Object value = values.get(field.name);
+            if (value == null && !values.containsKey(field.name)) {
+                value = field.type.getZeroValue();
+            }
+            record.put(field.name, value);
+        }
+        return record;
+    }
+
+    private static boolean isStructure(BType type) {
+        return type.getTag() == TypeTags.RECORD_TYPE_TAG || type.getTag() == TypeTags.OBJECT_TYPE_TAG;
+    }
+
+    /**
+     * Parses a field name, sharing the string with earlier occurrences of a short ASCII name.
+     */
+    private String parseFieldName() {
+        byte[] bytes = input;
+        int start = pos;
+        int end = Math.min(limit, start + MAX_CACHED_NAME_LENGTH + 1);
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            byte b = bytes[i];
+            if (b == '"') {
+                pos = i + 1;
+                return cachedName(bytes, start, i - start, hash);
+            }
+            if (b == '\\' || b < 0) {
+                break;
+            }
+            hash = 31 * hash + b;
+        }
+        return parseString();
+    }
+
+    private String cachedName(byte[] bytes, int start, int length, int hash) {
+        int slot = (hash ^ (hash >>> 16)) & (NAME_CACHE_SIZE - 1);
+        byte[] cached = cachedNameBytes[slot];
+        if (cached != null && cached.length == length) {
+            int i = 0;
+            while (i < length && cached[i] == bytes[start + i]) {
+                i++;
+            }
+            if (i == length) {
+                return cachedNames[slot];
+            }
+        }
+
+        String name = new String(bytes, start, length, StandardCharsets.ISO_8859_1);
+        byte[] nameBytes = new byte[length];
+        System.arraycopy(bytes, start, nameBytes, 0, length);
+        cachedNameBytes[slot] = nameBytes;
+        cachedNames[slot] = name;
+        return name;
+    }
+
+    private String parseString() {
+        int start = pos;
+        int end = findAsciiStringEnd();
+        if (end >= 0) {
+            pos = end + 1;
+            return new String(input, start, end - start, StandardCharsets.ISO_8859_1);
+        }
+        // The character buffer may be replaced while decoding, so it is read only afterwards
+        int count = decodeString();
+        return new String(charBuff, 0, count);
+    }
+
+    private void skipString() {
+        int end = findAsciiStringEnd();
+        if (end >= 0) {
+            pos = end + 1;
+        } else {
+            decodeString();
+        }
+    }
+
+    /**
+     * Returns the index of the closing quote if the string at the current position has neither escaped nor non ASCII
+     * characters, and -1 otherwise.
+     */
+    private int findAsciiStringEnd() {
+        byte[] bytes = input;
+        for (int i = pos; i < limit; i++) {
+            byte b = bytes[i];
+            if (b == '"') {
+                return i;
+            }
+            if (b == '\\' || b < 0) {
+                return -1;
+            }
+        }
+        throw UNSUPPORTED_INPUT;
+    }
+
+    /**
+     * Decodes the string at the current position into the character buffer, and returns the number of characters.
+     */
+    private int decodeString() {
+        byte[] bytes = input;
+        int i = pos;
+        int count = 0;
+        while (true) {
+            if (i >= limit) {
+                throw UNSUPPORTED_INPUT;
+            }
+            if (count + 2 > charBuff.length) {
+                char[] newBuff = new char[charBuff.length * 2];
+                System.arraycopy(charBuff, 0, newBuff, 0, count);
+                charBuff = newBuff;
+            }
+
+            int b = bytes[i++];
+            if (b == '"') {
+                pos = i;
+                return count;
+            }
+            if (b == '\\') {
+                if (i >= limit) {
+                    throw UNSUPPORTED_INPUT;
+                }
+                switch (bytes[i++]) {
+                    case '"':
+                        charBuff[count++] = '"';
+                        break;
+                    case '\\':
+                        charBuff[count++] = '\\';
+                        break;
+                    case '/':
+                        charBuff[count++] = '/';
+                        break;
+                    case 'b':
+                        charBuff[count++] = '\b';
+                        break;
+                    case 'f':
+                        charBuff[count++] = '\f';
+                        break;
+                    case 'n':
+                        charBuff[count++] = '\n';
+                        break;
+                    case 'r':
+                        charBuff[count++] = '\r';
+                        break;
+                    case 't':
+                        charBuff[count++] = '\t';
+                        break;
+                    case 'u':
+                        if (i + 4 > limit) {
+                            throw UNSUPPORTED_INPUT;
+                        }
+                        int ch = 0;
+                        for (int end = i + 4; i < end; i++) {
+                            ch = (ch << 4) | hexValue(bytes[i]);
+                        }
+                        charBuff[count++] = (char) ch;
+                        break;
+                    default:
+                        throw UNSUPPORTED_INPUT;
+                }
+            } else if (b >= 0) {
+                charBuff[count++] = (char) b;
+            } else if ((b & 0xE0) == 0xC0) {
+                if (i >= limit) {
+                    throw UNSUPPORTED_INPUT;
+                }
+                int ch = ((b & 0x1F) << 6) | continuation(bytes[i++]);
+                if (ch < 0x80) {
+                    throw UNSUPPORTED_INPUT;
+                }
+                charBuff[count++] = (char) ch;
+            } else if ((b & 0xF0) == 0xE0) {
+                if (i + 2 > limit) {
+                    throw UNSUPPORTED_INPUT;
+                }
+                int ch = ((b & 0x0F) << 12) | (continuation(bytes[i++]) << 6) | continuation(bytes[i++]);
+                if (ch < 0x800 || Character.isSurrogate((char) ch)) {
+                    throw UNSUPPORTED_INPUT;
+                }
+                charBuff[count++] = (char) ch;
+            } else if ((b & 0xF8) == 0xF0) {
+                if (i + 3 > limit) {
+                    throw UNSUPPORTED_INPUT;
+                }
+                int ch = ((b & 0x07) << 18) | (continuation(bytes[i++]) << 12) | (continuation(bytes[i++]) << 6) |
+                        continuation(bytes[i++]);
+                if (ch < Character.MIN_SUPPLEMENTARY_CODE_POINT || ch > Character.MAX_CODE_POINT) {
+                    throw UNSUPPORTED_INPUT;
+                }
+                charBuff[count++] = Character.highSurrogate(ch);
+                charBuff[count++] = Character.lowSurrogate(ch);
+            } else {
+                throw UNSUPPORTED_INPUT;
+            }
+        }
+    }
+
+    private static int continuation(byte b) {
+        if ((b & 0xC0) != 0x80) {
+            throw UNSUPPORTED_INPUT;
+        }
+        return b & 0x3F;
+    }
+
+    private static int hexValue(byte b) {
+        if (b >= '0' && b <= '9') {
+            return b - '0';
+        }
+        if (b >= 'a' && b <= 'f') {
+            return b - 'a' + 10;
+        }
+        if (b >= 'A' && b <= 'F') {
+            return b - 'A' + 10;
+        }
+        throw UNSUPPORTED_INPUT;
+    }
+
+    /**
+     * Parses a number, boolean or null value. The first byte of the value has already been consumed.
+     */
+    private Object parseNonStringValue() {
+        byte[] bytes = input;
+        int start = pos - 1;
+        int end = start;
+        boolean decimal = false;
+        boolean digits = true;
+        while (end < limit) {
+            byte b = bytes[end];
+            if (b == ' ' || b == '\n' || b == '\r' || b == '\t' || b == ',' || b == '}' || b == ']') {
+                break;
+            }
+            if (b == '{' || b == '[' || b < 0) {
+                throw UNSUPPORTED_INPUT;
+            }
+            if (b == '.') {
+                decimal = true;
+            } else if (b < '0' || b > '9') {
+                digits = digits && b == '-' && end == start;
+            }
+            end++;
+        }
+        pos = end;
+
+        int length = end - start;
+        if (length == 0) {
+            throw UNSUPPORTED_INPUT;
+        }
+        if (!decimal) {
+            if (digits && length < 19 && (bytes[start] != '-' || length > 1)) {
+                return parseLong(bytes, start, end);
+            }
+            if (matches(bytes, start, length, "true")) {
+                return Boolean.TRUE;
+            }
+            if (matches(bytes, start, length, "false")) {
+                return Boolean.FALSE;
+            }
+            if (matches(bytes, start, length, "null")) {
+                return null;
+            }
+        }
+
+        // Leave the rest to the JDK, exactly as the state machine does
+        String token = new String(bytes, start, length, StandardCharsets.ISO_8859_1);
+        try {
+            if (decimal) {
+                return Double.parseDouble(token);
+            }
+            return Long.parseLong(token);
+        } catch (NumberFormatException e) {
+            throw UNSUPPORTED_INPUT;
+        }
+    }
+
+    private static long parseLong(byte[] bytes, int start, int end) {
+        boolean negative = bytes[start] == '-';
+        long value = 0;
+        for (int i = negative ? start + 1 : start; i < end; i++) {
+            value = value * 10 + (bytes[i] - '0');
+        }
+        return negative ? -value : value;
+    }
+
+    private static boolean matches(byte[] bytes, int start, int length, String literal) {
+        if (length != literal.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (bytes[start + i] != literal.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Thrown when a document has to be parsed by {@link JSONParser}.
+     */
+    static class UnsupportedInputException extends RuntimeException {
+
+        private static final long serialVersionUID = -2416329405185326128L;
+
+        UnsupportedInputException() {
+            super("unsupported JSON input", null, false, false);
+        }
+    }
+}
@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.jvm;
 
+import org.ballerinalang.jvm.types.BRecordType;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.DecimalValue;
@@ -28,23 +29,49 @@ import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
+import java.io.StringWriter;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Map.Entry;
 
 /**
  * This class represents the functionality to generate the JSON constructs to be written out
  * to a given {@link OutputStream}.
+ * <p>
+ * When the output stream is UTF-8 encoded, characters are encoded directly into a reusable byte buffer, which is
+ * written to the stream in bulk, instead of going through a {@link Writer}. Encoded field names are cached per
+ * thread, per record type for records and by name for other maps.
  * 
  * @since 0.995.0
  */
 public class JSONGenerator {
 
     private static final int DEFAULT_DEPTH = 10;
+    private static final int BUFFER_SIZE = 8192;
+    // Enough space for the UTF-8 encoding of any single character
+    private static final int MAX_CHAR_BYTES = 3;
+    private static final int NAME_CACHE_SIZE = 512;
+    private static final int MAX_CACHED_NAME_LENGTH = 64;
+    // Record types can be created at runtime, so the least recently used one is evicted beyond this many of them
+    private static final int RECORD_CACHE_SIZE = 256;
+
+    private static ThreadLocal<FieldNameCache> tlFieldNameCache = ThreadLocal.withInitial(FieldNameCache::new);
 
     private Writer writer;
 
+    private OutputStream out;
+
+    private byte[] buffer;
+
+    private int position;
+
+    private FieldNameCache fieldNameCache;
+
     private boolean[] levelInit = new boolean[DEFAULT_DEPTH];
 
     private int currentLevel;
@@ -62,12 +89,23 @@ public class JSONGenerator {
         escChars['\t'] = true;
     }
 
+    /**
+     * Creates a generator which writes UTF-8 encoded JSON to the given stream, since JSON exchanged between systems
+     * has to be encoded in UTF-8 regardless of the default charset of the host.
+     *
+     * @param out stream to which the JSON is written
+     */
     public JSONGenerator(OutputStream out) {
-        this(out, Charset.defaultCharset());
+        this(out, StandardCharsets.UTF_8);
     }
 
     public JSONGenerator(OutputStream out, Charset charset) {
-        this(new BufferedWriter(new OutputStreamWriter(out, charset)));
+        if (StandardCharsets.UTF_8.equals(charset)) {
+            this.out = out;
+            this.buffer = new byte[BUFFER_SIZE];
+        } else {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, charset));
+        }
     }
 
     public JSONGenerator(Writer writer) {
@@ -95,7 +133,7 @@ public class JSONGenerator {
     private void processStartLevel() throws IOException {
         if (!this.fieldActive) {
             if (this.getLevelInit(this.currentLevel)) {
-                this.writer.write(", ");
+                this.write(", ");
             } else {
                 this.setLevelInit(this.currentLevel, true);
             }
@@ -113,7 +151,7 @@ public class JSONGenerator {
 
     private void processFieldInit() throws IOException {
         if (this.getLevelInit(this.currentLevel)) {
-            this.writer.write(", ");
+            this.write(", ");
         } else {
             this.setLevelInit(this.currentLevel, true);
         }
@@ -126,7 +164,7 @@ public class JSONGenerator {
             return;
         }
         if (this.getLevelInit(this.currentLevel)) {
-            this.writer.write(", ");
+            this.write(", ");
         } else {
             this.setLevelInit(this.currentLevel, true);
         }
@@ -134,22 +172,42 @@ public class JSONGenerator {
 
     public void startObject() throws IOException {
         this.processStartLevel();
-        this.writer.write('{');
+        this.write('{');
     }
 
     public void endObject() throws IOException {
-        this.writer.write('}');
+        this.write('}');
         this.processEndLevel();
     }
 
     public void writeFieldName(String fieldName) throws IOException {
+        this.writeFieldName(fieldName, null);
+    }
+
+    private void writeFieldName(String fieldName, Map<String, byte[]> encodedNames) throws IOException {
         this.processFieldInit();
-        this.writeStringValue(fieldName);
-        this.writer.write(":");
+        if (this.writer != null) {
+            this.writeStringValue(fieldName);
+            this.write(":");
+            return;
+        }
+
+        byte[] encodedName = encodedNames == null ? null : encodedNames.get(fieldName);
+        if (encodedName == null) {
+            encodedName = this.getFieldNameCache().get(fieldName);
+        }
+        this.write(encodedName, 0, encodedName.length);
     }
 
     private void writeStringValue(String value) throws IOException {
-        this.writer.write("\"");
+        if (this.writer == null && !requiresEscape(value)) {
+            this.write('"');
+            this.writeUTF8(value);
+            this.write('"');
+            return;
+        }
+
+        this.write("\"");
         int count = value.length();
         char ch;
         boolean escaped = false;
@@ -164,9 +222,9 @@ public class JSONGenerator {
         if (escaped) {
             this.writeStringEsc(chs);
         } else {
-            this.writer.write(chs);
+            this.write(chs, 0, chs.length);
         }
-        this.writer.write("\"");
+        this.write("\"");
     }
 
     public void writeString(String value) throws IOException {
@@ -182,43 +240,43 @@ public class JSONGenerator {
             ch = chs[i];
             switch (ch) {
                 case '"':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\\"");
+                    this.write(chs, index, i - index);
+                    this.write("\\\"");
                     index = i + 1;
                     break;
                 case '\\':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\\\");
+                    this.write(chs, index, i - index);
+                    this.write("\\\\");
                     index = i + 1;
                     break;
                 case '/':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\/");
+                    this.write(chs, index, i - index);
+                    this.write("\\/");
                     index = i + 1;
                     break;
                 case '\b':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\b");
+                    this.write(chs, index, i - index);
+                    this.write("\\b");
                     index = i + 1;
                     break;
                 case '\n':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\n");
+                    this.write(chs, index, i - index);
+                    this.write("\\n");
                     index = i + 1;
                     break;
                 case '\r':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\r");
+                    this.write(chs, index, i - index);
+                    this.write("\\r");
                     index = i + 1;
                     break;
                 case '\f':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\f");
+                    this.write(chs, index, i - index);
+                    this.write("\\f");
                     index = i + 1;
                     break;
                 case '\t':
-                    this.writer.write(chs, index, i - index);
-                    writer.write("\\t");
+                    this.write(chs, index, i - index);
+                    this.write("\\t");
                     index = i + 1;
                     break;
                 default:
@@ -227,48 +285,215 @@ public class JSONGenerator {
         }
 
         if (count - index > 0) {
-            this.writer.write(chs, index, count - index);
+            this.write(chs, index, count - index);
         }
 
     }
 
     public void writeNumber(long value) throws IOException {
         this.processValueInit();
-        this.writer.write(Long.toString(value));
+        this.write(Long.toString(value));
     }
 
     public void writeNumber(double value) throws IOException {
         this.processValueInit();
-        this.writer.write(Double.toString(value));
+        this.write(Double.toString(value));
     }
 
     public void writeNumber(BigDecimal value) throws IOException {
         this.processValueInit();
-        this.writer.write(value.toString());
+        this.write(value.toString());
     }
 
     public void writeBoolean(boolean value) throws IOException {
         this.processValueInit();
-        this.writer.write(Boolean.toString(value));
+        this.write(Boolean.toString(value));
     }
 
     public void writeNull() throws IOException {
         this.processValueInit();
-        this.writer.write("null");
+        this.write("null");
     }
 
     public void writeStartArray() throws IOException {
         this.processStartLevel();
-        this.writer.write("[");
+        this.write("[");
     }
 
     public void writeEndArray() throws IOException {
-        this.writer.write("]");
+        this.write("]");
         this.processEndLevel();
     }
 
     public void flush() throws IOException {
-        this.writer.flush();
+        if (this.writer != null) {
+            this.writer.flush();
+            return;
+        }
+        this.flushBuffer();
+        this.out.flush();
+    }
+
+    private void write(String str) throws IOException {
+        if (this.writer != null) {
+            this.writer.write(str);
+        } else {
+            this.writeUTF8(str);
+        }
+    }
+
+    private void write(char ch) throws IOException {
+        if (this.writer != null) {
+            this.writer.write(ch);
+        } else if (ch < 0x80) {
+            if (this.position == this.buffer.length) {
+                this.flushBuffer();
+            }
+            this.buffer[this.position++] = (byte) ch;
+        } else {
+            this.write(new char[] {ch}, 0, 1);
+        }
+    }
+
+    private void write(char[] chs, int offset, int length) throws IOException {
+        if (this.writer != null) {
+            this.writer.write(chs, offset, length);
+            return;
+        }
+
+        int end = offset + length;
+        int i = offset;
+        while (i < end) {
+            // Copy the ASCII characters which fit in the buffer, without checking the space left for each of them
+            byte[] buff = this.buffer;
+            int pos = this.position;
+            int asciiEnd = Math.min(end, i + buff.length - pos);
+            char ch;
+            while (i < asciiEnd && (ch = chs[i]) < 0x80) {
+                buff[pos++] = (byte) ch;
+                i++;
+            }
+            this.position = pos;
+            if (i == end) {
+                return;
+            }
+            if (pos > buff.length - MAX_CHAR_BYTES) {
+                this.flushBuffer();
+            }
+            ch = chs[i++];
+            if (ch < 0x80) {
+                this.buffer[this.position++] = (byte) ch;
+            } else if (Character.isHighSurrogate(ch) && i < end && Character.isLowSurrogate(chs[i])) {
+                this.writeCodePoint(Character.toCodePoint(ch, chs[i++]));
+            } else {
+                this.writeCodePoint(ch);
+            }
+        }
+    }
+
+    private void writeUTF8(String str) throws IOException {
+        int length = str.length();
+        int i = 0;
+        while (i < length) {
+            // Copy the ASCII characters which fit in the buffer, without checking the space left for each of them
+            byte[] buff = this.buffer;
+            int pos = this.position;
+            int asciiEnd = Math.min(length, i + buff.length - pos);
+            char ch;
+            while (i < asciiEnd && (ch = str.charAt(i)) < 0x80) {
+                buff[pos++] = (byte) ch;
+                i++;
+            }
+            this.position = pos;
+            if (i == length) {
+                return;
+            }
+            if (pos > buff.length - MAX_CHAR_BYTES) {
+                this.flushBuffer();
+            }
+            ch = str.charAt(i++);
+            if (ch < 0x80) {
+                this.buffer[this.position++] = (byte) ch;
+            } else if (Character.isHighSurrogate(ch) && i < length && Character.isLowSurrogate(str.charAt(i))) {
+                this.writeCodePoint(Character.toCodePoint(ch, str.charAt(i++)));
+            } else {
+                this.writeCodePoint(ch);
+            }
+        }
+    }
+
+    private void writeCodePoint(int codePoint) throws IOException {
+        byte[] buff = this.buffer;
+        if (codePoint < 0x80) {
+            buff[this.position++] = (byte) codePoint;
+        } else if (codePoint < 0x800) {
+            buff[this.position++] = (byte) (0xC0 | (codePoint >> 6));
+            buff[this.position++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else if (codePoint >= Character.MIN_SURROGATE && codePoint <= Character.MAX_SURROGATE) {
+            // Same replacement as the UTF-8 encoder of the JDK, for an unpaired surrogate
+            buff[this.position++] = '?';
+        } else if (codePoint < 0x10000) {
+            buff[this.position++] = (byte) (0xE0 | (codePoint >> 12));
+            buff[this.position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            buff[this.position++] = (byte) (0x80 | (codePoint & 0x3F));
+        } else {
+            if (this.position > buff.length - 4) {
+                this.flushBuffer();
+            }
+            buff[this.position++] = (byte) (0xF0 | (codePoint >> 18));
+            buff[this.position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+            buff[this.position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+            buff[this.position++] = (byte) (0x80 | (codePoint & 0x3F));
+        }
+    }
+
+    private void write(byte[] bytes, int offset, int length) throws IOException {
+        if (length > this.buffer.length - this.position) {
+            this.flushBuffer();
+            if (length > this.buffer.length) {
+                this.out.write(bytes, offset, length);
+                return;
+            }
+        }
+        System.arraycopy(bytes, offset, this.buffer, this.position, length);
+        this.position += length;
+    }
+
+    private void flushBuffer() throws IOException {
+        if (this.position > 0) {
+            this.out.write(this.buffer, 0, this.position);
+            this.position = 0;
+        }
+    }
+
+    private static boolean requiresEscape(String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char ch = value.charAt(i);
+            if (ch < escChars.length && escChars[ch]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private FieldNameCache getFieldNameCache() {
+        if (this.fieldNameCache == null) {
+            this.fieldNameCache = tlFieldNameCache.get();
+        }
+        return this.fieldNameCache;
+    }
+
+    private static byte[] encodeFieldName(String fieldName) {
+        StringWriter name = new StringWriter(fieldName.length() + 3);
+        JSONGenerator gen = new JSONGenerator(name);
+        try {
+            gen.writeStringValue(fieldName);
+        } catch (IOException e) {
+            // Cannot happen, as nothing is written out
+            throw new IllegalStateException(e);
+        }
+        return name.append(':').toString().getBytes(StandardCharsets.UTF_8);
     }
 
     @SuppressWarnings("unchecked")
@@ -308,12 +533,12 @@ public class JSONGenerator {
                 break;
             case TypeTags.MAP_TAG:
             case TypeTags.JSON_TAG:
-                this.startObject();
-                for (Entry<String, RefValue> entry : ((MapValueImpl<String, RefValue>) json).entrySet()) {
-                    this.writeFieldName(entry.getKey());
-                    serialize(entry.getValue());
-                }
-                this.endObject();
+                this.serializeMap((MapValueImpl<String, RefValue>) json, null);
+                break;
+            case TypeTags.RECORD_TYPE_TAG:
+                MapValueImpl<String, RefValue> record = (MapValueImpl<String, RefValue>) json;
+                this.serializeMap(record, this.writer == null ?
+                        this.getFieldNameCache().getRecordFieldNames((BRecordType) record.getType()) : null);
                 break;
             case TypeTags.STRING_TAG:
                 this.writeString(json.toString());
@@ -322,4 +547,63 @@ public class JSONGenerator {
                 break;
         }
     }
+
+    private void serializeMap(MapValueImpl<String, RefValue> map, Map<String, byte[]> encodedNames)
+            throws IOException {
+        this.startObject();
+        for (Entry<String, RefValue> entry : map.entrySet()) {
+            this.writeFieldName(entry.getKey(), encodedNames);
+            serialize(entry.getValue());
+        }
+        this.endObject();
+    }
+
+    /**
+     * A per thread cache of encoded field names. The names of maps are mapped to a slot by their hash code, and the
+     * names of the most recently used record types are kept per record type. Being per thread, the cache is accessed
+     * without locking.
+     */
+    private static class FieldNameCache {
+
+        private final String[] names = new String[NAME_CACHE_SIZE];
+        private final byte[][] encodedNames = new byte[NAME_CACHE_SIZE][];
+        private final Map<BRecordType, Map<String, byte[]>> recordFieldNames =
+                new LinkedHashMap<BRecordType, Map<String, byte[]>>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<BRecordType, Map<String, byte[]>> eldest) {
+                        return size() > RECORD_CACHE_SIZE;
+                    }
+                };
+
+        byte[] get(String name) {
+            if (name.length() > MAX_CACHED_NAME_LENGTH) {
+                return encodeFieldName(name);
+            }
+            int hash = name.hashCode();
+            int slot = (hash ^ (hash >>> 16)) & (NAME_CACHE_SIZE - 1);
+            String cachedName = names[slot];
+            if (cachedName == name || name.equals(cachedName)) {
+                return encodedNames[slot];
+            }
+            byte[] encodedName = encodeFieldName(name);
+            names[slot] = name;
+            encodedNames[slot] = encodedName;
+            return encodedName;
+        }
+
+        /**
+         * Returns the field names of the given record type, encoded along with the surrounding quotes and the colon.
+         */
+        Map<String, byte[]> getRecordFieldNames(BRecordType recordType) {
+            Map<String, byte[]> encodedNames = recordFieldNames.get(recordType);
+            if (encodedNames == null) {
+                encodedNames = new HashMap<>();
+                for (String fieldName : recordType.getFields().keySet()) {
+                    encodedNames.put(fieldName, encodeFieldName(fieldName));
+                }
+                recordFieldNames.put(recordType, encodedNames);
+            }
+            return encodedNames;
+        }
+    }
 }
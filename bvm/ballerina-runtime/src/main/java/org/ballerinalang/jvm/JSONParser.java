@@ -20,6 +20,7 @@ package org.ballerinalang.jvm;
 import org.apache.commons.lang3.StringEscapeUtils;
 import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BStructureType;
 import org.ballerinalang.jvm.types.BTypes;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.util.exceptions.BallerinaException;
@@ -28,12 +29,16 @@ import org.ballerinalang.jvm.values.ArrayValueImpl;
 import org.ballerinalang.jvm.values.MapValueImpl;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayDeque;
 import java.util.Deque;
 
@@ -72,6 +77,20 @@ public class JSONParser {
      * @throws BallerinaException for any parsing error
      */
     public static Object parse(InputStream in, String charsetName) throws BallerinaException {
+        if (isUTF8(charsetName)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try {
+                byte[] buff = new byte[8192];
+                int count;
+                while ((count = in.read(buff)) > 0) {
+                    out.write(buff, 0, count);
+                }
+            } catch (IOException e) {
+                throw new BallerinaException("Error reading JSON: " + e.getMessage());
+            }
+            return parse(out.toByteArray());
+        }
+
         try {
             return parse(new InputStreamReader(new BufferedInputStream(in), charsetName));
         } catch (IOException e) {
@@ -87,9 +106,98 @@ public class JSONParser {
      * @throws BallerinaException for any parsing error
      */
     public static Object parse(String jsonStr) throws BallerinaException {
+        // Unpaired surrogates cannot be encoded, so such strings are only parsed by the state machine
+        if (!hasUnpairedSurrogates(jsonStr)) {
+            byte[] bytes = jsonStr.getBytes(StandardCharsets.UTF_8);
+            try {
+                return JSONByteParser.parse(bytes, 0, bytes.length);
+            } catch (JSONByteParser.UnsupportedInputException e) {
+                // Parse with the state machine below, which reports the error if there is one
+            }
+        }
         return parse(new StringReader(jsonStr));
     }
 
+    /**
+     * Parses the given UTF-8 encoded bytes and returns a json.
+     *
+     * @param bytes the UTF-8 encoded JSON content
+     * @return JSON structure
+     * @throws BallerinaException for any parsing error
+     * @since 1.2.0
+     */
+    public static Object parse(byte[] bytes) throws BallerinaException {
+        return parse(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Parses the remaining UTF-8 encoded bytes of the given buffer and returns a json. The position of the buffer is
+     * not changed.
+     *
+     * @param buffer the buffer which contains the UTF-8 encoded JSON content
+     * @return JSON structure
+     * @throws BallerinaException for any parsing error
+     * @since 1.2.0
+     */
+    public static Object parse(ByteBuffer buffer) throws BallerinaException {
+        if (buffer.hasArray()) {
+            return parse(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return parse(bytes);
+    }
+
+    private static Object parse(byte[] bytes, int offset, int length) throws BallerinaException {
+        try {
+            return JSONByteParser.parse(bytes, offset, length);
+        } catch (JSONByteParser.UnsupportedInputException e) {
+            return parse(new InputStreamReader(new ByteArrayInputStream(bytes, offset, length),
+                                               StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Parses the given UTF-8 encoded bytes to a record of the given type. Fields of the JSON object which are not
+     * fields of the record are skipped, and no JSON object is created for the record. The result is the same as
+     * {@code JSONUtils.convertJSONToRecord(JSONParser.parse(bytes), structType)}.
+     *
+     * @param bytes      the UTF-8 encoded JSON content
+     * @param structType the type of the record
+     * @return the record
+     * @throws BallerinaException for any parsing error
+     * @since 1.2.0
+     */
+    public static MapValueImpl<String, Object> parseRecord(byte[] bytes, BStructureType structType)
+            throws BallerinaException {
+        try {
+            return JSONByteParser.parseRecord(bytes, 0, bytes.length, structType);
+        } catch (JSONByteParser.UnsupportedInputException e) {
+            return JSONUtils.convertJSONToRecord(parse(bytes), structType);
+        }
+    }
+
+    private static boolean isUTF8(String charsetName) {
+        try {
+            return StandardCharsets.UTF_8.equals(Charset.forName(charsetName));
+        } catch (IllegalArgumentException e) {
+            // Unknown charsets are reported when the stream is decoded
+            return false;
+        }
+    }
+
+    private static boolean hasUnpairedSurrogates(String str) {
+        for (int i = 0; i < str.length(); i++) {
+            char ch = str.charAt(i);
+            if (Character.isHighSurrogate(ch) && i + 1 < str.length() && Character.isLowSurrogate(str.charAt(i + 1))) {
+                i++;
+            } else if (Character.isSurrogate(ch)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Parses the contents in the given {@link Reader} and returns a json.
      * 
@@ -295,7 +295,7 @@ public class JSONUtils {
                     getComplexObjectTypeName(OBJECT), getTypeName(json));
         }
 
-        MapValueImpl<String, Object> map = new MapValueImpl<>(mapType);
+        MapValueImpl<String, Object> map = BallerinaValues.createMapValue(mapType);
         BType mapConstraint = mapType.getConstrainedType();
         if (mapConstraint == null || mapConstraint.getTag() == TypeTags.ANY_TAG ||
                 mapConstraint.getTag() == TypeTags.JSON_TAG) {
@@ -28,8 +28,6 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
 import java.nio.charset.Charset;
-import java.util.ArrayList;
-import java.util.List;
 
 import static org.ballerinalang.jvm.util.BLangConstants.STRING_LANG_LIB;
 import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.INDEX_OUT_OF_RANGE_ERROR_IDENTIFIER;
@@ -110,27 +108,25 @@ public class StringUtils {
     }
 
     public static StringValue fromString(String s) {
-        List<Integer> highSurrogates = null;
+        int surrogateCount = 0;
         for (int i = 0; i < s.length(); i++) {
-            char c = s.charAt(i);
-            if (Character.isHighSurrogate(c)) {
-                if (highSurrogates == null) {
-                    highSurrogates = new ArrayList<>();
-                }
-                highSurrogates.add(i - highSurrogates.size());
+            if (Character.isHighSurrogate(s.charAt(i))) {
+                surrogateCount++;
             }
         }
-        if (highSurrogates == null) {
+        if (surrogateCount == 0) {
             return new BmpStringValue(s);
         }
 
-        int[] highSurrogatesArr = new int[highSurrogates.size()];
-
-        for (int i = 0; i < highSurrogates.size(); i++) {
-            Integer highSurrogate = highSurrogates.get(i);
-            highSurrogatesArr[i] = highSurrogate;
+        int[] highSurrogates = new int[surrogateCount];
+        int index = 0;
+        for (int i = 0; i < s.length(); i++) {
+            if (Character.isHighSurrogate(s.charAt(i))) {
+                highSurrogates[index] = i - index;
+                index++;
+            }
         }
-        return new NonBmpStringValue(s, highSurrogatesArr);
+        return new NonBmpStringValue(s, highSurrogates);
     }
 
 }
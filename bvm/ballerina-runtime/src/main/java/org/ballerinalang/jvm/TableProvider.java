@@ -40,7 +40,9 @@ import java.util.Collection;
 import java.util.List;
 
 /**
- * {@code TableProvider} creates In Memory database for tables.
+ * {@code TableProvider} runs table queries on the In Memory database. The rows of in-memory tables are held by
+ * {@link InMemoryTable}; the database only holds copies of the tables that are queried, since queries are
+ * expressed in SQL.
  *
  * @since 0.995.0
  */
@@ -77,6 +79,15 @@ public class TableProvider {
         return this.indexID++;
     }
 
+    /**
+     * Creates a table in the table database.
+     *
+     * @param constrainedType constraint type of the table
+     * @param primaryKeys     primary key columns
+     * @return name of the new table
+     * @deprecated in-memory tables are held by {@link InMemoryTable} instead of the table database.
+     */
+    @Deprecated
     public String createTable(BType constrainedType, ArrayValue primaryKeys) {
         String tableName = TableConstants.TABLE_PREFIX + constrainedType.getName()
                 .toUpperCase() + "_" + getTableID();
@@ -85,7 +96,19 @@ public class TableProvider {
         return tableName;
     }
 
-    public String createTable(String fromTableName, String joinTableName,  String query, BStructureType tableType,
+    /**
+     * Creates a table in the table database from the result of the given query over tables of the table database.
+     *
+     * @param fromTableName name of the table referred in the from clause
+     * @param joinTableName name of the table referred in the join clause, or null if there is none
+     * @param query         query with table name place holders
+     * @param tableType     constraint type of the resulting table
+     * @param params        query parameters
+     * @return name of the new table
+     * @deprecated use {@link #createTable(InMemoryTable, InMemoryTable, String, BStructureType, ArrayValue)} instead.
+     */
+    @Deprecated
+    public String createTable(String fromTableName, String joinTableName, String query, BStructureType tableType,
                               ArrayValue params) {
         String newTableName = TableConstants.TABLE_PREFIX + tableType.getName().toUpperCase()
                               + "_" + getTableID();
@@ -98,16 +121,118 @@ public class TableProvider {
         return newTableName;
     }
 
-    public String createTable(String fromTableName, String query, BStructureType tableType,
-                              ArrayValue params) {
+    /**
+     * Creates a table in the table database from the result of the given query over a table of the table database.
+     *
+     * @param fromTableName name of the table referred in the from clause
+     * @param query         query with table name place holders
+     * @param tableType     constraint type of the resulting table
+     * @param params        query parameters
+     * @return name of the new table
+     * @deprecated use {@link #createTable(InMemoryTable, InMemoryTable, String, BStructureType, ArrayValue)} instead.
+     */
+    @Deprecated
+    public String createTable(String fromTableName, String query, BStructureType tableType, ArrayValue params) {
         return createTable(fromTableName, null, query, tableType, params);
     }
 
+    /**
+     * Creates a table from the result of the given query. The query runs on the table database copies of the
+     * in-memory tables it refers to.
+     *
+     * @param fromTable table referred in the from clause
+     * @param joinTable table referred in the join clause, or null if there is none
+     * @param query     query with table name place holders
+     * @param tableType constraint type of the resulting table
+     * @param params    query parameters
+     * @return table holding the query result
+     */
+    public InMemoryTable createTable(InMemoryTable fromTable, InMemoryTable joinTable, String query,
+                                     BStructureType tableType, ArrayValue params) {
+        String sqlStmt = query.replaceFirst(TableConstants.TABLE_NAME_REGEX, fromTable.getQueryTableName());
+        if (joinTable != null) {
+            sqlStmt = sqlStmt.replaceFirst(TableConstants.TABLE_NAME_REGEX, joinTable.getQueryTableName());
+        }
+        return executeQuery(sqlStmt, tableType, params);
+    }
+
+    /**
+     * Copies the rows of the given in-memory table into a new table of the table database.
+     *
+     * @param table in-memory table to be copied
+     * @return name of the new table
+     */
+    String exportTable(InMemoryTable table) {
+        BStructureType constrainedType = table.getConstraintType();
+        String tableName = TableConstants.TABLE_PREFIX + constrainedType.getName()
+                .toUpperCase() + "_" + getTableID();
+        executeStatement(generateCreateTableStatement(tableName, constrainedType, null));
+        generateIndexesForTable(tableName, table.getIndexColumns());
+        InMemoryTableIterator iterator = table.createIterator();
+        if (!iterator.next()) {
+            return tableName;
+        }
+        MapValueImpl<String, Object> row = iterator.generateNext();
+        String sqlStmt = TableUtils.generateInsertDataStatement(tableName, row);
+        PreparedStatement stmt = null;
+        Connection conn = this.getConnection();
+        boolean exported = false;
+        try {
+            // Insert all the rows through one statement and transaction
+            conn.setAutoCommit(false);
+            stmt = conn.prepareStatement(sqlStmt);
+            do {
+                TableUtils.prepareAndExecuteStatement(stmt, row);
+                row = iterator.next() ? iterator.generateNext() : null;
+            } while (row != null);
+            conn.commit();
+            exported = true;
+        } catch (SQLException e) {
+            throw TableUtils.createTableOperationError(
+                    "error in executing statement : " + sqlStmt + " error:" + e.getMessage());
+        } finally {
+            releaseResources(conn, stmt);
+            if (!exported) {
+                dropTable(tableName);
+            }
+        }
+        return tableName;
+    }
+
+    private InMemoryTable executeQuery(String queryStatement, BStructureType tableType, ArrayValue params) {
+        InMemoryTable table = new InMemoryTable(tableType, null);
+        PreparedStatement stmt = null;
+        Connection conn = this.getConnection();
+        try {
+            stmt = conn.prepareStatement(queryStatement);
+            setParameters(stmt, params);
+            TableIterator iterator = new TableIterator(new TableResourceManager(conn, stmt, true),
+                                                       stmt.executeQuery(), tableType);
+            while (iterator.next()) {
+                table.insert(iterator.generateNext());
+            }
+        } catch (SQLException e) {
+            throw TableUtils.createTableOperationError(
+                    "error in executing statement : " + queryStatement + " error:" + e.getMessage());
+        } finally {
+            releaseResources(conn, stmt);
+        }
+        return table;
+    }
+
     public void insertData(String tableName, MapValueImpl<String, Object> constrainedType) {
         String sqlStmt = TableUtils.generateInsertDataStatement(tableName, constrainedType);
         prepareAndExecuteStatement(sqlStmt, constrainedType);
     }
 
+    /**
+     * Deletes the rows matching the given record from a table of the table database.
+     *
+     * @param tableName       name of the table
+     * @param constrainedType record to be deleted
+     * @deprecated rows of in-memory tables are removed through {@link InMemoryTableIterator#remove()}.
+     */
+    @Deprecated
     public void deleteData(String tableName, MapValueImpl<String, Object> constrainedType) {
         String sqlStmt = TableUtils.generateDeleteDataStatment(tableName, constrainedType);
         prepareAndExecuteStatement(sqlStmt, constrainedType);
@@ -118,6 +243,15 @@ public class TableProvider {
         executeStatement(sqlStmt);
     }
 
+    /**
+     * Creates an iterator over a table of the table database.
+     *
+     * @param tableName name of the table
+     * @param type      constraint type of the table
+     * @return iterator over the rows of the table
+     * @deprecated rows of in-memory tables are iterated through {@link InMemoryTable#createIterator()}.
+     */
+    @Deprecated
     public TableIterator createIterator(String tableName, BStructureType type) {
         TableIterator itr;
         Statement stmt = null;
@@ -244,6 +378,16 @@ public class TableProvider {
         return sb.toString();
     }
 
+    private void generateIndexesForTable(String tableName, Collection<String> indexColumns) {
+        for (String columnName : indexColumns) {
+            StringBuilder sb = new StringBuilder();
+            sb.append(TableConstants.SQL_CREATE_INDEX).append(TableConstants.INDEX).append(columnName)
+                    .append(getIndexID()).append(TableConstants.SQL_ON).append(tableName).append("(")
+                    .append(columnName).append(")");
+            executeStatement(sb.toString());
+        }
+    }
+
     private void executeStatement(String queryStatement) {
         Statement stmt = null;
         Connection conn = this.getConnection();
@@ -258,46 +402,50 @@ public class TableProvider {
         }
     }
 
+    private void setParameters(PreparedStatement stmt, ArrayValue params) throws SQLException {
+        for (int index = 1; index <= params.size(); index++) {
+            Object param = params.getRefValue(index - 1);
+            BType paramType = TypeChecker.getType(param);
+            switch (paramType.getTag()) {
+                case TypeTags.INT_TAG:
+                    stmt.setLong(index, (Long) params.getRefValue(index - 1));
+                    break;
+                case TypeTags.STRING_TAG:
+                    stmt.setString(index, (String) params.getRefValue(index - 1));
+                    break;
+                case TypeTags.FLOAT_TAG:
+                    stmt.setDouble(index, (Double) params.getRefValue(index - 1));
+                    break;
+                case TypeTags.DECIMAL_TAG:
+                    stmt.setBigDecimal(index, ((DecimalValue) params.getRefValue(index - 1)).value());
+                    break;
+                case TypeTags.BOOLEAN_TAG:
+                    stmt.setBoolean(index, (Boolean) params.getRefValue(index - 1));
+                    break;
+                case TypeTags.XML_TAG:
+                case TypeTags.JSON_TAG:
+                    stmt.setString(index, params.getString(index - 1));
+                    break;
+                case TypeTags.ARRAY_TAG:
+                    BType elementType = ((BArrayType) paramType).getElementType();
+                    if (elementType.getTag() == TypeTags.BYTE_TAG) {
+                        byte[] blobData = params.getBytes();
+                        stmt.setBlob(index, new ByteArrayInputStream(blobData), blobData.length);
+                    } else {
+                        Object[] arrayData = TableUtils.getArrayData((ArrayValue) param);
+                        stmt.setObject(index, arrayData);
+                    }
+                    break;
+            }
+        }
+    }
+
     private void prepareAndExecuteStatement(String queryStatement, ArrayValue params) {
         PreparedStatement stmt = null;
         Connection conn = this.getConnection();
         try {
             stmt = conn.prepareStatement(queryStatement);
-            for (int index = 1; index <= params.size(); index++) {
-                Object param = params.getRefValue(index - 1);
-                BType paramType = TypeChecker.getType(param);
-                switch (paramType.getTag()) {
-                    case TypeTags.INT_TAG:
-                        stmt.setLong(index, (Long) params.getRefValue(index - 1));
-                        break;
-                    case TypeTags.STRING_TAG:
-                        stmt.setString(index, (String) params.getRefValue(index - 1));
-                        break;
-                    case TypeTags.FLOAT_TAG:
-                        stmt.setDouble(index, (Double) params.getRefValue(index - 1));
-                        break;
-                    case TypeTags.DECIMAL_TAG:
-                        stmt.setBigDecimal(index, ((DecimalValue) params.getRefValue(index - 1)).value());
-                        break;
-                    case TypeTags.BOOLEAN_TAG:
-                        stmt.setBoolean(index, (Boolean) params.getRefValue(index - 1));
-                        break;
-                    case TypeTags.XML_TAG:
-                    case TypeTags.JSON_TAG:
-                        stmt.setString(index, params.getString(index - 1));
-                        break;
-                    case TypeTags.ARRAY_TAG:
-                        BType elementType = ((BArrayType) paramType).getElementType();
-                        if (elementType.getTag() == TypeTags.BYTE_TAG) {
-                            byte[] blobData = params.getBytes();
-                            stmt.setBlob(index, new ByteArrayInputStream(blobData), blobData.length);
-                        } else {
-                            Object[] arrayData = TableUtils.getArrayData((ArrayValue) param);
-                            stmt.setObject(index, arrayData);
-                        }
-                        break;
-                }
-            }
+            setParameters(stmt, params);
             stmt.executeUpdate();
         } catch (SQLException e) {
             throw TableUtils.createTableOperationError(
@@ -36,6 +36,7 @@ import java.math.BigDecimal;
 import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
@@ -234,6 +235,41 @@ public class TableUtils {
         return arrayData;
     }
 
+    /**
+     * Generates the column definitions of a table with the given constraint type.
+     *
+     * @param structType constraint type of the table
+     * @return list of {@code ColumnDefinition}
+     */
+    public static List<ColumnDefinition> generateColumnDefinitions(BStructureType structType) {
+        Collection<BField> structFields = structType.getFields().values();
+        List<ColumnDefinition> columnDefs = new ArrayList<>(structFields.size());
+        for (BField sf : structFields) {
+            BType type = sf.getFieldType();
+            int typeTag = TypeTags.ANY_TAG;
+            switch (type.getTag()) {
+            case TypeTags.INT_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.BOOLEAN_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.XML_TAG:
+                typeTag = type.getTag();
+                break;
+            case TypeTags.ARRAY_TAG:
+                BType elementType = ((BArrayType) type).getElementType();
+                if (elementType.getTag() == TypeTags.BYTE_TAG) {
+                    typeTag = TypeTags.BYTE_TAG;
+                } else {
+                    typeTag = TypeTags.ARRAY_TAG;
+                }
+                break;
+            }
+            columnDefs.add(new ColumnDefinition(sf.getFieldName(), typeTag));
+        }
+        return columnDefs;
+    }
+
     public static ErrorValue createTableOperationError(Throwable throwable, String errorSuffix) {
         String detail = throwable.getMessage() != null ?
                 errorSuffix + ": " + throwable.getMessage() :
@@ -0,0 +1,134 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.TypeTags;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded cache of the results of structural type checks, keyed on the identity of the source and the target types.
+ * <p>
+ * The cache is a direct mapped table: each (source, target) pair maps to a single slot, and a newer result replaces
+ * whatever was stored in that slot. Entries are immutable, so the table is read and written without locking. Types
+ * created on the fly at runtime therefore cannot grow the cache, and can only evict other entries.
+ * <p>
+ * Record, object and error types are created first and get their members afterwards, so that they can refer to
+ * each other. A check which runs before a type is complete, directly or through a type which refers to it, gives a
+ * result which does not hold once the type is complete. Setting the members of a type whose members were already
+ * read therefore moves the cache to a new version, and entries of older versions are ignored. Types which are
+ * completed before they are first read, such as types created while the program runs, leave the cache intact.
+ *
+ * @since 1.2.0
+ */
+class TypeCheckCache {
+
+    private static final int CACHE_SIZE = 1 << 12;
+    private static final int INDEX_MASK = CACHE_SIZE - 1;
+
+    private final Entry[] entries = new Entry[CACHE_SIZE];
+    private final AtomicInteger version = new AtomicInteger();
+
+    /**
+     * Returns whether the result of checking a type against the given target type is worth caching. Checks against
+     * simple types are cheaper than a cache lookup.
+     *
+     * @param targetType target type of the check
+     * @return true if the result should be cached
+     */
+    static boolean isCacheable(BType targetType) {
+        switch (targetType.getTag()) {
+            case TypeTags.MAP_TAG:
+            case TypeTags.TABLE_TAG:
+            case TypeTags.JSON_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+            case TypeTags.FUNCTION_POINTER_TAG:
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.TUPLE_TAG:
+            case TypeTags.UNION_TAG:
+            case TypeTags.OBJECT_TYPE_TAG:
+            case TypeTags.FINITE_TYPE_TAG:
+            case TypeTags.FUTURE_TAG:
+            case TypeTags.ERROR_TAG:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Returns the cached result of checking the source type against the target type.
+     *
+     * @param sourceType source type of the check
+     * @param targetType target type of the check
+     * @return cached result, or null if the result is not in the cache
+     */
+    Boolean get(BType sourceType, BType targetType) {
+        Entry entry = entries[getIndex(sourceType, targetType)];
+        if (entry != null && entry.sourceType == sourceType && entry.targetType == targetType
+                && entry.version == version.get()) {
+            return entry.result;
+        }
+        return null;
+    }
+
+    /**
+     * Returns the current version of the cache. The version has to be read before the check whose result is cached,
+     * so that a result computed while a type was being completed is not stored as current.
+     *
+     * @return current version
+     */
+    int getVersion() {
+        return version.get();
+    }
+
+    void put(BType sourceType, BType targetType, boolean result, int version) {
+        entries[getIndex(sourceType, targetType)] = new Entry(sourceType, targetType, result, version);
+    }
+
+    /**
+     * Discards all the cached results.
+     */
+    void invalidate() {
+        version.incrementAndGet();
+    }
+
+    private static int getIndex(BType sourceType, BType targetType) {
+        int hash = 31 * System.identityHashCode(sourceType) + System.identityHashCode(targetType);
+        return (hash ^ (hash >>> 16)) & INDEX_MASK;
+    }
+
+    /**
+     * Result of a single type check.
+     */
+    private static class Entry {
+
+        private final BType sourceType;
+        private final BType targetType;
+        private final Boolean result;
+        private final int version;
+
+        private Entry(BType sourceType, BType targetType, boolean result, int version) {
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+            this.result = result;
+            this.version = version;
+        }
+    }
+}
@@ -53,7 +53,6 @@ import org.ballerinalang.jvm.values.api.BValue;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
@@ -73,6 +72,8 @@ import static org.ballerinalang.jvm.util.BLangConstants.BBYTE_MIN_VALUE;
 @SuppressWarnings({ "rawtypes" })
 public class TypeChecker {
 
+    private static final TypeCheckCache TYPE_CHECK_CACHE = new TypeCheckCache();
+
     public static Object checkCast(Object sourceVal, BType targetType) {
 
         if (checkIsType(sourceVal, targetType)) {
@@ -460,7 +461,31 @@ public class TypeChecker {
      * @return flag indicating the the equivalence of the two types
      */
     public static boolean checkIsType(BType sourceType, BType targetType) {
-        return checkIsType(sourceType, targetType, (List<TypePair>) null);
+        if (sourceType == targetType) {
+            return true;
+        }
+        if (!TypeCheckCache.isCacheable(targetType)) {
+            return checkIsType(sourceType, targetType, (List<TypePair>) null);
+        }
+
+        // Only the results of top level checks are cached. The results of nested checks of recursive types depend
+        // on the pairs that are assumed to hold while the outer check is in progress.
+        Boolean cachedResult = TYPE_CHECK_CACHE.get(sourceType, targetType);
+        if (cachedResult != null) {
+            return cachedResult;
+        }
+        int cacheVersion = TYPE_CHECK_CACHE.getVersion();
+        boolean result = checkIsType(sourceType, targetType, (List<TypePair>) null);
+        TYPE_CHECK_CACHE.put(sourceType, targetType, result, cacheVersion);
+        return result;
+    }
+
+    /**
+     * Discards the cached results of type checks. Called when the members of a type which may already have been
+     * checked are set, since checks which ran before that no longer hold.
+     */
+    public static void invalidateTypeCheckCache() {
+        TYPE_CHECK_CACHE.invalidate();
     }
 
     @Deprecated
@@ -848,7 +873,7 @@ public class TypeChecker {
                 !isInSameVisibilityRegion(Optional.ofNullable(lhsField.type.getPackage()).map(BPackage::getName)
                         .orElse(""), Optional.ofNullable(rhsField.type.getPackage()).map(BPackage::getName)
                         .orElse(""), lhsField.flags, rhsField.flags) ||
-                    !checkIsType(rhsField.type, lhsField.type, new ArrayList<>())) {
+                    !checkIsType(rhsField.type, lhsField.type)) {
                 return false;
             }
         }
@@ -919,12 +944,12 @@ public class TypeChecker {
         }
 
         for (int i = 0; i < source.paramTypes.length; i++) {
-            if (!checkIsType(targetType.paramTypes[i], source.paramTypes[i], new ArrayList<>())) {
+            if (!checkIsType(targetType.paramTypes[i], source.paramTypes[i])) {
                 return false;
             }
         }
 
-        return checkIsType(source.retType, targetType.retType, new ArrayList<>());
+        return checkIsType(source.retType, targetType.retType);
     }
 
     private static boolean checkIsServiceType(BType sourceType) {
@@ -988,7 +1013,7 @@ public class TypeChecker {
     private static boolean checkIsLikeType(Object sourceValue, BType targetType, List<TypeValuePair> unresolvedValues,
                                            boolean allowNumericConversion) {
         BType sourceType = getType(sourceValue);
-        if (checkIsType(sourceType, targetType, new ArrayList<>())) {
+        if (checkIsType(sourceType, targetType)) {
             return true;
         }
 
@@ -1143,7 +1168,7 @@ public class TypeChecker {
         for (int i = 0; i < bound; i++) {
             BType elementType = getArrayElementType(source, i);
             if (BTypes.isValueType(elementType)) {
-                if (!checkIsType(elementType, targetType.getTupleTypes().get(i), new ArrayList<>())) {
+                if (!checkIsType(elementType, targetType.getTupleTypes().get(i))) {
                     return false;
                 }
             } else {
@@ -1187,7 +1212,7 @@ public class TypeChecker {
         if (source.getType().getTag() == TypeTags.ARRAY_TAG) {
             BType sourceElementType = ((BArrayType) source.getType()).getElementType();
             if (BTypes.isValueType(sourceElementType)) {
-                boolean isType = checkIsType(sourceElementType, targetTypeElementType, new ArrayList<>());
+                boolean isType = checkIsType(sourceElementType, targetTypeElementType);
 
                 if (isType || !allowNumericConversion || !isNumericType(sourceElementType)) {
                     return isType;
@@ -1251,7 +1276,7 @@ public class TypeChecker {
             ArrayValue source = (ArrayValue) sourceValue;
             BType elementType = ((BArrayType) source.getType()).getElementType();
             if (BTypes.isValueType(elementType)) {
-                return checkIsType(elementType, targetType, new ArrayList<>());
+                return checkIsType(elementType, targetType);
             }
 
             Object[] arrayValues = source.getValues();
@@ -1295,18 +1320,12 @@ public class TypeChecker {
             return true;
         }
         unresolvedValues.add(typeValuePair);
-        Map<String, BType> targetTypeField = new HashMap<>();
+        Map<String, BField> targetTypeFields = targetType.getFields();
         BType restFieldType = targetType.restFieldType;
 
-        for (BField field : targetType.getFields().values()) {
-            targetTypeField.put(field.getFieldName(), field.type);
-        }
-
-        for (Map.Entry targetTypeEntry : targetTypeField.entrySet()) {
-            String fieldName = targetTypeEntry.getKey().toString();
-
-            if (!(((MapValueImpl) sourceValue).containsKey(fieldName)) &&
-                    !Flags.isFlagOn(targetType.getFields().get(fieldName).flags, Flags.OPTIONAL)) {
+        for (BField targetField : targetTypeFields.values()) {
+            if (!(((MapValueImpl) sourceValue).containsKey(targetField.getFieldName())) &&
+                    !Flags.isFlagOn(targetField.flags, Flags.OPTIONAL)) {
                 return false;
             }
         }
@@ -1314,9 +1333,10 @@ public class TypeChecker {
         for (Object object : ((MapValueImpl) sourceValue).entrySet()) {
             Map.Entry valueEntry = (Map.Entry) object;
             String fieldName = valueEntry.getKey().toString();
+            BField targetField = targetTypeFields.get(fieldName);
 
-            if (targetTypeField.containsKey(fieldName)) {
-                if (!checkIsLikeType((valueEntry.getValue()), targetTypeField.get(fieldName), unresolvedValues,
+            if (targetField != null) {
+                if (!checkIsLikeType((valueEntry.getValue()), targetField.type, unresolvedValues,
                                      allowNumericConversion)) {
                     return false;
                 }
@@ -1388,7 +1408,8 @@ public class TypeChecker {
         BErrorType bErrorType = (BErrorType) sourceType;
         boolean reasonTypeMatched = checkIsType(bErrorType.reasonType, targetType.reasonType, unresolvedTypes);
 
-        return reasonTypeMatched && checkIsType(bErrorType.detailType, targetType.detailType, unresolvedTypes);
+        return reasonTypeMatched &&
+                checkIsType(bErrorType.getDetailType(), targetType.getDetailType(), unresolvedTypes);
     }
 
     private static boolean checkIsLikeErrorType(Object sourceValue, BErrorType targetType,
@@ -1399,7 +1420,7 @@ public class TypeChecker {
         }
         return checkIsLikeType(((ErrorValue) sourceValue).getReason(),
                                targetType.reasonType, unresolvedValues, allowNumericConversion) &&
-                checkIsLikeType(((ErrorValue) sourceValue).getDetails(), targetType.detailType, unresolvedValues,
+                checkIsLikeType(((ErrorValue) sourceValue).getDetails(), targetType.getDetailType(), unresolvedValues,
                                 allowNumericConversion);
     }
 
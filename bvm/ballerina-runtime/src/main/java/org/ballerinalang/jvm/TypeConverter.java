@@ -38,7 +38,6 @@ import org.ballerinalang.jvm.values.MapValueImpl;
 
 import java.math.BigDecimal;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Supplier;
@@ -207,32 +206,24 @@ public class TypeConverter {
         }
         unresolvedValues.add(typeValuePair);
 
-        Map<String, BType> targetFieldTypes = new HashMap<>();
+        Map<String, BField> targetFields = targetType.getFields();
         BType restFieldType = targetType.restFieldType;
 
-        for (BField field : targetType.getFields().values()) {
-            targetFieldTypes.put(field.getFieldName(), field.type);
-        }
-
         MapValueImpl sourceMapValueImpl = (MapValueImpl) sourceValue;
-        for (Map.Entry targetTypeEntry : targetFieldTypes.entrySet()) {
-            String fieldName = targetTypeEntry.getKey().toString();
-
-            if (!sourceMapValueImpl.containsKey(fieldName)) {
-                BField targetField = targetType.getFields().get(fieldName);
-                if (Flags.isFlagOn(targetField.flags, Flags.REQUIRED)) {
-                    return false;
-                }
+        for (BField targetField : targetFields.values()) {
+            if (!sourceMapValueImpl.containsKey(targetField.getFieldName()) &&
+                    Flags.isFlagOn(targetField.flags, Flags.REQUIRED)) {
+                return false;
             }
         }
 
         for (Object object : sourceMapValueImpl.entrySet()) {
             Map.Entry valueEntry = (Map.Entry) object;
             String fieldName = valueEntry.getKey().toString();
+            BField targetField = targetFields.get(fieldName);
 
-            if (targetFieldTypes.containsKey(fieldName)) {
-                if (getConvertibleTypes(valueEntry.getValue(), targetFieldTypes.get(fieldName),
-                                        unresolvedValues).size() != 1) {
+            if (targetField != null) {
+                if (getConvertibleTypes(valueEntry.getValue(), targetField.type, unresolvedValues).size() != 1) {
                     return false;
                 }
             } else if (!targetType.sealed) {
@@ -627,7 +618,7 @@ public class TypeConverter {
         return null;
     }
 
-    private static boolean isDeepStampingRequiredForArray(BType sourceType) {
+    static boolean isDeepStampingRequiredForArray(BType sourceType) {
         BType elementType = ((BArrayType) sourceType).getElementType();
 
         if (elementType != null) {
@@ -641,7 +632,7 @@ public class TypeConverter {
         return true;
     }
 
-    private static boolean isDeepStampingRequiredForMap(BType sourceType) {
+    static boolean isDeepStampingRequiredForMap(BType sourceType) {
         BType constrainedType = ((BMapType) sourceType).getConstrainedType();
 
         if (constrainedType != null) {
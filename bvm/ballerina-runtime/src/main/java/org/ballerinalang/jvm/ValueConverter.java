@@ -0,0 +1,409 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm;
+
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <p>
+ * Converts an anydata value to a given type in a single traversal, validating each member value while the converted
+ * value is being built. The conversion rules are the same as that of validating the whole value with
+ * {@link TypeConverter#getConvertibleTypes(Object, BType)} and then converting it member by member, which revisits
+ * every nested value once per enclosing value.
+ * </p>
+ * <p>
+ * Only the cases whose outcome can be decided locally at each member are handled here. For everything else, including
+ * every conversion failure, {@link #NOT_CONVERTED} is returned and the caller is expected to fall back to the
+ * validate-then-convert path, which also reports the detailed error.
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class ValueConverter {
+
+    /**
+     * Result returned when the value could not be converted by this converter.
+     */
+    public static final Object NOT_CONVERTED = new Object();
+
+    private static final Map<BRecordType, RecordFields> RECORD_FIELDS = new ConcurrentHashMap<>();
+
+    // Container values that are being converted, used to detect cyclic values.
+    private final List<Object> unresolvedValues = new ArrayList<>();
+
+    private ValueConverter() {
+    }
+
+    /**
+     * Convert the given value to the given type.
+     *
+     * @param value      value to be converted
+     * @param targetType type to convert to
+     * @return the converted value, or {@link #NOT_CONVERTED} if the value was not converted
+     */
+    public static Object tryConvert(Object value, BType targetType) {
+        try {
+            return new ValueConverter().convert(value, targetType, false, false);
+        } catch (ErrorValue | BallerinaException e) {
+            return NOT_CONVERTED;
+        }
+    }
+
+    /**
+     * Convert a value to the given type.
+     *
+     * @param value          value to be converted
+     * @param targetType     type to convert to
+     * @param allowAmbiguity whether the value may be convertible to more than one member of a union, in which case
+     *                       the first one is picked
+     * @param likeType       whether the value must also have the shape of the target type, as it is when the
+     *                       enclosing value was validated with {@link TypeChecker#checkIsLikeType}
+     * @return the converted value, or {@link #NOT_CONVERTED}
+     */
+    private Object convert(Object value, BType targetType, boolean allowAmbiguity, boolean likeType) {
+        if (value == null) {
+            if (!targetType.isNilable() || (likeType && !TypeChecker.checkIsLikeType(null, targetType, true))) {
+                return NOT_CONVERTED;
+            }
+            return null;
+        }
+
+        BType sourceType = TypeChecker.getType(value);
+        if (sourceType.getTag() <= TypeTags.BOOLEAN_TAG) {
+            return convertSimpleValue(value, sourceType, targetType, allowAmbiguity, likeType);
+        }
+
+        switch (targetType.getTag()) {
+            case TypeTags.UNION_TAG:
+                return convertToUnion(value, sourceType, (BUnionType) targetType, allowAmbiguity, likeType);
+            case TypeTags.RECORD_TYPE_TAG:
+                return convertToRecord(value, sourceType, (BRecordType) targetType, likeType);
+            case TypeTags.MAP_TAG:
+                return convertToMap(value, sourceType, (BMapType) targetType);
+            case TypeTags.ARRAY_TAG:
+                return convertToArray(value, sourceType, (BArrayType) targetType);
+            case TypeTags.JSON_TAG:
+                return convertToJson(value, sourceType, targetType);
+            case TypeTags.ANYDATA_TAG:
+                return convertToAnydata(value, sourceType, targetType);
+            default:
+                return NOT_CONVERTED;
+        }
+    }
+
+    private Object convertSimpleValue(Object value, BType sourceType, BType targetType, boolean allowAmbiguity,
+                                      boolean likeType) {
+        switch (targetType.getTag()) {
+            case TypeTags.UNION_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+                break;
+            case TypeTags.ANYDATA_TAG:
+                // These are resolved to their own type
+                if (sourceType.getTag() != TypeTags.DECIMAL_TAG) {
+                    return value;
+                }
+                break;
+            default:
+                if (TypeChecker.checkIsType(value, targetType)) {
+                    return value;
+                }
+        }
+
+        List<BType> convertibleTypes = TypeConverter.getConvertibleTypes(value, targetType);
+        if (convertibleTypes.isEmpty() || (!allowAmbiguity && convertibleTypes.size() > 1)) {
+            return NOT_CONVERTED;
+        }
+        if (likeType && !TypeChecker.checkIsLikeType(value, targetType, true)) {
+            return NOT_CONVERTED;
+        }
+
+        BType matchingType = convertibleTypes.get(0);
+        if (TypeChecker.checkIsType(value, matchingType)) {
+            return value;
+        }
+        // Has to be a numeric conversion.
+        return TypeConverter.convertValues(matchingType, value);
+    }
+
+    private Object convertToUnion(Object value, BType sourceType, BUnionType targetType, boolean allowAmbiguity,
+                                  boolean likeType) {
+        // Only a union with a single member that could accept the value is handled, so that the value is not
+        // validated against each member separately.
+        BType matchingType = null;
+        for (BType memberType : targetType.getMemberTypes()) {
+            if (isIncompatible(sourceType, memberType)) {
+                continue;
+            }
+            if (matchingType != null) {
+                return NOT_CONVERTED;
+            }
+            matchingType = memberType;
+        }
+
+        if (matchingType == null) {
+            return NOT_CONVERTED;
+        }
+        return convert(value, matchingType, allowAmbiguity, likeType);
+    }
+
+    private Object convertToRecord(Object value, BType sourceType, BRecordType targetType, boolean likeType) {
+        if (!isMapValue(value, sourceType) || !startConversion(value)) {
+            return NOT_CONVERTED;
+        }
+
+        MapValueImpl<?, ?> map = (MapValueImpl<?, ?>) value;
+        RecordFields recordFields = getRecordFields(targetType);
+        for (String fieldName : likeType ? recordFields.nonOptionalFields : recordFields.requiredFields) {
+            if (!map.containsKey(fieldName)) {
+                return NOT_CONVERTED;
+            }
+        }
+
+        MapValueImpl<String, Object> newRecord = (MapValueImpl<String, Object>) BallerinaValues
+                .createRecordValue(targetType.getPackage(), targetType.getName());
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            String fieldName = entry.getKey().toString();
+            BField field = recordFields.fields.get(fieldName);
+            BType fieldType;
+            if (field != null) {
+                fieldType = field.type;
+            } else if (!targetType.sealed) {
+                fieldType = targetType.restFieldType;
+            } else {
+                return NOT_CONVERTED;
+            }
+
+            Object fieldValue = entry.getValue();
+            if (fieldValue == null && TypeConverter.getConvertibleTypes(null, fieldType).size() != 1) {
+                return NOT_CONVERTED;
+            }
+
+            Object newValue = convert(fieldValue, fieldType, false, likeType);
+            if (newValue == NOT_CONVERTED) {
+                return NOT_CONVERTED;
+            }
+            newRecord.put(fieldName, newValue);
+        }
+
+        endConversion();
+        return newRecord;
+    }
+
+    private Object convertToMap(Object value, BType sourceType, BMapType targetType) {
+        if (!isMapValue(value, sourceType) || !startConversion(value)) {
+            return NOT_CONVERTED;
+        }
+
+        BType constrainedType = targetType.getConstrainedType();
+        MapValueImpl<String, Object> newMap = BallerinaValues.createMapValue(targetType);
+        for (Map.Entry<?, ?> entry : ((MapValueImpl<?, ?>) value).entrySet()) {
+            Object newValue = convert(entry.getValue(), constrainedType, true, true);
+            if (newValue == NOT_CONVERTED) {
+                return NOT_CONVERTED;
+            }
+            newMap.put(entry.getKey().toString(), newValue);
+        }
+
+        endConversion();
+        return newMap;
+    }
+
+    private Object convertToArray(Object value, BType sourceType, BArrayType targetType) {
+        if (!isArrayValue(value, sourceType) || !startConversion(value)) {
+            return NOT_CONVERTED;
+        }
+
+        // The shape of an array of simple values is decided by the element types alone
+        if (sourceType.getTag() == TypeTags.ARRAY_TAG &&
+                BTypes.isValueType(((BArrayType) sourceType).getElementType()) &&
+                !TypeChecker.checkIsLikeType(value, targetType, true)) {
+            return NOT_CONVERTED;
+        }
+
+        ArrayValue array = (ArrayValue) value;
+        BType elementType = targetType.getElementType();
+        ArrayValueImpl newArray = new ArrayValueImpl(targetType);
+        for (int i = 0; i < array.size(); i++) {
+            Object newValue = convert(array.get(i), elementType, false, true);
+            if (newValue == NOT_CONVERTED) {
+                return NOT_CONVERTED;
+            }
+            newArray.add(i, newValue);
+        }
+
+        endConversion();
+        return newArray;
+    }
+
+    private Object convertToJson(Object value, BType sourceType, BType targetType) {
+        switch (sourceType.getTag()) {
+            case TypeTags.MAP_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+                return convertToMatchingMapType(value, sourceType, targetType);
+            case TypeTags.ARRAY_TAG:
+                BType elementType = ((BArrayType) sourceType).getElementType();
+                if (BTypes.isValueType(elementType) && !TypeChecker.checkIsType(elementType, targetType)) {
+                    return NOT_CONVERTED;
+                }
+                return convertToArray(value, sourceType, new BArrayType(BTypes.typeJSON));
+            default:
+                return NOT_CONVERTED;
+        }
+    }
+
+    private Object convertToAnydata(Object value, BType sourceType, BType targetType) {
+        switch (sourceType.getTag()) {
+            case TypeTags.MAP_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+                return convertToMatchingMapType(value, sourceType, targetType);
+            case TypeTags.ARRAY_TAG:
+                if (!TypeConverter.isDeepStampingRequiredForArray(sourceType)) {
+                    if (!TypeChecker.checkIsType(sourceType, targetType)) {
+                        return NOT_CONVERTED;
+                    }
+                    return convertToArray(value, sourceType, (BArrayType) sourceType);
+                }
+                return convertToArray(value, sourceType, new BArrayType(targetType));
+            case TypeTags.TUPLE_TAG:
+                return convertToArray(value, sourceType, new BArrayType(targetType));
+            default:
+                return NOT_CONVERTED;
+        }
+    }
+
+    /**
+     * Convert a map value to the map type resolved for a json or anydata target type, as done by
+     * {@link TypeConverter#resolveMatchingTypeForUnion(Object, BType)}.
+     */
+    private Object convertToMatchingMapType(Object value, BType sourceType, BType targetType) {
+        if (sourceType.getTag() == TypeTags.MAP_TAG && !TypeConverter.isDeepStampingRequiredForMap(sourceType)) {
+            if (!TypeChecker.checkIsType(sourceType, targetType)) {
+                return NOT_CONVERTED;
+            }
+            return convertToMap(value, sourceType, (BMapType) sourceType);
+        }
+        return convertToMap(value, sourceType, new BMapType(targetType));
+    }
+
+    private boolean startConversion(Object value) {
+        for (Object unresolvedValue : unresolvedValues) {
+            if (unresolvedValue == value) {
+                return false;
+            }
+        }
+        unresolvedValues.add(value);
+        return true;
+    }
+
+    // A failed conversion is abandoned altogether, hence only the successful ones need to end the conversion.
+    private void endConversion() {
+        unresolvedValues.remove(unresolvedValues.size() - 1);
+    }
+
+    private static boolean isMapValue(Object value, BType sourceType) {
+        return value instanceof MapValueImpl &&
+                (sourceType.getTag() == TypeTags.MAP_TAG || sourceType.getTag() == TypeTags.RECORD_TYPE_TAG);
+    }
+
+    private static boolean isArrayValue(Object value, BType sourceType) {
+        return value instanceof ArrayValue &&
+                (sourceType.getTag() == TypeTags.ARRAY_TAG || sourceType.getTag() == TypeTags.TUPLE_TAG);
+    }
+
+    /**
+     * Check whether a map or an array value of the given type can never be converted to the given type.
+     */
+    private static boolean isIncompatible(BType sourceType, BType targetType) {
+        switch (targetType.getTag()) {
+            case TypeTags.NULL_TAG:
+            case TypeTags.INT_TAG:
+            case TypeTags.BYTE_TAG:
+            case TypeTags.FLOAT_TAG:
+            case TypeTags.DECIMAL_TAG:
+            case TypeTags.STRING_TAG:
+            case TypeTags.BOOLEAN_TAG:
+                return true;
+            case TypeTags.MAP_TAG:
+            case TypeTags.RECORD_TYPE_TAG:
+                return sourceType.getTag() == TypeTags.ARRAY_TAG || sourceType.getTag() == TypeTags.TUPLE_TAG;
+            case TypeTags.ARRAY_TAG:
+            case TypeTags.TUPLE_TAG:
+                return sourceType.getTag() == TypeTags.MAP_TAG || sourceType.getTag() == TypeTags.RECORD_TYPE_TAG;
+            default:
+                return false;
+        }
+    }
+
+    private static RecordFields getRecordFields(BRecordType recordType) {
+        RecordFields recordFields = RECORD_FIELDS.get(recordType);
+        // Record types are looked up by name, and their fields may be set after the type is created
+        if (recordFields == null || recordFields.recordType != recordType ||
+                recordFields.fields != recordType.getFields()) {
+            recordFields = new RecordFields(recordType);
+            RECORD_FIELDS.put(recordType, recordFields);
+        }
+        return recordFields;
+    }
+
+    /**
+     * Field lookup table of a record type.
+     */
+    private static class RecordFields {
+
+        final BRecordType recordType;
+        final Map<String, BField> fields;
+        final String[] requiredFields;
+        final String[] nonOptionalFields;
+
+        RecordFields(BRecordType recordType) {
+            this.recordType = recordType;
+            this.fields = recordType.getFields();
+
+            List<String> requiredFields = new ArrayList<>();
+            List<String> nonOptionalFields = new ArrayList<>();
+            for (BField field : fields.values()) {
+                if (Flags.isFlagOn(field.flags, Flags.REQUIRED)) {
+                    requiredFields.add(field.getFieldName());
+                }
+                if (!Flags.isFlagOn(field.flags, Flags.OPTIONAL)) {
+                    nonOptionalFields.add(field.getFieldName());
+                }
+            }
+            this.requiredFields = requiredFields.toArray(new String[0]);
+            this.nonOptionalFields = nonOptionalFields.toArray(new String[0]);
+        }
+    }
+}
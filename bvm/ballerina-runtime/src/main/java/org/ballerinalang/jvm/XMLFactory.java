@@ -20,7 +20,6 @@ package org.ballerinalang.jvm;
 import org.apache.axiom.c14n.Canonicalizer;
 import org.apache.axiom.c14n.exceptions.CanonicalizationException;
 import org.apache.axiom.c14n.exceptions.InvalidCanonicalizerException;
-import org.apache.axiom.om.DeferredParsingException;
 import org.apache.axiom.om.OMAbstractFactory;
 import org.apache.axiom.om.OMAttribute;
 import org.apache.axiom.om.OMComment;
@@ -36,6 +35,7 @@ import org.apache.axiom.om.OMXMLBuilderFactory;
 import org.apache.axiom.om.impl.dom.TextImpl;
 import org.apache.axiom.om.impl.llom.OMSourcedElementImpl;
 import org.apache.axiom.om.util.StAXParserConfiguration;
+import org.apache.axiom.om.util.StAXUtils;
 import org.ballerinalang.jvm.types.BArrayType;
 import org.ballerinalang.jvm.types.BMapType;
 import org.ballerinalang.jvm.types.BPackage;
@@ -50,6 +50,7 @@ import org.ballerinalang.jvm.values.TableValue;
 import org.ballerinalang.jvm.values.XMLItem;
 import org.ballerinalang.jvm.values.XMLQName;
 import org.ballerinalang.jvm.values.XMLSequence;
+import org.ballerinalang.jvm.values.XMLTreeBuilder;
 import org.ballerinalang.jvm.values.XMLValue;
 
 import java.io.InputStream;
@@ -64,6 +65,7 @@ import java.util.Map;
 import javax.xml.XMLConstants;
 import javax.xml.namespace.QName;
 import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 /**
  * Common utility methods used for XML manipulation.
@@ -123,13 +125,20 @@ public class XMLFactory {
 
             // If this is an XML document, parse it and return an element type XML.
             if (xmlStr.trim().startsWith(XML_DCLR_START)) {
-                return new XMLItem(xmlStr);
+                XMLValue<?> item = parseTree(xmlStr, true);
+                return item != null ? item : new XMLItem(xmlStr);
             }
 
             // Here we add a dummy enclosing tag, and send to AXIOM to parse the XML.
             // This is to overcome the issue of axiom not allowing to parse xml-comments,
             // xml-text nodes, and pi nodes, without having an enclosing xml-element node.
-            OMElement omElement = stringToOM("<root>" + xmlStr + "</root>");
+            String enclosedXmlStr = "<root>" + xmlStr + "</root>";
+            XMLValue<?> item = parseTree(enclosedXmlStr, false);
+            if (item != null) {
+                return item;
+            }
+
+            OMElement omElement = stringToOM(enclosedXmlStr);
             Iterator<OMNode> children = omElement.getChildren();
             OMNode omNode = null;
             if (children.hasNext()) {
@@ -163,23 +172,12 @@ public class XMLFactory {
      * @param xmlStream XML input stream
      * @return XML Sequence
      */
-    @SuppressWarnings("unchecked")
     public static XMLValue<?> parse(InputStream xmlStream) {
-        ArrayValue elementsSeq = new ArrayValueImpl(new BArrayType(BTypes.typeXML));
-        OMDocument doc;
         try {
-            doc = OMXMLBuilderFactory.createOMBuilder(STAX_PARSER_CONFIGURATION, xmlStream).getDocument();
-            Iterator<OMNode> docChildItr = doc.getChildren();
-            int i = 0;
-            while (docChildItr.hasNext()) {
-                elementsSeq.add(i++, new XMLItem(docChildItr.next()));
-            }
-        } catch (DeferredParsingException e) {
-            throw BallerinaErrors.createError(e.getCause().getMessage());
-        } catch (Throwable e) {
-            throw BallerinaErrors.createError("failed to create xml: " + e.getMessage());
+            return parseSequence(StAXUtils.createXMLStreamReader(STAX_PARSER_CONFIGURATION, xmlStream));
+        } catch (XMLStreamException e) {
+            throw BallerinaErrors.createError("failed to create xml: " + new OMException(e).getMessage());
         }
-        return new XMLSequence(elementsSeq);
     }
 
     /**
@@ -189,23 +187,12 @@ public class XMLFactory {
      * @param charset Charset to be used for parsing
      * @return XML Sequence
      */
-    @SuppressWarnings("unchecked")
     public static XMLValue<?> parse(InputStream xmlStream, String charset) {
-        ArrayValue elementsSeq = new ArrayValueImpl(new BArrayType(BTypes.typeXML));
-        OMDocument doc;
         try {
-            doc = OMXMLBuilderFactory.createOMBuilder(STAX_PARSER_CONFIGURATION, xmlStream, charset).getDocument();
-            Iterator<OMNode> docChildItr = doc.getChildren();
-            int index = 0;
-            while (docChildItr.hasNext()) {
-                elementsSeq.add(index++, new XMLItem(docChildItr.next()));
-            }
-        } catch (DeferredParsingException e) {
-            throw BallerinaErrors.createError(e.getCause().getMessage());
-        } catch (Throwable e) {
-            throw BallerinaErrors.createError("failed to create xml: " + e.getMessage());
+            return parseSequence(StAXUtils.createXMLStreamReader(STAX_PARSER_CONFIGURATION, xmlStream, charset));
+        } catch (XMLStreamException e) {
+            throw BallerinaErrors.createError("failed to create xml: " + new OMException(e).getMessage());
         }
-        return new XMLSequence(elementsSeq);
     }
 
     /**
@@ -214,23 +201,40 @@ public class XMLFactory {
      * @param reader XML reader
      * @return XML Sequence
      */
-    @SuppressWarnings("unchecked")
     public static XMLValue<?> parse(Reader reader) {
-        ArrayValue elementsSeq = new ArrayValueImpl(new BArrayType(BTypes.typeXML));
-        OMDocument doc;
         try {
-            doc = OMXMLBuilderFactory.createOMBuilder(STAX_PARSER_CONFIGURATION, reader).getDocument();
-            Iterator<OMNode> docChildItr = doc.getChildren();
-            int i = 0;
-            while (docChildItr.hasNext()) {
-                elementsSeq.add(i++, new XMLItem(docChildItr.next()));
-            }
-        } catch (DeferredParsingException e) {
-            throw BallerinaErrors.createError(e.getCause().getMessage());
+            return parseSequence(StAXUtils.createXMLStreamReader(STAX_PARSER_CONFIGURATION, reader));
+        } catch (XMLStreamException e) {
+            throw BallerinaErrors.createError("failed to create xml: " + new OMException(e).getMessage());
+        }
+    }
+
+    private static XMLValue<?> parseSequence(XMLStreamReader reader) {
+        try {
+            return XMLTreeBuilder.parseSequence(reader);
+        } catch (XMLStreamException e) {
+            throw BallerinaErrors.createError(e.getMessage());
         } catch (Throwable e) {
             throw BallerinaErrors.createError("failed to create xml: " + e.getMessage());
         }
-        return new XMLSequence(elementsSeq);
+    }
+
+    /**
+     * Parse a string into a XML item backed by a {@link XMLTreeBuilder} tree.
+     *
+     * @param xmlStr string representation of the XML
+     * @param document whether the string is a XML document, or a XML item enclosed in a root element
+     * @return XML item, or null if the string cannot be parsed into a single item. Then the string should be parsed
+     *         into the Axiom object model instead, which reports the error.
+     */
+    private static XMLValue<?> parseTree(String xmlStr, boolean document) {
+        try {
+            XMLStreamReader reader =
+                    StAXUtils.createXMLStreamReader(STAX_PARSER_CONFIGURATION, new StringReader(xmlStr));
+            return document ? XMLTreeBuilder.parseDocumentElement(reader) : XMLTreeBuilder.parseEnclosedItem(reader);
+        } catch (XMLStreamException | RuntimeException e) {
+            return null;
+        }
     }
 
     /**
@@ -0,0 +1,63 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+/**
+ * Pool of strand frame arrays owned by a single scheduler thread. Frame arrays of completed strands are returned
+ * here and reused by the next strand which yields on the same thread.
+ *
+ * @since 1.2.0
+ */
+class FramePool {
+
+    static final int INITIAL_FRAMES_SIZE = 8;
+
+    /**
+     * Arrays which have grown beyond this size for deep call stacks are left to the GC instead of being retained.
+     */
+    private static final int MAX_POOLED_FRAMES_SIZE = 128;
+    private static final int MAX_POOLED_ARRAYS = 32;
+
+    private Object[][] pool;
+    private int size;
+
+    Object[] borrow() {
+        if (size == 0) {
+            return new Object[INITIAL_FRAMES_SIZE];
+        }
+        Object[] frames = pool[--size];
+        pool[size] = null;
+        return frames;
+    }
+
+    /**
+     * Returns a frame array to the pool. The array should not hold any frames.
+     *
+     * @param frames frame array of a completed strand
+     */
+    void recycle(Object[] frames) {
+        if (frames.length > MAX_POOLED_FRAMES_SIZE) {
+            return;
+        }
+        if (pool == null) {
+            pool = new Object[MAX_POOLED_ARRAYS][];
+        } else if (size == MAX_POOLED_ARRAYS) {
+            return;
+        }
+        pool[size++] = frames;
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+/**
+ * Holds the {@link SchedulerItem}s that are ready to be executed by the scheduler threads.
+ *
+ * @since 1.2.0
+ */
+interface RunQueue {
+
+    /**
+     * Make the given item available for execution.
+     *
+     * @param item item to be executed
+     */
+    void add(SchedulerItem item);
+
+    /**
+     * Retrieve the next item to be executed, waiting if none is available.
+     *
+     * @return next runnable item
+     * @throws InterruptedException if interrupted while waiting
+     */
+    SchedulerItem take() throws InterruptedException;
+
+    /**
+     * Number of items waiting to be executed.
+     *
+     * @return number of runnable items
+     */
+    int size();
+
+    /**
+     * Called by each scheduler thread before it starts taking items from this queue.
+     *
+     * @param workerIndex index of the scheduler thread, in the range [0, numThreads)
+     */
+    default void registerWorker(int workerIndex) {
+    }
+}
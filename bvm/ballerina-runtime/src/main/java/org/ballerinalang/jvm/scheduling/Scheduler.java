@@ -31,8 +31,9 @@ import org.ballerinalang.jvm.values.connector.CallableUnitCallback;
 import java.io.PrintStream;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.Semaphore;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
@@ -56,7 +57,18 @@ public class Scheduler {
     /**
      * Strands that are ready for execution.
      */
-    private BlockingQueue<SchedulerItem> runnableList = new LinkedBlockingDeque<>();
+    private final RunQueue runnableList;
+
+    /**
+     * Executor which runs each strand on a new virtual thread, used instead of the scheduler threads with the
+     * {@link SchedulerPolicy#VIRTUAL_THREAD} policy. Items are executed only after the scheduler is started.
+     */
+    private final ExecutorService virtualThreadExecutor;
+    /**
+     * Frame arrays shared by the virtual threads, which are not reused and hence cannot keep a pool of their own.
+     */
+    private final SharedFramePool sharedFramePool;
+    private final CountDownLatch started = new CountDownLatch(1);
 
     private static final ThreadLocal<StrandHolder> strandHolder = ThreadLocal.withInitial(StrandHolder::new);
 
@@ -64,6 +76,8 @@ public class Scheduler {
 
     private static String poolSizeConf = System.getenv(BLangConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR);
 
+    private static String policyConf = System.getenv(BLangConstants.BALLERINA_SCHEDULER_POLICY_ENV_VAR);
+
     /**
      * This can be changed by setting the BALLERINA_MAX_POOL_SIZE system variable.
      * Default is 100.
@@ -72,6 +86,12 @@ public class Scheduler {
 
     private static int poolSize = Runtime.getRuntime().availableProcessors() * 2;
 
+    /**
+     * This can be changed by setting the BALLERINA_SCHEDULER_POLICY system variable.
+     * Default is {@link SchedulerPolicy#SHARED_QUEUE}.
+     */
+    private static SchedulerPolicy policy = SchedulerPolicy.SHARED_QUEUE;
+
     private Semaphore mainBlockSem;
 
     public Scheduler(boolean immortal) {
@@ -84,13 +104,53 @@ public class Scheduler {
             err.println("ballerina: error occurred in scheduler while reading system variable:" +
                     BLangConstants.BALLERINA_MAX_POOL_SIZE_ENV_VAR + ", " + t.getMessage());
         }
+        try {
+            if (policyConf != null) {
+                policy = SchedulerPolicy.fromConfigValue(policyConf);
+            }
+        } catch (Throwable t) {
+            // Log and continue with default
+            err.println("ballerina: error occurred in scheduler while reading system variable:" +
+                    BLangConstants.BALLERINA_SCHEDULER_POLICY_ENV_VAR + ", " + t.getMessage());
+        }
         this.numThreads = poolSize;
         this.immortal = immortal;
+        this.runnableList = createRunQueue(policy, numThreads);
+        this.virtualThreadExecutor = policy == SchedulerPolicy.VIRTUAL_THREAD ? createVirtualThreadExecutor() : null;
+        this.sharedFramePool = virtualThreadExecutor != null ? new SharedFramePool() : null;
     }
 
     public Scheduler(int numThreads, boolean immortal) {
+        this(numThreads, immortal, SchedulerPolicy.SHARED_QUEUE);
+    }
+
+    public Scheduler(int numThreads, boolean immortal, SchedulerPolicy policy) {
         this.numThreads = numThreads;
         this.immortal = immortal;
+        this.runnableList = createRunQueue(policy, numThreads);
+        this.virtualThreadExecutor = policy == SchedulerPolicy.VIRTUAL_THREAD ? createVirtualThreadExecutor() : null;
+        this.sharedFramePool = virtualThreadExecutor != null ? new SharedFramePool() : null;
+    }
+
+    private static RunQueue createRunQueue(SchedulerPolicy policy, int numThreads) {
+        switch (policy) {
+            case WORK_STEALING:
+                return new WorkStealingRunQueue(numThreads);
+            case SHARED_QUEUE:
+            case VIRTUAL_THREAD:
+            default:
+                return new SharedRunQueue();
+        }
+    }
+
+    private ExecutorService createVirtualThreadExecutor() {
+        if (!VirtualThreads.isSupported()) {
+            // Log and continue with the shared queue
+            err.println("ballerina: virtual threads are not supported by the Java runtime, " +
+                    "falling back to scheduler policy '" + SchedulerPolicy.SHARED_QUEUE.getConfigValue() + "'");
+            return null;
+        }
+        return VirtualThreads.newVirtualThreadPerTaskExecutor();
     }
 
     public static Strand getStrand() {
@@ -101,6 +161,13 @@ public class Scheduler {
         return strand;
     }
 
+    Object[] borrowFrames() {
+        if (sharedFramePool != null) {
+            return sharedFramePool.borrow();
+        }
+        return strandHolder.get().getFramePool().borrow();
+    }
+
     public FutureValue scheduleFunction(Object[] params, FPValue<?, ?> fp, Strand parent, BType returnType) {
         return schedule(params, fp.getFunction(), parent, null, null, returnType);
     }
@@ -146,7 +213,7 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(function, params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
-        runnableList.add(item);
+        submit(item);
         return future;
     }
 
@@ -166,16 +233,29 @@ public class Scheduler {
         SchedulerItem item = new SchedulerItem(consumer, params, future);
         future.strand.schedulerItem = item;
         totalStrands.incrementAndGet();
-        runnableList.add(item);
+        submit(item);
         return future;
     }
 
     public void start() {
         this.mainBlockSem = new Semaphore(-(numThreads - 1));
+        if (virtualThreadExecutor != null) {
+            // each POISON_PILL releases the semaphore once, same as the scheduler threads
+            started.countDown();
+            try {
+                this.mainBlockSem.acquire();
+            } catch (InterruptedException e) {
+                RuntimeUtils.printCrashLog(e);
+            }
+            // the scheduler has stopped, same as the scheduler threads which exit after the POISON_PILL
+            virtualThreadExecutor.shutdown();
+            return;
+        }
         for (int i = 0; i < numThreads - 1; i++) {
-            new Thread(this::runSafely, "jbal-strand-exec-" + i).start();
+            int workerIndex = i;
+            new Thread(() -> runSafely(workerIndex), "jbal-strand-exec-" + i).start();
         }
-        this.runSafely();
+        this.runSafely(numThreads - 1);
         try {
             this.mainBlockSem.acquire();
         } catch (InterruptedException e) {
@@ -186,8 +266,9 @@ public class Scheduler {
     /**
      * Defensive programming to prevent unforeseen errors.
      */
-    private void runSafely() {
+    private void runSafely(int workerIndex) {
         try {
+            runnableList.registerWorker(workerIndex);
             run();
         } catch (Throwable t) {
             RuntimeUtils.printCrashLog(t);
@@ -206,112 +287,125 @@ public class Scheduler {
                 continue;
             }
 
-            if (item == POISON_PILL) {
-                this.mainBlockSem.release();
+            if (!execute(item)) {
                 break;
             }
+        }
+    }
 
-            Object result = null;
-            Throwable panic = null;
-            try {
-                strandHolder.get().strand = item.future.strand;
-                result = item.execute();
-            } catch (Throwable e) {
-                panic = createError(e);
-                notifyChannels(item, panic);
-              
-                if (!(panic instanceof ErrorValue)) {
-                    RuntimeUtils.printCrashLog(panic);
-                }
-                // Please refer #18763.
-                // This logs cases where errors have occurred while strand is blocked.
-                if (item.isYielded()) {
-                    RuntimeUtils.printCrashLog(panic);
-                }
-            } finally {
-                strandHolder.get().strand = null;
+    /**
+     * Executes the given item and moves its strand to the next state.
+     *
+     * @param item item to be executed
+     * @return false if the item is the POISON_PILL and the executing thread should stop
+     */
+    private boolean execute(SchedulerItem item) {
+        if (item == POISON_PILL) {
+            this.mainBlockSem.release();
+            return false;
+        }
+
+        Object result = null;
+        Throwable panic = null;
+        try {
+            strandHolder.get().strand = item.future.strand;
+            result = item.execute();
+        } catch (Throwable e) {
+            panic = createError(e);
+            notifyChannels(item, panic);
+
+            if (!(panic instanceof ErrorValue)) {
+                RuntimeUtils.printCrashLog(panic);
             }
+            // Please refer #18763.
+            // This logs cases where errors have occurred while strand is blocked.
+            if (item.isYielded()) {
+                RuntimeUtils.printCrashLog(panic);
+            }
+        } finally {
+            strandHolder.get().strand = null;
+        }
 
-            switch (item.getState()) {
-                case BLOCK_AND_YIELD:
-                    item.future.strand.lock();
-                    // need to recheck due to concurrency, unblockStrand() may have changed state
-                    if (item.getState().getStatus() == State.YIELD.getStatus()) {
-                        reschedule(item);
-                        item.future.strand.unlock();
-                        break;
-                    }
-                    item.parked = true;
+        switch (item.getState()) {
+            case BLOCK_AND_YIELD:
+                item.future.strand.lock();
+                // need to recheck due to concurrency, unblockStrand() may have changed state
+                if (item.getState().getStatus() == State.YIELD.getStatus()) {
+                    reschedule(item);
                     item.future.strand.unlock();
                     break;
-                case BLOCK_ON_AND_YIELD:
-                    WaitContext waitContext = item.future.strand.waitContext;
-                    waitContext.lock();
-                    waitContext.intermediate = false;
-                    if (waitContext.runnable) {
-                        waitContext.completed = true;
-                        reschedule(item);
-                    }
-                    waitContext.unLock();
-                    break;
-                case YIELD:
+                }
+                item.parked = true;
+                item.future.strand.unlock();
+                break;
+            case BLOCK_ON_AND_YIELD:
+                WaitContext waitContext = item.future.strand.waitContext;
+                waitContext.lock();
+                waitContext.intermediate = false;
+                if (waitContext.runnable) {
+                    waitContext.completed = true;
                     reschedule(item);
-                    break;
-                case RUNNABLE:
-                    item.future.result = result;
-                    item.future.isDone = true;
-                    item.future.panic = panic;
-                    // TODO clean, better move it to future value itself
-                    if (item.future.callback != null) {
-                        if (item.future.panic != null) {
-                            item.future.callback.notifyFailure(BallerinaErrors.createError(panic));
-                            if (item.future.strand.transactionLocalContext != null) {
-                                item.future.strand.transactionLocalContext.notifyLocalRemoteParticipantFailure();
-                            }
-                        } else {
-                            item.future.callback.notifySuccess();
+                }
+                waitContext.unLock();
+                break;
+            case YIELD:
+                reschedule(item);
+                break;
+            case RUNNABLE:
+                item.future.result = result;
+                item.future.isDone = true;
+                item.future.panic = panic;
+                // TODO clean, better move it to future value itself
+                if (item.future.callback != null) {
+                    if (item.future.panic != null) {
+                        item.future.callback.notifyFailure(BallerinaErrors.createError(panic));
+                        if (item.future.strand.transactionLocalContext != null) {
+                            item.future.strand.transactionLocalContext.notifyLocalRemoteParticipantFailure();
                         }
+                    } else {
+                        item.future.callback.notifySuccess();
                     }
+                }
 
-                    Strand justCompleted = item.future.strand;
-                    assert !justCompleted.getState().equals(State.DONE) : "Can't be completed twice";
+                Strand justCompleted = item.future.strand;
+                assert !justCompleted.getState().equals(State.DONE) : "Can't be completed twice";
 
-                    justCompleted.setState(State.DONE);
+                justCompleted.setState(State.DONE);
 
 
-                    for (WaitContext ctx : justCompleted.waitingContexts) {
-                        ctx.lock();
-                        if (!ctx.completed) {
-                            if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
-                                if (ctx.intermediate) {
-                                    ctx.runnable = true;
-                                } else {
-                                    ctx.completed = true;
-                                    reschedule(ctx.schedulerItem);
-                                }
+                for (WaitContext ctx : justCompleted.waitingContexts) {
+                    ctx.lock();
+                    if (!ctx.completed) {
+                        if ((item.future.panic != null && ctx.handlePanic()) || ctx.waitCompleted(result)) {
+                            if (ctx.intermediate) {
+                                ctx.runnable = true;
+                            } else {
+                                ctx.completed = true;
+                                reschedule(ctx.schedulerItem);
                             }
                         }
-                        ctx.unLock();
                     }
+                    ctx.unLock();
+                }
 
-                    cleanUp(justCompleted);
+                cleanUp(justCompleted);
 
-                    int strandsLeft = totalStrands.decrementAndGet();
-                    if (strandsLeft == 0) {
-                        // (number of started stands - finished stands) = 0, all the work is done
-                        assert runnableList.size() == 0;
+                int strandsLeft = totalStrands.decrementAndGet();
+                if (strandsLeft == 0) {
+                    // (number of started stands - finished stands) = 0, all the work is done
+                    assert runnableList.size() == 0;
 
-                        if (!immortal) {
-                            for (int i = 0; i < numThreads; i++) {
-                                runnableList.add(POISON_PILL);
-                            }
+                    if (!immortal) {
+                        for (int i = 0; i < numThreads; i++) {
+                            submit(POISON_PILL);
                         }
                     }
-                    break;
-                default:
-                    assert false : "illegal strand state during execute " + item.getState();
-            }
+                }
+                break;
+            default:
+                assert false : "illegal strand state during execute " + item.getState();
         }
+        return true;
     }
 
     private Throwable createError(Throwable t) {
@@ -338,6 +432,13 @@ public class Scheduler {
 
     private void cleanUp(Strand justCompleted) {
         justCompleted.scheduler = null;
+        if (justCompleted.frames != null && justCompleted.resumeIndex == 0) {
+            if (sharedFramePool != null) {
+                sharedFramePool.recycle(justCompleted.frames);
+            } else {
+                strandHolder.get().getFramePool().recycle(justCompleted.frames);
+            }
+        }
         justCompleted.frames = null;
         justCompleted.waitingContexts = null;
         //TODO: more cleanup , eg channels
@@ -367,7 +468,7 @@ public class Scheduler {
             if (!item.getState().equals(State.RUNNABLE)) {
                 // release if the same strand is waiting for others as well (wait multiple)
                 item.setState(State.RUNNABLE);
-                runnableList.add(item);
+                submit(item);
             }
     }
 
@@ -377,69 +478,34 @@ public class Scheduler {
         if (parent != null) {
             newStrand.observerContext = parent.observerContext;
         }
-        FutureValue future = new FutureValue(newStrand, callback, constraint);
-        future.strand.frames = new Object[100];
-        return future;
+        return new FutureValue(newStrand, callback, constraint);
     }
 
     public void poison() {
         for (int i = 0; i < numThreads; i++) {
-            runnableList.add(POISON_PILL);
+            submit(POISON_PILL);
         }
     }
-}
-
-/**
- * Represent an executable item in Scheduler.
- *
- * @since 0.995.0
- */
-class SchedulerItem {
-    private Function function;
-    private Object[] params;
-    final FutureValue future;
-    boolean parked;
-
-    public static final SchedulerItem POISON_PILL = new SchedulerItem();
-
-    public SchedulerItem(Function function, Object[] params, FutureValue future) {
-        this.future = future;
-        this.function = function;
-        this.params = params;
-    }
-
-    @Deprecated
-    public SchedulerItem(Consumer consumer, Object[] params, FutureValue future) {
-        this.future = future;
-        this.function = val -> {
-            consumer.accept(val);
-            return null;
-        };
-        this.params = params;
-    }
-
-    private SchedulerItem() {
-        future = null;
-    }
 
-    public Object execute() {
-        return this.function.apply(this.params);
-    }
-
-    public boolean isYielded() {
-        return this.future.strand.isYielded();
-    }
-
-    public State getState() {
-        return this.future.strand.getState();
-    }
-
-    public void setState(State state) {
-        this.future.strand.setState(state);
+    private void submit(SchedulerItem item) {
+        if (virtualThreadExecutor != null) {
+            try {
+                virtualThreadExecutor.execute(() -> executeOnVirtualThread(item));
+            } catch (RejectedExecutionException e) {
+                // the scheduler has stopped, items added after that are not executed by the scheduler threads either
+            }
+        } else {
+            runnableList.add(item);
+        }
     }
 
-    @Override
-    public String toString() {
-        return future == null ? "POISON_PILL" : String.valueOf(future.strand.hashCode());
+    private void executeOnVirtualThread(SchedulerItem item) {
+        try {
+            // items submitted before start() wait here, parking only the virtual thread
+            started.await();
+            execute(item);
+        } catch (Throwable t) {
+            RuntimeUtils.printCrashLog(t);
+        }
     }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+/**
+ * Policies the {@link Scheduler} can use to distribute strands among its threads. The policy can be selected at
+ * launch using the BALLERINA_SCHEDULER_POLICY environment variable.
+ *
+ * @since 1.2.0
+ */
+public enum SchedulerPolicy {
+
+    /**
+     * All the scheduler threads take strands from a single shared queue.
+     */
+    SHARED_QUEUE("shared"),
+
+    /**
+     * Each scheduler thread has its own queue. Strands scheduled from a scheduler thread are added to that thread's
+     * queue, and idle threads steal strands from the queues of the others.
+     */
+    WORK_STEALING("work-stealing"),
+
+    /**
+     * Each strand runs on a new JDK virtual thread instead of a fixed pool of scheduler threads, so that strands
+     * blocked on external calls park the virtual thread instead of holding a scheduler thread. Falls back to
+     * {@link #SHARED_QUEUE} when the Java runtime does not support virtual threads.
+     */
+    VIRTUAL_THREAD("virtual-thread");
+
+    private final String configValue;
+
+    SchedulerPolicy(String configValue) {
+        this.configValue = configValue;
+    }
+
+    public String getConfigValue() {
+        return configValue;
+    }
+
+    /**
+     * Returns the policy for the given configuration value.
+     *
+     * @param configValue value as given in the environment variable
+     * @return matching policy
+     * @throws IllegalArgumentException if there is no policy for the given value
+     */
+    public static SchedulerPolicy fromConfigValue(String configValue) {
+        for (SchedulerPolicy policy : values()) {
+            if (policy.configValue.equalsIgnoreCase(configValue.trim())) {
+                return policy;
+            }
+        }
+        throw new IllegalArgumentException("unknown scheduler policy '" + configValue + "'");
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+/**
+ * Pool of strand frame arrays shared by the threads of a scheduler, used when strands run on virtual threads. A
+ * virtual thread runs a single strand, hence a pool per thread would never be reused. The pool is split into
+ * stripes picked by the thread id, so that threads running at the same time rarely contend for the same stripe.
+ *
+ * @since 1.2.0
+ */
+class SharedFramePool {
+
+    private final FramePool[] stripes;
+    private final int mask;
+
+    SharedFramePool() {
+        int numStripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1)) << 1;
+        this.stripes = new FramePool[numStripes];
+        for (int i = 0; i < numStripes; i++) {
+            this.stripes[i] = new FramePool();
+        }
+        this.mask = numStripes - 1;
+    }
+
+    Object[] borrow() {
+        FramePool stripe = stripe();
+        synchronized (stripe) {
+            return stripe.borrow();
+        }
+    }
+
+    /**
+     * Returns a frame array to the pool. The array should not hold any frames.
+     *
+     * @param frames frame array of a completed strand
+     */
+    void recycle(Object[] frames) {
+        FramePool stripe = stripe();
+        synchronized (stripe) {
+            stripe.recycle(frames);
+        }
+    }
+
+    private FramePool stripe() {
+        return stripes[(int) Thread.currentThread().getId() & mask];
+    }
+}
@@ -27,6 +27,7 @@ import org.ballerinalang.jvm.values.FutureValue;
 import org.ballerinalang.jvm.values.MapValue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -48,6 +49,9 @@ import static org.ballerinalang.jvm.scheduling.State.YIELD;
 
 public class Strand {
 
+    /**
+     * Frames of the functions in the call stack, saved when the strand yields. Allocated on the first yield.
+     */
     public Object[] frames;
     public int resumeIndex;
     public Object returnValue;
@@ -101,6 +105,31 @@ public class Strand {
         }
     }
 
+    /**
+     * Saves the frame of a function which is yielding. Frames are pushed from the innermost function outwards.
+     *
+     * @param frame frame of the yielding function
+     */
+    public void pushFrame(Object frame) {
+        if (frames == null) {
+            frames = scheduler.borrowFrames();
+        } else if (resumeIndex == frames.length) {
+            frames = Arrays.copyOf(frames, frames.length << 1);
+        }
+        frames[resumeIndex++] = frame;
+    }
+
+    /**
+     * Retrieves the frame of a function which is resuming. Frames are popped from the outermost function inwards.
+     *
+     * @return frame of the resuming function
+     */
+    public Object popFrame() {
+        Object frame = frames[--resumeIndex];
+        frames[resumeIndex] = null;
+        return frame;
+    }
+
     public void setReturnValues(Object returnValue) {
         this.returnValue = returnValue;
     }
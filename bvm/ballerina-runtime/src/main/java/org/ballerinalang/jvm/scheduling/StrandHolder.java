@@ -23,4 +23,18 @@ package org.ballerinalang.jvm.scheduling;
  */
 class StrandHolder {
     Strand strand;
+    private FramePool framePool;
+
+    /**
+     * Returns the frame pool of the current scheduler thread. The pool is created on first use, so that threads
+     * which never pool frames, such as virtual threads, do not allocate one.
+     *
+     * @return frame pool of the current thread
+     */
+    FramePool getFramePool() {
+        if (framePool == null) {
+            framePool = new FramePool();
+        }
+        return framePool;
+    }
 }
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * <p>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p>
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Run queue with a local deque per scheduler thread.
+ * <p>
+ * Items added from a scheduler thread go to the tail of that thread's deque, and items added from any other thread
+ * (eg: transport threads unblocking a strand) go to a shared injection queue. A scheduler thread takes items from
+ * the head of its own deque, then from the injection queue, and finally steals from the tail of the other threads'
+ * deques. Threads which find no work park themselves until an item is added.
+ *
+ * @since 1.2.0
+ */
+class WorkStealingRunQueue implements RunQueue {
+
+    private final Worker[] workers;
+    private final Queue<SchedulerItem> injectionQueue = new ConcurrentLinkedQueue<>();
+    private final Queue<Worker> idleWorkers = new ConcurrentLinkedQueue<>();
+    private final ThreadLocal<Worker> currentWorker = new ThreadLocal<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    WorkStealingRunQueue(int numThreads) {
+        this.workers = new Worker[numThreads];
+        for (int i = 0; i < numThreads; i++) {
+            this.workers[i] = new Worker(i);
+        }
+    }
+
+    @Override
+    public void registerWorker(int workerIndex) {
+        Worker worker = workers[workerIndex];
+        worker.thread = Thread.currentThread();
+        currentWorker.set(worker);
+    }
+
+    @Override
+    public void add(SchedulerItem item) {
+        size.incrementAndGet();
+        Worker worker = currentWorker.get();
+        if (worker != null) {
+            worker.deque.offerLast(item);
+        } else {
+            injectionQueue.offer(item);
+        }
+        wakeUpIdleWorker();
+    }
+
+    @Override
+    public SchedulerItem take() throws InterruptedException {
+        Worker worker = currentWorker.get();
+        if (worker == null) {
+            throw new IllegalStateException("items can only be taken by a registered scheduler thread");
+        }
+
+        boolean announced = false;
+        while (true) {
+            SchedulerItem item = poll(worker);
+            if (item != null) {
+                // The entry of this worker in the idle list stays behind and is skipped when waking up workers. If a
+                // wake-up has already claimed this worker, it was meant for a worker without work, hence it is passed
+                // on to the next idle worker.
+                if (announced && !worker.idle.compareAndSet(true, false) && size.get() > 0) {
+                    wakeUpIdleWorker();
+                }
+                return item;
+            }
+
+            // Announce that this worker is going idle before checking the queues one last time, so that an item
+            // added after the check will always see this worker in the idle list and wake it up.
+            if (!announced) {
+                worker.idle.set(true);
+                idleWorkers.offer(worker);
+                announced = true;
+                continue;
+            }
+
+            LockSupport.park(this);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            // A cleared flag means the worker was woken up for an item, and has left the idle list.
+            if (!worker.idle.get()) {
+                announced = false;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    private SchedulerItem poll(Worker worker) {
+        SchedulerItem item = worker.deque.pollFirst();
+        if (item == null) {
+            item = injectionQueue.poll();
+        }
+        if (item == null) {
+            item = steal(worker);
+        }
+        if (item == null) {
+            return null;
+        }
+
+        size.decrementAndGet();
+        return item;
+    }
+
+    private SchedulerItem steal(Worker thief) {
+        int numWorkers = workers.length;
+        for (int i = 1; i < numWorkers; i++) {
+            SchedulerItem item = workers[(thief.index + i) % numWorkers].deque.pollLast();
+            if (item != null) {
+                return item;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Wake up a worker which is idle. An entry in the idle list is valid only while its worker has not found work,
+     * hence the entry is claimed with a CAS, and the next idle worker is tried when the claim fails.
+     */
+    private void wakeUpIdleWorker() {
+        Worker worker;
+        while ((worker = idleWorkers.poll()) != null) {
+            if (worker.idle.compareAndSet(true, false)) {
+                LockSupport.unpark(worker.thread);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Per scheduler thread state.
+     */
+    private static class Worker {
+        private final int index;
+        private final ConcurrentLinkedDeque<SchedulerItem> deque = new ConcurrentLinkedDeque<>();
+        private final AtomicBoolean idle = new AtomicBoolean();
+        private volatile Thread thread;
+
+        private Worker(int index) {
+            this.index = index;
+        }
+    }
+}
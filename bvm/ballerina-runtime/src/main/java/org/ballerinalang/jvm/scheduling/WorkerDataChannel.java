@@ -19,36 +19,50 @@ package org.ballerinalang.jvm.scheduling;
 
 import org.ballerinalang.jvm.values.ErrorValue;
 
-import java.util.LinkedList;
-import java.util.Queue;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
 import static org.ballerinalang.jvm.scheduling.State.BLOCK_AND_YIELD;
+import static org.ballerinalang.jvm.scheduling.State.RUNNABLE;
 
 /**
  * This represents a worker data channel that is created for each worker to
  * worker interaction for each function call.
+ * <p>
+ * Asynchronous sends and receives do not acquire the channel lock. Messages are passed through a lock-free
+ * {@link WorkerDataQueue}, and a receiver which finds the queue empty parks itself in {@link #receiver}. Whichever of
+ * the sender and the receiver first clears a parked receiver hands the message over, so that the receiver is unblocked
+ * at most once. Sync sends, flushes, errors and panics are still handled under the channel lock.
  *
  * @since 0.995.0
  */
 public class WorkerDataChannel {
 
-    private Strand receiver;
+    private static final AtomicReferenceFieldUpdater<WorkerDataChannel, Strand> RECEIVER =
+            AtomicReferenceFieldUpdater.newUpdater(WorkerDataChannel.class, Strand.class, "receiver");
+    private static final AtomicReferenceFieldUpdater<WorkerDataChannel, WaitingSender> FLUSH_SENDER =
+            AtomicReferenceFieldUpdater.newUpdater(WorkerDataChannel.class, WaitingSender.class, "flushSender");
+
+    // Returned by the queue when it is empty, since a message can be nil
+    private static final Object NO_MESSAGE = new Object();
+
+    private volatile Strand receiver;
     private WaitingSender waitingSender;
-    private WaitingSender flushSender;
+    private volatile WaitingSender flushSender;
     private ErrorValue error;
     private Throwable panic;
-    private int senderCounter;
-    private int receiverCounter;
+    // Each counter is updated only by the sending and the receiving strand respectively
+    private volatile int senderCounter;
+    private volatile int receiverCounter;
     private boolean reschedule;
+    private boolean syncMessageTaken;
 
     private Lock channelLock;
 
     public String chnlName;
 
-    @SuppressWarnings("rawtypes")
-    private Queue<WorkerResult> channel = new LinkedList<>();
+    private final WorkerDataQueue channel = new WorkerDataQueue();
 
     public WorkerDataChannel() {
         this.channelLock = new ReentrantLock();
@@ -70,19 +84,10 @@ public class WorkerDataChannel {
         this.channelLock.unlock();
     }
 
-    @SuppressWarnings("rawtypes")
     public void sendData(Object data, Strand sender) {
-        try {
-            acquireChannelLock();
-            this.channel.add(new WorkerResult(data));
-            this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
-        } finally {
-            releaseChannelLock();
-        }
+        this.channel.offer(data);
+        this.senderCounter++;
+        unblockReceiver();
     }
 
     /**
@@ -97,21 +102,20 @@ public class WorkerDataChannel {
             acquireChannelLock();
             if (!reschedule) {
                 // this is a new message, not a reschedule
-                this.channel.add(new WorkerResult(data, true));
-                this.senderCounter++;
                 this.waitingSender = new WaitingSender(strand, -1);
+                this.syncMessageTaken = false;
+                this.channel.offer(new WorkerResult(data, true));
+                this.senderCounter++;
 
-                if (this.receiver != null) {
-                    // multiple checks are added to make sure this is
-                    this.receiver.scheduler.unblockStrand(this.receiver);
-                    this.receiver = null;
-                } else if (this.panic != null) {
-                    Throwable panic = this.panic;
-                    this.panic = null;
-                    throw panic;
-                } else if (this.error != null) {
-                    ErrorValue ret = this.error;
-                    return ret;
+                if (!unblockReceiver()) {
+                    if (this.panic != null) {
+                        Throwable panic = this.panic;
+                        this.panic = null;
+                        throw panic;
+                    } else if (this.error != null) {
+                        ErrorValue ret = this.error;
+                        return ret;
+                    }
                 }
 
                 reschedule = true;
@@ -120,10 +124,10 @@ public class WorkerDataChannel {
             }
 
             reschedule = false;
-            if (this.panic != null && this.channel.peek() != null) {
+            if (this.panic != null && !this.syncMessageTaken) {
                 Throwable e = this.panic;
                 throw e;
-            } else if (this.error != null && this.channel.peek() != null) {
+            } else if (this.error != null && !this.syncMessageTaken) {
                 ErrorValue ret = this.error;
                 return ret;
             }
@@ -134,51 +138,99 @@ public class WorkerDataChannel {
             releaseChannelLock();
         }
     }
-    
-    @SuppressWarnings("rawtypes")
+
     public Object tryTakeData(Strand strand) throws Throwable {
+        Object message = this.channel.poll(NO_MESSAGE);
+        if (message != NO_MESSAGE) {
+            return takeMessage(message);
+        }
+
         try {
             acquireChannelLock();
-            WorkerResult result = this.channel.peek();
-            if (result != null) {
-                this.receiverCounter++;
-                this.channel.remove();
-
-                if (result.isSync) {
-                    // sync sender will pick the this.error as result, which is null
-                    Strand waiting  = this.waitingSender.waitingStrand;
-                    waiting.scheduler.unblockStrand(waiting);
-                    this.waitingSender = null;
-                } else if (this.flushSender != null && this.flushSender.flushCount == this.receiverCounter) {
-                    this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-                    this.flushSender.waitingStrand.flushDetail.flushedCount++;
-                    if (this.flushSender.waitingStrand.flushDetail.flushedCount
-                            == this.flushSender.waitingStrand.flushDetail.flushChannels.length &&
-                            this.flushSender.waitingStrand.isBlocked()) {
-                            //will continue if this is a sync wait, will try to flush again if blocked on flush
-                            this.flushSender.waitingStrand.scheduler.unblockStrand(this.flushSender.waitingStrand);
-
-                    }
-                    this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-                    this.flushSender = null;
-                }
-                return result.value;
+            message = this.channel.poll(NO_MESSAGE);
+            if (message != NO_MESSAGE) {
+                return takeMessage(message);
             } else if (this.panic != null && this.senderCounter == this.receiverCounter + 1) {
                 this.receiverCounter++;
                 throw this.panic;
             } else if (this.error != null && this.senderCounter == this.receiverCounter + 1) {
                 this.receiverCounter++;
                 return error;
-            } else {
-                this.receiver = strand;
-                strand.setState(BLOCK_AND_YIELD);
-                return null;
             }
+
+            // the state is set before parking, since an async sender may unblock the receiver without the lock
+            strand.setState(BLOCK_AND_YIELD);
+            this.receiver = strand;
+            if (!this.channel.isEmpty() && RECEIVER.compareAndSet(this, strand, null)) {
+                // a message was sent before the receiver was parked
+                strand.setState(RUNNABLE);
+                return takeMessage(this.channel.poll(NO_MESSAGE));
+            }
+            return null;
         } finally {
             releaseChannelLock();
         }
     }
 
+    private Object takeMessage(Object message) {
+        this.receiverCounter++;
+        if (message instanceof WorkerResult) {
+            try {
+                acquireChannelLock();
+                // sync sender will pick the this.error as result, which is null
+                this.syncMessageTaken = true;
+                Strand waiting = this.waitingSender.waitingStrand;
+                waiting.scheduler.unblockStrand(waiting);
+                this.waitingSender = null;
+            } finally {
+                releaseChannelLock();
+            }
+            return ((WorkerResult) message).value;
+        }
+
+        WaitingSender flushSender = this.flushSender;
+        if (flushSender != null && flushSender.flushCount <= this.receiverCounter &&
+                FLUSH_SENDER.compareAndSet(this, flushSender, null)) {
+            Strand flushStrand = flushSender.waitingStrand;
+            flushStrand.flushDetail.flushLock.lock();
+            flushStrand.flushDetail.flushedCount++;
+            if (flushStrand.flushDetail.flushedCount == flushStrand.flushDetail.flushChannels.length &&
+                    flushStrand.isBlocked()) {
+                //will continue if this is a sync wait, will try to flush again if blocked on flush
+                flushStrand.scheduler.unblockStrand(flushStrand);
+            }
+            flushStrand.flushDetail.flushLock.unlock();
+        }
+        return message;
+    }
+
+    /**
+     * Unblock the receiver, if it is parked waiting for a message.
+     *
+     * @return true if a receiver was unblocked
+     */
+    private boolean unblockReceiver() {
+        Strand waiting = this.receiver;
+        if (waiting != null && RECEIVER.compareAndSet(this, waiting, null)) {
+            waiting.scheduler.unblockStrand(waiting);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Clear the sender waiting for a flush, unless a receiver has already done so.
+     *
+     * @return the waiting sender, or null if there is none
+     */
+    private WaitingSender claimFlushSender() {
+        WaitingSender flushSender = this.flushSender;
+        if (flushSender != null && FLUSH_SENDER.compareAndSet(this, flushSender, null)) {
+            return flushSender;
+        }
+        return null;
+    }
+
     /**
      * Set the state as error if the receiving worker is in error state.
      * @param error the BError of the receiving worker
@@ -187,10 +239,7 @@ public class WorkerDataChannel {
         acquireChannelLock();
         this.error = error;
         this.senderCounter++;
-        if (this.receiver != null) {
-            this.receiver.scheduler.unblockStrand(this.receiver);
-            this.receiver = null;
-        }
+        unblockReceiver();
         releaseChannelLock();
     }
 
@@ -203,15 +252,15 @@ public class WorkerDataChannel {
         acquireChannelLock();
         this.error = error;
         this.receiverCounter++;
-        if (this.flushSender != null) {
-            this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-            Strand flushStrand = this.flushSender.waitingStrand;
+        WaitingSender flushSender = claimFlushSender();
+        if (flushSender != null) {
+            Strand flushStrand = flushSender.waitingStrand;
+            flushStrand.flushDetail.flushLock.lock();
             if (flushStrand.isBlocked()) {
                 flushStrand.flushDetail.result = error;
                 flushStrand.scheduler.unblockStrand(flushStrand);
             }
-            this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-            this.flushSender = null;
+            flushStrand.flushDetail.flushLock.unlock();
         } else if (this.waitingSender != null) {
             Strand waiting = this.waitingSender.waitingStrand;
             waiting.scheduler.unblockStrand(waiting);
@@ -240,7 +289,14 @@ public class WorkerDataChannel {
                 strand.flushDetail.flushLock.unlock();
                 return null;
             }
-            this.flushSender = new WaitingSender(strand, this.senderCounter);
+            WaitingSender flushSender = new WaitingSender(strand, this.senderCounter);
+            this.flushSender = flushSender;
+            // the receiver may have taken the last message before the flush sender was set
+            if (this.receiverCounter >= flushSender.flushCount && FLUSH_SENDER.compareAndSet(this, flushSender, null)) {
+                strand.flushDetail.flushLock.lock();
+                strand.flushDetail.flushedCount++;
+                strand.flushDetail.flushLock.unlock();
+            }
             return null;
         } finally {
             releaseChannelLock();
@@ -263,10 +319,7 @@ public class WorkerDataChannel {
             acquireChannelLock();
             this.panic  = panic;
             this.senderCounter++;
-            if (this.receiver != null) {
-                this.receiver.scheduler.unblockStrand(this.receiver);
-                this.receiver = null;
-            }
+            unblockReceiver();
         } finally {
             releaseChannelLock();
         }
@@ -281,15 +334,15 @@ public class WorkerDataChannel {
         acquireChannelLock();
         this.panic  = panic;
         this.receiverCounter++;
-        if (this.flushSender != null) {
-            this.flushSender.waitingStrand.flushDetail.flushLock.lock();
-            Strand flushStrand = this.flushSender.waitingStrand;
-            this.flushSender.waitingStrand.flushDetail.panic = panic;
+        WaitingSender flushSender = claimFlushSender();
+        if (flushSender != null) {
+            Strand flushStrand = flushSender.waitingStrand;
+            flushStrand.flushDetail.flushLock.lock();
+            flushStrand.flushDetail.panic = panic;
             if (flushStrand.isBlocked()) {
                 flushStrand.scheduler.unblockStrand(flushStrand);
             }
-            this.flushSender.waitingStrand.flushDetail.flushLock.unlock();
-            this.flushSender = null;
+            flushStrand.flushDetail.flushLock.unlock();
         } else if (this.waitingSender != null) {
             Strand waiting = this.waitingSender.waitingStrand;
             waiting.scheduler.unblockStrand(waiting);
@@ -299,11 +352,8 @@ public class WorkerDataChannel {
     }
 
     /**
-     * This represents a worker result value. This is done as a value to be used in the
-     * queues used for worker communication. In this way, the queue can distinguish the
-     * case of a value not there when the peek, by returning null, and then, if they
-     * return a WorkerResult, the value inside it can be either null or not to mention
-     * Ballerina null value and non-null value.
+     * This represents the value of a sync send. Values of async sends are queued as they are, hence the receiver
+     * can tell the sync sends, which it has to notify the sender of, by this wrapper.
      */
     public static class WorkerResult {
 
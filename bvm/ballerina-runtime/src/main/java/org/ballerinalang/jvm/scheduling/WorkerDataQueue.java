@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm.scheduling;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A lock-free, unbounded queue of the messages of a {@link WorkerDataChannel}, for a single sending strand and a
+ * single receiving strand. Messages are stored in fixed size array segments. A segment read by the receiver is handed
+ * back to the sender for reuse, so a sender and a receiver which keep up with each other cycle through two segments
+ * like a ring buffer, and a send does not allocate.
+ * <p>
+ * Only the sending strand may call {@link #offer(Object)}, and only the receiving strand may call
+ * {@link #poll(Object)} and {@link #isEmpty()}.
+ *
+ * @since 1.2.0
+ */
+final class WorkerDataQueue {
+
+    private static final int SEGMENT_SIZE = 32;
+
+    // Stands for a nil message, since an empty slot is null
+    private static final Object NIL = new Object();
+
+    // Accessed by the receiver only
+    private Segment head;
+    private int headIndex;
+
+    // Accessed by the sender only
+    private Segment tail;
+    private int tailIndex;
+
+    // A segment read by the receiver, which the sender can reuse
+    private volatile Segment spare;
+
+    WorkerDataQueue() {
+        this.head = this.tail = new Segment();
+    }
+
+    void offer(Object message) {
+        if (tailIndex == SEGMENT_SIZE) {
+            Segment next = spare;
+            if (next == null) {
+                next = new Segment();
+            } else {
+                spare = null;
+            }
+            tail.next = next;
+            tail = next;
+            tailIndex = 0;
+        }
+        // a volatile write, so that a receiver which checks the queue after parking itself sees the message
+        tail.messages.set(tailIndex++, message == null ? NIL : message);
+    }
+
+    /**
+     * Remove the next message of the queue.
+     *
+     * @param orElse value to return if the queue is empty
+     * @return next message, or the given value if the queue is empty
+     */
+    Object poll(Object orElse) {
+        if (headIndex == SEGMENT_SIZE) {
+            Segment next = head.next;
+            if (next == null) {
+                return orElse;
+            }
+            // the sender has moved on to the next segment, hence no longer refers to this one
+            head.next = null;
+            spare = head;
+            head = next;
+            headIndex = 0;
+        }
+        Object message = head.messages.get(headIndex);
+        if (message == null) {
+            return orElse;
+        }
+        head.messages.lazySet(headIndex++, null);
+        return message == NIL ? null : message;
+    }
+
+    boolean isEmpty() {
+        if (headIndex == SEGMENT_SIZE) {
+            Segment next = head.next;
+            return next == null || next.messages.get(0) == null;
+        }
+        return head.messages.get(headIndex) == null;
+    }
+
+    /**
+     * A segment of the queue. The receiver clears each slot it reads, so that a read segment can be reused.
+     */
+    private static final class Segment {
+
+        final AtomicReferenceArray<Object> messages = new AtomicReferenceArray<>(SEGMENT_SIZE);
+        volatile Segment next;
+    }
+}
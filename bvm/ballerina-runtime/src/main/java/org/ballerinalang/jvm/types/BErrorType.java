@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.jvm.types;
 
+import org.ballerinalang.jvm.TypeChecker;
 import org.ballerinalang.jvm.values.ErrorValue;
 
 /**
@@ -28,6 +29,7 @@ public class BErrorType extends AnnotatableType {
 
     public BType reasonType;
     public BType detailType;
+    private volatile boolean detailTypeRead;
 
     public BErrorType(String typeName, BPackage pkg, BType reasonType, BType detailType) {
         super(typeName, pkg, ErrorValue.class);
@@ -63,6 +65,10 @@ public class BErrorType extends AnnotatableType {
 
     public void setDetailType(BType detailType) {
         this.detailType = detailType;
+        // Only a detail type which may have been used by a type check can make the cached checks stale.
+        if (detailTypeRead) {
+            TypeChecker.invalidateTypeCheckCache();
+        }
     }
 
     @Override
@@ -72,11 +78,13 @@ public class BErrorType extends AnnotatableType {
         }
 
         BErrorType other = (BErrorType) obj;
-        if (reasonType == other.reasonType && detailType == other.detailType) {
+        BType detailType = getDetailType();
+        BType otherDetailType = other.getDetailType();
+        if (reasonType == other.reasonType && detailType == otherDetailType) {
             return true;
         }
 
-        return reasonType.equals(other.reasonType) && detailType.equals(other.detailType);
+        return reasonType.equals(other.reasonType) && detailType.equals(otherDetailType);
     }
 
     @Override
@@ -85,6 +93,9 @@ public class BErrorType extends AnnotatableType {
     }
 
     public BType getDetailType() {
+        if (!detailTypeRead) {
+            detailTypeRead = true;
+        }
         return detailType;
     }
 }
@@ -17,6 +17,7 @@
  */
 package org.ballerinalang.jvm.types;
 
+import org.ballerinalang.jvm.BallerinaValues;
 import org.ballerinalang.jvm.values.MapValueImpl;
 
 /**
@@ -73,7 +74,7 @@ public class BMapType extends BType {
 
     @Override
     public <V extends Object> V getZeroValue() {
-        return (V) new MapValueImpl<String, V>(new BMapType(constraint));
+        return (V) BallerinaValues.<String, V>createMapValue(new BMapType(constraint));
     }
 
     @Override
@@ -18,6 +18,7 @@
 package org.ballerinalang.jvm.types;
 
 import org.ballerinalang.jvm.BallerinaValues;
+import org.ballerinalang.jvm.TypeChecker;
 
 import java.util.Map.Entry;
 import java.util.StringJoiner;
@@ -65,11 +66,13 @@ public class BObjectType extends BStructureType {
     }
 
     public AttachedFunction[] getAttachedFunctions() {
+        markMembersRead();
         return attachedFunctions;
     }
 
     public void setAttachedFunctions(AttachedFunction[] attachedFunctions) {
         this.attachedFunctions = attachedFunctions;
+        invalidateTypeChecksIfMembersRead();
     }
 
     public void setInitializer(AttachedFunction initializer) {
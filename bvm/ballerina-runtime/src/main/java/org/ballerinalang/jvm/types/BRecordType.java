@@ -32,6 +32,8 @@ import java.util.Map;
 public class BRecordType extends BStructureType {
 
     public boolean sealed;
+    // Set along with the fields, by the constructor or right after {@link #setFields} by the generated code which
+    // populates the type, so no type check runs in between and the cached type checks are discarded only once.
     public BType restFieldType;
     public int typeFlags;
 
@@ -17,6 +17,8 @@
  */
 package org.ballerinalang.jvm.types;
 
+import org.ballerinalang.jvm.TypeChecker;
+
 import java.util.HashMap;
 import java.util.Map;
 
@@ -29,6 +31,7 @@ public abstract class BStructureType extends AnnotatableType {
 
     protected Map<String, BField> fields;
     public int flags;
+    private volatile boolean membersRead;
 
     /**
      * Create a {@code BStructType} which represents the user defined struct type.
@@ -61,10 +64,32 @@ public abstract class BStructureType extends AnnotatableType {
     }
 
     public Map<String, BField> getFields() {
+        markMembersRead();
         return fields;
     }
 
     public void setFields(Map<String, BField> fields) {
         this.fields = fields;
+        invalidateTypeChecksIfMembersRead();
+    }
+
+    /**
+     * Records that the members of this type were read, and hence may have been used by a type check.
+     */
+    protected void markMembersRead() {
+        if (!membersRead) {
+            membersRead = true;
+        }
+    }
+
+    /**
+     * Discards the cached type checks after the members of this type are set, unless no check could have used the
+     * old members. Types created at runtime, such as service types and call stack types, get their members before
+     * they are ever checked, and hence do not discard the checks cached for other types.
+     */
+    protected void invalidateTypeChecksIfMembersRead() {
+        if (membersRead) {
+            TypeChecker.invalidateTypeCheckCache();
+        }
     }
 }
@@ -40,7 +40,6 @@ import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Map;
 import java.util.StringJoiner;
-import java.util.stream.IntStream;
 
 import static org.ballerinalang.jvm.util.BLangConstants.ARRAY_LANG_LIB;
 import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.INDEX_OUT_OF_RANGE_ERROR_IDENTIFIER;
@@ -68,6 +67,8 @@ public class ArrayValueImpl extends AbstractArrayValue {
     private byte[] byteValues;
     private double[] floatValues;
     private String[] stringValues;
+    // The primitive values array is shared with a copy of this array, and is copied before the next update
+    private boolean shared;
 
     // ------------------------ Constructors -------------------------------------------------------------------
 
@@ -159,6 +160,18 @@ public class ArrayValueImpl extends AbstractArrayValue {
         initArrayValues(this.elementType);
     }
 
+    private ArrayValueImpl(ArrayValueImpl array) {
+        this.intValues = array.intValues;
+        this.booleanValues = array.booleanValues;
+        this.byteValues = array.byteValues;
+        this.floatValues = array.floatValues;
+        this.stringValues = array.stringValues;
+        this.size = array.size;
+        setArrayType(array.elementType);
+        this.shared = true;
+        array.shared = true;
+    }
+
     // ----------------------- get methods ----------------------------------------------------
 
     /**
@@ -404,6 +417,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
     @Override
     public Object shift(long index) {
         handleFrozenArrayValue();
+        unshare();
         Object val = get(index);
         shiftArray((int) index, getArrayFromType(this.elementType.getTag()));
         return val;
@@ -486,38 +500,31 @@ public class ArrayValueImpl extends AbstractArrayValue {
             return refs.get(this);
         }
 
-        ArrayValue valueArray = null;
+        ArrayValueImpl valueArray;
         switch (this.elementType.getTag()) {
             case TypeTags.INT_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(intValues, this.size));
-                break;
             case TypeTags.BOOLEAN_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(booleanValues, this.size));
-                break;
             case TypeTags.BYTE_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(byteValues, this.size));
-                break;
             case TypeTags.FLOAT_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(floatValues, this.size));
-                break;
             case TypeTags.STRING_TAG:
-                valueArray = new ArrayValueImpl(Arrays.copyOf(stringValues, this.size));
+                // Values of these types are immutable, so the copy shares the values until either array is updated
+                valueArray = new ArrayValueImpl(this);
+                refs.put(this, valueArray);
                 break;
             default:
                 Object[] values = new Object[this.size];
                 valueArray = new ArrayValueImpl(values, arrayType);
-                IntStream.range(0, this.size).forEach(i -> {
+                refs.put(this, valueArray);
+                for (int i = 0; i < this.size; i++) {
                     Object value = this.refValues[i];
                     if (value instanceof RefValue) {
                         values[i] = ((RefValue) value).copy(refs);
                     } else {
                         values[i] = value;
                     }
-                });
+                }
                 break;
         }
-
-        refs.put(this, valueArray);
         return valueArray;
     }
 
@@ -668,6 +675,8 @@ public class ArrayValueImpl extends AbstractArrayValue {
 
     @Override
     protected void resizeInternalArray(int newLength) {
+        // The values are copied to a new array in any case
+        shared = false;
         switch (this.elementType.getTag()) {
             case TypeTags.INT_TAG:
                 intValues = Arrays.copyOf(intValues, newLength);
@@ -785,6 +794,7 @@ public class ArrayValueImpl extends AbstractArrayValue {
     @Override
     protected void unshift(long index, ArrayValue vals) {
         handleFrozenArrayValue();
+        unshare();
         unshiftArray(index, vals.size(), getCurrentArrayLength());
         switch (this.elementType.getTag()) {
             case TypeTags.INT_TAG:
@@ -821,11 +831,39 @@ public class ArrayValueImpl extends AbstractArrayValue {
         int intIndex = (int) index;
         rangeCheck(index, size);
         fillerValueCheck(intIndex, size);
+        unshare();
         ensureCapacity(intIndex + 1, currentArraySize);
         fillValues(intIndex);
         resetSize(intIndex);
     }
 
+    private void unshare() {
+        if (!shared) {
+            return;
+        }
+
+        switch (this.elementType.getTag()) {
+            case TypeTags.INT_TAG:
+                intValues = intValues.clone();
+                break;
+            case TypeTags.BOOLEAN_TAG:
+                booleanValues = booleanValues.clone();
+                break;
+            case TypeTags.BYTE_TAG:
+                byteValues = byteValues.clone();
+                break;
+            case TypeTags.FLOAT_TAG:
+                floatValues = floatValues.clone();
+                break;
+            case TypeTags.STRING_TAG:
+                stringValues = stringValues.clone();
+                break;
+            default:
+                break;
+        }
+        shared = false;
+    }
+
     private void setArrayType(BType elementType) {
         this.arrayType = new BArrayType(elementType);
         this.elementType = elementType;
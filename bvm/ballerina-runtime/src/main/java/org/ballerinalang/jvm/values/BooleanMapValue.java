@@ -0,0 +1,74 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.types.BType;
+
+import java.util.Arrays;
+
+/**
+ * <p>
+ * Map value of a map type constrained to {@code boolean}, which keeps the values unboxed.
+ * </p>
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ *
+ * @since 1.2.0
+ */
+public class BooleanMapValue<K, V> extends PrimitiveMapValue<K, V> {
+
+    private static final long serialVersionUID = 1L;
+    private boolean[] values;
+
+    public BooleanMapValue(BType type) {
+        super(type);
+    }
+
+    @Override
+    protected boolean setPrimitiveValue(int position, Object value) {
+        if (!(value instanceof Boolean)) {
+            return false;
+        }
+        values[position] = (Boolean) value;
+        return true;
+    }
+
+    @Override
+    protected Object getPrimitiveValue(int position) {
+        return values[position];
+    }
+
+    @Override
+    protected void resizeValues(int capacity) {
+        values = capacity == 0 ? null : values == null ? new boolean[capacity] : Arrays.copyOf(values, capacity);
+    }
+
+    @Override
+    protected void moveValue(int from, int to) {
+        values[to] = values[from];
+    }
+
+    @Override
+    protected void shareValues(PrimitiveMapValue<K, V> map) {
+        values = ((BooleanMapValue<K, V>) map).values;
+    }
+}
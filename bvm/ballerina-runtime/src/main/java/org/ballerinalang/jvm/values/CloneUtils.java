@@ -44,6 +44,9 @@ public class CloneUtils {
         }
 
         RefValue refValue = (RefValue) value;
+        if (refValue.isFrozen()) {
+            return refValue;
+        }
         return refValue.copy(new HashMap<>());
     }
 }
@@ -18,6 +18,7 @@
 package org.ballerinalang.jvm.values;
 
 import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.BallerinaValues;
 import org.ballerinalang.jvm.JSONGenerator;
 import org.ballerinalang.jvm.JSONUtils;
 import org.ballerinalang.jvm.TypeChecker;
@@ -38,6 +39,7 @@ import org.ballerinalang.jvm.values.utils.StringUtils;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -76,7 +78,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     private static final long serialVersionUID = 1L;
     private BType type;
     private volatile Status freezeStatus = new Status(State.UNFROZEN);
-    private final Map<String, Object> nativeData = new HashMap<>();
+    private Map<String, Object> nativeData;
 
     public MapValueImpl(BType type) {
         super();
@@ -240,12 +242,20 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
     }
 
     /**
-     * Clear map entries.
+     * Check the freeze status of the current map value for removals. If its frozen,
+     * then a {@link BLangFreezeException} will be thrown.
      */
-    public void clear() {
+    protected void checkRemovable() {
         if (freezeStatus.getState() != State.UNFROZEN) {
             handleInvalidUpdate(freezeStatus.getState(), MAP_LANG_LIB);
         }
+    }
+
+    /**
+     * Clear map entries.
+     */
+    public void clear() {
+        checkRemovable();
         super.clear();
     }
 
@@ -278,9 +288,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      */
     @Override
     public V remove(Object key) {
-        if (freezeStatus.getState() != State.UNFROZEN) {
-            handleInvalidUpdate(freezeStatus.getState(), MAP_LANG_LIB);
-        }
+        checkRemovable();
         return super.remove(key);
     }
 
@@ -339,7 +347,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
             return refs.get(this);
         }
 
-        MapValueImpl<K, V> newMap = new MapValueImpl<>(type);
+        MapValueImpl<K, V> newMap = BallerinaValues.createMapValue(type);
         refs.put(this, newMap);
         for (Map.Entry<K, V> entry : this.entrySet()) {
             V value = entry.getValue();
@@ -428,7 +436,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
         } catch (IOException e) {
             throw new BallerinaException("Error in converting JSON to a string: " + e.getMessage(), e);
         }
-        return new String(byteOut.toByteArray());
+        return new String(byteOut.toByteArray(), StandardCharsets.UTF_8);
     }
 
     @Override
@@ -478,7 +486,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @param data value to be added.
      */
     public void addNativeData(String key, Object data) {
-        nativeData.put(key, data);
+        getNativeDataMap().put(key, data);
     }
 
     /**
@@ -487,7 +495,7 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return value for the given key.
      */
     public Object getNativeData(String key) {
-        return nativeData.get(key);
+        return nativeData == null ? null : nativeData.get(key);
     }
 
     /**
@@ -496,6 +504,10 @@ public class MapValueImpl<K, V> extends LinkedHashMap<K, V> implements RefValue,
      * @return nativeData map
      */
     public Map<String, Object> getNativeDataMap() {
+        // Allocated on demand, since only a few maps carry native data
+        if (this.nativeData == null) {
+            this.nativeData = new HashMap<>();
+        }
         return this.nativeData;
     }
 
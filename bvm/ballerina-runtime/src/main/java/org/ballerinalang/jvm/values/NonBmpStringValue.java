@@ -46,17 +46,14 @@ public class NonBmpStringValue implements StringValue {
             throw new StringIndexOutOfBoundsException(index);
         }
 
-        int offset = index;
-        for (int surrogate : surrogates) {
-            if (surrogate < index) {
-                offset++;
-            } else if (surrogate > index) {
-                break;
-            } else {
-                return Character.toCodePoint(value.charAt(offset), value.charAt(offset + 1));
-            }
+        // The surrogate pair locations are sorted, so the character offset of the code point is found by a binary
+        // search instead of a scan
+        int surrogate = Arrays.binarySearch(surrogates, index);
+        if (surrogate >= 0) {
+            int offset = index + surrogate;
+            return Character.toCodePoint(value.charAt(offset), value.charAt(offset + 1));
         }
-        return value.charAt(offset);
+        return value.charAt(index - surrogate - 1);
     }
 
     @Override
@@ -66,14 +63,37 @@ public class NonBmpStringValue implements StringValue {
 
     @Override
     public StringValue concat(StringValue str) {
-        if (str instanceof NonBmpStringValue) {
-            NonBmpStringValue other = (NonBmpStringValue) str;
-            int[] both = Arrays.copyOf(surrogates, surrogates.length + other.surrogates.length);
-            System.arraycopy(other.surrogates, 0, both, surrogates.length, other.surrogates.length);
-            return new NonBmpStringValue(this.value + other.value, both);
-        } else {
-            throw new RuntimeException("not impl yet");
+        return RopeStringValue.concat(this, str);
+    }
+
+    @Override
+    public StringValue substring(int beginIndex, int endIndex) {
+        if (beginIndex < 0 || endIndex > length() || beginIndex > endIndex) {
+            throw new StringIndexOutOfBoundsException("begin " + beginIndex + ", end " + endIndex + ", length " +
+                                                              length());
         }
+
+        int first = surrogatesBefore(beginIndex);
+        int last = surrogatesBefore(endIndex);
+        String str = value.substring(beginIndex + first, endIndex + last);
+        if (first == last) {
+            return new BmpStringValue(str);
+        }
+
+        int[] subSurrogates = new int[last - first];
+        for (int i = 0; i < subSurrogates.length; i++) {
+            subSurrogates[i] = surrogates[first + i] - beginIndex;
+        }
+        return new NonBmpStringValue(str, subSurrogates);
+    }
+
+    int[] getSurrogates() {
+        return surrogates;
+    }
+
+    private int surrogatesBefore(int index) {
+        int surrogate = Arrays.binarySearch(surrogates, index);
+        return surrogate >= 0 ? surrogate : -surrogate - 1;
     }
 
     @Override
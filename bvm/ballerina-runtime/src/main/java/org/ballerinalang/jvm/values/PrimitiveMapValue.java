@@ -0,0 +1,663 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.BallerinaValues;
+import org.ballerinalang.jvm.types.BType;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * <p>
+ * Base of the map values whose values are of a single primitive type, such as {@code map<int>}. The entries are kept
+ * in insertion order in parallel arrays, which are indexed by an open addressed hash table, instead of in the
+ * {@link java.util.LinkedHashMap} inherited from {@link MapValueImpl}, which is left empty. The subclasses store the
+ * values in a primitive array. Values that are not of the primitive type are stored boxed in a separate array,
+ * which is allocated only if there are such values.
+ * </p>
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @param <K> the type of keys maintained by this map
+ * @param <V> the type of mapped values
+ *
+ * @since 1.2.0
+ */
+public abstract class PrimitiveMapValue<K, V> extends MapValueImpl<K, V> {
+
+    private static final long serialVersionUID = 1L;
+    private static final int INITIAL_CAPACITY = 8;
+    private static final Object REMOVED = new Object();
+    private static final Object NULL_VALUE = new Object();
+
+    // Keys in insertion order. Removed entries are marked with REMOVED until the arrays are compacted.
+    private Object[] keys;
+    private int[] hashes;
+    private Object[] boxedValues;
+    // Open addressed hash table holding entry position + 1, or 0 for an empty bucket
+    private int[] table;
+    private int count;
+    private int removedCount;
+    private int modifications;
+    // The arrays are shared with a copy of this map, and are copied before the next update
+    private boolean shared;
+
+    protected PrimitiveMapValue(BType type) {
+        super(type);
+    }
+
+    /**
+     * Store a value at the given position, if it is of the primitive type of this map.
+     *
+     * @param position position of the entry
+     * @param value    value to store
+     * @return true if the value was stored
+     */
+    protected abstract boolean setPrimitiveValue(int position, Object value);
+
+    /**
+     * Returns the primitive value at the given position, boxed.
+     *
+     * @param position position of the entry
+     * @return the value
+     */
+    protected abstract Object getPrimitiveValue(int position);
+
+    /**
+     * Resize the primitive value array.
+     *
+     * @param capacity new length of the array
+     */
+    protected abstract void resizeValues(int capacity);
+
+    /**
+     * Move the primitive value at a position to another position.
+     *
+     * @param from current position of the value
+     * @param to   new position of the value
+     */
+    protected abstract void moveValue(int from, int to);
+
+    /**
+     * Use the primitive value array of another map of the same kind, until either map is updated.
+     *
+     * @param map map to share the values of
+     */
+    protected abstract void shareValues(PrimitiveMapValue<K, V> map);
+
+    @Override
+    public V get(Object key) {
+        int position = findPosition(key);
+        return position < 0 ? null : valueAt(position);
+    }
+
+    @Override
+    public V getOrDefault(Object key, V defaultValue) {
+        int position = findPosition(key);
+        return position < 0 ? defaultValue : valueAt(position);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return findPosition(key) >= 0;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        for (int i = 0; i < count; i++) {
+            if (keys[i] != REMOVED && Objects.equals(valueAt(i), value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int size() {
+        return count - removedCount;
+    }
+
+    @Override
+    public V remove(Object key) {
+        checkRemovable();
+        return removeValue(key);
+    }
+
+    @Override
+    public void clear() {
+        checkRemovable();
+        shared = false;
+        keys = null;
+        hashes = null;
+        boxedValues = null;
+        table = null;
+        count = 0;
+        removedCount = 0;
+        resizeValues(0);
+        modifications++;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map) {
+        for (Map.Entry<? extends K, ? extends V> entry : map.entrySet()) {
+            putValue(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value) {
+        V current = get(key);
+        if (current == null) {
+            current = putValue(key, value);
+        }
+        return current;
+    }
+
+    @Override
+    public boolean remove(Object key, Object value) {
+        int position = findPosition(key);
+        if (position < 0 || !Objects.equals(valueAt(position), value)) {
+            return false;
+        }
+        removeValue(key);
+        return true;
+    }
+
+    @Override
+    public boolean replace(K key, V oldValue, V newValue) {
+        int position = findPosition(key);
+        if (position < 0 || !Objects.equals(valueAt(position), oldValue)) {
+            return false;
+        }
+        setValueAt(position, newValue);
+        return true;
+    }
+
+    @Override
+    public V replace(K key, V value) {
+        int position = findPosition(key);
+        if (position < 0) {
+            return null;
+        }
+        V oldValue = valueAt(position);
+        setValueAt(position, value);
+        return oldValue;
+    }
+
+    @Override
+    public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
+        V value = get(key);
+        if (value == null) {
+            value = mappingFunction.apply(key);
+            if (value != null) {
+                putValue(key, value);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public V computeIfPresent(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        V oldValue = get(key);
+        if (oldValue == null) {
+            return null;
+        }
+        V newValue = remappingFunction.apply(key, oldValue);
+        if (newValue == null) {
+            removeValue(key);
+        } else {
+            putValue(key, newValue);
+        }
+        return newValue;
+    }
+
+    @Override
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        V newValue = remappingFunction.apply(key, get(key));
+        if (newValue == null) {
+            removeValue(key);
+        } else {
+            putValue(key, newValue);
+        }
+        return newValue;
+    }
+
+    @Override
+    public V merge(K key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
+        V oldValue = get(key);
+        V newValue = oldValue == null ? value : remappingFunction.apply(oldValue, value);
+        if (newValue == null) {
+            removeValue(key);
+        } else {
+            putValue(key, newValue);
+        }
+        return newValue;
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        int expectedModifications = modifications;
+        for (int i = 0; i < count; i++) {
+            if (keys[i] != REMOVED) {
+                action.accept(keyAt(i), valueAt(i));
+            }
+            if (modifications != expectedModifications) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function) {
+        int expectedModifications = modifications;
+        for (int i = 0; i < count; i++) {
+            if (keys[i] != REMOVED) {
+                setValueAt(i, function.apply(keyAt(i), valueAt(i)));
+            }
+            if (modifications != expectedModifications) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    @Override
+    public Set<K> keySet() {
+        return new AbstractSet<K>() {
+            @Override
+            public Iterator<K> iterator() {
+                return new EntryIterator<K>() {
+                    @Override
+                    K get(int position) {
+                        return keyAt(position);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return PrimitiveMapValue.this.size();
+            }
+
+            @Override
+            public boolean contains(Object key) {
+                return containsKey(key);
+            }
+        };
+    }
+
+    @Override
+    public Collection<V> values() {
+        return new AbstractCollection<V>() {
+            @Override
+            public Iterator<V> iterator() {
+                return new EntryIterator<V>() {
+                    @Override
+                    V get(int position) {
+                        return valueAt(position);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return PrimitiveMapValue.this.size();
+            }
+        };
+    }
+
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return new AbstractSet<Map.Entry<K, V>>() {
+            @Override
+            public Iterator<Map.Entry<K, V>> iterator() {
+                return new EntryIterator<Map.Entry<K, V>>() {
+                    @Override
+                    Map.Entry<K, V> get(int position) {
+                        return new Entry(position);
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return PrimitiveMapValue.this.size();
+            }
+        };
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public K[] getKeys() {
+        String[] keyArray = new String[size()];
+        int i = 0;
+        for (int position = 0; position < count; position++) {
+            if (keys[position] != REMOVED) {
+                keyArray[i++] = (String) keys[position];
+            }
+        }
+        return (K[]) keyArray;
+    }
+
+    @Override
+    public Object copy(Map<Object, Object> refs) {
+        if (isFrozen()) {
+            return this;
+        }
+
+        if (refs.containsKey(this)) {
+            return refs.get(this);
+        }
+
+        if (boxedValues != null) {
+            for (Object value : boxedValues) {
+                if (value instanceof RefValue) {
+                    return super.copy(refs);
+                }
+            }
+        }
+
+        // All the values are immutable, so the copy shares the arrays until either map is updated
+        PrimitiveMapValue<K, V> copy = shareArrays();
+        refs.put(this, copy);
+        return copy;
+    }
+
+    @Override
+    public Object clone() {
+        return shareArrays();
+    }
+
+    @Override
+    protected V putValue(K key, V value) {
+        unshare();
+        int hash = hash(key);
+        int position = findPosition(key, hash);
+        if (position >= 0) {
+            V oldValue = valueAt(position);
+            setValueAt(position, value);
+            return oldValue;
+        }
+
+        ensureCapacity();
+        position = count++;
+        keys[position] = key;
+        hashes[position] = hash;
+        setValueAt(position, value);
+        addToTable(position, hash);
+        modifications++;
+        return null;
+    }
+
+    private V removeValue(Object key) {
+        int position = findPosition(key);
+        if (position < 0) {
+            return null;
+        }
+
+        unshare();
+
+        V oldValue = valueAt(position);
+        keys[position] = REMOVED;
+        if (boxedValues != null) {
+            boxedValues[position] = null;
+        }
+        removedCount++;
+        modifications++;
+        return oldValue;
+    }
+
+    @SuppressWarnings("unchecked")
+    private K keyAt(int position) {
+        return (K) keys[position];
+    }
+
+    @SuppressWarnings("unchecked")
+    private V valueAt(int position) {
+        if (boxedValues != null) {
+            Object boxedValue = boxedValues[position];
+            if (boxedValue != null) {
+                return boxedValue == NULL_VALUE ? null : (V) boxedValue;
+            }
+        }
+        return (V) getPrimitiveValue(position);
+    }
+
+    private void setValueAt(int position, Object value) {
+        unshare();
+        if (setPrimitiveValue(position, value)) {
+            if (boxedValues != null) {
+                boxedValues[position] = null;
+            }
+            return;
+        }
+
+        if (boxedValues == null) {
+            boxedValues = new Object[keys.length];
+        }
+        boxedValues[position] = value == null ? NULL_VALUE : value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private PrimitiveMapValue<K, V> shareArrays() {
+        PrimitiveMapValue<K, V> copy = (PrimitiveMapValue<K, V>) BallerinaValues.<K, V>createMapValue(getType());
+        copy.keys = keys;
+        copy.hashes = hashes;
+        copy.boxedValues = boxedValues;
+        copy.table = table;
+        copy.count = count;
+        copy.removedCount = removedCount;
+        copy.shareValues(this);
+        copy.shared = true;
+        shared = true;
+        return copy;
+    }
+
+    private void unshare() {
+        if (!shared) {
+            return;
+        }
+
+        if (keys != null) {
+            keys = keys.clone();
+            hashes = hashes.clone();
+            table = table.clone();
+            if (boxedValues != null) {
+                boxedValues = boxedValues.clone();
+            }
+            resizeValues(keys.length);
+        }
+        shared = false;
+    }
+
+    private int findPosition(Object key) {
+        return findPosition(key, hash(key));
+    }
+
+    private int findPosition(Object key, int hash) {
+        if (table == null) {
+            return -1;
+        }
+
+        int mask = table.length - 1;
+        for (int bucket = hash & mask; ; bucket = (bucket + 1) & mask) {
+            int position = table[bucket] - 1;
+            if (position < 0) {
+                return -1;
+            }
+            if (hashes[position] == hash && keys[position] != REMOVED && Objects.equals(keys[position], key)) {
+                return position;
+            }
+        }
+    }
+
+    private void addToTable(int position, int hash) {
+        int mask = table.length - 1;
+        int bucket = hash & mask;
+        while (table[bucket] != 0) {
+            bucket = (bucket + 1) & mask;
+        }
+        table[bucket] = position + 1;
+    }
+
+    private void ensureCapacity() {
+        if (keys == null) {
+            resize(INITIAL_CAPACITY);
+        } else if (count == keys.length) {
+            // Reuse the space of the removed entries if that frees up at least half of the arrays
+            resize(removedCount > keys.length / 2 ? keys.length : keys.length * 2);
+        }
+    }
+
+    private void resize(int capacity) {
+        if (keys != null) {
+            compact();
+        }
+
+        keys = keys == null ? new Object[capacity] : Arrays.copyOf(keys, capacity);
+        hashes = hashes == null ? new int[capacity] : Arrays.copyOf(hashes, capacity);
+        if (boxedValues != null) {
+            boxedValues = Arrays.copyOf(boxedValues, capacity);
+        }
+        resizeValues(capacity);
+
+        // The table is kept at most half full, so that the probe sequences remain short
+        table = new int[capacity * 2];
+        for (int position = 0; position < count; position++) {
+            addToTable(position, hashes[position]);
+        }
+    }
+
+    private void compact() {
+        int live = 0;
+        for (int position = 0; position < count; position++) {
+            if (keys[position] == REMOVED) {
+                continue;
+            }
+            if (live != position) {
+                keys[live] = keys[position];
+                hashes[live] = hashes[position];
+                moveValue(position, live);
+                if (boxedValues != null) {
+                    boxedValues[live] = boxedValues[position];
+                }
+            }
+            live++;
+        }
+
+        Arrays.fill(keys, live, count, null);
+        if (boxedValues != null) {
+            Arrays.fill(boxedValues, live, count, null);
+        }
+        count = live;
+        removedCount = 0;
+    }
+
+    private static int hash(Object key) {
+        int hash = key == null ? 0 : key.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * Iterator over the entries in insertion order.
+     *
+     * @param <T> type of the elements returned
+     */
+    private abstract class EntryIterator<T> implements Iterator<T> {
+
+        private int expectedModifications = modifications;
+        private int next = nextPosition(0);
+        private int current = -1;
+
+        abstract T get(int position);
+
+        @Override
+        public boolean hasNext() {
+            return next < count;
+        }
+
+        @Override
+        public T next() {
+            if (modifications != expectedModifications) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= count) {
+                throw new NoSuchElementException();
+            }
+            current = next;
+            next = nextPosition(next + 1);
+            return get(current);
+        }
+
+        @Override
+        public void remove() {
+            if (current < 0) {
+                throw new IllegalStateException();
+            }
+            if (modifications != expectedModifications) {
+                throw new ConcurrentModificationException();
+            }
+            removeValue(keys[current]);
+            expectedModifications = modifications;
+            current = -1;
+        }
+
+        private int nextPosition(int position) {
+            while (position < count && keys[position] == REMOVED) {
+                position++;
+            }
+            return position;
+        }
+    }
+
+    /**
+     * Map entry that writes through to the map.
+     */
+    private class Entry extends AbstractMap.SimpleEntry<K, V> {
+
+        private static final long serialVersionUID = 1L;
+        private final int position;
+
+        Entry(int position) {
+            super(keyAt(position), valueAt(position));
+            this.position = position;
+        }
+
+        @Override
+        public V setValue(V value) {
+            V oldValue = super.setValue(value);
+            if (keys[position] == getKey()) {
+                setValueAt(position, value);
+            }
+            return oldValue;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.jvm.values;
+
+import org.ballerinalang.jvm.StringUtils;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+
+/**
+ * <p>
+ * Represent the concatenation of two ballerina strings, without copying their characters. Repeated concatenation,
+ * such as appending to a string in a loop, builds a tree of these values, which is flattened into a
+ * {@link BmpStringValue} or a {@link NonBmpStringValue} in a single pass the first time the characters are needed.
+ * The length and whether the string has non basic multilingual plane characters are known without flattening.
+ * </p>
+ * <p>
+ * <i>Note: This is an internal API and may change in future versions.</i>
+ * </p>
+ *
+ * @since 1.2.0
+ */
+public class RopeStringValue implements StringValue {
+
+    // Strings shorter than this are concatenated directly, since copying them is cheaper than a tree node
+    private static final int MIN_ROPE_LENGTH = 64;
+
+    private final int length;
+    private final int charLength;
+    private final int surrogateCount;
+    // The children are cleared once the flattened value is set
+    private volatile StringValue left;
+    private volatile StringValue right;
+    private volatile StringValue flattened;
+
+    private RopeStringValue(StringValue left, StringValue right) {
+        this.left = left;
+        this.right = right;
+        this.length = left.length() + right.length();
+        this.charLength = charLength(left) + charLength(right);
+        this.surrogateCount = surrogateCount(left) + surrogateCount(right);
+    }
+
+    /**
+     * Concatenate two strings.
+     *
+     * @param left  the first string
+     * @param right the string appended to the first string
+     * @return the concatenated string
+     */
+    static StringValue concat(StringValue left, StringValue right) {
+        if (right.length() == 0) {
+            return left;
+        }
+        if (left.length() == 0) {
+            return right;
+        }
+        if (charLength(left) + charLength(right) < MIN_ROPE_LENGTH) {
+            return flatten(left, right, charLength(left) + charLength(right),
+                           surrogateCount(left) + surrogateCount(right));
+        }
+        return new RopeStringValue(left, right);
+    }
+
+    @Override
+    public String getValue() {
+        return flatten().getValue();
+    }
+
+    @Override
+    public int getCodePoint(int index) {
+        return flatten().getCodePoint(index);
+    }
+
+    @Override
+    public int length() {
+        return length;
+    }
+
+    @Override
+    public StringValue concat(StringValue str) {
+        return concat(this, str);
+    }
+
+    @Override
+    public StringValue substring(int beginIndex, int endIndex) {
+        return flatten().substring(beginIndex, endIndex);
+    }
+
+    @Override
+    public String stringValue() {
+        return getValue();
+    }
+
+    @Override
+    public String toString() {
+        return getValue();
+    }
+
+    private StringValue flatten() {
+        StringValue value = flattened;
+        if (value != null) {
+            return value;
+        }
+
+        StringValue leftValue = left;
+        StringValue rightValue = right;
+        if (leftValue == null || rightValue == null) {
+            // Flattened concurrently, after the check above
+            return flattened;
+        }
+
+        value = flatten(leftValue, rightValue, charLength, surrogateCount);
+        flattened = value;
+        left = null;
+        right = null;
+        return value;
+    }
+
+    private static StringValue flatten(StringValue leftValue, StringValue rightValue, int charLength,
+                                       int surrogateCount) {
+        char[] chars = new char[charLength];
+        int[] surrogates = surrogateCount == 0 ? null : new int[surrogateCount];
+        int charPosition = 0;
+        int codePointPosition = 0;
+        int surrogatePosition = 0;
+
+        // Walk the tree iteratively, since a string built in a loop is a very deep tree
+        Deque<StringValue> pending = new ArrayDeque<>();
+        pending.push(rightValue);
+        pending.push(leftValue);
+        while (!pending.isEmpty()) {
+            StringValue str = pending.pop();
+            if (str instanceof RopeStringValue) {
+                RopeStringValue rope = (RopeStringValue) str;
+                StringValue value = rope.flattened;
+                if (value == null) {
+                    StringValue ropeLeft = rope.left;
+                    StringValue ropeRight = rope.right;
+                    if (ropeLeft != null && ropeRight != null) {
+                        pending.push(ropeRight);
+                        pending.push(ropeLeft);
+                        continue;
+                    }
+                    value = rope.flattened;
+                }
+                str = value;
+            }
+
+            String value = str.getValue();
+            value.getChars(0, value.length(), chars, charPosition);
+            if (str instanceof NonBmpStringValue) {
+                for (int surrogate : ((NonBmpStringValue) str).getSurrogates()) {
+                    surrogates[surrogatePosition++] = codePointPosition + surrogate;
+                }
+            } else if (!(str instanceof BmpStringValue)) {
+                StringValue leaf = StringUtils.fromString(value);
+                if (leaf instanceof NonBmpStringValue) {
+                    for (int surrogate : ((NonBmpStringValue) leaf).getSurrogates()) {
+                        surrogates[surrogatePosition++] = codePointPosition + surrogate;
+                    }
+                }
+            }
+            charPosition += value.length();
+            codePointPosition += str.length();
+        }
+
+        if (surrogates == null) {
+            return new BmpStringValue(new String(chars));
+        }
+        return new NonBmpStringValue(new String(chars), surrogatePosition == surrogates.length ? surrogates :
+                Arrays.copyOf(surrogates, surrogatePosition));
+    }
+
+    private static int charLength(StringValue str) {
+        if (str instanceof RopeStringValue) {
+            return ((RopeStringValue) str).charLength;
+        }
+        return str.getValue().length();
+    }
+
+    private static int surrogateCount(StringValue str) {
+        if (str instanceof RopeStringValue) {
+            return ((RopeStringValue) str).surrogateCount;
+        }
+        if (str instanceof BmpStringValue) {
+            return 0;
+        }
+        if (str instanceof NonBmpStringValue) {
+            return ((NonBmpStringValue) str).getSurrogates().length;
+        }
+        return str.getValue().length() - str.length();
+    }
+}
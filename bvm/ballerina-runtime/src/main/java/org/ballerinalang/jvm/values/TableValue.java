@@ -20,6 +20,8 @@ package org.ballerinalang.jvm.values;
 import org.ballerinalang.jvm.BallerinaErrors;
 import org.ballerinalang.jvm.ColumnDefinition;
 import org.ballerinalang.jvm.DataIterator;
+import org.ballerinalang.jvm.InMemoryTable;
+import org.ballerinalang.jvm.InMemoryTableIterator;
 import org.ballerinalang.jvm.TableProvider;
 import org.ballerinalang.jvm.TableUtils;
 import org.ballerinalang.jvm.scheduling.Strand;
@@ -58,7 +60,7 @@ public class TableValue implements RefValue, BTable {
     protected DataIterator iterator;
     private boolean hasNextVal;
     private boolean nextPrefetched;
-    private TableProvider tableProvider;
+    private InMemoryTable table;
     private String tableName;
     private BStructureType constraintType;
     private ArrayValue primaryKeys;
@@ -69,15 +71,15 @@ public class TableValue implements RefValue, BTable {
     @Deprecated
     public TableValue() {
         this.iterator = null;
-        this.tableProvider = null;
+        this.table = null;
         this.nextPrefetched = false;
         this.hasNextVal = false;
-        this.tableName = null;
         this.type = BTypes.typeTable;
     }
 
     @Deprecated
     public TableValue(String tableName, BStructureType constraintType) {
+        // The rows are held by the named table of the table database, as they were before in-memory tables
         this(constraintType);
         this.tableName = tableName;
     }
@@ -93,7 +95,6 @@ public class TableValue implements RefValue, BTable {
     @Deprecated
     public TableValue(String query, TableValue fromTable, TableValue joinTable,
                       BStructureType constraintType, ArrayValue params) {
-        this.tableProvider = TableProvider.getInstance();
         if (!fromTable.isInMemoryTable()) {
             throw BallerinaErrors.createError(BallerinaErrorReasons.TABLE_OPERATION_ERROR,
                     "Table query over a cursor table not supported");
@@ -103,10 +104,19 @@ public class TableValue implements RefValue, BTable {
                 throw BallerinaErrors.createError(BallerinaErrorReasons.TABLE_OPERATION_ERROR,
                         "Table query over a cursor table not supported");
             }
-            this.tableName = tableProvider.createTable(fromTable.tableName, joinTable.tableName, query,
+            if ((fromTable.tableName == null) != (joinTable.tableName == null)) {
+                throw BallerinaErrors.createError(BallerinaErrorReasons.TABLE_OPERATION_ERROR,
+                        "Table query joining a named table with an in-memory table not supported");
+            }
+        }
+        TableProvider tableProvider = TableProvider.getInstance();
+        if (fromTable.tableName != null) {
+            this.tableName = tableProvider.createTable(fromTable.tableName,
+                                                       joinTable != null ? joinTable.tableName : null, query,
                                                        constraintType, params);
         } else {
-            this.tableName = tableProvider.createTable(fromTable.tableName, query, constraintType, params);
+            this.table = tableProvider.createTable(fromTable.table, joinTable != null ? joinTable.table : null,
+                                                   query, constraintType, params);
         }
         this.constraintType = constraintType;
         this.type = new BTableType(constraintType);
@@ -114,10 +124,14 @@ public class TableValue implements RefValue, BTable {
 
     @Deprecated
     public TableValue(BType type, ArrayValue keyColumns, ArrayValue dataRows) {
+        this(type, keyColumns, null, dataRows);
+    }
+
+    @Deprecated
+    public TableValue(BType type, ArrayValue keyColumns, ArrayValue indexColumns, ArrayValue dataRows) {
         //Create table with given constraints.
         BType constrainedType = ((BTableType) type).getConstrainedType();
-        this.tableProvider = TableProvider.getInstance();
-        this.tableName = tableProvider.createTable(constrainedType, keyColumns);
+        this.table = new InMemoryTable((BStructureType) constrainedType, keyColumns, indexColumns);
         this.constraintType = (BStructureType) constrainedType;
         this.type = new BTableType(constraintType);
         this.primaryKeys = keyColumns;
@@ -127,6 +141,13 @@ public class TableValue implements RefValue, BTable {
         }
     }
 
+    private TableValue(InMemoryTable table) {
+        this.table = table;
+        this.constraintType = table.getConstraintType();
+        this.type = new BTableType(constraintType);
+        this.primaryKeys = table.getPrimaryKeys();
+    }
+
     @Override
     public String toString() {
         return stringValue();
@@ -267,7 +288,11 @@ public class TableValue implements RefValue, BTable {
                     "incompatible types: record of type:" + data.getType().getName()
                             + " cannot be added to a table with type:" + this.constraintType.getName());
         }
-        tableProvider.insertData(tableName, data);
+        if (tableName != null) {
+            TableProvider.getInstance().insertData(tableName, data);
+        } else {
+            table.insert(data);
+        }
         reset();
     }
 
@@ -294,14 +319,21 @@ public class TableValue implements RefValue, BTable {
                             .getName() + " cannot be used to remove records from a table with type:"
                             + this.constraintType.getName()));
         }
+        if (tableName != null) {
+            return removeFromNamedTable(strand, func);
+        }
         int deletedCount = 0;
-        while (this.hasNext()) {
-            MapValueImpl<String, Object> row = this.getNext();
-            if (func.call(new Object[] { strand, row, true })) {
-                tableProvider.deleteData(this.tableName, row);
-                ++deletedCount;
+        InMemoryTableIterator rows = table.createIterator();
+        try {
+            while (rows.next()) {
+                if (func.call(new Object[] { strand, rows.generateNext(), true }) && rows.remove()) {
+                    ++deletedCount;
+                }
             }
+        } finally {
+            rows.close();
         }
+        reset();
         return deletedCount;
     }
 
@@ -309,6 +341,18 @@ public class TableValue implements RefValue, BTable {
         return performRemoveOperation(strand, (FPValue<Object, Boolean>) func);
     }
 
+    private int removeFromNamedTable(Strand strand, FPValue<Object, Boolean> func) {
+        int deletedCount = 0;
+        while (this.hasNext()) {
+            MapValueImpl<String, Object> row = this.getNext();
+            if (func.call(new Object[] { strand, row, true })) {
+                TableProvider.getInstance().deleteData(this.tableName, row);
+                ++deletedCount;
+            }
+        }
+        return deletedCount;
+    }
+
     /**
      * Retrieves the value of the designated string column in the current row.
      * @param columnIndex column index
@@ -412,16 +456,20 @@ public class TableValue implements RefValue, BTable {
             return refs.get(this);
         }
 
-        TableIterator cloneIterator = tableProvider.createIterator(this.tableName, this.constraintType);
+        TableValue copy = tableName != null ? copyNamedTable() : new TableValue(this.table.copy());
+        refs.put(this, copy);
+        return copy;
+    }
+
+    private TableValue copyNamedTable() {
+        DataIterator cloneIterator = TableProvider.getInstance().createIterator(this.tableName, this.constraintType);
         ArrayValue data = new ArrayValueImpl(new BArrayType(this.constraintType));
         int cursor = 0;
         try {
             while (cloneIterator.next()) {
                 data.add(cursor++, cloneIterator.generateNext());
             }
-            TableValue table = new TableValue(new BTableType(constraintType), this.primaryKeys, data);
-            refs.put(this, table);
-            return table;
+            return new TableValue(new BTableType(constraintType), this.primaryKeys, data);
         } finally {
             cloneIterator.close();
         }
@@ -445,7 +493,11 @@ public class TableValue implements RefValue, BTable {
     }
 
     private void generateIterator() {
-        this.iterator = tableProvider.createIterator(tableName, this.constraintType);
+        if (tableName != null) {
+            this.iterator = TableProvider.getInstance().createIterator(tableName, this.constraintType);
+        } else {
+            this.iterator = table.createIterator();
+        }
         resetIterationHelperAttributes();
     }
 
@@ -463,7 +515,12 @@ public class TableValue implements RefValue, BTable {
         if (this.iterator != null) {
             this.iterator.close();
         }
-        tableProvider.dropTable(this.tableName);
+        if (this.table != null) {
+            this.table.release();
+        }
+        if (this.tableName != null) {
+            TableProvider.getInstance().dropTable(this.tableName);
+        }
     }
 
     private void insertInitialData(ArrayValue data) {
@@ -474,9 +531,8 @@ public class TableValue implements RefValue, BTable {
     }
 
     /**
-     * Returns a flag indicating whether this table is an in-memory one.
-     * TODO: This is a hack to get the table to JSON conversion works
-     * with in-memory tables. Fix this ASAP. Issue: #10615
+     * Returns a flag indicating whether this table is an in-memory one. Tables returned from a database override
+     * this, since they cannot be queried and are converted to streaming JSON instead of being built in memory.
      *
      * @return Flag indicating whether this table is an in-memory one.
      */
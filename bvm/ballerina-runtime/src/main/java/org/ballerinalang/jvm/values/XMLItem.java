@@ -44,6 +44,7 @@ import org.ballerinalang.jvm.values.freeze.Status;
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -81,6 +82,9 @@ import static org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons.getMod
 public final class XMLItem extends XMLValue<OMNode> {
 
     OMNode omNode;
+    // The node backing this item, if the item was built by XMLTreeBuilder. It is used instead of the Axiom node,
+    // until the document of the node is materialized.
+    private final XMLTreeNode treeNode;
     private XMLNodeType nodeType;
 
     /**
@@ -88,6 +92,7 @@ public final class XMLItem extends XMLValue<OMNode> {
      */
     @Deprecated
     public XMLItem() {
+        treeNode = null;
         omNode = new OMElementImpl();
         setXMLNodeType();
     }
@@ -99,6 +104,7 @@ public final class XMLItem extends XMLValue<OMNode> {
      */
     @Deprecated
     public XMLItem(String xmlValue) {
+        treeNode = null;
         if (xmlValue == null) {
             return;
         }
@@ -118,10 +124,21 @@ public final class XMLItem extends XMLValue<OMNode> {
      */
     @Deprecated
     public XMLItem(OMNode value) {
+        this.treeNode = null;
         this.omNode = value;
         setXMLNodeType();
     }
 
+    /**
+     * Initialize a {@link XMLItem} from a {@link XMLTreeNode}.
+     *
+     * @param treeNode xml node
+     */
+    XMLItem(XMLTreeNode treeNode) {
+        this.treeNode = treeNode;
+        setXMLNodeType();
+    }
+
     /**
      * Create a {@link XMLItem} from a {@link InputStream}.
      *
@@ -129,6 +146,7 @@ public final class XMLItem extends XMLValue<OMNode> {
      */
     @Deprecated
     public XMLItem(InputStream inputStream) {
+        treeNode = null;
         if (inputStream == null) {
             return;
         }
@@ -155,7 +173,7 @@ public final class XMLItem extends XMLValue<OMNode> {
      */
     @Override
     public boolean isEmpty() {
-        return omNode == null;
+        return omNode == null && treeNode == null;
     }
 
     /**
@@ -180,7 +198,11 @@ public final class XMLItem extends XMLValue<OMNode> {
     @Override
     public String getElementName() {
         if (nodeType == XMLNodeType.ELEMENT) {
-            return new String(((OMElement) omNode).getQName().toString());
+            XMLTreeNode node = getTreeNode();
+            if (node != null) {
+                return ((XMLTreeNode.Element) node).name.qname;
+            }
+            return new String(((OMElement) value()).getQName().toString());
         }
 
         return BTypes.typeString.getEmptyValue();
@@ -194,14 +216,18 @@ public final class XMLItem extends XMLValue<OMNode> {
         switch (nodeType) {
             case ELEMENT:
                 StringBuilder elementTextBuilder = new StringBuilder();
-                Iterator<OMNode> children = ((OMElement) omNode).getChildren();
+                XMLTreeNode node = getTreeNode();
+                if (node != null) {
+                    appendTextValue(elementTextBuilder, (XMLTreeNode.Element) node);
+                    return elementTextBuilder.toString();
+                }
+                Iterator<OMNode> children = ((OMElement) value()).getChildren();
                 while (children.hasNext()) {
                     elementTextBuilder.append(getTextValue(children.next()));
                 }
                 return elementTextBuilder.toString();
             case TEXT:
-                String text = ((OMText) omNode).getText();
-                return StringEscapeUtils.escapeXml11(text);
+                return StringEscapeUtils.escapeXml11(getText());
             case COMMENT:
                 return BTypes.typeString.getZeroValue();
             case PI:
@@ -227,14 +253,24 @@ public final class XMLItem extends XMLValue<OMNode> {
         if (nodeType != XMLNodeType.ELEMENT || localName == null || localName.isEmpty()) {
             return STRING_NULL_VALUE;
         }
+        XMLTreeNode node = getTreeNode();
+        if (node != null) {
+            XMLTreeNode.Element element = (XMLTreeNode.Element) node;
+            String value = element.getAttribute(localName, namespace);
+            if (value == null) {
+                value = element.findNamespaceURI(localName);
+            }
+            return value == null ? STRING_NULL_VALUE : value;
+        }
+
         QName attributeName = getQName(localName, namespace, prefix);
-        OMAttribute attribute = ((OMElement) omNode).getAttribute(attributeName);
+        OMAttribute attribute = ((OMElement) value()).getAttribute(attributeName);
 
         if (attribute != null) {
             return attribute.getAttributeValue();
         }
 
-        OMNamespace ns = ((OMElement) omNode).findNamespaceURI(localName);
+        OMNamespace ns = ((OMElement) value()).findNamespaceURI(localName);
         return ns == null ? STRING_NULL_VALUE : ns.getNamespaceURI();
     }
 
@@ -256,7 +292,7 @@ public final class XMLItem extends XMLValue<OMNode> {
         XMLValidator.validateXMLName(prefix);
 
         // If the attribute already exists, update the value.
-        OMElement node = (OMElement) omNode;
+        OMElement node = (OMElement) value();
         QName qname = getQName(localName, namespaceUri, prefix);
         OMAttribute attr = node.getAttribute(qname);
         if (attr != null) {
@@ -298,7 +334,7 @@ public final class XMLItem extends XMLValue<OMNode> {
         }
 
         // Remove existing attributes
-        OMElement omElement = ((OMElement) omNode);
+        OMElement omElement = ((OMElement) value());
         Iterator<OMAttribute> attrIterator = omElement.getAllAttributes();
         while (attrIterator.hasNext()) {
             omElement.removeAttribute(attrIterator.next());
@@ -370,11 +406,7 @@ public final class XMLItem extends XMLValue<OMNode> {
         ArrayValue elementsSeq = new ArrayValueImpl(new BArrayType(BTypes.typeXML));
         switch (nodeType) {
             case ELEMENT:
-                Iterator<OMNode> childrenItr = ((OMElement) omNode).getChildren();
-                int i = 0;
-                while (childrenItr.hasNext()) {
-                    elementsSeq.add(i++, new XMLItem(childrenItr.next()));
-                }
+                appendChildren(elementsSeq, 0, null, false);
                 break;
             default:
                 break;
@@ -391,21 +423,8 @@ public final class XMLItem extends XMLValue<OMNode> {
         ArrayValue elementsSeq = new ArrayValueImpl(new BArrayType(BTypes.typeXML));
         switch (nodeType) {
             case ELEMENT:
-                /*
-                 * Here we are not using "((OMElement) omNode).getChildrenWithName(qname))" method, since as per the
-                 * documentation of AxiomContainer.getChildrenWithName, if the namespace part of the qname is empty, it
-                 * will look for the elements which matches only the local part and returns. i.e: It will not match the
-                 * namespace. This is not the behavior we want. Hence we are explicitly creating an iterator which
-                 * will return elements that will match both namespace and the localName, regardless whether they are
-                 * empty or not.
-                 */
-                Iterator<OMNode> childrenItr =
-                        new OMChildrenQNameIterator(((OMElement) omNode).getFirstOMChild(), getQname(qname));
-                int i = 0;
-                while (childrenItr.hasNext()) {
-                    OMNode node = childrenItr.next();
-                    elementsSeq.add(i++, new XMLItem(node));
-                }
+                // Match both the namespace and the local name, regardless whether they are empty or not
+                appendChildren(elementsSeq, 0, getQname(qname), false);
                 break;
             default:
                 break;
@@ -431,7 +450,7 @@ public final class XMLItem extends XMLValue<OMNode> {
         OMElement currentNode;
         switch (nodeType) {
             case ELEMENT:
-                currentNode = ((OMElement) omNode);
+                currentNode = ((OMElement) value());
                 break;
             default:
                 throw BallerinaErrors.createError("not an " + XMLNodeType.ELEMENT);
@@ -473,7 +492,7 @@ public final class XMLItem extends XMLValue<OMNode> {
         OMElement currentNode;
         switch (nodeType) {
             case ELEMENT:
-                currentNode = ((OMElement) omNode);
+                currentNode = ((OMElement) value());
                 break;
             default:
                 throw BallerinaErrors.createError("not an " + XMLNodeType.ELEMENT);
@@ -500,7 +519,7 @@ public final class XMLItem extends XMLValue<OMNode> {
      */
     @Override
     public XMLValue<?> strip() {
-        if (omNode == null || (nodeType == XMLNodeType.TEXT && ((OMText) omNode).getText().trim().isEmpty())) {
+        if (isEmptyOrWhitespace()) {
             return new XMLSequence();
         }
 
@@ -543,7 +562,7 @@ public final class XMLItem extends XMLValue<OMNode> {
         List<XMLValue<?>> descendants = new ArrayList<XMLValue<?>>();
         switch (nodeType) {
             case ELEMENT:
-                addDescendants(descendants, (OMElement) omNode, getQname(qname).toString());
+                addDescendants(descendants, getQname(qname).toString());
                 break;
             default:
                 break;
@@ -559,13 +578,20 @@ public final class XMLItem extends XMLValue<OMNode> {
     @Override
     public void serialize(OutputStream outputStream) {
         try {
-            if (this.omNode.getType() == OMNode.ELEMENT_NODE) {
+            XMLTreeNode node = getTreeNode();
+            if (node != null && node.getType() == OMNode.ELEMENT_NODE) {
+                outputStream.write(serialize(node).getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+
+            OMNode omNode = value();
+            if (omNode.getType() == OMNode.ELEMENT_NODE) {
                 // not using the xml-factory here because of the namespace serializing issues.
-                this.omNode.serializeAndConsume(outputStream);
+                omNode.serializeAndConsume(outputStream);
             } else {
                 XMLOutputFactory factory = XMLOutputFactory.newInstance();
                 XMLStreamWriter writer = factory.createXMLStreamWriter(outputStream);
-                this.omNode.serializeAndConsume(writer);
+                omNode.serializeAndConsume(writer);
             }
         } catch (Throwable t) {
             handleXmlException("error occurred during writing the message to the output stream: ", t);
@@ -577,6 +603,9 @@ public final class XMLItem extends XMLValue<OMNode> {
      */
     @Override
     public OMNode value() {
+        if (treeNode != null) {
+            return treeNode.toOMNode();
+        }
         return this.omNode;
     }
 
@@ -594,7 +623,26 @@ public final class XMLItem extends XMLValue<OMNode> {
     @Override
     public String stringValue() {
         try {
-            switch (this.omNode.getType()) {
+            XMLTreeNode node = getTreeNode();
+            if (node != null) {
+                switch (node.getType()) {
+                    case OMNode.TEXT_NODE:
+                    case OMNode.SPACE_NODE:
+                        return ((XMLTreeNode.Text) node).text;
+                    case OMNode.COMMENT_NODE:
+                        return COMMENT_START + ((XMLTreeNode.Comment) node).value + COMMENT_END;
+                    case OMNode.PI_NODE:
+                        return PI_START + ((XMLTreeNode.ProcessingInstruction) node).target + " " +
+                                ((XMLTreeNode.ProcessingInstruction) node).data + PI_END;
+                    case OMNode.ELEMENT_NODE:
+                        return serialize(node);
+                    default:
+                        break;
+                }
+            }
+
+            OMNode omNode = value();
+            switch (omNode.getType()) {
                 case OMNode.TEXT_NODE:
                 case OMNode.SPACE_NODE:
                     return ((OMText) omNode).getText();
@@ -608,7 +656,7 @@ public final class XMLItem extends XMLValue<OMNode> {
                 case OMNode.ELEMENT_NODE:
                     // fall through
                 default:
-                    return this.omNode.toString();
+                    return omNode.toString();
             }
         } catch (Throwable t) {
             handleXmlException("failed to get xml as string: ", t);
@@ -627,17 +675,17 @@ public final class XMLItem extends XMLValue<OMNode> {
 
         switch (nodeType) {
             case ELEMENT:
-                return new XMLItem(((OMElement) omNode).cloneOMElement());
+                return new XMLItem(((OMElement) value()).cloneOMElement());
             case TEXT:
-                return XMLFactory.createXMLText(((OMText) omNode).getText());
+                return XMLFactory.createXMLText(getText());
             case COMMENT:
-                return XMLFactory.createXMLComment(((OMComment) omNode).getValue());
+                return XMLFactory.createXMLComment(((OMComment) value()).getValue());
             case PI:
                 return XMLFactory.createXMLProcessingInstruction(
-                        ((OMProcessingInstruction) omNode).getTarget(),
-                        ((OMProcessingInstruction) omNode).getValue());
+                        ((OMProcessingInstruction) value()).getTarget(),
+                        ((OMProcessingInstruction) value()).getValue());
             default:
-                return new XMLItem(omNode);
+                return new XMLItem(value());
         }
     }
 
@@ -667,14 +715,14 @@ public final class XMLItem extends XMLValue<OMNode> {
 
     public int size() {
         if (getNodeType() == XMLNodeType.TEXT) {
-            String textContent = ((OMText) this.omNode).getText();
+            String textContent = getText();
             return textContent.codePointCount(0, textContent.length());
         }
-        return this.omNode == null ? 0 : 1;
+        return isEmpty() ? 0 : 1;
     }
 
     public int length() {
-        return this.omNode == null ? 0 : 1;
+        return isEmpty() ? 0 : 1;
     }
 
     /**
@@ -682,7 +730,9 @@ public final class XMLItem extends XMLValue<OMNode> {
      */
     @Override
     public void build() {
-        this.omNode.build();
+        if (getTreeNode() == null) {
+            value().build();
+        }
     }
 
     /**
@@ -700,7 +750,7 @@ public final class XMLItem extends XMLValue<OMNode> {
             return;
         }
 
-        OMElement omElement = (OMElement) omNode;
+        OMElement omElement = (OMElement) value();
         OMAttribute attribute = omElement.getAttribute(getQname(qname));
 
         if (attribute == null) {
@@ -732,7 +782,7 @@ public final class XMLItem extends XMLValue<OMNode> {
                  * empty or not.
                  */
                 Iterator<OMNode> childrenItr =
-                        new OMChildrenQNameIterator(((OMElement) omNode).getFirstOMChild(), getQname(qname));
+                        new OMChildrenQNameIterator(((OMElement) value()).getFirstOMChild(), getQname(qname));
                 while (childrenItr.hasNext()) {
                     childrenItr.next();
                     childrenItr.remove();
@@ -761,10 +811,160 @@ public final class XMLItem extends XMLValue<OMNode> {
         this.freezeStatus.setFrozen();
     }
 
+    /**
+     * Get the text of a text item.
+     *
+     * @return text of the item
+     */
+    String getText() {
+        XMLTreeNode node = getTreeNode();
+        if (node != null) {
+            return ((XMLTreeNode.Text) node).text;
+        }
+        return ((OMText) value()).getText();
+    }
+
+    boolean isEmptyOrWhitespace() {
+        return isEmpty() || (nodeType == XMLNodeType.TEXT && getText().trim().isEmpty());
+    }
+
+    /**
+     * Add the children of this element to a sequence.
+     *
+     * @param elementsSeq sequence to add the children
+     * @param index index of the sequence to add the first child
+     * @param name if not null, only the child elements with this name are added
+     * @param matchEmptyParts if true, match the children as OMElement.getChildrenWithName does, where an empty
+     *                        namespace or local part of the name may match any namespace or local part
+     * @return index of the sequence to add the next item
+     */
+    int appendChildren(ArrayValue elementsSeq, int index, QName name, boolean matchEmptyParts) {
+        XMLTreeNode node = getTreeNode();
+        if (node != null) {
+            XMLTreeNode[] children = ((XMLTreeNode.Element) node).children;
+            int start = index;
+            index = appendChildren(elementsSeq, index, children, name, false);
+            // Same as OMElement.getChildrenWithName, which falls back to matching the empty parts of a name without a
+            // namespace, if no child matches the name exactly
+            if (matchEmptyParts && index == start && children.length > 0 && name.getNamespaceURI().isEmpty()) {
+                index = appendChildren(elementsSeq, index, children, name, true);
+            }
+            return index;
+        }
+
+        OMElement element = (OMElement) value();
+        Iterator<OMNode> childrenItr;
+        if (name == null) {
+            childrenItr = element.getChildren();
+        } else if (matchEmptyParts) {
+            childrenItr = element.getChildrenWithName(name);
+        } else {
+            /*
+             * Here we are not using "((OMElement) omNode).getChildrenWithName(qname))" method, since as per the
+             * documentation of AxiomContainer.getChildrenWithName, if the namespace part of the qname is empty, it
+             * will look for the elements which matches only the local part and returns. i.e: It will not match the
+             * namespace. This is not the behavior we want. Hence we are explicitly creating an iterator which
+             * will return elements that will match both namespace and the localName, regardless whether they are
+             * empty or not.
+             */
+            childrenItr = new OMChildrenQNameIterator(element.getFirstOMChild(), name);
+        }
+        while (childrenItr.hasNext()) {
+            elementsSeq.add(index++, new XMLItem(childrenItr.next()));
+        }
+        return index;
+    }
+
+    /**
+     * Add the descendants of this element with the given name to a list. The descendants of a matching element are
+     * not searched.
+     *
+     * @param descendants list to add the descendants
+     * @param qname qualified name of the descendants, in "{namespace}localName" form
+     */
+    void addDescendants(List<XMLValue<?>> descendants, String qname) {
+        XMLTreeNode node = getTreeNode();
+        if (node != null) {
+            addDescendants(descendants, (XMLTreeNode.Element) node, qname);
+        } else {
+            addDescendants(descendants, (OMElement) value(), qname);
+        }
+    }
+
     // private methods
 
+    /**
+     * Get the tree node backing this item, unless its document has been materialized.
+     *
+     * @return tree node, or null if the Axiom node should be used
+     */
+    private XMLTreeNode getTreeNode() {
+        XMLTreeNode node = treeNode;
+        if (node == null || node.getDocument().isMaterialized()) {
+            return null;
+        }
+        return node;
+    }
+
+    private static void appendTextValue(StringBuilder sb, XMLTreeNode.Element element) {
+        for (XMLTreeNode child : element.children) {
+            switch (child.getType()) {
+                case OMNode.ELEMENT_NODE:
+                    appendTextValue(sb, (XMLTreeNode.Element) child);
+                    break;
+                case OMNode.TEXT_NODE:
+                    sb.append(((XMLTreeNode.Text) child).text);
+                    break;
+                default:
+                    // Same as the text value of other nodes, in getTextValue(OMNode)
+                    sb.append(STRING_NULL_VALUE);
+                    break;
+            }
+        }
+    }
+
+    private static int appendChildren(ArrayValue elementsSeq, int index, XMLTreeNode[] children, QName name,
+                                      boolean matchEmptyParts) {
+        for (XMLTreeNode child : children) {
+            if (name == null || (child.getType() == OMNode.ELEMENT_NODE &&
+                    matches(((XMLTreeNode.Element) child).name, name, matchEmptyParts))) {
+                elementsSeq.add(index++, new XMLItem(child));
+            }
+        }
+        return index;
+    }
+
+    private static boolean matches(XMLTreeNode.Name name, QName qname, boolean matchEmptyParts) {
+        String localPart = qname.getLocalPart();
+        String namespaceUri = qname.getNamespaceURI();
+        if (matchEmptyParts) {
+            return (localPart.isEmpty() || localPart.equals(name.localName)) &&
+                    (namespaceUri.isEmpty() || namespaceUri.equals(name.uri));
+        }
+        return localPart.equals(name.localName) && namespaceUri.equals(name.uri);
+    }
+
+    private static void addDescendants(List<XMLValue<?>> descendants, XMLTreeNode.Element element, String qname) {
+        for (XMLTreeNode child : element.children) {
+            if (child.getType() != OMNode.ELEMENT_NODE) {
+                continue;
+            }
+            if (qname.equals(((XMLTreeNode.Element) child).name.qname)) {
+                descendants.add(new XMLItem(child));
+                continue;
+            }
+            addDescendants(descendants, (XMLTreeNode.Element) child, qname);
+        }
+    }
+
+    private static String serialize(XMLTreeNode node) {
+        StringBuilder sb = new StringBuilder();
+        node.serialize(sb, new XMLTreeNode.NamespaceScope());
+        return sb.toString();
+    }
+
     private void setXMLNodeType() {
-        switch (omNode.getType()) {
+        switch (treeNode != null ? treeNode.getType() : omNode.getType()) {
             case OMNode.ELEMENT_NODE:
                 nodeType = XMLNodeType.ELEMENT;
                 break;
@@ -915,7 +1115,7 @@ public final class XMLItem extends XMLValue<OMNode> {
             }
 
             String namespaceOfPrefix = getNamespaceOfPrefix();
-            Iterator<OMNamespace> namespaceIterator = ((OMElement) this.bXmlItem.omNode).getAllDeclaredNamespaces();
+            Iterator<OMNamespace> namespaceIterator = ((OMElement) this.bXmlItem.value()).getAllDeclaredNamespaces();
             while (namespaceIterator.hasNext()) {
                 OMNamespace namespace = namespaceIterator.next();
                 String prefix = namespace.getPrefix();
@@ -925,7 +1125,7 @@ public final class XMLItem extends XMLValue<OMNode> {
                 attrMap.put(namespaceOfPrefix + prefix, namespace.getNamespaceURI());
             }
 
-            Iterator<OMAttribute> attrIterator = ((OMElement) this.bXmlItem.omNode).getAllAttributes();
+            Iterator<OMAttribute> attrIterator = ((OMElement) this.bXmlItem.value()).getAllAttributes();
             while (attrIterator.hasNext()) {
                 OMAttribute attr = attrIterator.next();
                 attrMap.put(attr.getQName().toString(), attr.getAttributeValue());
@@ -942,7 +1142,7 @@ public final class XMLItem extends XMLValue<OMNode> {
             }
 
             String namespaceOfPrefix = getNamespaceOfPrefix();
-            Iterator<OMNamespace> namespaceIterator = ((OMElement) this.bXmlItem.omNode).getAllDeclaredNamespaces();
+            Iterator<OMNamespace> namespaceIterator = ((OMElement) this.bXmlItem.value()).getAllDeclaredNamespaces();
             while (namespaceIterator.hasNext()) {
                 OMNamespace namespace = namespaceIterator.next();
                 String prefix = namespace.getPrefix();
@@ -952,7 +1152,7 @@ public final class XMLItem extends XMLValue<OMNode> {
                 sj.add(namespaceOfPrefix + prefix + "=" + namespace.getNamespaceURI());
             }
 
-            Iterator<OMAttribute> attrIterator = ((OMElement) this.bXmlItem.omNode).getAllAttributes();
+            Iterator<OMAttribute> attrIterator = ((OMElement) this.bXmlItem.value()).getAllAttributes();
             while (attrIterator.hasNext()) {
                 OMAttribute attr = attrIterator.next();
                 sj.add(attr.getQName().toString() + "=" + attr.getAttributeValue());
@@ -969,7 +1169,7 @@ public final class XMLItem extends XMLValue<OMNode> {
             }
 
             String namespaceOfPrefix = getNamespaceOfPrefix();
-            Iterator<OMNamespace> namespaceIterator = ((OMElement) this.bXmlItem.omNode).getAllDeclaredNamespaces();
+            Iterator<OMNamespace> namespaceIterator = ((OMElement) this.bXmlItem.value()).getAllDeclaredNamespaces();
             while (namespaceIterator.hasNext()) {
                 OMNamespace namespace = namespaceIterator.next();
                 String prefix = namespace.getPrefix();
@@ -979,7 +1179,7 @@ public final class XMLItem extends XMLValue<OMNode> {
                 keys.add(namespaceOfPrefix + prefix);
             }
 
-            Iterator<OMAttribute> attrIterator = ((OMElement) this.bXmlItem.omNode).getAllAttributes();
+            Iterator<OMAttribute> attrIterator = ((OMElement) this.bXmlItem.value()).getAllAttributes();
             while (attrIterator.hasNext()) {
                 OMAttribute attr = attrIterator.next();
                 keys.add(attr.getQName().toString());
@@ -997,8 +1197,8 @@ public final class XMLItem extends XMLValue<OMNode> {
         @Override
         public int size() {
             int size = 0;
-            Iterator<OMNamespace> namespaceIterator = ((OMElement) this.bXmlItem.omNode).getAllDeclaredNamespaces();
-            Iterator<OMAttribute> attrIterator = ((OMElement) this.bXmlItem.omNode).getAllAttributes();
+            Iterator<OMNamespace> namespaceIterator = ((OMElement) this.bXmlItem.value()).getAllDeclaredNamespaces();
+            Iterator<OMAttribute> attrIterator = ((OMElement) this.bXmlItem.value()).getAllAttributes();
             while (namespaceIterator.hasNext()) {
                 if (namespaceIterator.next().getPrefix().isEmpty()) {
                     continue;
@@ -1044,7 +1244,7 @@ public final class XMLItem extends XMLValue<OMNode> {
                 return values;
             }
 
-            Iterator<OMNamespace> namespaceIterator = ((OMElement) this.bXmlItem.omNode).getAllDeclaredNamespaces();
+            Iterator<OMNamespace> namespaceIterator = ((OMElement) this.bXmlItem.value()).getAllDeclaredNamespaces();
             while (namespaceIterator.hasNext()) {
                 OMNamespace namespace = namespaceIterator.next();
                 String prefix = namespace.getPrefix();
@@ -1054,7 +1254,7 @@ public final class XMLItem extends XMLValue<OMNode> {
                 values.add(namespace.getNamespaceURI());
             }
 
-            Iterator<OMAttribute> attrIterator = ((OMElement) this.bXmlItem.omNode).getAllAttributes();
+            Iterator<OMAttribute> attrIterator = ((OMElement) this.bXmlItem.value()).getAllAttributes();
             while (attrIterator.hasNext()) {
                 OMAttribute attr = attrIterator.next();
                 values.add(attr.getAttributeValue());
@@ -1112,7 +1312,7 @@ public final class XMLItem extends XMLValue<OMNode> {
             }
 
             String namespaceOfPrefix = getNamespaceOfPrefix();
-            Iterator<OMNamespace> namespaceIterator = ((OMElement) this.bXmlItem.omNode).getAllDeclaredNamespaces();
+            Iterator<OMNamespace> namespaceIterator = ((OMElement) this.bXmlItem.value()).getAllDeclaredNamespaces();
             while (namespaceIterator.hasNext()) {
                 OMNamespace namespace = namespaceIterator.next();
                 String prefix = namespace.getPrefix();
@@ -1122,7 +1322,7 @@ public final class XMLItem extends XMLValue<OMNode> {
                 keys.add(new SimpleEntry<>(namespaceOfPrefix + prefix, namespace.getNamespaceURI()));
             }
 
-            Iterator<OMAttribute> attrIterator = ((OMElement) this.bXmlItem.omNode).getAllAttributes();
+            Iterator<OMAttribute> attrIterator = ((OMElement) this.bXmlItem.value()).getAllAttributes();
             while (attrIterator.hasNext()) {
                 OMAttribute attr = attrIterator.next();
                 keys.add(new SimpleEntry<>(attr.getQName().toString(), attr.getAttributeValue()));
@@ -1133,7 +1333,7 @@ public final class XMLItem extends XMLValue<OMNode> {
 
         // private methods
         private String getNamespaceOfPrefix() {
-            OMNamespace defaultNs = ((OMElement) this.bXmlItem.omNode).getDefaultNamespace();
+            OMNamespace defaultNs = ((OMElement) this.bXmlItem.value()).getDefaultNamespace();
             String namespaceOfPrefix =
                     '{' + (defaultNs == null ? XMLConstants.XMLNS_ATTRIBUTE_NS_URI : defaultNs.getNamespaceURI()) + '}';
             return namespaceOfPrefix;
@@ -16,9 +16,6 @@
 
 package org.ballerinalang.jvm.values;
 
-import org.apache.axiom.om.OMElement;
-import org.apache.axiom.om.OMNode;
-import org.apache.axiom.om.OMText;
 import org.ballerinalang.jvm.BallerinaErrors;
 import org.ballerinalang.jvm.XMLNodeType;
 import org.ballerinalang.jvm.types.BArrayType;
@@ -34,7 +31,6 @@ import org.ballerinalang.jvm.values.freeze.Status;
 import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 
@@ -242,10 +238,7 @@ public final class XMLSequence extends XMLValue<ArrayValue> {
                 continue;
             }
 
-            Iterator<OMNode> childrenItr = ((OMElement) element.value()).getChildren();
-            while (childrenItr.hasNext()) {
-                elementsSeq.add(index++, new XMLItem(childrenItr.next()));
-            }
+            index = element.appendChildren(elementsSeq, index, null, false);
         }
 
         return new XMLSequence(elementsSeq);
@@ -266,11 +259,7 @@ public final class XMLSequence extends XMLValue<ArrayValue> {
                 continue;
             }
 
-            Iterator<OMNode> childrenItr = ((OMElement) element.value()).getChildrenWithName(name);
-            while (childrenItr.hasNext()) {
-                OMNode child = childrenItr.next();
-                elementsSeq.add(index++, new XMLItem(child));
-            }
+            index = element.appendChildren(elementsSeq, index, name, true);
         }
         return new XMLSequence(elementsSeq);
     }
@@ -336,8 +325,7 @@ public final class XMLSequence extends XMLValue<ArrayValue> {
         int j = 0;
         for (int i = 0; i < sequence.size(); i++) {
             XMLItem element = (XMLItem) sequence.getRefValue(i);
-            if (element.value() == null || (element.getNodeType() == XMLNodeType.TEXT &&
-                    ((OMText) element.value()).getText().trim().isEmpty())) {
+            if (element.isEmptyOrWhitespace()) {
                 continue;
             }
             elementsSeq.add(j++, element);
@@ -390,7 +378,7 @@ public final class XMLSequence extends XMLValue<ArrayValue> {
             XMLItem element = (XMLItem) sequence.getRefValue(i);
             switch (element.getNodeType()) {
                 case ELEMENT:
-                    addDescendants(descendants, (OMElement) element.value(), getQname(qname).toString());
+                    element.addDescendants(descendants, getQname(qname).toString());
                     break;
                 default:
                     break;
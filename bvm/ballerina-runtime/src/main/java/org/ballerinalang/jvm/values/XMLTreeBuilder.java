@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.jvm.values;
+
+import org.apache.axiom.ext.stax.DTDReader;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.XMLTreeNode.Container;
+import org.ballerinalang.jvm.values.XMLTreeNode.Document;
+import org.ballerinalang.jvm.values.XMLTreeNode.Element;
+import org.ballerinalang.jvm.values.XMLTreeNode.Name;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+/**
+ * Builds XML values backed by {@link XMLTreeNode}s, from the events of a {@link XMLStreamReader}. The whole document is
+ * read, one node is created per event, element names are interned, and short texts and attribute values are shared.
+ *
+ * @since 1.2.0
+ */
+public class XMLTreeBuilder {
+
+    // Texts and attribute values up to this length are shared within a document, since they often repeat
+    private static final int MAX_SHARED_STRING_LENGTH = 32;
+    private static final XMLTreeNode[] NO_CHILDREN = new XMLTreeNode[0];
+
+    private final XMLStreamReader reader;
+    private final Map<String, Name> names = new HashMap<>();
+    private final Map<String, String> strings = new HashMap<>();
+
+    // Children of the open containers, with the index of the first child of each open container
+    private XMLTreeNode[] nodes = new XMLTreeNode[64];
+    private int nodeCount;
+    private Container[] containers = new Container[16];
+    private int[] firstChildren = new int[16];
+    private int depth;
+
+    private XMLTreeBuilder(XMLStreamReader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Create a XML sequence of the top level nodes of a document.
+     *
+     * @param reader reader of the document
+     * @return XML sequence
+     * @throws XMLStreamException if the document is not well formed, or cannot be read
+     */
+    public static XMLValue<?> parseSequence(XMLStreamReader reader) throws XMLStreamException {
+        Document document = new XMLTreeBuilder(reader).build();
+        ArrayValue elementsSeq = new ArrayValueImpl(new BArrayType(BTypes.typeXML));
+        for (int i = 0; i < document.children.length; i++) {
+            elementsSeq.add(i, new XMLItem(document.children[i]));
+        }
+        return new XMLSequence(elementsSeq);
+    }
+
+    /**
+     * Create a XML element from the root element of a document.
+     *
+     * @param reader reader of the document
+     * @return XML element
+     * @throws XMLStreamException if the document is not well formed, or cannot be read
+     */
+    public static XMLValue<?> parseDocumentElement(XMLStreamReader reader) throws XMLStreamException {
+        Document document = new XMLTreeBuilder(reader).build();
+        for (XMLTreeNode child : document.children) {
+            if (child instanceof Element) {
+                return new XMLItem(child);
+            }
+        }
+        throw new XMLStreamException("no root element");
+    }
+
+    /**
+     * Create a XML item from the only child of the root element of a document. The item is moved to a document of
+     * its own.
+     *
+     * @param reader reader of the document
+     * @return XML item, or null if the root element does not have exactly one child
+     * @throws XMLStreamException if the document is not well formed, or cannot be read
+     */
+    public static XMLValue<?> parseEnclosedItem(XMLStreamReader reader) throws XMLStreamException {
+        Document document = new XMLTreeBuilder(reader).build();
+        XMLTreeNode root = null;
+        for (XMLTreeNode child : document.children) {
+            if (child instanceof Element) {
+                root = child;
+            }
+        }
+        if (root == null || ((Element) root).children.length != 1) {
+            return null;
+        }
+
+        XMLTreeNode item = ((Element) root).children[0];
+        Document itemDocument = new Document();
+        itemDocument.children = new XMLTreeNode[] {item};
+        item.parent = itemDocument;
+        return new XMLItem(item);
+    }
+
+    private Document build() throws XMLStreamException {
+        Document document = new Document();
+        document.xmlVersion = reader.getVersion();
+        document.xmlEncoding = reader.getCharacterEncodingScheme();
+        document.charsetEncoding = reader.getEncoding();
+        document.standalone = reader.standaloneSet() && reader.isStandalone();
+        open(document);
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT:
+                    open(createElement());
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    close();
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.SPACE:
+                    add(new XMLTreeNode.Text(event, share(reader.getText())));
+                    break;
+                case XMLStreamConstants.CDATA:
+                    add(new XMLTreeNode.Text(event, reader.getText()));
+                    break;
+                case XMLStreamConstants.COMMENT:
+                    add(new XMLTreeNode.Comment(reader.getText()));
+                    break;
+                case XMLStreamConstants.PROCESSING_INSTRUCTION:
+                    String data = reader.getPIData();
+                    add(new XMLTreeNode.ProcessingInstruction(reader.getPITarget(), data == null ? "" : data));
+                    break;
+                case XMLStreamConstants.DTD:
+                    add(createDocType());
+                    break;
+                case XMLStreamConstants.END_DOCUMENT:
+                    break;
+                default:
+                    throw new XMLStreamException("unexpected event: " + event, reader.getLocation());
+            }
+        }
+        reader.close();
+
+        close();
+        return document;
+    }
+
+    private Element createElement() {
+        int namespaceCount = reader.getNamespaceCount();
+        String[] namespaces = null;
+        if (namespaceCount > 0) {
+            namespaces = new String[namespaceCount * 2];
+            for (int i = 0; i < namespaceCount; i++) {
+                namespaces[i * 2] = nonNull(reader.getNamespacePrefix(i));
+                namespaces[i * 2 + 1] = nonNull(reader.getNamespaceURI(i));
+            }
+        }
+
+        int attributeCount = reader.getAttributeCount();
+        Name[] attributeNames = null;
+        String[] attributeValues = null;
+        if (attributeCount > 0) {
+            attributeNames = new Name[attributeCount];
+            attributeValues = new String[attributeCount];
+            for (int i = 0; i < attributeCount; i++) {
+                attributeNames[i] = getName(reader.getAttributeNamespace(i), reader.getAttributeLocalName(i),
+                                            reader.getAttributePrefix(i));
+                attributeValues[i] = share(reader.getAttributeValue(i));
+            }
+        }
+
+        Name name = getName(reader.getNamespaceURI(), reader.getLocalName(), reader.getPrefix());
+        return new Element(name, namespaces, attributeNames, attributeValues);
+    }
+
+    private XMLTreeNode createDocType() {
+        DTDReader dtdReader = (DTDReader) reader.getProperty(DTDReader.PROPERTY);
+        return new XMLTreeNode.DocType(dtdReader.getRootName(), dtdReader.getPublicId(), dtdReader.getSystemId(),
+                                       reader.getText());
+    }
+
+    private Name getName(String uri, String localName, String prefix) {
+        uri = nonNull(uri);
+        prefix = nonNull(prefix);
+        // Most documents use a local name with a single namespace, so only the last name is kept per local name
+        Name name = names.get(localName);
+        if (name == null || !name.matches(uri, localName, prefix)) {
+            name = Name.of(uri, localName, prefix);
+            names.put(localName, name);
+        }
+        return name;
+    }
+
+    private String share(String text) {
+        if (text.length() > MAX_SHARED_STRING_LENGTH) {
+            return text;
+        }
+        String shared = strings.putIfAbsent(text, text);
+        return shared == null ? text : shared;
+    }
+
+    private void add(XMLTreeNode node) {
+        if (nodeCount == nodes.length) {
+            XMLTreeNode[] newNodes = new XMLTreeNode[nodeCount * 2];
+            System.arraycopy(nodes, 0, newNodes, 0, nodeCount);
+            nodes = newNodes;
+        }
+        nodes[nodeCount++] = node;
+    }
+
+    private void open(Container container) {
+        if (depth > 0) {
+            add(container);
+        }
+        if (depth == containers.length) {
+            Container[] newContainers = new Container[depth * 2];
+            System.arraycopy(containers, 0, newContainers, 0, depth);
+            containers = newContainers;
+            int[] newFirstChildren = new int[depth * 2];
+            System.arraycopy(firstChildren, 0, newFirstChildren, 0, depth);
+            firstChildren = newFirstChildren;
+        }
+        containers[depth] = container;
+        firstChildren[depth] = nodeCount;
+        depth++;
+    }
+
+    private void close() {
+        depth--;
+        Container container = containers[depth];
+        int first = firstChildren[depth];
+        XMLTreeNode[] children = nodeCount == first ? NO_CHILDREN : new XMLTreeNode[nodeCount - first];
+        for (int i = 0; i < children.length; i++) {
+            XMLTreeNode child = nodes[first + i];
+            child.parent = container;
+            children[i] = child;
+            nodes[first + i] = null;
+        }
+        container.children = children;
+        containers[depth] = null;
+        nodeCount = first;
+    }
+
+    private static String nonNull(String value) {
+        return value == null ? XMLConstants.NULL_NS_URI : value;
+    }
+}
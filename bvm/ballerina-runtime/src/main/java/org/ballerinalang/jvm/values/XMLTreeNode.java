@@ -0,0 +1,560 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.ballerinalang.jvm.values;
+
+import org.apache.axiom.om.OMAbstractFactory;
+import org.apache.axiom.om.OMContainer;
+import org.apache.axiom.om.OMDocument;
+import org.apache.axiom.om.OMElement;
+import org.apache.axiom.om.OMFactory;
+import org.apache.axiom.om.OMNamespace;
+import org.apache.axiom.om.OMNode;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamConstants;
+
+/**
+ * A compact, read-only XML node, built by {@link XMLTreeBuilder}. Element names are interned, and the children and
+ * attributes of an element are kept in arrays.
+ * <p>
+ * An {@link XMLItem} is backed by a node of this tree until an operation requires the Axiom object model (a mutation,
+ * for example). Then the whole document is materialized once, into an equivalent Axiom tree, and the items of that
+ * document continue with the Axiom nodes.
+ *
+ * @since 1.2.0
+ */
+abstract class XMLTreeNode {
+
+    private static final OMFactory OM_FACTORY = OMAbstractFactory.getOMFactory();
+
+    Container parent;
+
+    // The Axiom node of this node, once the document is materialized
+    OMNode omNode;
+
+    /**
+     * Get the type of the node, as one of the node type constants defined in {@link OMNode}.
+     *
+     * @return type of the node
+     */
+    abstract int getType();
+
+    abstract void materialize(OMFactory factory, OMContainer parent);
+
+    abstract void serialize(StringBuilder sb, NamespaceScope scope);
+
+    Document getDocument() {
+        XMLTreeNode node = this;
+        while (node.parent != null) {
+            node = node.parent;
+        }
+        return (Document) node;
+    }
+
+    /**
+     * Get the Axiom node equivalent to this node, materializing the document if it is not already materialized.
+     *
+     * @return Axiom node of this node
+     */
+    OMNode toOMNode() {
+        getDocument().materialize();
+        return omNode;
+    }
+
+    /**
+     * A node which has child nodes.
+     */
+    abstract static class Container extends XMLTreeNode {
+
+        XMLTreeNode[] children;
+    }
+
+    /**
+     * The root of a tree. Unlike a document in the XML recommendation, the children of a document built from a
+     * fragment can be any XML item.
+     */
+    static final class Document extends Container {
+
+        String xmlVersion;
+        String xmlEncoding;
+        String charsetEncoding;
+        boolean standalone;
+
+        private volatile boolean materialized;
+
+        @Override
+        int getType() {
+            return XMLStreamConstants.START_DOCUMENT;
+        }
+
+        boolean isMaterialized() {
+            return materialized;
+        }
+
+        void materialize() {
+            if (materialized) {
+                return;
+            }
+            synchronized (this) {
+                if (!materialized) {
+                    materialize(OM_FACTORY, null);
+                    materialized = true;
+                }
+            }
+        }
+
+        @Override
+        void materialize(OMFactory factory, OMContainer parent) {
+            OMDocument document = factory.createOMDocument();
+            if (xmlVersion != null) {
+                document.setXMLVersion(xmlVersion);
+            }
+            document.setXMLEncoding(xmlEncoding);
+            document.setCharsetEncoding(charsetEncoding);
+            if (standalone) {
+                document.setStandalone("yes");
+            }
+            for (XMLTreeNode child : children) {
+                child.materialize(factory, document);
+            }
+        }
+
+        @Override
+        void serialize(StringBuilder sb, NamespaceScope scope) {
+            for (XMLTreeNode child : children) {
+                child.serialize(sb, scope);
+            }
+        }
+    }
+
+    /**
+     * An XML element.
+     */
+    static final class Element extends Container {
+
+        final Name name;
+        // Declared namespaces, as prefix and URI pairs
+        final String[] namespaces;
+        final Name[] attributeNames;
+        final String[] attributeValues;
+
+        Element(Name name, String[] namespaces, Name[] attributeNames, String[] attributeValues) {
+            this.name = name;
+            this.namespaces = namespaces;
+            this.attributeNames = attributeNames;
+            this.attributeValues = attributeValues;
+        }
+
+        @Override
+        int getType() {
+            return OMNode.ELEMENT_NODE;
+        }
+
+        String getAttribute(String localName, String namespaceUri) {
+            if (attributeNames == null) {
+                return null;
+            }
+            String uri = namespaceUri == null ? XMLConstants.NULL_NS_URI : namespaceUri;
+            for (int i = 0; i < attributeNames.length; i++) {
+                Name attributeName = attributeNames[i];
+                if (attributeName.localName.equals(localName) && attributeName.uri.equals(uri)) {
+                    return attributeValues[i];
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Find the namespace URI bound to a prefix, in the namespaces declared by this element and its ancestors.
+         *
+         * @param prefix namespace prefix
+         * @return namespace URI, or null if the prefix is not bound
+         */
+        String findNamespaceURI(String prefix) {
+            for (Container node = this; node instanceof Element; node = node.parent) {
+                String[] declared = ((Element) node).namespaces;
+                if (declared == null) {
+                    continue;
+                }
+                for (int i = 0; i < declared.length; i += 2) {
+                    if (declared[i].equals(prefix)) {
+                        return declared[i + 1];
+                    }
+                }
+            }
+            return null;
+        }
+
+        @Override
+        void materialize(OMFactory factory, OMContainer parent) {
+            // The element is created detached, so that Axiom does not declare namespaces of its own. The namespace is
+            // set before declaring the namespaces, since a default namespace cannot be declared on an element without
+            // a namespace.
+            OMElement element = factory.createOMElement(name.localName, null);
+            if (!name.uri.isEmpty() || !name.prefix.isEmpty()) {
+                element.setNamespace(factory.createOMNamespace(name.uri, name.prefix), false);
+            }
+            if (namespaces != null) {
+                for (int i = 0; i < namespaces.length; i += 2) {
+                    if (namespaces[i].isEmpty()) {
+                        element.declareDefaultNamespace(namespaces[i + 1]);
+                    } else {
+                        element.declareNamespace(namespaces[i + 1], namespaces[i]);
+                    }
+                }
+            }
+            parent.addChild(element);
+            if (attributeNames != null) {
+                for (int i = 0; i < attributeNames.length; i++) {
+                    Name attributeName = attributeNames[i];
+                    OMNamespace ns = attributeName.uri.isEmpty() ? null : findNamespace(element, attributeName);
+                    element.addAttribute(attributeName.localName, attributeValues[i], ns);
+                }
+            }
+            omNode = element;
+            for (XMLTreeNode child : children) {
+                child.materialize(factory, element);
+            }
+        }
+
+        private static OMNamespace findNamespace(OMElement element, Name name) {
+            OMNamespace ns = element.findNamespace(name.uri, name.prefix);
+            return ns != null ? ns : OM_FACTORY.createOMNamespace(name.uri, name.prefix);
+        }
+
+        @Override
+        void serialize(StringBuilder sb, NamespaceScope scope) {
+            int mark = scope.size();
+            sb.append('<');
+            name.appendPrefixed(sb);
+            // Same order as Axiom: the namespace of the element, the other declared namespaces, and then the
+            // namespaces of the attributes
+            if (!scope.isBound(name.prefix, name.uri)) {
+                declare(sb, scope, name.prefix, name.uri);
+            }
+            if (namespaces != null) {
+                for (int i = 0; i < namespaces.length; i += 2) {
+                    if (!scope.isBound(namespaces[i], namespaces[i + 1])) {
+                        declare(sb, scope, namespaces[i], namespaces[i + 1]);
+                    }
+                }
+            }
+            if (attributeNames != null) {
+                for (Name attributeName : attributeNames) {
+                    if (!attributeName.prefix.isEmpty() && !scope.isBound(attributeName.prefix, attributeName.uri)) {
+                        declare(sb, scope, attributeName.prefix, attributeName.uri);
+                    }
+                }
+                for (int i = 0; i < attributeNames.length; i++) {
+                    sb.append(' ');
+                    attributeNames[i].appendPrefixed(sb);
+                    sb.append("=\"");
+                    appendEscaped(sb, attributeValues[i], true);
+                    sb.append('"');
+                }
+            }
+
+            if (children.length == 0) {
+                sb.append("/>");
+            } else {
+                sb.append('>');
+                for (XMLTreeNode child : children) {
+                    child.serialize(sb, scope);
+                }
+                sb.append("</");
+                name.appendPrefixed(sb);
+                sb.append('>');
+            }
+            scope.reset(mark);
+        }
+
+        private static void declare(StringBuilder sb, NamespaceScope scope, String prefix, String uri) {
+            if (XMLConstants.XML_NS_PREFIX.equals(prefix)) {
+                return;
+            }
+            scope.bind(prefix, uri);
+            sb.append(prefix.isEmpty() ? " xmlns" : " xmlns:").append(prefix).append("=\"");
+            appendEscaped(sb, uri, true);
+            sb.append('"');
+        }
+    }
+
+    /**
+     * An XML text, CDATA section or white space.
+     */
+    static final class Text extends XMLTreeNode {
+
+        final int type;
+        final String text;
+
+        Text(int type, String text) {
+            this.type = type;
+            this.text = text;
+        }
+
+        @Override
+        int getType() {
+            return type;
+        }
+
+        @Override
+        void materialize(OMFactory factory, OMContainer parent) {
+            omNode = factory.createOMText(parent, text, type);
+        }
+
+        @Override
+        void serialize(StringBuilder sb, NamespaceScope scope) {
+            if (type == OMNode.CDATA_SECTION_NODE) {
+                sb.append("<![CDATA[").append(text).append("]]>");
+            } else {
+                appendEscaped(sb, text, false);
+            }
+        }
+    }
+
+    /**
+     * An XML comment.
+     */
+    static final class Comment extends XMLTreeNode {
+
+        final String value;
+
+        Comment(String value) {
+            this.value = value;
+        }
+
+        @Override
+        int getType() {
+            return OMNode.COMMENT_NODE;
+        }
+
+        @Override
+        void materialize(OMFactory factory, OMContainer parent) {
+            omNode = factory.createOMComment(parent, value);
+        }
+
+        @Override
+        void serialize(StringBuilder sb, NamespaceScope scope) {
+            sb.append(XMLValue.COMMENT_START).append(value).append(XMLValue.COMMENT_END);
+        }
+    }
+
+    /**
+     * An XML processing instruction.
+     */
+    static final class ProcessingInstruction extends XMLTreeNode {
+
+        final String target;
+        final String data;
+
+        ProcessingInstruction(String target, String data) {
+            this.target = target;
+            this.data = data;
+        }
+
+        @Override
+        int getType() {
+            return OMNode.PI_NODE;
+        }
+
+        @Override
+        void materialize(OMFactory factory, OMContainer parent) {
+            omNode = factory.createOMProcessingInstruction(parent, target, data);
+        }
+
+        @Override
+        void serialize(StringBuilder sb, NamespaceScope scope) {
+            // Same as Axiom, which writes a space after the target, and another before the data if there is any
+            sb.append("<?").append(target).append(' ');
+            if (!data.isEmpty()) {
+                sb.append(' ').append(data);
+            }
+            sb.append("?>");
+        }
+    }
+
+    /**
+     * A document type declaration.
+     */
+    static final class DocType extends XMLTreeNode {
+
+        final String rootName;
+        final String publicId;
+        final String systemId;
+        final String internalSubset;
+
+        DocType(String rootName, String publicId, String systemId, String internalSubset) {
+            this.rootName = rootName;
+            this.publicId = publicId;
+            this.systemId = systemId;
+            this.internalSubset = internalSubset;
+        }
+
+        @Override
+        int getType() {
+            return OMNode.DTD_NODE;
+        }
+
+        @Override
+        void materialize(OMFactory factory, OMContainer parent) {
+            omNode = factory.createOMDocType(parent, rootName, publicId, systemId, internalSubset);
+        }
+
+        @Override
+        void serialize(StringBuilder sb, NamespaceScope scope) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * An interned, namespace qualified name of an element or an attribute.
+     */
+    static final class Name {
+
+        // Names shared by all documents. Further names are not pooled once this many are pooled.
+        private static final int MAX_POOLED_NAMES = 4096;
+        private static final ConcurrentHashMap<String, Name> POOL = new ConcurrentHashMap<>();
+
+        final String uri;
+        final String localName;
+        final String prefix;
+        // The name in "{uri}localName" form, as given by QName.toString()
+        final String qname;
+
+        private Name(String uri, String localName, String prefix) {
+            this.uri = uri;
+            this.localName = localName;
+            this.prefix = prefix;
+            this.qname = uri.isEmpty() ? localName : '{' + uri + '}' + localName;
+        }
+
+        static Name of(String uri, String localName, String prefix) {
+            String key = prefix + ':' + localName + '{' + uri;
+            Name name = POOL.get(key);
+            if (name != null) {
+                return name;
+            }
+            name = new Name(uri, localName, prefix);
+            if (POOL.size() < MAX_POOLED_NAMES) {
+                Name pooled = POOL.putIfAbsent(key, name);
+                if (pooled != null) {
+                    return pooled;
+                }
+            }
+            return name;
+        }
+
+        boolean matches(String uri, String localName, String prefix) {
+            return this.localName.equals(localName) && this.uri.equals(uri) && this.prefix.equals(prefix);
+        }
+
+        void appendPrefixed(StringBuilder sb) {
+            if (!prefix.isEmpty()) {
+                sb.append(prefix).append(':');
+            }
+            sb.append(localName);
+        }
+    }
+
+    /**
+     * The namespace bindings written so far by an element being serialized, and its ancestors.
+     */
+    static final class NamespaceScope {
+
+        private String[] bindings = new String[16];
+        private int size;
+
+        int size() {
+            return size;
+        }
+
+        void reset(int size) {
+            this.size = size;
+        }
+
+        void bind(String prefix, String uri) {
+            if (size == bindings.length) {
+                String[] newBindings = new String[size * 2];
+                System.arraycopy(bindings, 0, newBindings, 0, size);
+                bindings = newBindings;
+            }
+            bindings[size++] = prefix;
+            bindings[size++] = uri;
+        }
+
+        boolean isBound(String prefix, String uri) {
+            for (int i = size - 2; i >= 0; i -= 2) {
+                if (bindings[i].equals(prefix)) {
+                    return bindings[i + 1].equals(uri);
+                }
+            }
+            // The default namespace is not bound to a namespace, unless it is declared
+            return prefix.isEmpty() && uri.isEmpty() || XMLConstants.XML_NS_PREFIX.equals(prefix);
+        }
+    }
+
+    /**
+     * Append a text or an attribute value, escaped the same way as Axiom does. A '>' in a text is escaped only when it
+     * ends "]]>", and the white space characters of an attribute value are written as character references, so that
+     * they are not normalized when the value is parsed again.
+     *
+     * @param sb string builder to append to
+     * @param text text or attribute value
+     * @param attribute whether the text is an attribute value
+     */
+    static void appendEscaped(StringBuilder sb, String text, boolean attribute) {
+        int start = 0;
+        int length = text.length();
+        for (int i = 0; i < length; i++) {
+            String replacement;
+            switch (text.charAt(i)) {
+                case '&':
+                    replacement = "&amp;";
+                    break;
+                case '<':
+                    replacement = "&lt;";
+                    break;
+                case '>':
+                    replacement = !attribute && i >= 2 && text.charAt(i - 1) == ']' && text.charAt(i - 2) == ']' ?
+                            "&gt;" : null;
+                    break;
+                case '"':
+                    replacement = attribute ? "&quot;" : null;
+                    break;
+                case '\r':
+                    replacement = "&#xd;";
+                    break;
+                case '\n':
+                    replacement = attribute ? "&#xa;" : null;
+                    break;
+                case '\t':
+                    replacement = attribute ? "&#x9;" : null;
+                    break;
+                default:
+                    replacement = null;
+                    break;
+            }
+            if (replacement != null) {
+                sb.append(text, start, i).append(replacement);
+                start = i + 1;
+            }
+        }
+        sb.append(text, start, length);
+    }
+}
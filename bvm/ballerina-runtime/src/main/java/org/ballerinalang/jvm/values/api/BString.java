@@ -17,6 +17,7 @@
 */
 package org.ballerinalang.jvm.values.api;
 
+import org.ballerinalang.jvm.StringUtils;
 import org.ballerinalang.jvm.values.StringValue;
 
 /**
@@ -34,4 +35,24 @@ public interface BString {
 
     StringValue concat(StringValue str);
 
+    /**
+     * Returns the code points from {@code beginIndex} up to, but not including, {@code endIndex}. Implementations
+     * are expected to override this; the default builds the result code point by code point.
+     *
+     * @param beginIndex index of the first code point
+     * @param endIndex   index after the last code point
+     * @return the substring
+     */
+    default StringValue substring(int beginIndex, int endIndex) {
+        if (beginIndex < 0 || endIndex > length() || beginIndex > endIndex) {
+            throw new StringIndexOutOfBoundsException("begin " + beginIndex + ", end " + endIndex + ", length " +
+                                                              length());
+        }
+        StringBuilder sb = new StringBuilder(endIndex - beginIndex);
+        for (int i = beginIndex; i < endIndex; i++) {
+            sb.appendCodePoint(getCodePoint(i));
+        }
+        return StringUtils.fromString(sb.toString());
+    }
+
 }
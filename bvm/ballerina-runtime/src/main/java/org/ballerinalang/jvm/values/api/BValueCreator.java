@@ -236,7 +236,10 @@ import java.util.function.Function;
       * @param tableName name of the table
       * @param constraintType structure type of the table
       * @return {@code TableValue}
+      * @deprecated the rows are held by the named table of the table database, use
+      * {@link #createTableValue(BType, ArrayValue, ArrayValue)} to create an in-memory table instead.
       */
+     @Deprecated
      public static BTable createTableValue(String tableName, BStructureType constraintType) {
          return new TableValue(tableName, constraintType);
      }
@@ -278,6 +281,20 @@ import java.util.function.Function;
          return new TableValue(constraintType, keyColumns, dataRows);
      }
 
+     /**
+      * Create a table with given initial values and indexed columns.
+      *
+      * @param constraintType structure type of the table
+      * @param keyColumns column keys of the data set
+      * @param indexColumns columns to be indexed for table queries
+      * @param dataRows initial daya set
+      * @return {@code TableValue} with initial data
+      */
+     public static BTable createTableValue(BType constraintType, ArrayValue keyColumns, ArrayValue indexColumns,
+                                           ArrayValue dataRows) {
+         return new TableValue(constraintType, keyColumns, indexColumns, dataRows);
+     }
+
      /**
       * Create a type descriptor value.
       *
@@ -0,0 +1,90 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.BLock;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.State;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BTypes;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.function.Function;
+
+/**
+ * Test cases for {@link BLock}.
+ */
+public class BLockTests {
+
+    private static final int STRANDS = 500;
+    private static final Object HOLDING_LOCK = new Object();
+
+    private int counter;
+
+    @Test
+    public void testReentrantLock() {
+        BLock lock = new BLock();
+        Strand strand = new Strand(new Scheduler(1, false));
+        Strand other = new Strand(new Scheduler(1, false));
+
+        Assert.assertTrue(lock.lock(strand));
+        Assert.assertTrue(lock.lock(strand));
+        lock.unlock();
+        Assert.assertTrue(lock.lock(strand));
+        lock.unlock();
+        lock.unlock();
+
+        Assert.assertTrue(lock.lock(other));
+        Assert.assertEquals(other.getState(), State.RUNNABLE);
+        lock.unlock();
+    }
+
+    @Test
+    public void testContendedLockHandsOverToWaitingStrands() {
+        Scheduler scheduler = new Scheduler(4, false);
+        BLock lock = new BLock();
+        counter = 0;
+
+        // Mimics the code generated for a lock statement, yielding while holding the lock to force contention.
+        Function<Object[], Object> function = params -> {
+            Strand strand = (Strand) params[0];
+            if (strand.resumeIndex > 0) {
+                strand.popFrame();
+                lock.unlock();
+                return null;
+            }
+            if (!lock.lock(strand)) {
+                // resumed by unlock(), the lock statement is executed again
+                return null;
+            }
+            int value = counter;
+            counter = value + 1;
+            strand.pushFrame(HOLDING_LOCK);
+            strand.setState(State.YIELD);
+            return null;
+        };
+        for (int i = 0; i < STRANDS; i++) {
+            scheduler.schedule(new Object[1], function, null, null, null, BTypes.typeNull);
+        }
+
+        scheduler.start();
+        Assert.assertEquals(counter, STRANDS);
+    }
+}
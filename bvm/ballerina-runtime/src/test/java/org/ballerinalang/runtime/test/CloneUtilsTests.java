@@ -0,0 +1,96 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.BallerinaValues;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.CloneUtils;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Test cases for {@link CloneUtils}.
+ */
+public class CloneUtilsTests {
+
+    @Test
+    public void testCloneFrozenValue() {
+        ArrayValue array = new ArrayValueImpl(new long[] {1, 2, 3});
+        array.freezeDirect();
+        Assert.assertSame(CloneUtils.cloneValue(array), array);
+    }
+
+    @Test
+    public void testCloneArrayIsCopiedOnWrite() {
+        ArrayValue array = new ArrayValueImpl(new long[] {1, 2, 3});
+        ArrayValue clone = (ArrayValue) CloneUtils.cloneValue(array);
+        ArrayValue secondClone = (ArrayValue) CloneUtils.cloneValue(array);
+
+        clone.add(0, 10L);
+        array.add(1, 20L);
+        array.append(4L);
+        Assert.assertEquals(array.stringValue(), "1 20 3 4");
+        Assert.assertEquals(clone.stringValue(), "10 2 3");
+        Assert.assertEquals(secondClone.stringValue(), "1 2 3");
+
+        secondClone.shift();
+        Assert.assertEquals(secondClone.stringValue(), "2 3");
+        Assert.assertEquals(array.stringValue(), "1 20 3 4");
+    }
+
+    @Test
+    public void testCloneNestedArray() {
+        ArrayValue inner = new ArrayValueImpl(new String[] {"a", "b"});
+        ArrayValue outer = new ArrayValueImpl(new BArrayType(new BArrayType(BTypes.typeString)));
+        outer.append(inner);
+        outer.append(inner);
+
+        ArrayValue clone = (ArrayValue) CloneUtils.cloneValue(outer);
+        ArrayValue clonedInner = (ArrayValue) clone.getRefValue(0);
+        Assert.assertNotSame(clonedInner, inner);
+        Assert.assertSame(clone.getRefValue(1), clonedInner);
+
+        clonedInner.add(0, "c");
+        Assert.assertEquals(inner.stringValue(), "a b");
+        Assert.assertEquals(clone.getRefValue(1).toString(), "c b");
+    }
+
+    @Test
+    public void testCloneMapIsCopiedOnWrite() {
+        MapValueImpl<String, Object> map = BallerinaValues.createMapValue(new BMapType(BTypes.typeInt));
+        map.put("a", 1L);
+        map.put("b", 2L);
+        MapValueImpl<?, ?> clone = (MapValueImpl<?, ?>) CloneUtils.cloneValue(map);
+
+        map.put("a", 10L);
+        map.remove("b");
+        map.put("c", 3L);
+        Assert.assertEquals(map.stringValue(), "a=10 c=3");
+        Assert.assertEquals(clone.stringValue(), "a=1 b=2");
+
+        ((MapValueImpl<String, Object>) clone).put("d", 4L);
+        Assert.assertEquals(clone.stringValue(), "a=1 b=2 d=4");
+        Assert.assertEquals(map.stringValue(), "a=10 c=3");
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.JSONArrayReader;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.NoSuchElementException;
+
+/**
+ * Test cases for {@link JSONArrayReader}.
+ */
+public class JSONArrayReaderTests {
+
+    @Test
+    public void testReadElements() {
+        JSONArrayReader reader = new JSONArrayReader(new StringReader(
+                " [ {\"name\":\"a, [b]\", \"tags\":[1, 2]},\n\"c\\\"]\", 3.5, null, [[]], {'d':'}'} ]\n"));
+        Assert.assertTrue(reader.hasNext());
+        MapValueImpl<?, ?> first = (MapValueImpl<?, ?>) reader.next();
+        Assert.assertEquals(first.get("name"), "a, [b]");
+        Assert.assertEquals(((ArrayValue) first.get("tags")).size(), 2);
+        Assert.assertEquals(reader.next(), "c\"]");
+        Assert.assertEquals(reader.next(), 3.5);
+        Assert.assertTrue(reader.hasNext());
+        Assert.assertNull(reader.next());
+        Assert.assertEquals(((ArrayValue) reader.next()).size(), 1);
+        Assert.assertEquals(((MapValueImpl<?, ?>) reader.next()).get("d"), "}");
+        Assert.assertFalse(reader.hasNext());
+    }
+
+    @Test(expectedExceptions = NoSuchElementException.class)
+    public void testReadEmptyArray() {
+        JSONArrayReader reader = new JSONArrayReader(new StringReader("[ ]"));
+        Assert.assertFalse(reader.hasNext());
+        reader.next();
+    }
+
+    @Test
+    public void testReadLargeArray() {
+        // Elements are produced on demand, so the document is never held in memory
+        int elementCount = 200000;
+        Reader source = new Reader() {
+            private int element = -1;
+            private String pending = "[";
+
+            @Override
+            public int read(char[] cbuf, int off, int len) {
+                if (pending.isEmpty()) {
+                    if (element >= elementCount) {
+                        return -1;
+                    }
+                    element++;
+                    pending = element == elementCount ? "]" : (element == 0 ? "" : ",") + "{\"id\":" + element +
+                            ", \"payload\":\"" + new String(new char[100]).replace('\0', 'x') + "\"}";
+                }
+                int count = Math.min(len, pending.length());
+                pending.getChars(0, count, cbuf, off);
+                pending = pending.substring(count);
+                return count;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+
+        JSONArrayReader reader = new JSONArrayReader(source);
+        long sum = 0;
+        int count = 0;
+        while (reader.hasNext()) {
+            sum += (Long) ((MapValueImpl<?, ?>) reader.next()).get("id");
+            count++;
+        }
+        Assert.assertEquals(count, elementCount);
+        Assert.assertEquals(sum, (long) elementCount * (elementCount - 1) / 2);
+    }
+
+    @Test(expectedExceptions = BallerinaException.class,
+            expectedExceptionsMessageRegExp = "expected \\[ at line: 1 column: 1")
+    public void testReadNonArray() {
+        new JSONArrayReader(new StringReader("{}")).hasNext();
+    }
+
+    @Test
+    public void testReadInvalidElement() {
+        JSONArrayReader reader = new JSONArrayReader(new StringReader("[1,\n  {\"a\" 1}, , 2"));
+        Assert.assertEquals(reader.next(), 1L);
+        assertError(reader, "invalid array element at line: 2 column: 3: expected : at line: 1 column: 6");
+        assertError(reader, "invalid array element at line: 2 column: 12: expected a JSON value");
+        assertError(reader, "unexpected end of JSON document at line: 2 column: 14");
+        Assert.assertFalse(reader.hasNext());
+    }
+
+    @Test(expectedExceptions = BallerinaException.class,
+            expectedExceptionsMessageRegExp = "JSON document has already ended at line: 1 column: 5")
+    public void testReadTrailingContent() {
+        JSONArrayReader reader = new JSONArrayReader(new StringReader("[1] 2"));
+        reader.next();
+    }
+
+    private static void assertError(JSONArrayReader reader, String message) {
+        try {
+            reader.next();
+            Assert.fail("expected an error");
+        } catch (BallerinaException e) {
+            Assert.assertEquals(e.getMessage(), message);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.JSONGenerator;
+import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for generating UTF-8 encoded JSON with {@link JSONGenerator}.
+ */
+public class JSONGeneratorTests {
+
+    @DataProvider(name = "documents")
+    public Object[][] documents() {
+        String longName = new String(new char[100]).replace('\0', 'n');
+        String longValue = new String(new char[20000]).replace("\0", "x\u00e9\uD83D\uDE00");
+        return new Object[][] {
+                {"{\"name\":\"Mary\", \"age\":30, \"height\":1.68, \"married\":true, \"spouse\":null}"},
+                {"[1, -2, 3.5, 1.0e3, false, \"\", [], {}, [[null]]]"},
+                {"{\"escaped\":\"\\\"\\\\\\/\\b\\f\\n\\r\\t\", \"slash\":\"a/b\", \"both\":\"a/b\\n\"}"},
+                {"{\"unicode\":\"caf\u00e9 \u0dc3\u0dd2\u0d82\u0dc4\u0dbd \uD83D\uDE00\", \"\u00e9\\n\":1}"},
+                {"{\"" + longName + "\":\"" + longValue + "\", \"" + longName + "\\t\":[\"" + longValue + "\"]}"},
+                {"\"top level string\""},
+        };
+    }
+
+    @Test(dataProvider = "documents")
+    public void testGenerateBytes(String json) throws IOException {
+        Object value = JSONParser.parse(json);
+        Assert.assertEquals(generateBytes(value), generateString(value).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testGenerateUnpairedSurrogates() throws IOException {
+        Object value = JSONParser.parse("[\"a\\uD83Db\", \"\\uDE00\", \"\\uD83D\"]");
+        Assert.assertEquals(new String(generateBytes(value), StandardCharsets.UTF_8), "[\"a?b\", \"?\", \"?\"]");
+    }
+
+    @Test
+    public void testGenerateRecord() throws IOException {
+        BRecordType addressType = createRecordType("Address", "city", BTypes.typeString);
+        BRecordType personType = createRecordType("Person", "name", BTypes.typeString, "address", addressType);
+        MapValueImpl<String, Object> address = new MapValueImpl<>(addressType);
+        address.put("city", "Colombo");
+        MapValueImpl<String, Object> person = new MapValueImpl<>(personType);
+        person.put("name", "Mary \"M\"");
+        person.put("address", address);
+        person.put("rest\u00e9", 1L);
+        MapValueImpl<String, Object> json = (MapValueImpl<String, Object>) JSONParser.parse("{\"people\":[]}");
+        json.put("person", person);
+
+        String expected = "{\"people\":[], \"person\":{\"name\":\"Mary \\\"M\\\"\", " +
+                "\"address\":{\"city\":\"Colombo\"}, \"rest\u00e9\":1}}";
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals(new String(generateBytes(json), StandardCharsets.UTF_8), expected);
+            Assert.assertEquals(generateString(json), expected);
+        }
+    }
+
+    @Test
+    public void testStreamIsUtf8Encoded() throws IOException {
+        // Encoded as UTF-8 whatever the default charset of the host is
+        Object value = JSONParser.parse("{\"unicode\":\"caf\u00e9 \uD83D\uDE00\"}");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JSONGenerator gen = new JSONGenerator(out);
+        gen.serialize(value);
+        gen.flush();
+        Assert.assertEquals(out.toByteArray(), generateString(value).getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(((MapValueImpl<?, ?>) value).getJSONString(), generateString(value));
+    }
+
+    private static byte[] generateBytes(Object value) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JSONGenerator gen = new JSONGenerator(out, StandardCharsets.UTF_8);
+        gen.serialize(value);
+        gen.flush();
+        return out.toByteArray();
+    }
+
+    private static String generateString(Object value) throws IOException {
+        StringWriter writer = new StringWriter();
+        JSONGenerator gen = new JSONGenerator(writer);
+        gen.serialize(value);
+        gen.flush();
+        return writer.toString();
+    }
+
+    private static BRecordType createRecordType(String name, Object... fieldNamesAndTypes) {
+        Map<String, BField> fields = new LinkedHashMap<>();
+        for (int i = 0; i < fieldNamesAndTypes.length; i += 2) {
+            String fieldName = (String) fieldNamesAndTypes[i];
+            fields.put(fieldName, new BField((BType) fieldNamesAndTypes[i + 1], fieldName, 0));
+        }
+        return new BRecordType(name, new BPackage(null, null, null), 0, fields, null, false, 0);
+    }
+}
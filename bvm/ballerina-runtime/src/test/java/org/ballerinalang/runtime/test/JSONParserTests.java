@@ -0,0 +1,213 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.JSONUtils;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.util.exceptions.BallerinaException;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for parsing JSON from UTF-8 encoded bytes with {@link JSONParser}.
+ */
+public class JSONParserTests {
+
+    @DataProvider(name = "documents")
+    public Object[][] documents() {
+        return new Object[][] {
+                {"{\"name\":\"Mary\", \"age\":30, \"height\":1.68, \"married\":true, \"spouse\":null}"},
+                {" [1, -2, 3.5, 1.0e3, false, \"\", [], {}, [[null]]] \n"},
+                {"{\"a\":{\"b\":{\"c\":[{\"d\":\"e\"}]}}, \"a\":\"duplicate\"}"},
+                {"\"top level string\""},
+                {"9223372036854775807"},
+                {"-9223372036854775808"},
+                {"+15"},
+                {"null"},
+                {"{\"escaped\":\"\\\"\\\\\\/\\b\\f\\n\\r\\t\\u00e9\\uD83D\\uDE00\"}"},
+                {"{\"unicode\":\"caf\u00e9 \u0dc3\u0dd2\u0d82\u0dc4\u0dbd \uD83D\uDE00\", \"\u00e9\":1}"},
+                {"{\"raw\":\"line\nbreak\ttab\"}"},
+                {"{'single':'quotes'}"},
+                {"[\"mixed', 'quotes\"]"},
+                {"{\"lenient\":1]"},
+                {"[\"" + new String(new char[1000]).replace("\0", "caf\u00e9 \\n") + "\"]"},
+        };
+    }
+
+    @DataProvider(name = "invalidDocuments")
+    public Object[][] invalidDocuments() {
+        return new Object[][] {
+                {""},
+                {"{\"a\":1,}"},
+                {"{\"a\" 1}"},
+                {"[1 2]"},
+                {"[1e5]"},
+                {"[tru]"},
+                {"{\"a\":\"\\x\"}"},
+                {"{\"a\":\"\\u12G4\"}"},
+                {"{\"a\":\"unterminated"},
+                {"{\"a\":1} {}"},
+                {"[01.2.3]"},
+        };
+    }
+
+    @Test(dataProvider = "documents")
+    public void testParseBytes(String json) {
+        Object expected = JSONParser.parse(new StringReader(json));
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        assertSameJSON(JSONParser.parse(bytes), expected);
+        assertSameJSON(JSONParser.parse(ByteBuffer.wrap(bytes)), expected);
+        assertSameJSON(JSONParser.parse(new ByteArrayInputStream(bytes), "UTF-8"), expected);
+        assertSameJSON(JSONParser.parse(json), expected);
+    }
+
+    @Test(dataProvider = "invalidDocuments")
+    public void testParseInvalidBytes(String json) {
+        String expected = getParseError(() -> JSONParser.parse(new StringReader(json)));
+        Assert.assertNotNull(expected);
+        Assert.assertEquals(getParseError(() -> JSONParser.parse(json.getBytes(StandardCharsets.UTF_8))), expected);
+        Assert.assertEquals(getParseError(() -> JSONParser.parse(json)), expected);
+    }
+
+    @Test
+    public void testParseDeepDocument() {
+        StringBuilder json = new StringBuilder();
+        for (int i = 0; i < 5000; i++) {
+            json.append("{\"a\":[");
+        }
+        for (int i = 0; i < 5000; i++) {
+            json.append("]}");
+        }
+        Object value = JSONParser.parse(json.toString().getBytes(StandardCharsets.UTF_8));
+        for (int i = 1; i < 5000; i++) {
+            value = ((ArrayValue) ((MapValueImpl<?, ?>) value).get("a")).get(0);
+        }
+        Assert.assertEquals(((ArrayValue) ((MapValueImpl<?, ?>) value).get("a")).size(), 0);
+    }
+
+    @Test
+    public void testParsedArrayIsUpdatable() {
+        ArrayValue array = (ArrayValue) JSONParser.parse("[1, \"two\"]".getBytes(StandardCharsets.UTF_8));
+        array.append(3L);
+        array.add(0, (Object) "zero");
+        Assert.assertEquals(array.size(), 3);
+        Assert.assertEquals(array.stringValue(), "zero two 3");
+    }
+
+    @Test
+    public void testFieldNamesAreShared() {
+        ArrayValue array = (ArrayValue) JSONParser.parse("[{\"name\":1}, {\"name\":2}]".getBytes(
+                StandardCharsets.UTF_8));
+        String first = ((MapValueImpl<String, ?>) array.get(0)).getKeys()[0];
+        String second = ((MapValueImpl<String, ?>) array.get(1)).getKeys()[0];
+        Assert.assertEquals(first, "name");
+        Assert.assertSame(first, second);
+    }
+
+    @Test
+    public void testParseRecord() {
+        BRecordType addressType = createRecordType("Address", "city", BTypes.typeString, "zip", BTypes.typeInt);
+        BRecordType personType = createRecordType("Person", "name", BTypes.typeString, "age", BTypes.typeInt,
+                                                  "weight", BTypes.typeFloat, "address", addressType,
+                                                  "tags", new BArrayType(BTypes.typeString));
+        String json = "{\"unknown\":{\"x\":[1, \"\\u0041\", {}]}, \"age\":30, \"name\":\"Mary\", " +
+                "\"address\":{\"zip\":10, \"city\":\"Colombo\", \"street\":\"Main\"}, \"tags\":[\"a\", \"b\"]}";
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+        MapValueImpl<String, Object> expected = JSONUtils.convertJSONToRecord(JSONParser.parse(
+                new StringReader(json)), personType);
+        MapValueImpl<String, Object> record = JSONParser.parseRecord(bytes, personType);
+        Assert.assertSame(record.getType(), personType);
+        Assert.assertEquals(record.stringValue(), expected.stringValue());
+        Assert.assertEquals(record.getKeys(), new String[] {"name", "age", "weight", "address", "tags"});
+        Assert.assertEquals(record.get("weight"), 0.0);
+        Assert.assertSame(((MapValueImpl<?, ?>) record.get("address")).getType(), addressType);
+    }
+
+    @Test
+    public void testParseRecordError() {
+        BRecordType personType = createRecordType("Person", "name", BTypes.typeString, "age", BTypes.typeInt);
+        String json = "{\"name\":\"Mary\", \"age\":\"thirty\"}";
+        String expected = getParseError(() -> JSONUtils.convertJSONToRecord(JSONParser.parse(json), personType));
+        Assert.assertNotNull(expected);
+        Assert.assertEquals(getParseError(() -> JSONParser.parseRecord(json.getBytes(StandardCharsets.UTF_8),
+                                                                       personType)), expected);
+    }
+
+    private static void assertSameJSON(Object actual, Object expected) {
+        if (expected == null) {
+            Assert.assertNull(actual);
+            return;
+        }
+        Assert.assertNotNull(actual);
+        Assert.assertEquals(actual.getClass(), expected.getClass());
+        if (expected instanceof MapValueImpl) {
+            MapValueImpl<?, ?> actualMap = (MapValueImpl<?, ?>) actual;
+            MapValueImpl<?, ?> expectedMap = (MapValueImpl<?, ?>) expected;
+            Assert.assertEquals(actualMap.getType(), expectedMap.getType());
+            Assert.assertEquals(actualMap.keySet().toArray(), expectedMap.keySet().toArray());
+            for (Object key : expectedMap.keySet()) {
+                assertSameJSON(actualMap.get(key), expectedMap.get(key));
+            }
+        } else if (expected instanceof ArrayValue) {
+            ArrayValue actualArray = (ArrayValue) actual;
+            ArrayValue expectedArray = (ArrayValue) expected;
+            Assert.assertEquals(actualArray.getType(), expectedArray.getType());
+            Assert.assertEquals(actualArray.size(), expectedArray.size());
+            for (int i = 0; i < expectedArray.size(); i++) {
+                assertSameJSON(actualArray.get(i), expectedArray.get(i));
+            }
+        } else {
+            Assert.assertEquals(actual, expected);
+        }
+    }
+
+    private static String getParseError(Runnable parse) {
+        try {
+            parse.run();
+            return null;
+        } catch (BallerinaException e) {
+            return e.getMessage();
+        }
+    }
+
+    private static BRecordType createRecordType(String name, Object... fieldNamesAndTypes) {
+        Map<String, BField> fields = new LinkedHashMap<>();
+        for (int i = 0; i < fieldNamesAndTypes.length; i += 2) {
+            String fieldName = (String) fieldNamesAndTypes[i];
+            fields.put(fieldName, new BField((BType) fieldNamesAndTypes[i + 1], fieldName, 0));
+        }
+        return new BRecordType(name, new BPackage(null, null, null), 0, fields, null, true, 0);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.BallerinaValues;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.FloatMapValue;
+import org.ballerinalang.jvm.values.IntMapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.PrimitiveMapValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Test cases for {@link PrimitiveMapValue}s.
+ */
+public class PrimitiveMapValueTests {
+
+    @Test
+    public void testCreateMapValue() {
+        Assert.assertTrue(BallerinaValues.createMapValue(new BMapType(BTypes.typeInt)) instanceof IntMapValue);
+        Assert.assertTrue(BallerinaValues.createMapValue(new BMapType(BTypes.typeFloat)) instanceof FloatMapValue);
+        Assert.assertFalse(BallerinaValues.createMapValue(new BMapType(BTypes.typeString)) instanceof
+                PrimitiveMapValue);
+        Assert.assertTrue(new BMapType(BTypes.typeBoolean).getZeroValue() instanceof PrimitiveMapValue);
+    }
+
+    @Test
+    public void testPutGetRemove() {
+        MapValueImpl<String, Object> map = BallerinaValues.createMapValue(new BMapType(BTypes.typeInt));
+        for (long i = 0; i < 100; i++) {
+            Assert.assertNull(map.put("key" + i, i));
+        }
+        Assert.assertEquals(map.put("key5", 50L), 5L);
+        Assert.assertEquals(map.size(), 100);
+        for (long i = 0; i < 100; i += 2) {
+            Assert.assertEquals(map.remove("key" + i), i);
+        }
+        Assert.assertEquals(map.size(), 50);
+        Assert.assertFalse(map.containsKey("key10"));
+        Assert.assertEquals(map.get("key5"), 50L);
+        Assert.assertEquals(map.get("key99"), 99L);
+        Assert.assertNull(map.get("key100"));
+
+        // Removed entries are reused, keeping the insertion order
+        for (long i = 100; i < 200; i++) {
+            map.put("key" + i, i);
+        }
+        Assert.assertEquals(map.size(), 150);
+        Assert.assertEquals(map.getKeys()[0], "key1");
+        Assert.assertEquals(map.getKeys()[149], "key199");
+    }
+
+    @Test
+    public void testInsertionOrder() {
+        MapValueImpl<String, Object> map = BallerinaValues.createMapValue(new BMapType(BTypes.typeFloat));
+        map.put("c", 3.0);
+        map.put("a", 1.0);
+        map.put("b", 2.0);
+        map.remove("a");
+        map.put("a", 4.0);
+        Assert.assertEquals(Arrays.asList(map.getKeys()), Arrays.asList("c", "b", "a"));
+        Assert.assertEquals(map.stringValue(), "c=3.0 b=2.0 a=4.0");
+
+        Iterator<Map.Entry<String, Object>> iterator = map.entrySet().iterator();
+        iterator.next().setValue(5.0);
+        iterator.next();
+        iterator.remove();
+        Assert.assertEquals(map.stringValue(), "c=5.0 a=4.0");
+    }
+
+    @Test
+    public void testBoxedValues() {
+        MapValueImpl<String, Object> map = BallerinaValues.createMapValue(new BMapType(BTypes.typeInt));
+        map.put("a", 1L);
+        map.put("b", null);
+        map.put("c", "text");
+        Assert.assertTrue(map.containsKey("b"));
+        Assert.assertNull(map.get("b"));
+        Assert.assertEquals(map.get("c"), "text");
+        map.put("c", 3L);
+        Assert.assertEquals(map.get("c"), 3L);
+        Assert.assertTrue(map.containsValue(null));
+        Assert.assertEquals(map.stringValue(), "a=1 b= c=3");
+    }
+
+    @Test
+    public void testCopyAndFreeze() {
+        MapValueImpl<String, Object> map = BallerinaValues.createMapValue(new BMapType(BTypes.typeBoolean));
+        map.put("a", true);
+        map.put("b", false);
+        MapValueImpl<?, ?> copy = (MapValueImpl<?, ?>) map.copy(new HashMap<>());
+        Assert.assertTrue(copy instanceof PrimitiveMapValue);
+        map.put("a", false);
+        Assert.assertEquals(copy.get("a"), true);
+
+        map.freezeDirect();
+        Assert.assertSame(map.copy(new HashMap<>()), map);
+        try {
+            map.put("c", true);
+            Assert.fail("frozen map was updated");
+        } catch (ErrorValue e) {
+            Assert.assertFalse(map.containsKey("c"));
+        }
+        Assert.assertEquals(map.size(), 2);
+    }
+}
@@ -0,0 +1,329 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.BLock;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.SchedulerPolicy;
+import org.ballerinalang.jvm.scheduling.State;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.scheduling.WorkerDataChannel;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.FutureValue;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.util.Collections;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test cases for {@link Scheduler} policies.
+ */
+public class SchedulerTests {
+
+    private static final int PARENT_STRANDS = 200;
+    private static final int CHILD_STRANDS = 50;
+
+    @DataProvider(name = "policies")
+    public Object[][] policies() {
+        Object[][] policies = new Object[SchedulerPolicy.values().length][];
+        for (int i = 0; i < policies.length; i++) {
+            policies[i] = new Object[]{SchedulerPolicy.values()[i]};
+        }
+        return policies;
+    }
+
+    @Test(dataProvider = "policies")
+    public void testAllStrandsCompleteBeforeShutdown(SchedulerPolicy policy) {
+        Scheduler scheduler = new Scheduler(4, false, policy);
+        AtomicInteger completed = new AtomicInteger();
+        Function<Object[], Object> child = params -> completed.incrementAndGet();
+        Function<Object[], Object> parent = params -> {
+            Strand strand = (Strand) params[0];
+            for (int i = 0; i < CHILD_STRANDS; i++) {
+                strand.scheduler.schedule(new Object[1], child, strand, null, null, BTypes.typeInt);
+            }
+            return completed.incrementAndGet();
+        };
+        for (int i = 0; i < PARENT_STRANDS; i++) {
+            scheduler.schedule(new Object[1], parent, null, null, null, BTypes.typeInt);
+        }
+
+        // start() returns only after the last strand completes and all the threads consume the poison pill
+        scheduler.start();
+        Assert.assertEquals(completed.get(), PARENT_STRANDS * (CHILD_STRANDS + 1));
+    }
+
+    @Test(dataProvider = "policies")
+    public void testStrandScheduledFromNonSchedulerThread(SchedulerPolicy policy) throws InterruptedException {
+        Scheduler scheduler = new Scheduler(4, true, policy);
+        Thread schedulerThread = new Thread(scheduler::start);
+        schedulerThread.start();
+
+        AtomicInteger completed = new AtomicInteger();
+        Function<Object[], Object> function = params -> completed.incrementAndGet();
+        for (int i = 0; i < PARENT_STRANDS; i++) {
+            scheduler.schedule(new Object[1], function, null, null, null, BTypes.typeInt);
+        }
+        while (completed.get() < PARENT_STRANDS) {
+            Thread.sleep(10);
+        }
+
+        scheduler.poison();
+        schedulerThread.join();
+        Assert.assertEquals(completed.get(), PARENT_STRANDS);
+    }
+
+    @Test(dataProvider = "policies")
+    public void testExecutorShutDownWithScheduler(SchedulerPolicy policy) throws ReflectiveOperationException {
+        Scheduler scheduler = new Scheduler(4, false, policy);
+        AtomicInteger completed = new AtomicInteger();
+        Function<Object[], Object> function = params -> completed.incrementAndGet();
+        for (int i = 0; i < PARENT_STRANDS; i++) {
+            scheduler.schedule(new Object[1], function, null, null, null, BTypes.typeInt);
+        }
+
+        scheduler.start();
+        Assert.assertEquals(completed.get(), PARENT_STRANDS);
+        Field executorField = Scheduler.class.getDeclaredField("virtualThreadExecutor");
+        executorField.setAccessible(true);
+        ExecutorService executor = (ExecutorService) executorField.get(scheduler);
+        if (executor != null) {
+            Assert.assertTrue(executor.isShutdown());
+        }
+        // strands scheduled after the scheduler has stopped are not executed
+        scheduler.schedule(new Object[1], function, null, null, null, BTypes.typeInt);
+        Assert.assertEquals(completed.get(), PARENT_STRANDS);
+    }
+
+    @Test(dataProvider = "policies")
+    public void testFramesRestoredAfterYield(SchedulerPolicy policy) {
+        Scheduler scheduler = new Scheduler(4, false, policy);
+        int callDepth = 20;
+        AtomicInteger resumed = new AtomicInteger();
+        Function<Object[], Object> function = params -> {
+            Strand strand = (Strand) params[0];
+            if (strand.resumeIndex == 0) {
+                // unwind the call stack the same way generated code does when yielding
+                for (int i = callDepth - 1; i >= 0; i--) {
+                    strand.pushFrame(i);
+                }
+                strand.setState(State.YIELD);
+                return null;
+            }
+            for (int i = 0; i < callDepth; i++) {
+                Assert.assertEquals(strand.popFrame(), i);
+            }
+            Assert.assertEquals(strand.resumeIndex, 0);
+            return resumed.incrementAndGet();
+        };
+        for (int i = 0; i < PARENT_STRANDS; i++) {
+            scheduler.schedule(new Object[1], function, null, null, null, BTypes.typeInt);
+        }
+
+        scheduler.start();
+        Assert.assertEquals(resumed.get(), PARENT_STRANDS);
+    }
+
+    @Test(dataProvider = "policies", timeOut = 60000)
+    public void testWorkerMessagesReceivedInOrder(SchedulerPolicy policy) {
+        Scheduler scheduler = new Scheduler(4, false, policy);
+        int messages = 200;
+        AtomicInteger received = new AtomicInteger();
+        AtomicInteger outOfOrder = new AtomicInteger();
+        for (int p = 0; p < PARENT_STRANDS; p++) {
+            WorkerDataChannel channel = new WorkerDataChannel("w" + p);
+            long[] next = new long[1];
+            // receive the same way generated code does, which runs the receive again after the strand is unblocked
+            Function<Object[], Object> receiver = params -> {
+                Strand strand = (Strand) params[0];
+                while (next[0] < messages) {
+                    Object message;
+                    try {
+                        message = channel.tryTakeData(strand);
+                    } catch (Throwable e) {
+                        throw new AssertionError(e);
+                    }
+                    if (strand.isYielded()) {
+                        return null;
+                    }
+                    if (!Long.valueOf(next[0]).equals(message)) {
+                        outOfOrder.incrementAndGet();
+                    }
+                    next[0]++;
+                    received.incrementAndGet();
+                }
+                return null;
+            };
+            Function<Object[], Object> sender = params -> {
+                Strand strand = (Strand) params[0];
+                for (long i = 0; i < messages; i++) {
+                    channel.sendData(i, strand);
+                }
+                return null;
+            };
+            scheduler.schedule(new Object[1], receiver, null, null, null, BTypes.typeInt);
+            scheduler.schedule(new Object[1], sender, null, null, null, BTypes.typeInt);
+        }
+
+        scheduler.start();
+        Assert.assertEquals(received.get(), PARENT_STRANDS * messages);
+        Assert.assertEquals(outOfOrder.get(), 0);
+    }
+
+    @Test(dataProvider = "policies", timeOut = 60000)
+    public void testWaitForFutures(SchedulerPolicy policy) {
+        Scheduler scheduler = new Scheduler(4, false, policy);
+        AtomicInteger waited = new AtomicInteger();
+        AtomicInteger wrongResults = new AtomicInteger();
+        for (int p = 0; p < PARENT_STRANDS; p++) {
+            FutureValue[] futures = new FutureValue[CHILD_STRANDS];
+            int[] next = new int[1];
+            Function<Object[], Object> parent = params -> {
+                Strand strand = (Strand) params[0];
+                if (futures[0] == null) {
+                    for (int i = 0; i < CHILD_STRANDS; i++) {
+                        futures[i] = strand.scheduler.schedule(new Object[1], createYieldingChild(i), strand, null,
+                                null, BTypes.typeInt);
+                    }
+                }
+                while (next[0] < CHILD_STRANDS) {
+                    Strand.WaitResult result;
+                    try {
+                        result = strand.handleWaitAny(Collections.singletonList(futures[next[0]]));
+                    } catch (Throwable e) {
+                        throw new AssertionError(e);
+                    }
+                    if (strand.isYielded()) {
+                        return null;
+                    }
+                    if (!result.done || !Long.valueOf(next[0]).equals(result.result)) {
+                        wrongResults.incrementAndGet();
+                    }
+                    next[0]++;
+                    waited.incrementAndGet();
+                }
+                return null;
+            };
+            scheduler.schedule(new Object[1], parent, null, null, null, BTypes.typeInt);
+        }
+
+        scheduler.start();
+        Assert.assertEquals(waited.get(), PARENT_STRANDS * CHILD_STRANDS);
+        Assert.assertEquals(wrongResults.get(), 0);
+    }
+
+    @Test(dataProvider = "policies", timeOut = 60000)
+    public void testLockHeldAcrossYield(SchedulerPolicy policy) {
+        Scheduler scheduler = new Scheduler(4, false, policy);
+        BLock lock = new BLock();
+        // only accessed while holding the lock
+        long[] counter = new long[1];
+        AtomicInteger reentryFailures = new AtomicInteger();
+        for (int p = 0; p < PARENT_STRANDS; p++) {
+            long[] readValue = new long[]{-1};
+            Function<Object[], Object> function = params -> {
+                Strand strand = (Strand) params[0];
+                if (readValue[0] < 0) {
+                    // a blocked strand runs the lock again after it is unblocked, as generated code does
+                    if (!lock.lock(strand)) {
+                        return null;
+                    }
+                    if (!lock.lock(strand)) {
+                        reentryFailures.incrementAndGet();
+                    }
+                    readValue[0] = counter[0];
+                    // yield while holding the lock, as a worker interaction inside a lock statement does
+                    strand.setState(State.YIELD);
+                    return null;
+                }
+                counter[0] = readValue[0] + 1;
+                lock.unlock();
+                lock.unlock();
+                return null;
+            };
+            scheduler.schedule(new Object[1], function, null, null, null, BTypes.typeInt);
+        }
+
+        scheduler.start();
+        Assert.assertEquals(counter[0], PARENT_STRANDS);
+        Assert.assertEquals(reentryFailures.get(), 0);
+    }
+
+    @Test(dataProvider = "policies", timeOut = 120000)
+    public void testIdleThreadsWokenUpForWaitingStrands(SchedulerPolicy policy) throws InterruptedException {
+        int numThreads = 4;
+        int rounds = 200;
+        Scheduler scheduler = new Scheduler(numThreads, true, policy);
+        Thread schedulerThread = new Thread(scheduler::start);
+        schedulerThread.start();
+
+        AtomicInteger completed = new AtomicInteger();
+        AtomicInteger timedOut = new AtomicInteger();
+        for (int r = 0; r < rounds; r++) {
+            // every strand of a round waits for the others, hence a round completes only if a thread is woken up
+            // for each strand the parent leaves in its own deque
+            CyclicBarrier barrier = new CyclicBarrier(numThreads);
+            Function<Object[], Object> child = params -> {
+                try {
+                    barrier.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+                    timedOut.incrementAndGet();
+                }
+                return completed.incrementAndGet();
+            };
+            Function<Object[], Object> parent = params -> {
+                Strand strand = (Strand) params[0];
+                for (int i = 1; i < numThreads; i++) {
+                    strand.scheduler.schedule(new Object[1], child, strand, null, null, BTypes.typeInt);
+                }
+                return child.apply(params);
+            };
+            scheduler.schedule(new Object[1], parent, null, null, null, BTypes.typeInt);
+            while (completed.get() < (r + 1) * numThreads) {
+                Thread.sleep(1);
+            }
+        }
+
+        scheduler.poison();
+        schedulerThread.join();
+        Assert.assertEquals(timedOut.get(), 0);
+    }
+
+    private static Function<Object[], Object> createYieldingChild(long value) {
+        boolean[] yielded = new boolean[1];
+        return params -> {
+            Strand strand = (Strand) params[0];
+            if (!yielded[0]) {
+                yielded[0] = true;
+                strand.setState(State.YIELD);
+                return null;
+            }
+            return value;
+        };
+    }
+}
@@ -1,6 +1,9 @@
 package org.ballerinalang.runtime.test;
 
+import org.ballerinalang.jvm.StringUtils;
+import org.ballerinalang.jvm.values.BmpStringValue;
 import org.ballerinalang.jvm.values.NonBmpStringValue;
+import org.ballerinalang.jvm.values.StringValue;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
@@ -40,4 +43,38 @@ public class StringValueTests {
         Assert.assertEquals(SUBJECT.length(), 16);
     }
 
+    @Test
+    void testConcatBmpAndNonBmp() {
+        StringValue str = new BmpStringValue("Hello ").concat(SUBJECT);
+        Assert.assertEquals(str.getValue(), "Hello " + UNICODE_STR);
+        Assert.assertEquals(str.length(), 22);
+        Assert.assertEquals(str.getCodePoint(7), 0x1F6F8);
+        Assert.assertEquals(str.getCodePoint(21), 'r');
+    }
+
+    @Test
+    void testRepeatedConcat() {
+        StringValue str = new BmpStringValue("");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 100000; i++) {
+            String part = i % 1000 == 0 ? "\uD83D\uDC7D" : String.valueOf(i % 10);
+            str = str.concat(StringUtils.fromString(part));
+            expected.append(part);
+        }
+        Assert.assertEquals(str.length(), 100000);
+        Assert.assertEquals(str.getValue(), expected.toString());
+        Assert.assertEquals(str.getCodePoint(99000), 0x1F47D);
+        Assert.assertEquals(str.getCodePoint(99999), '9');
+    }
+
+    @Test
+    void testSubstring() {
+        Assert.assertTrue(SUBJECT.substring(2, 14) instanceof BmpStringValue);
+        Assert.assertEquals(SUBJECT.substring(2, 14).getValue(), "mmander Frav");
+        StringValue str = SUBJECT.substring(1, 15);
+        Assert.assertEquals(str.length(), 14);
+        Assert.assertEquals(str.getCodePoint(0), 0x1F6F8);
+        Assert.assertEquals(str.getCodePoint(13), 0x1F47D);
+        Assert.assertEquals(SUBJECT.substring(15, 16).getValue(), "r");
+    }
 }
@@ -0,0 +1,175 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.InMemoryTable;
+import org.ballerinalang.jvm.InMemoryTableIterator;
+import org.ballerinalang.jvm.TableProvider;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BTableType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.TableValue;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * Test cases for in-memory {@link TableValue}s.
+ */
+public class TableValueTests {
+
+    private static final BRecordType PERSON_TYPE = createPersonType();
+
+    @Test
+    public void testAddAndIterate() {
+        TableValue table = createTable("id");
+        Assert.assertNull(table.performAddOperation(createPerson(1, "Mary", 30)));
+        Assert.assertNull(table.performAddOperation(createPerson(2, "John", 20)));
+
+        Assert.assertTrue(table.hasNext());
+        MapValueImpl<String, Object> first = table.getNext();
+        Assert.assertEquals(first.get("id"), 1L);
+        Assert.assertEquals(first.get("name"), "Mary");
+        Assert.assertTrue(table.hasNext());
+        Assert.assertEquals(table.getNext().get("name"), "John");
+        Assert.assertFalse(table.hasNext());
+        Assert.assertEquals(table.stringValue(), "id=1 name=Mary age=30 id=2 name=John age=20");
+    }
+
+    @Test
+    public void testPrimaryKeyViolation() {
+        TableValue table = createTable("id");
+        Assert.assertNull(table.performAddOperation(createPerson(1, "Mary", 30)));
+        Object result = table.performAddOperation(createPerson(1, "John", 20));
+        Assert.assertTrue(result instanceof ErrorValue);
+        Assert.assertTrue(((ErrorValue) result).stringValue().contains(
+                "execute update failed: Unique index or primary key violation:"));
+        Assert.assertEquals(table.stringValue(), "id=1 name=Mary age=30");
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        TableValue table = createTable("id");
+        table.performAddOperation(createPerson(1, "Mary", 30));
+        TableValue copy = (TableValue) table.copy(new HashMap<>());
+        Assert.assertNull(copy.performAddOperation(createPerson(2, "John", 20)));
+        Assert.assertTrue(table.performAddOperation(createPerson(1, "Jane", 20)) instanceof ErrorValue);
+        Assert.assertEquals(table.stringValue(), "id=1 name=Mary age=30");
+        Assert.assertEquals(copy.stringValue(), "id=1 name=Mary age=30 id=2 name=John age=20");
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    public void testNamedTable() {
+        TableProvider tableProvider = TableProvider.getInstance();
+        String tableName = tableProvider.createTable(PERSON_TYPE, toArray(new String[] {"id"}));
+        TableValue table = new TableValue(tableName, PERSON_TYPE);
+        Assert.assertNull(table.performAddOperation(createPerson(1, "Mary", 30)));
+        Assert.assertNull(table.performAddOperation(createPerson(2, "John", 20)));
+        // The rows are held by the named table, so they are visible to other values over the same table
+        Assert.assertEquals(new TableValue(tableName, PERSON_TYPE).stringValue(),
+                            "id=1 name=Mary age=30 id=2 name=John age=20");
+
+        ArrayValue params = new ArrayValueImpl(new Object[] {25L}, new BArrayType(BTypes.typeAny));
+        TableValue result = new TableValue("SELECT id, name, age FROM [[tableName]] WHERE age > ?", table, null,
+                                           PERSON_TYPE, params);
+        Assert.assertEquals(result.stringValue(), "id=1 name=Mary age=30");
+
+        TableValue copy = (TableValue) table.copy(new HashMap<>());
+        Assert.assertNull(copy.performAddOperation(createPerson(3, "Jane", 40)));
+        Assert.assertEquals(table.stringValue(), "id=1 name=Mary age=30 id=2 name=John age=20");
+    }
+
+    @Test
+    public void testQueryOverIndexedTable() {
+        InMemoryTable table = new InMemoryTable(PERSON_TYPE, toArray(new String[] {"id"}),
+                                                toArray(new String[] {"age", "name"}));
+        table.insert(createPerson(1, "Mary", 30));
+        table.insert(createPerson(2, "John", 20));
+        // The table database copy is created with an index for each indexed column
+        Assert.assertEquals(queryNames(table, 25), "Mary");
+        table.release();
+    }
+
+    @Test
+    public void testQueryReflectsLaterChanges() {
+        InMemoryTable table = new InMemoryTable(PERSON_TYPE, toArray(new String[] {"id"}));
+        table.insert(createPerson(1, "Mary", 30));
+        table.insert(createPerson(2, "John", 20));
+        Assert.assertEquals(queryNames(table, 25), "Mary");
+
+        // Rows added after the first query are inserted into its table database copy
+        table.insert(createPerson(3, "Jane", 40));
+        Assert.assertEquals(queryNames(table, 25), "Mary Jane");
+
+        // Removing a row rebuilds the copy on the next query
+        InMemoryTableIterator rows = table.createIterator();
+        Assert.assertTrue(rows.next());
+        Assert.assertTrue(rows.remove());
+        Assert.assertEquals(queryNames(table, 25), "Jane");
+        table.release();
+    }
+
+    private static TableValue createTable(String... keyColumns) {
+        return new TableValue(new BTableType(PERSON_TYPE), toArray(keyColumns), null);
+    }
+
+    private static String queryNames(InMemoryTable table, long minAge) {
+        ArrayValue params = new ArrayValueImpl(new Object[] {minAge}, new BArrayType(BTypes.typeAny));
+        InMemoryTable result = TableProvider.getInstance().createTable(
+                table, null, "SELECT id, name, age FROM [[tableName]] WHERE age > ?", PERSON_TYPE, params);
+        StringJoiner names = new StringJoiner(" ");
+        InMemoryTableIterator rows = result.createIterator();
+        while (rows.next()) {
+            names.add((String) rows.generateNext().get("name"));
+        }
+        return names.toString();
+    }
+
+    private static ArrayValue toArray(String[] values) {
+        return new ArrayValueImpl(values);
+    }
+
+    private static MapValueImpl<String, Object> createPerson(long id, String name, long age) {
+        MapValueImpl<String, Object> person = new MapValueImpl<>(PERSON_TYPE);
+        person.put("id", id);
+        person.put("name", name);
+        person.put("age", age);
+        return person;
+    }
+
+    private static BRecordType createPersonType() {
+        Map<String, BField> fields = new LinkedHashMap<>();
+        fields.put("id", new BField(BTypes.typeInt, "id", 0));
+        fields.put("name", new BField(BTypes.typeString, "name", 0));
+        fields.put("age", new BField(BTypes.typeInt, "age", 0));
+        return new BRecordType("Person", new BPackage(null, null, null), 0, fields, null, true, 0);
+    }
+}
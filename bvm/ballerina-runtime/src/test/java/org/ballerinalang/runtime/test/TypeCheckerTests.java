@@ -0,0 +1,136 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.TypeChecker;
+import org.ballerinalang.jvm.types.AttachedFunction;
+import org.ballerinalang.jvm.types.BErrorType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BObjectType;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for {@link TypeChecker}.
+ */
+public class TypeCheckerTests {
+
+    private static final BPackage PACKAGE = new BPackage("test", "types", "1.0.0");
+
+    @Test
+    public void testRepeatedRecordChecks() {
+        BRecordType person = createRecordType("Person", "name", BTypes.typeString, "age", BTypes.typeInt);
+        BRecordType employee = createRecordType("Employee", "name", BTypes.typeString, "age", BTypes.typeInt,
+                                                "salary", BTypes.typeFloat);
+        BRecordType student = createRecordType("Student", "name", BTypes.typeString, "school", BTypes.typeString);
+        BUnionType union = new BUnionType(Arrays.asList(person, BTypes.typeNull));
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(TypeChecker.checkIsType(employee, person));
+            Assert.assertFalse(TypeChecker.checkIsType(person, employee));
+            Assert.assertFalse(TypeChecker.checkIsType(student, person));
+            Assert.assertTrue(TypeChecker.checkIsType(employee, union));
+            Assert.assertFalse(TypeChecker.checkIsType(student, union));
+        }
+    }
+
+    @Test
+    public void testRepeatedRecursiveRecordChecks() {
+        BRecordType node = createRecordType("Node", "value", BTypes.typeInt);
+        node.getFields().put("next", new BField(new BUnionType(Arrays.asList(node, BTypes.typeNull)), "next", 0));
+        BRecordType stringNode = createRecordType("StringNode", "value", BTypes.typeString);
+        stringNode.getFields().put("next", new BField(new BUnionType(Arrays.asList(stringNode, BTypes.typeNull)),
+                                                      "next", 0));
+        BRecordType otherNode = createRecordType("OtherNode", "value", BTypes.typeInt);
+        otherNode.getFields().put("next", new BField(new BUnionType(Arrays.asList(otherNode, BTypes.typeNull)),
+                                                     "next", 0));
+
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(TypeChecker.checkIsType(otherNode, node));
+            Assert.assertFalse(TypeChecker.checkIsType(stringNode, node));
+        }
+    }
+
+    @Test
+    public void testChecksBeforeFieldsAreSet() {
+        // Generated code creates record types first and sets their fields afterwards
+        BRecordType person = createRecordType("Person");
+        BUnionType optionalPerson = new BUnionType(Arrays.asList(person, BTypes.typeNull));
+        BRecordType student = createRecordType("Student", "name", BTypes.typeString, "school", BTypes.typeString);
+        Assert.assertTrue(TypeChecker.checkIsType(student, person));
+        Assert.assertTrue(TypeChecker.checkIsType(student, optionalPerson));
+
+        person.setFields(createRecordType("Person", "name", BTypes.typeString, "age", BTypes.typeInt).getFields());
+        Assert.assertFalse(TypeChecker.checkIsType(student, person));
+        Assert.assertFalse(TypeChecker.checkIsType(student, optionalPerson));
+    }
+
+    @Test
+    public void testCompletingNewTypesKeepsCachedChecks() {
+        BRecordType person = createRecordType("Person", "name", BTypes.typeString);
+        BRecordType student = createRecordType("Student", "name", BTypes.typeString, "school", BTypes.typeString);
+        Assert.assertTrue(TypeChecker.checkIsType(student, person));
+
+        // Changing the fields in place does not discard the cached check, so the stale result shows that the cache
+        // is still intact after the types created below are completed
+        person.getFields().put("age", new BField(BTypes.typeInt, "age", 0));
+
+        createRecordType("Teacher").setFields(createRecordType("Teacher", "name", BTypes.typeString).getFields());
+        BObjectType callStack = new BObjectType("CallStack", PACKAGE, 0);
+        callStack.setAttachedFunctions(new AttachedFunction[]{});
+        callStack.setFields(Collections.singletonMap("callStack", new BField(BTypes.typeAny, "callStack", 0)));
+        new BErrorType("Error", PACKAGE, BTypes.typeString).setDetailType(BTypes.typeErrorDetail);
+        Assert.assertTrue(TypeChecker.checkIsType(student, person));
+
+        // Completing a type which was already read discards it
+        person.setFields(person.getFields());
+        Assert.assertFalse(TypeChecker.checkIsType(student, person));
+    }
+
+    @Test
+    public void testChecksBeforeDetailTypeIsSet() {
+        BRecordType detail = createRecordType("Detail", "code", BTypes.typeInt);
+        BRecordType codedDetail = createRecordType("CodedDetail", "code", BTypes.typeInt, "name", BTypes.typeString);
+        BErrorType error = new BErrorType("Error", PACKAGE, BTypes.typeString, detail);
+        BErrorType codedError = new BErrorType("CodedError", PACKAGE, BTypes.typeString, codedDetail);
+        Assert.assertTrue(TypeChecker.checkIsType(codedError, error));
+
+        error.setDetailType(createRecordType("TimedDetail", "code", BTypes.typeInt, "time", BTypes.typeInt));
+        Assert.assertFalse(TypeChecker.checkIsType(codedError, error));
+    }
+
+    private static BRecordType createRecordType(String name, Object... fieldsAndTypes) {
+        Map<String, BField> fields = new LinkedHashMap<>();
+        for (int i = 0; i < fieldsAndTypes.length; i += 2) {
+            String fieldName = (String) fieldsAndTypes[i];
+            fields.put(fieldName, new BField((BType) fieldsAndTypes[i + 1], fieldName, 0));
+        }
+        return new BRecordType(name, PACKAGE, 0, fields, BTypes.typeAnydata, false, 0);
+    }
+}
@@ -0,0 +1,124 @@
+/*
+*  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+*
+*  WSO2 Inc. licenses this file to you under the Apache License,
+*  Version 2.0 (the "License"); you may not use this file except
+*  in compliance with the License.
+*  You may obtain a copy of the License at
+*
+*    http://www.apache.org/licenses/LICENSE-2.0
+*
+* Unless required by applicable law or agreed to in writing,
+* software distributed under the License is distributed on an
+* "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+* KIND, either express or implied.  See the License for the
+* specific language governing permissions and limitations
+* under the License.
+*/
+
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.jvm.ValueConverter;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BField;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BPackage;
+import org.ballerinalang.jvm.types.BRecordType;
+import org.ballerinalang.jvm.types.BType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.types.BUnionType;
+import org.ballerinalang.jvm.util.Flags;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.ValueCreator;
+import org.testng.Assert;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test cases for {@link ValueConverter}.
+ */
+public class ValueConverterTests {
+
+    private static final BPackage PACKAGE = new BPackage("test", "converter", "1.0.0");
+
+    private final Map<String, BRecordType> recordTypes = new LinkedHashMap<>();
+
+    @BeforeClass
+    public void setup() {
+        ValueCreator.addValueCreator(PACKAGE.getOrg(), PACKAGE.getName(), PACKAGE.getVersion(), new ValueCreator() {
+            @Override
+            public MapValue<String, Object> createRecordValue(String recordTypeName) {
+                return new MapValueImpl<>(recordTypes.get(recordTypeName));
+            }
+
+            @Override
+            public ObjectValue createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
+                                                 Map<String, Object> properties, Object[] args) {
+                return null;
+            }
+        });
+    }
+
+    @Test
+    public void testConvertToRecordArray() {
+        BRecordType address = createRecordType("Address", "city", BTypes.typeString, "zip", BTypes.typeInt);
+        BRecordType person = createRecordType("Person", "name", BTypes.typeString, "score", BTypes.typeFloat,
+                                              "address", address);
+        Object json = JSONParser.parse("[{\"name\":\"Anne\",\"score\":3,\"address\":{\"city\":\"Colombo\"," +
+                                               "\"zip\":10000},\"tags\":[\"a\",\"b\"]}]");
+
+        Object result = ValueConverter.tryConvert(json, new BArrayType(person));
+        Assert.assertTrue(result instanceof ArrayValue);
+        MapValue<?, ?> converted = (MapValue<?, ?>) ((ArrayValue) result).get(0);
+        Assert.assertSame(converted.getType(), person);
+        Assert.assertEquals(converted.get("score"), 3.0);
+        Assert.assertSame(((MapValue<?, ?>) converted.get("address")).getType(), address);
+        Assert.assertEquals(((ArrayValue) converted.get("tags")).getType(), new BArrayType(BTypes.typeAnydata));
+    }
+
+    @Test
+    public void testConvertToJson() {
+        Object json = JSONParser.parse("{\"a\":[1,2.5,null],\"b\":{\"c\":\"d\"}}");
+        Object result = ValueConverter.tryConvert(json, new BMapType(BTypes.typeJSON));
+        Assert.assertTrue(result instanceof MapValue);
+        Assert.assertEquals(((MapValue<?, ?>) result).stringValue(), "a=1 2.5  b=c=d");
+    }
+
+    @Test
+    public void testValuesNotConverted() {
+        BRecordType point = createRecordType("Point", "x", BTypes.typeInt, "y", BTypes.typeInt);
+        BUnionType intOrFloat = new BUnionType(Arrays.asList(BTypes.typeInt, BTypes.typeFloat));
+
+        // Missing required field
+        Assert.assertSame(ValueConverter.tryConvert(JSONParser.parse("{\"x\":1}"), point),
+                          ValueConverter.NOT_CONVERTED);
+        // Ambiguous union member
+        Assert.assertSame(ValueConverter.tryConvert(JSONParser.parse("[1]"), new BArrayType(intOrFloat)),
+                          ValueConverter.NOT_CONVERTED);
+        // Cyclic value
+        MapValueImpl<String, Object> map = new MapValueImpl<>(new BMapType(BTypes.typeAnydata));
+        map.put("self", map);
+        Assert.assertSame(ValueConverter.tryConvert(map, BTypes.typeAnydata), ValueConverter.NOT_CONVERTED);
+    }
+
+    private BRecordType createRecordType(String name, Object... fieldsAndTypes) {
+        Map<String, BField> fields = new LinkedHashMap<>();
+        for (int i = 0; i < fieldsAndTypes.length; i += 2) {
+            String fieldName = (String) fieldsAndTypes[i];
+            fields.put(fieldName, new BField((BType) fieldsAndTypes[i + 1], fieldName, Flags.REQUIRED));
+        }
+        BRecordType recordType = new BRecordType(name, PACKAGE, 0, fields, BTypes.typeAnydata, false, 0);
+        recordTypes.put(name, recordType);
+        return recordType;
+    }
+}
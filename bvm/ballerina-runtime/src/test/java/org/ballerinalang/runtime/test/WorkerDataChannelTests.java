@@ -0,0 +1,185 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.scheduling.WorkerDataChannel;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ChannelDetails;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Test cases for passing messages between strands through a {@link WorkerDataChannel}. The strand functions return
+ * when the strand is blocked, and repeat the blocking call when the strand is resumed, as generated code does.
+ */
+public class WorkerDataChannelTests {
+
+    private static final int MESSAGES = 100000;
+    private static final String CHANNEL_NAME = "w1->w2";
+
+    @Test
+    public void testAsyncSend() throws Throwable {
+        Scheduler scheduler = new Scheduler(4, false);
+        WorkerDataChannel channel = new WorkerDataChannel(CHANNEL_NAME);
+        Function<Object[], Object> sender = params -> {
+            for (long i = 0; i < MESSAGES; i++) {
+                // every tenth message is nil
+                channel.sendData(i % 10 == 0 ? null : i, (Strand) params[0]);
+            }
+            return null;
+        };
+        List<Object> received = new ArrayList<>();
+        scheduler.schedule(new Object[1], receiver(channel, received, MESSAGES), null, null, null, BTypes.typeNull);
+        scheduler.schedule(new Object[1], sender, null, null, null, BTypes.typeNull);
+        scheduler.start();
+
+        Assert.assertEquals(received.size(), MESSAGES);
+        for (int i = 0; i < MESSAGES; i++) {
+            Assert.assertEquals(received.get(i), i % 10 == 0 ? null : (long) i);
+        }
+    }
+
+    @Test
+    public void testSyncSend() throws Throwable {
+        Scheduler scheduler = new Scheduler(4, false);
+        WorkerDataChannel channel = new WorkerDataChannel(CHANNEL_NAME);
+        int messages = MESSAGES / 10;
+        AtomicInteger sent = new AtomicInteger();
+        Function<Object[], Object> sender = params -> {
+            Strand strand = (Strand) params[0];
+            try {
+                while (sent.get() < messages) {
+                    // the same message is sent again when resumed, which completes the sync send
+                    Assert.assertNull(channel.syncSendData((long) sent.get(), strand));
+                    if (strand.isYielded()) {
+                        return null;
+                    }
+                    sent.incrementAndGet();
+                }
+            } catch (Throwable e) {
+                throw new AssertionError(e);
+            }
+            return null;
+        };
+        List<Object> received = new ArrayList<>();
+        scheduler.schedule(new Object[1], sender, null, null, null, BTypes.typeNull);
+        scheduler.schedule(new Object[1], receiver(channel, received, messages), null, null, null, BTypes.typeNull);
+        scheduler.start();
+
+        Assert.assertEquals(sent.get(), messages);
+        Assert.assertEquals(received.size(), messages);
+        for (int i = 0; i < messages; i++) {
+            Assert.assertEquals(received.get(i), (long) i);
+        }
+    }
+
+    @Test
+    public void testFlush() throws Throwable {
+        Scheduler scheduler = new Scheduler(4, false);
+        Strand parent = new Strand(scheduler, null, null);
+        WorkerDataChannel channel = parent.wdChannels.getWorkerDataChannel(CHANNEL_NAME);
+        ChannelDetails[] channels = {new ChannelDetails(CHANNEL_NAME, false, true)};
+        List<Object> received = new ArrayList<>();
+        AtomicInteger receivedOnFlush = new AtomicInteger(-1);
+        Function<Object[], Object> sender = params -> {
+            Strand strand = (Strand) params[0];
+            try {
+                if (strand.flushDetail == null) {
+                    for (long i = 0; i < MESSAGES; i++) {
+                        channel.sendData(i, strand);
+                    }
+                }
+                Assert.assertNull(strand.handleFlush(channels));
+                if (!strand.isYielded()) {
+                    synchronized (received) {
+                        receivedOnFlush.set(received.size());
+                    }
+                }
+            } catch (Throwable e) {
+                throw new AssertionError(e);
+            }
+            return null;
+        };
+        scheduler.schedule(new Object[1], sender, parent, null, null, BTypes.typeNull);
+        scheduler.schedule(new Object[1], receiver(channel, received, MESSAGES), parent, null, null, BTypes.typeNull);
+        scheduler.start();
+
+        Assert.assertEquals(receivedOnFlush.get(), MESSAGES);
+    }
+
+    @Test(description = "Test that strands which first send to each other and then receive do not block each other")
+    public void testMutualAsyncSends() throws Throwable {
+        Scheduler scheduler = new Scheduler(4, false);
+        WorkerDataChannel toSecond = new WorkerDataChannel("w1->w2");
+        WorkerDataChannel toFirst = new WorkerDataChannel("w2->w1");
+        List<Object> receivedByFirst = new ArrayList<>();
+        List<Object> receivedBySecond = new ArrayList<>();
+        scheduler.schedule(new Object[1], sendThenReceive(toSecond, toFirst, receivedByFirst), null, null, null,
+                           BTypes.typeNull);
+        scheduler.schedule(new Object[1], sendThenReceive(toFirst, toSecond, receivedBySecond), null, null, null,
+                           BTypes.typeNull);
+        scheduler.start();
+
+        Assert.assertEquals(receivedByFirst.size(), MESSAGES);
+        Assert.assertEquals(receivedBySecond.size(), MESSAGES);
+    }
+
+    private static Function<Object[], Object> sendThenReceive(WorkerDataChannel outbound, WorkerDataChannel inbound,
+                                                              List<Object> received) {
+        // An async send never blocks, so all the messages are sent before either strand receives one
+        Function<Object[], Object> receiver = receiver(inbound, received, MESSAGES);
+        boolean[] sent = new boolean[1];
+        return params -> {
+            if (!sent[0]) {
+                for (long i = 0; i < MESSAGES; i++) {
+                    outbound.sendData(i, (Strand) params[0]);
+                }
+                sent[0] = true;
+            }
+            return receiver.apply(params);
+        };
+    }
+
+    private static Function<Object[], Object> receiver(WorkerDataChannel channel, List<Object> received,
+                                                       int messages) {
+        return params -> {
+            Strand strand = (Strand) params[0];
+            try {
+                synchronized (received) {
+                    while (received.size() < messages) {
+                        Object message = channel.tryTakeData(strand);
+                        if (strand.isYielded()) {
+                            return null;
+                        }
+                        received.add(message);
+                    }
+                }
+            } catch (Throwable e) {
+                throw new AssertionError(e);
+            }
+            return null;
+        };
+    }
+}
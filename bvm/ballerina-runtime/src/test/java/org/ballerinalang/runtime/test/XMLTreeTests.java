@@ -0,0 +1,181 @@
+/*
+ *  Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ *  WSO2 Inc. licenses this file to you under the Apache License,
+ *  Version 2.0 (the "License"); you may not use this file except
+ *  in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing,
+ *  software distributed under the License is distributed on an
+ *  "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ *  KIND, either express or implied.  See the License for the
+ *  specific language governing permissions and limitations
+ *  under the License.
+ */
+package org.ballerinalang.runtime.test;
+
+import org.apache.axiom.om.OMDocument;
+import org.apache.axiom.om.OMNode;
+import org.apache.axiom.om.OMXMLBuilderFactory;
+import org.ballerinalang.jvm.XMLFactory;
+import org.ballerinalang.jvm.types.BArrayType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.XMLItem;
+import org.ballerinalang.jvm.values.XMLSequence;
+import org.ballerinalang.jvm.values.XMLValue;
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+/**
+ * Test cases for XML values backed by the trees of {@link org.ballerinalang.jvm.values.XMLTreeBuilder}. The results
+ * are compared with XML values backed by Axiom nodes.
+ */
+public class XMLTreeTests {
+
+    private static final String[] NAMES = {"a", "b", "c", "book", "title", "{http://ex.com/books}book",
+            "{http://ex.com/price}price", "{urn:x}ns", "{u}", "{u}b", "{u1}b", "{u2}b", "lang", "category",
+            "{http://ex.com/price}currency", "{urn:x}attr", "x", "{http://www.w3.org/XML/1998/namespace}lang"};
+
+    @DataProvider(name = "documents")
+    public Object[][] documents() {
+        return new Object[][] {
+                {"<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<!-- c -->\n" +
+                        "<bookstore xmlns=\"http://ex.com/books\" xmlns:p=\"http://ex.com/price\" xml:lang=\"en\">\n" +
+                        "  <book category=\"cooking\" p:currency=\"USD\">\n" +
+                        "    <title lang=\"en\">Everyday &amp; Italian</title>\n" +
+                        "    <p:price>30.00</p:price>\n" +
+                        "  </book>\n" +
+                        "  <book category=\"web\"><title>Learning &lt;XML&gt; \"quoted\" ]]&gt;</title>" +
+                        "<![CDATA[<raw> & ]]]]><![CDATA[>]]><?pi data?><?nodata?><empty/>" +
+                        "<x:ns xmlns:x=\"urn:x\" x:attr=\"a&quot;b&lt;c&gt;d&#10;e&#13;f&#9;g'h&amp;\"/></book>\n" +
+                        "</bookstore>\n<?trailer?>\n"},
+                {"<a>café 😀 line\r\nbreak&#13;<b c='1' a=\"2\"/><b>x</b><c><b/><!--<b/>--></c></a>"},
+                {"<a xmlns=\"u\"><b xmlns=\"\"><c/></b><b/></a>"},
+                {"<p:a xmlns:p=\"u1\" xmlns:q=\"unused\"><p:b xmlns:p=\"u2\"><c p:x=\"1\"/></p:b><p:b/></p:a>"},
+                {"<a xmlns:p=\"u\" p:x=\"1\" y=\"2\" xmlns=\"d\"><p:b p:y=\"3\" xmlns:q=\"u\" q:z=\"4\"/>" +
+                        "<c xmlns=\"\" a=\"1\"/></a>"},
+                {"<!DOCTYPE a [<!ENTITY e 'ent'>]><a>&e; &#xE9;</a>"},
+                {"<a>  <b> </b>\n\t<c/>  </a>"},
+        };
+    }
+
+    @Test(dataProvider = "documents")
+    public void testParseDocument(String xml) {
+        XMLValue<?> expected = parseWithAxiom(xml);
+        XMLValue<?> actual = XMLFactory.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+        assertEquals(actual, expected);
+        assertEquals(actual.children(), expected.children());
+        assertEquals(actual.children().children(), expected.children().children());
+        for (String name : NAMES) {
+            assertEquals(actual.children().children(name), expected.children().children(name));
+            assertEquals(actual.descendants(name), expected.descendants(name));
+        }
+    }
+
+    @Test(dataProvider = "documents")
+    public void testMutateDocument(String xml) {
+        XMLValue<?> expected = parseWithAxiom(xml).children().elements();
+        XMLValue<?> actual = XMLFactory.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)))
+                .children().elements();
+        for (XMLValue<?> elements : new XMLValue<?>[] {actual, expected}) {
+            ArrayValue items = ((XMLSequence) elements).value();
+            for (int i = 0; i < items.size(); i++) {
+                XMLValue<?> element = (XMLValue<?>) items.getRefValue(i);
+                element.setAttribute("added", "", null, "value " + i);
+                element.addChildren(XMLFactory.createXMLText("added text"));
+            }
+        }
+        assertEquals(actual, expected);
+    }
+
+    @Test
+    public void testParseString() {
+        Assert.assertEquals(XMLFactory.parse("<a x='1'><b>text</b><!--c--></a>").stringValue(),
+                            "<a x=\"1\"><b>text</b><!--c--></a>");
+        Assert.assertEquals(XMLFactory.parse("text &amp; more").stringValue(), "text & more");
+        Assert.assertEquals(XMLFactory.parse("<?target some data?>").stringValue(), "<?target some data?>");
+        Assert.assertEquals(XMLFactory.parse("<?xml version='1.0'?><a xmlns:p='u'><p:b/></a>").children()
+                                    .stringValue(), "<p:b xmlns:p=\"u\"/>");
+    }
+
+    @Test
+    public void testParseInvalidDocument() {
+        assertError("<a><b></a>", "Unexpected close tag </a>; expected </b>.\n at [row,col {unknown-source}]: [1,9]");
+        assertError("<a/><b/>", "Illegal to have multiple roots (start tag in epilog?).\n" +
+                " at [row,col {unknown-source}]: [1,6]");
+        assertError("", "Unexpected EOF in prolog\n at [row,col {unknown-source}]: [1,0]");
+    }
+
+    private static void assertError(String xml, String message) {
+        try {
+            XMLFactory.parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)));
+            Assert.fail("expected an error");
+        } catch (ErrorValue e) {
+            Assert.assertEquals(e.getMessage(), message);
+        }
+    }
+
+    private static XMLValue<?> parseWithAxiom(String xml) {
+        OMDocument doc = OMXMLBuilderFactory.createOMBuilder(XMLFactory.STAX_PARSER_CONFIGURATION,
+                new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8))).getDocument();
+        ArrayValue elementsSeq = new ArrayValueImpl(new BArrayType(BTypes.typeXML));
+        Iterator<OMNode> children = doc.getChildren();
+        int i = 0;
+        while (children.hasNext()) {
+            elementsSeq.add(i++, new XMLItem(children.next()));
+        }
+        return new XMLSequence(elementsSeq);
+    }
+
+    private static void assertEquals(XMLValue<?> actual, XMLValue<?> expected) {
+        Assert.assertEquals(actual.getNodeType(), expected.getNodeType());
+        Assert.assertEquals(actual.stringValue(), expected.stringValue());
+        Assert.assertEquals(actual.getTextValue(), expected.getTextValue());
+        Assert.assertEquals(serialize(actual), serialize(expected));
+        Assert.assertEquals(actual.strip().stringValue(), expected.strip().stringValue());
+        if (expected instanceof XMLSequence) {
+            ArrayValue actualItems = ((XMLSequence) actual).value();
+            ArrayValue expectedItems = ((XMLSequence) expected).value();
+            Assert.assertEquals(actualItems.size(), expectedItems.size());
+            for (int i = 0; i < expectedItems.size(); i++) {
+                assertEquals((XMLValue<?>) actualItems.getRefValue(i), (XMLValue<?>) expectedItems.getRefValue(i));
+            }
+            return;
+        }
+
+        XMLItem actualItem = (XMLItem) actual;
+        XMLItem expectedItem = (XMLItem) expected;
+        Assert.assertEquals(actualItem.size(), expectedItem.size());
+        Assert.assertEquals(actualItem.getElementName(), expectedItem.getElementName());
+        for (String name : NAMES) {
+            String localName = name.substring(name.indexOf('}') + 1);
+            String namespace = name.startsWith("{") ? name.substring(1, name.indexOf('}')) : null;
+            Assert.assertEquals(actualItem.getAttribute(localName, namespace),
+                                expectedItem.getAttribute(localName, namespace), name);
+            Assert.assertEquals(actualItem.children(name).stringValue(), expectedItem.children(name).stringValue());
+        }
+    }
+
+    private static String serialize(XMLValue<?> value) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try {
+            value.serialize(out);
+        } catch (RuntimeException e) {
+            // Axiom cannot serialize a text outside of an element, for example
+            return e.getClass().getName() + ": " + e.getMessage();
+        }
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -31,6 +31,7 @@ import org.ballerinalang.packerina.utils.EmptyPrintStream;
 import org.ballerinalang.toml.model.Dependency;
 import org.ballerinalang.toml.model.Manifest;
 import org.ballerinalang.toml.parser.ManifestProcessor;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 import org.wso2.ballerinalang.compiler.util.CompilerOptions;
@@ -308,6 +309,19 @@ public class BuildContext extends HashMap<BuildContextField, Object> {
         return modules;
     }
     
+    /**
+     * Get the modules of an incremental build which were reused from the last build instead of being compiled.
+     *
+     * @return symbols of the reused modules
+     */
+    public List<BPackageSymbol> getCachedModules() {
+        if (this.getSourceType() == SourceType.ALL_MODULES) {
+            MultiModuleContext multiModuleContext = this.get(BuildContextField.SOURCE_CONTEXT);
+            return multiModuleContext.getCachedModules();
+        }
+        return new LinkedList<>();
+    }
+    
     public Path getBirPathFromHomeCache(PackageID moduleID) {
         try {
             Path moduleBirCacheDir = Files.createDirectories(getBirCacheFromHome()
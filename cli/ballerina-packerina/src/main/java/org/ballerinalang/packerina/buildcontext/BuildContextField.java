@@ -38,7 +38,9 @@ public enum BuildContextField {
     
     COMPILER_CONTEXT("compilerContext"),
     
-    BIR_CACHE_DIR("birCacheDir");
+    BIR_CACHE_DIR("birCacheDir"),
+    
+    MODULE_FINGERPRINTS("moduleFingerprints");
     
     public final String name;
     
@@ -18,8 +18,10 @@
 
 package org.ballerinalang.packerina.buildcontext.sourcecontext;
 
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -27,6 +29,7 @@ import java.util.List;
  */
 public class MultiModuleContext {
     List<BLangPackage> modules;
+    List<BPackageSymbol> cachedModules = new ArrayList<>();
     
     public List<BLangPackage> getModules() {
         return modules;
@@ -35,4 +38,17 @@ public class MultiModuleContext {
     public void setModules(List<BLangPackage> modules) {
         this.modules = modules;
     }
+
+    /**
+     * Get the modules of an incremental build which were not compiled, but reused from the last build.
+     *
+     * @return symbols of the reused modules
+     */
+    public List<BPackageSymbol> getCachedModules() {
+        return cachedModules;
+    }
+    
+    public void setCachedModules(List<BPackageSymbol> cachedModules) {
+        this.cachedModules = cachedModules;
+    }
 }
@@ -30,9 +30,11 @@ import org.ballerinalang.packerina.task.CopyNativeLibTask;
 import org.ballerinalang.packerina.task.CreateBaloTask;
 import org.ballerinalang.packerina.task.CreateBirTask;
 import org.ballerinalang.packerina.task.CreateExecutableTask;
+import org.ballerinalang.packerina.task.CreateFingerprintsTask;
 import org.ballerinalang.packerina.task.CreateJarTask;
 import org.ballerinalang.packerina.task.CreateLockFileTask;
 import org.ballerinalang.packerina.task.CreateTargetDirTask;
+import org.ballerinalang.packerina.task.FingerprintModulesTask;
 import org.ballerinalang.packerina.task.PrintExecutablePathTask;
 import org.ballerinalang.packerina.task.RunCompilerPluginTask;
 import org.ballerinalang.packerina.task.RunTestsTask;
@@ -131,6 +133,10 @@ public class BuildCommand implements BLauncherCmd {
     @CommandLine.Option(names = {"--skip-tests"}, description = "Skips test compilation and execution.")
     private boolean skipTests;
 
+    @CommandLine.Option(names = {"--incremental"}, description = "Reuse the modules which did not change since " +
+                                                                  "the last build.")
+    private boolean incremental;
+
     @CommandLine.Parameters
     private List<String> argList;
 
@@ -154,7 +160,8 @@ public class BuildCommand implements BLauncherCmd {
     private boolean experimentalFlag;
 
     private static final String buildCmd = "ballerina build [-o <output>] [--sourceroot] [--offline] [--skip-tests]\n" +
-            "                    [--skip-lock] {<ballerina-file | module-name> | -a | --all} [--] [(--key=value)...]";
+            "                    [--skip-lock] [--incremental] {<ballerina-file | module-name> | -a | --all} [--]\n" +
+            "                    [(--key=value)...]";
 
     public void execute() {
         if (this.helpFlag) {
@@ -370,8 +377,12 @@ public class BuildCommand implements BLauncherCmd {
         Path outputPath = null == this.output ? Paths.get(System.getProperty("user.dir")) : Paths.get(this.output);
 
         TaskExecutor taskExecutor = new TaskExecutor.TaskBuilder()
-                .addTask(new CleanTargetDirTask(), isSingleFileBuild)   // clean the target directory(projects only)
+                .addTask(new CleanTargetDirTask(this.incremental), isSingleFileBuild)   // clean the target
+                                                                            // directory(projects only)
                 .addTask(new CreateTargetDirTask()) // create target directory.
+                // find the modules reused from the last build(incremental projects only)
+                .addTask(new FingerprintModulesTask(this.compile, this.dumpBIR, skipCopyLibsFromDist,
+                        this.nativeBinary), !this.incremental || isSingleFileBuild)
                 .addTask(new CompileTask()) // compile the modules
                 .addTask(new CreateLockFileTask(), this.skipLock || isSingleFileBuild)  // create a lock file if
                                                                     // skipLock flag is not given exists(projects only)
@@ -389,6 +400,8 @@ public class BuildCommand implements BLauncherCmd {
                 .addTask(new CopyExecutableTask(outputPath), !isSingleFileBuild)    // copy executable
                 .addTask(new PrintExecutablePathTask(), this.compile)   // print the location of the executable
                 .addTask(new RunCompilerPluginTask(), this.compile) // run compiler plugins
+                // record the fingerprints of the compiled modules(incremental projects only)
+                .addTask(new CreateFingerprintsTask(), !this.incremental || isSingleFileBuild)
                 .addTask(new CleanTargetDirTask(), !isSingleFileBuild)  // clean the target dir(single bals only)
                 .build();
         
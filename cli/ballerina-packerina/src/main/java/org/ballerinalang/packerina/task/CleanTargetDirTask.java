@@ -24,20 +24,62 @@ import org.ballerinalang.packerina.buildcontext.BuildContextField;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
 
 import static org.ballerinalang.packerina.utils.FileUtils.deleteDirectory;
 import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BIN_DIR_NAME;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.CACHES_DIR_NAME;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.TARGET_BALO_DIRECTORY;
 
 /**
  * Cleans up the target directory.
  */
 public class CleanTargetDirTask implements Task {
+
+    private static final List<String> MODULE_OUTPUT_DIRS = Arrays.asList(CACHES_DIR_NAME, BIN_DIR_NAME,
+            TARGET_BALO_DIRECTORY);
+
+    private boolean keepModuleOutputs;
+
+    public CleanTargetDirTask() {
+        this(false);
+    }
+
+    /**
+     * Create a task which cleans up the target directory.
+     *
+     * @param keepModuleOutputs whether to keep the caches, executables and balos of the modules, so that incremental
+     *                          builds can reuse them for the modules which did not change
+     */
+    public CleanTargetDirTask(boolean keepModuleOutputs) {
+        this.keepModuleOutputs = keepModuleOutputs;
+    }
+
     @Override
     public void execute(BuildContext buildContext) {
         Path targetDir = buildContext.get(BuildContextField.TARGET_DIR);
         try {
-            if (Files.exists(targetDir)) {
+            if (!Files.exists(targetDir)) {
+                return;
+            }
+            if (!keepModuleOutputs) {
                 deleteDirectory(targetDir);
+                return;
+            }
+            try (Stream<Path> paths = Files.list(targetDir)) {
+                for (Path path : (Iterable<Path>) paths::iterator) {
+                    if (MODULE_OUTPUT_DIRS.contains(path.getFileName().toString())) {
+                        continue;
+                    }
+                    if (Files.isDirectory(path)) {
+                        deleteDirectory(path);
+                    } else {
+                        Files.delete(path);
+                    }
+                }
             }
         } catch (IOException e) {
             throw createLauncherException("unable to clean target'" + targetDir.toString() + "': " + targetDir);
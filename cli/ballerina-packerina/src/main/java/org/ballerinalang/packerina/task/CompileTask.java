@@ -26,6 +26,7 @@ import org.ballerinalang.packerina.buildcontext.sourcecontext.SingleModuleContex
 import org.ballerinalang.packerina.buildcontext.sourcecontext.SourceType;
 import org.ballerinalang.packerina.model.ExecutableJar;
 import org.wso2.ballerinalang.compiler.Compiler;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
 
@@ -63,10 +64,13 @@ public class CompileTask implements Task {
         } else {
             MultiModuleContext multiModuleContext = buildContext.get(BuildContextField.SOURCE_CONTEXT);
             List<BLangPackage> compiledModules = compiler.compilePackages(true);
-            if (compiledModules.size() == 0) {
+            // The modules reused by an incremental build are loaded from the bir of the last build.
+            List<BPackageSymbol> cachedModules = compiler.loadCachedModules();
+            if (compiledModules.size() == 0 && cachedModules.size() == 0) {
                 throw createLauncherException("no modules found to compile.");
             }
             multiModuleContext.setModules(compiledModules);
+            multiModuleContext.setCachedModules(cachedModules);
             for (BLangPackage bLangPackage: compiledModules) {
                 buildContext.moduleDependencyPathMap.put(bLangPackage.packageID, new ExecutableJar());
             }
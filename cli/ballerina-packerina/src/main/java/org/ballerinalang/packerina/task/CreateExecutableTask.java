@@ -22,47 +22,25 @@ import org.ballerinalang.packerina.buildcontext.BuildContext;
 import org.ballerinalang.packerina.buildcontext.BuildContextField;
 import org.ballerinalang.packerina.buildcontext.sourcecontext.SingleFileContext;
 import org.ballerinalang.packerina.buildcontext.sourcecontext.SingleModuleContext;
+import org.ballerinalang.packerina.writer.ExecutableJarWriter;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
-import org.wso2.ballerinalang.util.Lists;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
 
-import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.lang.reflect.Field;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
-import java.security.AccessController;
-import java.security.PrivilegedAction;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
 import java.util.Optional;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipInputStream;
-import java.util.zip.ZipOutputStream;
 
 import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
 
 /**
  * Task for creating the executable jar file.
+ * <p>
+ * The dependency jars of a module are assembled in to a dependency layer jar in the caches of the target directory,
+ * which is reused by the next builds while the dependency jars do not change.
  */
 public class CreateExecutableTask implements Task {
-    
-    private static HashSet<String> excludeExtensions =  new HashSet<>(Lists.of("DSA", "SF"));
-    private static Field namesField;
 
-    static {
-        try {
-            // We need to access the already inserted names set to override the default behavior of throwing exception.
-            namesField = ZipOutputStream.class.getDeclaredField("names");
-            AccessController.doPrivileged((PrivilegedAction<Object>) () -> {
-                namesField.setAccessible(true);
-                return null;
-            });
-        } catch (NoSuchFieldException e) {
-            throw createLauncherException("unable to retrive the entry names field :" + e.getMessage());
-        }
-    }
+    private static final String DEPENDENCY_CACHE_DIR_NAME = "dependency_cache";
 
     @Override
     public void execute(BuildContext buildContext) {
@@ -73,26 +51,26 @@ public class CreateExecutableTask implements Task {
         if (modulesWithEntryPoints.isPresent()) {
             buildContext.out().println();
             buildContext.out().println("Generating executables");
+            Path targetDir = buildContext.get(BuildContextField.TARGET_DIR);
+            Path dependencyCacheDir = targetDir.resolve(ProjectDirConstants.CACHES_DIR_NAME)
+                    .resolve(DEPENDENCY_CACHE_DIR_NAME);
+            ExecutableJarWriter writer = new ExecutableJarWriter(
+                    Integer.getInteger(CreateJarTask.JAR_JOBS, Runtime.getRuntime().availableProcessors()));
             for (BLangPackage module : buildContext.getModules()) {
                 if (module.symbol.entryPointExists) {
                     Path executablePath = buildContext.getExecutablePathFromTarget(module.packageID);
                     Path jarFromCachePath = buildContext.getJarPathFromTargetCache(module.packageID);
-                    /*
-                    TODO: We earlier used ZipFileSystem but we cannot explicitly set the compression method in
-                     java8 with ZipFileSystem. Once we moved to java11 we can revert back to ZipFileSystem then we can
-                      get rid of with accessing names field as well.
-                      */
-                    try (ZipOutputStream outStream =
-                                 new ZipOutputStream(new FileOutputStream(String.valueOf(executablePath)))) {
-                        assembleExecutable(jarFromCachePath,
-                                           buildContext.moduleDependencyPathMap.get(module.packageID).platformLibs,
-                                           outStream);
-                    } catch (IOException e) {
-                        throw createLauncherException("unable to extract the uber jar :" + e.getMessage());
+                    try {
+                        writer.write(executablePath, jarFromCachePath,
+                                buildContext.moduleDependencyPathMap.get(module.packageID).platformLibs,
+                                dependencyCacheDir.resolve(executablePath.getFileName()));
+                    } catch (IOException | NullPointerException e) {
+                        throw createLauncherException("unable to create the executable: " + e.getMessage());
                     }
                 }
             }
-        } else {
+        } else if (buildContext.getCachedModules().isEmpty()) {
+            // The executables of the modules reused by an incremental build are kept from the last build.
             switch (buildContext.getSourceType()) {
                 case SINGLE_BAL_FILE:
                     SingleFileContext singleFileContext = buildContext.get(BuildContextField.SOURCE_CONTEXT);
@@ -110,78 +88,4 @@ public class CreateExecutableTask implements Task {
             }
         }
     }
-
-    private void assembleExecutable(Path jarFromCachePath, HashSet<Path> dependencySet, ZipOutputStream outStream) {
-        try {
-            HashSet<String> entries = (HashSet<String>) namesField.get(outStream);
-            HashMap<String, StringBuilder> services = new HashMap<>();
-            copyJarToJar(outStream, jarFromCachePath.toString(), entries, services);
-            for (Path path : dependencySet) {
-                copyJarToJar(outStream, path.toString(), entries, services);
-            }
-            // Copy merged spi services
-            for (Map.Entry<String, StringBuilder> entry : services.entrySet()) {
-                String s = entry.getKey();
-                StringBuilder service = entry.getValue();
-                ZipEntry e = new ZipEntry(s);
-                outStream.putNextEntry(e);
-                outStream.write(service.toString().getBytes(StandardCharsets.UTF_8));
-                outStream.closeEntry();
-            }
-            // Copy dependency jar
-            // Copy dependency libraries
-            // Executable is created at give location.
-            // If no entry point is found we do nothing.
-        } catch (IOException | NullPointerException | IllegalAccessException e) {
-            throw createLauncherException("unable to create the executable: " + e.getMessage());
-        }
-    }
-
-    /**
-     * Copy jar file to executable fat jar.
-     *
-     * @param outStream     Executable jar out stream
-     * @param sourceJarFile Source file
-     * @param entries       Entries set wiil be used ignore duplicate files
-     * @param services      Services will be used to temporary hold merged spi files.
-     * @throws IOException If file copy failed ioexception will be thrown
-     */
-    private void copyJarToJar(ZipOutputStream outStream, String sourceJarFile, HashSet<String> entries,
-                              HashMap<String, StringBuilder> services) throws IOException {
-
-        byte[] buffer = new byte[1024];
-        int len;
-        try (ZipInputStream inStream = new ZipInputStream(new FileInputStream(sourceJarFile))) {
-            for (ZipEntry e; (e = inStream.getNextEntry()) != null; ) {
-                String entryName = e.getName();
-                // Skip already copied files or excluded extensions.
-                if (e.isDirectory() || entries.contains(entryName) ||
-                        excludeExtensions.contains(entryName.substring(entryName.lastIndexOf(".") + 1))) {
-                    continue;
-                }
-                // SPIs will be merged first and then put into jar separately.
-                if (entryName.startsWith("META-INF/services")) {
-                    StringBuilder s = services.get(entryName);
-                    if (s == null) {
-                        s = new StringBuilder();
-                        services.put(entryName, s);
-                    }
-                    char c = '\n';
-                    while ((len = inStream.read()) != -1) {
-                        c = (char) len;
-                        s.append(c);
-                    }
-                    if (c != '\n') {
-                        s.append('\n');
-                    }
-                    continue;
-                }
-                outStream.putNextEntry(e);
-                while ((len = inStream.read(buffer)) > 0) {
-                    outStream.write(buffer, 0, len);
-                }
-                outStream.closeEntry();
-            }
-        }
-    }
 }
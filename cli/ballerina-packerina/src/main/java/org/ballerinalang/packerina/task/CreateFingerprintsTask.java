@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.task;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.packerina.buildcontext.BuildContext;
+import org.ballerinalang.packerina.buildcontext.BuildContextField;
+import org.ballerinalang.toml.parser.ManifestProcessor;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.ProjectDirs;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.ballerinalang.packerina.task.FingerprintModulesTask.DEPENDENCIES_FINGERPRINT_KEY;
+import static org.ballerinalang.packerina.task.FingerprintModulesTask.DEPENDENCIES_KEY;
+import static org.ballerinalang.packerina.task.FingerprintModulesTask.FINGERPRINT_FILE_EXT;
+import static org.ballerinalang.packerina.task.FingerprintModulesTask.FINGERPRINT_KEY;
+import static org.ballerinalang.packerina.task.FingerprintModulesTask.IMPORTS_KEY;
+import static org.ballerinalang.packerina.task.FingerprintModulesTask.LIST_SEPARATOR;
+import static org.ballerinalang.packerina.task.FingerprintModulesTask.OUTPUTS_KEY;
+import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
+
+/**
+ * Task for incremental builds, which records the fingerprints of the modules compiled by a successful build, along
+ * with the modules of the project they import, the modules they import from outside the project and the outputs
+ * generated for them, so that the next build can reuse the modules which do not change. See
+ * {@link FingerprintModulesTask}.
+ *
+ * @since 1.2.0
+ */
+public class CreateFingerprintsTask implements Task {
+
+    @Override
+    public void execute(BuildContext buildContext) {
+        Map<String, String> fingerprints = buildContext.get(BuildContextField.MODULE_FINGERPRINTS);
+        if (fingerprints == null) {
+            return;
+        }
+        Path sourceRoot = buildContext.get(BuildContextField.SOURCE_ROOT);
+        Path targetDir = buildContext.get(BuildContextField.TARGET_DIR);
+        Path fingerprintCacheDir = FingerprintModulesTask.getFingerprintCacheDir(targetDir);
+        CompilerContext context = buildContext.get(BuildContextField.COMPILER_CONTEXT);
+        try {
+            FingerprintModulesTask.Dependencies dependencies = new FingerprintModulesTask.Dependencies(buildContext,
+                    sourceRoot, CompilerOptions.getInstance(context), ManifestProcessor.getInstance(context)
+                    .getManifest());
+            Files.createDirectories(fingerprintCacheDir);
+            for (BLangPackage module : buildContext.getModules()) {
+                PackageID id = module.packageID;
+                String fingerprint = fingerprints.get(id.name.value);
+                if (fingerprint == null) {
+                    continue;
+                }
+                Set<String> imports = new TreeSet<>();
+                for (BPackageSymbol importSymbol : module.symbol.imports) {
+                    if (importSymbol.pkgID.orgName.equals(id.orgName) &&
+                            ProjectDirs.isModuleExist(sourceRoot, importSymbol.pkgID.name.value)) {
+                        imports.add(importSymbol.pkgID.name.value);
+                    }
+                }
+                Set<String> moduleDependencies = new TreeSet<>();
+                addDependencies(module.symbol.imports, id, sourceRoot, moduleDependencies);
+                String[] dependencyList = moduleDependencies.toArray(new String[0]);
+                List<Path> outputs = Arrays.asList(buildContext.getBirPathFromTargetCache(id),
+                        buildContext.getTestBirPathFromTargetCache(id),
+                        buildContext.getJarPathFromTargetCache(id),
+                        buildContext.getTestJarPathFromTargetCache(id),
+                        buildContext.getBaloFromTarget(id),
+                        buildContext.getExecutablePathFromTarget(id));
+
+                Properties record = new Properties();
+                record.setProperty(FINGERPRINT_KEY, fingerprint);
+                record.setProperty(IMPORTS_KEY, String.join(LIST_SEPARATOR, imports));
+                record.setProperty(DEPENDENCIES_KEY, String.join(LIST_SEPARATOR, dependencyList));
+                record.setProperty(DEPENDENCIES_FINGERPRINT_KEY, dependencies.getFingerprint(dependencyList));
+                record.setProperty(OUTPUTS_KEY, outputs.stream()
+                        .filter(Files::exists)
+                        .map(output -> targetDir.relativize(output).toString())
+                        .collect(Collectors.joining(LIST_SEPARATOR)));
+                Path recordFile = fingerprintCacheDir.resolve(id.name.value + FINGERPRINT_FILE_EXT);
+                try (Writer writer = Files.newBufferedWriter(recordFile, StandardCharsets.UTF_8)) {
+                    record.store(writer, "fingerprint of module " + id);
+                }
+            }
+        } catch (IOException e) {
+            throw createLauncherException("unable to record the fingerprints of the modules: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Add the modules imported from outside the project, directly or through other modules. The modules of the
+     * distribution are left out, as the compiler version is part of the fingerprint, and so are the modules of the
+     * project, which have fingerprints of their own.
+     *
+     * @param imports      imported modules
+     * @param id           ID of the module being recorded
+     * @param sourceRoot   source root of the project
+     * @param dependencies imported modules found so far, as {@code org/name:version}
+     */
+    private static void addDependencies(List<BPackageSymbol> imports, PackageID id, Path sourceRoot,
+                                        Set<String> dependencies) {
+        for (BPackageSymbol importSymbol : imports) {
+            PackageID importId = importSymbol.pkgID;
+            String orgName = importId.orgName.value;
+            if (orgName.equals("ballerina") || orgName.equals("ballerinax") || (importId.orgName.equals(id.orgName) &&
+                    ProjectDirs.isModuleExist(sourceRoot, importId.name.value))) {
+                continue;
+            }
+            if (dependencies.add(FingerprintModulesTask.Dependencies.toDependency(importId))) {
+                addDependencies(importSymbol.imports, id, sourceRoot, dependencies);
+            }
+        }
+    }
+}
@@ -33,16 +33,30 @@ import org.wso2.ballerinalang.util.RepoUtils;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 
 import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_COMPILED_JAR_EXT;
 
 /**
  * Task for creating jar file.
+ * <p>
+ * A jar is generated from the BIR of its module, and the BIR of all the modules is written before this task. Hence
+ * the jars of the modules do not depend on each other, and are generated concurrently. The number of jars generated
+ * at a time can be set with the ballerina.build.jarJobs system property, and defaults to the number of processors.
+ * <p>
+ * Only the jar generation is concurrent. The modules are compiled to BIR one after the other by {@link CompileTask},
+ * as the phases of the compiler share the state of a single {@link CompilerContext}.
  */
 public class CreateJarTask implements Task {
 
+    static final String JAR_JOBS = "ballerina.build.jarJobs";
+
     private boolean dumpBir;
     private boolean buildNative;
     private boolean dumpLlvmIr;
@@ -80,6 +94,8 @@ public class CreateJarTask implements Task {
         CompilerContext context = buildContext.get(BuildContextField.COMPILER_CONTEXT);
         PackageCache packageCache = PackageCache.getInstance(context);
 
+        // Jar generation of each jar file, in the order the jars used to be generated
+        Map<Path, Runnable> jarGenerations = new LinkedHashMap<>();
         List<BLangPackage> moduleBirMap = buildContext.getModules();
         for (BLangPackage module : moduleBirMap) {
 
@@ -95,7 +111,7 @@ public class CreateJarTask implements Task {
                 moduleDependencySet.add(runtimeJar);
             }
             // write module child imports jars
-            writeImportJar(bLangPackage.symbol.imports, sourceRoot, buildContext, runtimeJar,
+            writeImportJar(bLangPackage.symbol.imports, sourceRoot, buildContext, runtimeJar, jarGenerations,
                     projectBIRCache.toString(), homeBIRCache.toString(), systemBIRCache.toString());
 
             // get the bir path of the module
@@ -105,11 +121,13 @@ public class CreateJarTask implements Task {
             Path jarOutput = buildContext.getJarPathFromTargetCache(module.packageID);
             if (!Files.exists(jarOutput)) {
                 if (buildNative) {
+                    // Native code generation exits once done, hence the pending jars are generated first.
+                    generateJars(jarGenerations);
                     BootstrapRunner.genNativeCode(entryBir.toString(), targetDir, this.dumpLlvmIr, this.noOptimizeLlvm);
                 } else {
-                    BootstrapRunner.loadTargetAndGenerateJarBinary(entryBir.toString(), jarOutput.toString(),
-                            this.dumpBir, moduleDependencySet, projectBIRCache.toString(), homeBIRCache.toString(),
-                            systemBIRCache.toString());
+                    jarGenerations.putIfAbsent(jarOutput, () -> BootstrapRunner.loadTargetAndGenerateJarBinary(
+                            entryBir.toString(), jarOutput.toString(), this.dumpBir, moduleDependencySet,
+                            projectBIRCache.toString(), homeBIRCache.toString(), systemBIRCache.toString()));
                 }
             }
 
@@ -117,7 +135,7 @@ public class CreateJarTask implements Task {
             if (!buildContext.skipTests() && bLangPackage.hasTestablePackage()) {
                 for (BLangPackage testPkg : bLangPackage.getTestablePkgs()) {
                     // write its child imports jar file to cache
-                    writeImportJar(testPkg.symbol.imports, sourceRoot, buildContext, runtimeJar,
+                    writeImportJar(testPkg.symbol.imports, sourceRoot, buildContext, runtimeJar, jarGenerations,
                             projectBIRCache.toString(), homeBIRCache.toString(), systemBIRCache.toString());
 
                     // get the bir path of the module
@@ -126,18 +144,20 @@ public class CreateJarTask implements Task {
                     // get the jar path of the module.
                     Path testJarOutput = buildContext.getTestJarPathFromTargetCache(testPkg.packageID);
                     if (!Files.exists(testJarOutput)) {
-                        BootstrapRunner.loadTargetAndGenerateJarBinary(testBir.toString(), testJarOutput.toString(),
-                                this.dumpBir, moduleDependencySet, projectBIRCache.toString(), homeBIRCache.toString(),
-                                systemBIRCache.toString());
+                        jarGenerations.putIfAbsent(testJarOutput, () -> BootstrapRunner
+                                .loadTargetAndGenerateJarBinary(testBir.toString(), testJarOutput.toString(),
+                                        this.dumpBir, moduleDependencySet, projectBIRCache.toString(),
+                                        homeBIRCache.toString(), systemBIRCache.toString()));
                     }
                 }
             }
         }
+        generateJars(jarGenerations);
         ConfigRegistry.getInstance().setInitialized(false);
     }
 
     private void writeImportJar(List<BPackageSymbol> imports, Path sourceRoot, BuildContext buildContext,
-                                Path runtimeJar, String... reps) {
+                                Path runtimeJar, Map<Path, Runnable> jarGenerations, String... reps) {
         for (BPackageSymbol bimport : imports) {
             PackageID id = bimport.pkgID;
             if (id.orgName.value.equals("ballerina") || id.orgName.value.equals("ballerinax")) {
@@ -161,10 +181,40 @@ public class CreateJarTask implements Task {
                 if (!skipCopyLibsFromDist) {
                     moduleDependencySet.add(runtimeJar);
                 }
-                BootstrapRunner.loadTargetAndGenerateJarBinary(birFilePath.toString(), jarFilePath.toString(),
-                        this.dumpBir, moduleDependencySet, reps);
+                jarGenerations.putIfAbsent(jarFilePath, () -> BootstrapRunner.loadTargetAndGenerateJarBinary(
+                        birFilePath.toString(), jarFilePath.toString(), this.dumpBir, moduleDependencySet, reps));
+            }
+            writeImportJar(bimport.imports, sourceRoot, buildContext, runtimeJar, jarGenerations, reps);
+        }
+    }
+
+    /**
+     * Generate the given jars, and clear them from the map. The jars are generated concurrently if more than one job
+     * is allowed.
+     *
+     * @param jarGenerations jar generation of each jar file
+     */
+    static void generateJars(Map<Path, Runnable> jarGenerations) {
+        int jobs = Math.min(Integer.getInteger(JAR_JOBS, Runtime.getRuntime().availableProcessors()),
+                jarGenerations.size());
+        if (jobs <= 1) {
+            jarGenerations.values().forEach(Runnable::run);
+            jarGenerations.clear();
+            return;
+        }
+        ForkJoinPool pool = new ForkJoinPool(jobs);
+        try {
+            List<ForkJoinTask<?>> tasks = new ArrayList<>(jarGenerations.size());
+            for (Runnable jarGeneration : jarGenerations.values()) {
+                tasks.add(pool.submit(jarGeneration));
+            }
+            // A failure of a jar generation is thrown by the join.
+            for (ForkJoinTask<?> task : tasks) {
+                task.join();
             }
-            writeImportJar(bimport.imports, sourceRoot, buildContext, runtimeJar, reps);
+        } finally {
+            pool.shutdownNow();
+            jarGenerations.clear();
         }
     }
 
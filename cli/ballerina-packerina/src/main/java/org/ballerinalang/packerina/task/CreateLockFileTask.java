@@ -33,6 +33,7 @@ public class CreateLockFileTask implements Task {
         CompilerContext compilerContext = buildContext.get(BuildContextField.COMPILER_CONTEXT);
         LockFileWriter lockFileWriter = LockFileWriter.getInstance(compilerContext,
                 ManifestProcessor.getInstance(compilerContext).getManifest());
-        lockFileWriter.writeLockFile(buildContext.getModules(), buildContext.getLockFilePath());
+        lockFileWriter.writeLockFile(buildContext.getModules(), buildContext.getCachedModules(),
+                buildContext.getLockFilePath());
     }
 }
@@ -0,0 +1,464 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.task;
+
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.packerina.buildcontext.BuildContext;
+import org.ballerinalang.packerina.buildcontext.BuildContextField;
+import org.ballerinalang.packerina.buildcontext.sourcecontext.SingleModuleContext;
+import org.ballerinalang.packerina.buildcontext.sourcecontext.SourceType;
+import org.ballerinalang.toml.model.Dependency;
+import org.ballerinalang.toml.model.LockFile;
+import org.ballerinalang.toml.model.LockFileImport;
+import org.ballerinalang.toml.model.Manifest;
+import org.ballerinalang.toml.parser.LockFileProcessor;
+import org.ballerinalang.toml.parser.ManifestProcessor;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
+import org.wso2.ballerinalang.compiler.util.ProjectDirs;
+import org.wso2.ballerinalang.util.RepoUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.ballerinalang.tool.LauncherUtils.createLauncherException;
+
+/**
+ * Task for incremental builds, which finds the modules of the project that did not change since the last build. These
+ * modules are not compiled again, instead they are loaded from the bir cache of the target directory and their bir,
+ * jars, balo and executable from the last build are reused. Their tests are not run again either.
+ * <p>
+ * The fingerprint of a module is a hash of the compiler version, the build options, the project manifest, the balos
+ * of the path dependencies and the files of the module. A module is reused if its fingerprint matches the one recorded
+ * by the last build, the outputs recorded for it still exist, and the modules of the project it imports are reused as
+ * well, since their interfaces may have changed otherwise. The outputs of the other modules are removed, so that they
+ * are generated again. The fingerprints are recorded by {@link CreateFingerprintsTask} once the build succeeds.
+ * <p>
+ * The modules imported from outside the project, other than the modules of the distribution, are only known once a
+ * module is compiled. Hence the last build also records the versions they were resolved to, along with a hash of their
+ * balos and bir in the home repository. A module is reused only if that hash still matches, and if the same versions
+ * would be resolved again: they are pinned by the lock file or by the project manifest, or the build is offline and
+ * no other version was pulled to the home repository. Otherwise a newer version may be resolved from central.
+ *
+ * @since 1.2.0
+ */
+public class FingerprintModulesTask implements Task {
+
+    static final String FINGERPRINT_CACHE_DIR_NAME = "fingerprint_cache";
+    static final String FINGERPRINT_FILE_EXT = ".properties";
+    static final String FINGERPRINT_KEY = "fingerprint";
+    static final String IMPORTS_KEY = "imports";
+    static final String OUTPUTS_KEY = "outputs";
+    static final String DEPENDENCIES_KEY = "dependencies";
+    static final String DEPENDENCIES_FINGERPRINT_KEY = "dependenciesFingerprint";
+    static final String LIST_SEPARATOR = ",";
+    private static final String BSTRING_PROP = "ballerina.bstring";
+
+    private final String buildOptions;
+
+    /**
+     * Create a task which finds the modules which can be reused from the last build.
+     *
+     * @param compile              whether only the modules are compiled, without building executables
+     * @param dumpBir              whether the bir is dumped while generating the jars
+     * @param skipCopyLibsFromDist whether the libraries are not copied from the distribution
+     * @param buildNative          whether a native binary is built
+     */
+    public FingerprintModulesTask(boolean compile, boolean dumpBir, boolean skipCopyLibsFromDist,
+                                  boolean buildNative) {
+        this.buildOptions = "compile=" + compile + ";dumpBir=" + dumpBir + ";skipCopyLibsFromDist=" +
+                skipCopyLibsFromDist + ";native=" + buildNative;
+    }
+
+    @Override
+    public void execute(BuildContext buildContext) {
+        Path sourceRoot = buildContext.get(BuildContextField.SOURCE_ROOT);
+        Path targetDir = buildContext.get(BuildContextField.TARGET_DIR);
+        Path fingerprintCacheDir = getFingerprintCacheDir(targetDir);
+        CompilerContext context = buildContext.get(BuildContextField.COMPILER_CONTEXT);
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        Manifest manifest = ManifestProcessor.getInstance(context).getManifest();
+        try {
+            byte[] commonInput = getCommonInput(sourceRoot, options, manifest);
+            Map<String, String> fingerprints = new TreeMap<>();
+            for (String module : listModules(sourceRoot)) {
+                fingerprints.put(module, getFingerprint(sourceRoot, module, manifest, commonInput));
+            }
+            Map<String, Properties> records = readRecords(fingerprintCacheDir);
+
+            Dependencies dependencies = new Dependencies(buildContext, sourceRoot, options, manifest);
+            Map<String, Boolean> reusable = new HashMap<>();
+            for (String module : fingerprints.keySet()) {
+                isReusable(module, fingerprints, records, targetDir, dependencies, reusable);
+            }
+            Set<String> cachedModules = new TreeSet<>();
+            for (String module : fingerprints.keySet()) {
+                if (reusable.get(module)) {
+                    cachedModules.add(module);
+                    continue;
+                }
+                // The module changed, hence its outputs are generated again.
+                PackageID id = new PackageID(new Name(manifest.getProject().getOrgName()), new Name(module),
+                        new Name(manifest.getProject().getVersion()));
+                deleteOutputs(buildContext, id);
+            }
+            // Outputs of the modules which changed, or which were removed from the project.
+            for (Map.Entry<String, Properties> record : records.entrySet()) {
+                if (!cachedModules.contains(record.getKey())) {
+                    deleteRecordedOutputs(targetDir, record.getValue());
+                    Files.delete(fingerprintCacheDir.resolve(record.getKey() + FINGERPRINT_FILE_EXT));
+                }
+            }
+
+            // The entry module of a single module build is compiled anyway, while its unchanged imports are reused.
+            if (buildContext.getSourceType() == SourceType.SINGLE_MODULE) {
+                SingleModuleContext moduleContext = buildContext.get(BuildContextField.SOURCE_CONTEXT);
+                cachedModules.remove(moduleContext.getModuleName());
+            } else if (!cachedModules.isEmpty()) {
+                buildContext.out().println("Reusing modules of the last build");
+                for (String module : cachedModules) {
+                    buildContext.out().println("\t" + manifest.getProject().getOrgName() + "/" + module + ":" +
+                            manifest.getProject().getVersion());
+                }
+                buildContext.out().println();
+            }
+            options.put(CompilerOptionName.CACHED_MODULES, String.join(LIST_SEPARATOR, cachedModules));
+            fingerprints.keySet().removeAll(cachedModules);
+            buildContext.put(BuildContextField.MODULE_FINGERPRINTS, fingerprints);
+        } catch (IOException e) {
+            throw createLauncherException("unable to fingerprint the modules: " + e.getMessage());
+        }
+    }
+
+    static Path getFingerprintCacheDir(Path targetDir) {
+        return targetDir.resolve(ProjectDirConstants.CACHES_DIR_NAME).resolve(FINGERPRINT_CACHE_DIR_NAME);
+    }
+
+    private byte[] getCommonInput(Path sourceRoot, CompilerOptions options, Manifest manifest) throws IOException {
+        MessageDigest digest = createDigest();
+        digest.update(RepoUtils.getBallerinaVersion().getBytes(StandardCharsets.UTF_8));
+        // Build options which change the generated bir, jars or executables, or whether tests are run.
+        String buildOptions = this.buildOptions + ";" + BSTRING_PROP + "=" + System.getProperty(BSTRING_PROP) +
+                ";skipTests=" + options.get(CompilerOptionName.SKIP_TESTS) + ";experimental=" +
+                options.get(CompilerOptionName.EXPERIMENTAL_FEATURES_ENABLED);
+        digest.update(buildOptions.getBytes(StandardCharsets.UTF_8));
+        Path manifestFile = sourceRoot.resolve(ProjectDirConstants.MANIFEST_FILE_NAME);
+        if (Files.exists(manifestFile)) {
+            digest.update(Files.readAllBytes(manifestFile));
+        }
+        for (Dependency dependency : manifest.getDependencies()) {
+            if (dependency.getMetadata() == null || dependency.getMetadata().getPath() == null) {
+                continue;
+            }
+            Path balo = sourceRoot.resolve(dependency.getMetadata().getPath());
+            if (Files.isRegularFile(balo)) {
+                digest.update(Files.readAllBytes(balo));
+            }
+        }
+        return digest.digest();
+    }
+
+    private static List<String> listModules(Path sourceRoot) throws IOException {
+        Path sourceDir = sourceRoot.resolve(ProjectDirConstants.SOURCE_DIR_NAME);
+        if (!Files.isDirectory(sourceDir)) {
+            return new ArrayList<>();
+        }
+        try (Stream<Path> paths = Files.list(sourceDir)) {
+            return paths.filter(Files::isDirectory)
+                    .filter(ProjectDirs::containsSourceFiles)
+                    .map(path -> path.getFileName().toString())
+                    .collect(Collectors.toList());
+        }
+    }
+
+    private static String getFingerprint(Path sourceRoot, String module, Manifest manifest, byte[] commonInput)
+            throws IOException {
+        MessageDigest digest = createDigest();
+        digest.update(commonInput);
+        digest.update((manifest.getProject().getOrgName() + "/" + module + ":" + manifest.getProject().getVersion())
+                .getBytes(StandardCharsets.UTF_8));
+        Path moduleDir = sourceRoot.resolve(ProjectDirConstants.SOURCE_DIR_NAME).resolve(module);
+        List<Path> files;
+        try (Stream<Path> paths = Files.walk(moduleDir)) {
+            files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+        }
+        for (Path file : files) {
+            digest.update(moduleDir.relativize(file).toString().getBytes(StandardCharsets.UTF_8));
+            digest.update(Files.readAllBytes(file));
+        }
+        return toHex(digest.digest());
+    }
+
+    private static Map<String, Properties> readRecords(Path fingerprintCacheDir) throws IOException {
+        Map<String, Properties> records = new HashMap<>();
+        if (!Files.isDirectory(fingerprintCacheDir)) {
+            return records;
+        }
+        List<Path> recordFiles;
+        try (Stream<Path> paths = Files.list(fingerprintCacheDir)) {
+            recordFiles = paths.filter(path -> path.getFileName().toString().endsWith(FINGERPRINT_FILE_EXT))
+                    .collect(Collectors.toList());
+        }
+        for (Path recordFile : recordFiles) {
+            String fileName = recordFile.getFileName().toString();
+            Properties record = new Properties();
+            try (Reader reader = Files.newBufferedReader(recordFile, StandardCharsets.UTF_8)) {
+                record.load(reader);
+            }
+            records.put(fileName.substring(0, fileName.length() - FINGERPRINT_FILE_EXT.length()), record);
+        }
+        return records;
+    }
+
+    private static boolean isReusable(String module, Map<String, String> fingerprints,
+                                      Map<String, Properties> records, Path targetDir, Dependencies dependencies,
+                                      Map<String, Boolean> reusable) throws IOException {
+        Boolean isReusable = reusable.get(module);
+        if (isReusable != null) {
+            return isReusable;
+        }
+        // Guards against cyclic imports, which fail the compilation anyway.
+        reusable.put(module, false);
+        Properties record = records.get(module);
+        isReusable = record != null && fingerprints.get(module).equals(record.getProperty(FINGERPRINT_KEY));
+        if (isReusable) {
+            for (String output : split(record.getProperty(OUTPUTS_KEY))) {
+                if (!Files.exists(targetDir.resolve(output))) {
+                    isReusable = false;
+                    break;
+                }
+            }
+        }
+        // A module is compiled again when a module it imports from outside the project would be resolved differently.
+        if (isReusable) {
+            String[] moduleDependencies = split(record.getProperty(DEPENDENCIES_KEY));
+            isReusable = dependencies.isResolvedAgain(moduleDependencies) &&
+                    dependencies.getFingerprint(moduleDependencies)
+                            .equals(record.getProperty(DEPENDENCIES_FINGERPRINT_KEY));
+        }
+        // A module is compiled again when a module it imports changes, since its interface may have changed.
+        if (isReusable) {
+            for (String importedModule : split(record.getProperty(IMPORTS_KEY))) {
+                if (!fingerprints.containsKey(importedModule) ||
+                        !isReusable(importedModule, fingerprints, records, targetDir, dependencies, reusable)) {
+                    isReusable = false;
+                    break;
+                }
+            }
+        }
+        reusable.put(module, isReusable);
+        return isReusable;
+    }
+
+    private static void deleteOutputs(BuildContext buildContext, PackageID id) throws IOException {
+        Files.deleteIfExists(buildContext.getBirPathFromTargetCache(id));
+        Files.deleteIfExists(buildContext.getTestBirPathFromTargetCache(id));
+        Files.deleteIfExists(buildContext.getJarPathFromTargetCache(id));
+        Files.deleteIfExists(buildContext.getTestJarPathFromTargetCache(id));
+        Files.deleteIfExists(buildContext.getBaloFromTarget(id));
+        Files.deleteIfExists(buildContext.getExecutablePathFromTarget(id));
+    }
+
+    private static void deleteRecordedOutputs(Path targetDir, Properties record) throws IOException {
+        for (String output : split(record.getProperty(OUTPUTS_KEY))) {
+            Files.deleteIfExists(targetDir.resolve(output));
+        }
+    }
+
+    private static String[] split(String list) {
+        if (list == null || list.isEmpty()) {
+            return new String[0];
+        }
+        return list.split(LIST_SEPARATOR);
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw createLauncherException("unable to fingerprint the modules: " + e.getMessage());
+        }
+    }
+
+    static String toHex(byte[] bytes) {
+        StringBuilder hex = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
+    /**
+     * The modules imported from outside the project, which are recorded as {@code org/name:version}.
+     */
+    static class Dependencies {
+
+        private final BuildContext buildContext;
+        private final Path sourceRoot;
+        private final Manifest manifest;
+        private final boolean offline;
+        // Versions pinned by the lock file for each org/name
+        private final Map<String, Set<String>> lockedVersions = new HashMap<>();
+
+        Dependencies(BuildContext buildContext, Path sourceRoot, CompilerOptions options, Manifest manifest)
+                throws IOException {
+            this.buildContext = buildContext;
+            this.sourceRoot = sourceRoot;
+            this.manifest = manifest;
+            this.offline = Boolean.parseBoolean(options.get(CompilerOptionName.OFFLINE));
+            Path lockFilePath = sourceRoot.resolve(ProjectDirConstants.LOCK_FILE_NAME);
+            if (Boolean.parseBoolean(options.get(CompilerOptionName.LOCK_ENABLED)) && Files.exists(lockFilePath)) {
+                LockFile lockFile;
+                try (InputStream inputStream = Files.newInputStream(lockFilePath)) {
+                    lockFile = LockFileProcessor.parseTomlContentAsStream(inputStream);
+                }
+                if (lockFile != null && lockFile.getImports() != null) {
+                    for (List<LockFileImport> imports : lockFile.getImports().values()) {
+                        for (LockFileImport lockFileImport : imports) {
+                            this.lockedVersions.computeIfAbsent(lockFileImport.getOrgName() + "/" +
+                                    lockFileImport.getName(), key -> new HashSet<>()).add(lockFileImport.getVersion());
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Check whether the given modules would be resolved to the same versions by this build.
+         *
+         * @param dependencies modules recorded by the last build
+         * @return true if the same versions would be resolved
+         */
+        boolean isResolvedAgain(String[] dependencies) {
+            for (String dependency : dependencies) {
+                PackageID id = toModuleID(dependency);
+                String module = id.orgName.value + "/" + id.name.value;
+                Set<String> locked = this.lockedVersions.get(module);
+                if (locked != null) {
+                    if (!locked.contains(id.version.value)) {
+                        return false;
+                    }
+                    continue;
+                }
+                Optional<Dependency> manifestDependency = this.manifest.getDependencies().stream()
+                        .filter(dep -> dep.getOrgName().equals(id.orgName.value) &&
+                                dep.getModuleName().equals(id.name.value))
+                        .findFirst();
+                if (manifestDependency.isPresent() && manifestDependency.get().getMetadata() != null) {
+                    String version = manifestDependency.get().getMetadata().getVersion();
+                    if (manifestDependency.get().getMetadata().getPath() != null ||
+                            (version != null && !"*".equals(version))) {
+                        if (version != null && !version.equals(id.version.value)) {
+                            return false;
+                        }
+                        continue;
+                    }
+                }
+                // The latest version is resolved from central when the build is online.
+                if (!this.offline) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Get a hash of the given modules, and of the balos and bir they are resolved from.
+         *
+         * @param dependencies modules imported from outside the project
+         * @return hash of the modules
+         * @throws IOException if the balos cannot be read
+         */
+        String getFingerprint(String[] dependencies) throws IOException {
+            MessageDigest digest = createDigest();
+            Set<String> sortedDependencies = new TreeSet<>(Arrays.asList(dependencies));
+            for (String dependency : sortedDependencies) {
+                digest.update(dependency.getBytes(StandardCharsets.UTF_8));
+                PackageID id = toModuleID(dependency);
+                Optional<Dependency> pathDependency = this.buildContext.getImportPathDependency(id);
+                if (pathDependency.isPresent()) {
+                    updateDigest(digest, this.sourceRoot.resolve(pathDependency.get().getMetadata().getPath()));
+                    continue;
+                }
+                Path baloDir = this.buildContext.getBaloCacheFromHome().resolve(id.orgName.value)
+                        .resolve(id.name.value);
+                // A version pulled to the home repository later may be resolved instead.
+                if (Files.isDirectory(baloDir)) {
+                    try (Stream<Path> versions = Files.list(baloDir)) {
+                        for (String version : versions.map(path -> path.getFileName().toString()).sorted()
+                                .collect(Collectors.toList())) {
+                            digest.update(version.getBytes(StandardCharsets.UTF_8));
+                        }
+                    }
+                }
+                updateDigest(digest, baloDir.resolve(id.version.value));
+                updateDigest(digest, this.buildContext.getBirCacheFromHome().resolve(id.orgName.value)
+                        .resolve(id.name.value).resolve(id.version.value));
+            }
+            return toHex(digest.digest());
+        }
+
+        private static void updateDigest(MessageDigest digest, Path path) throws IOException {
+            if (!Files.exists(path)) {
+                return;
+            }
+            List<Path> files;
+            try (Stream<Path> paths = Files.walk(path)) {
+                files = paths.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+            }
+            for (Path file : files) {
+                digest.update(file.toString().getBytes(StandardCharsets.UTF_8));
+                digest.update(Files.readAllBytes(file));
+            }
+        }
+
+        static String toDependency(PackageID id) {
+            return id.orgName.value + "/" + id.name.value + ":" + id.version.value;
+        }
+
+        private static PackageID toModuleID(String dependency) {
+            int orgEnd = dependency.indexOf('/');
+            int nameEnd = dependency.lastIndexOf(':');
+            return new PackageID(new Name(dependency.substring(0, orgEnd)),
+                    new Name(dependency.substring(orgEnd + 1, nameEnd)), new Name(dependency.substring(nameEnd + 1)));
+        }
+    }
+}
@@ -0,0 +1,663 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.writer;
+
+import org.wso2.ballerinalang.util.Lists;
+
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+
+/**
+ * Writes the executable jar of a module, which contains the module jar and the jars of its dependencies.
+ * <p>
+ * The entries are copied as they are compressed in the source jars, without inflating and deflating them again. The
+ * central directories of the source jars are read in parallel, an entry which is in more than one jar is copied from
+ * the first jar only, and the service provider files of the jars are merged.
+ * <p>
+ * The dependencies of a module seldom change between builds, hence they can be assembled in to a dependency layer jar,
+ * which is reused while the dependency jars do not change. The executable jar is then assembled from the module jar
+ * and the dependency layer jar.
+ *
+ * @since 1.2.0
+ */
+public class ExecutableJarWriter {
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int LOCAL_HEADER_SIZE = 30;
+    private static final int CENTRAL_HEADER_SIZE = 46;
+    private static final int END_SIZE = 22;
+    private static final int ZIP64_END_SIZE = 56;
+    private static final int ZIP64_LOCATOR_SIZE = 20;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+    private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+    private static final long ZIP64_MAGIC_VALUE = 0xFFFFFFFFL;
+    private static final int VERSION = 20;
+    private static final int ZIP64_VERSION = 45;
+    private static final int FLAG_ENCRYPTED = 1;
+    private static final int FLAG_DATA_DESCRIPTOR = 1 << 3;
+    private static final int FLAG_UTF8 = 1 << 11;
+    private static final int ZIP64_EXTRA_ID = 0x0001;
+    // Changing the layout of the dependency layer should change this, so that the cached layers are assembled again.
+    private static final String LAYER_FORMAT_VERSION = "1";
+
+    private static final String SERVICES_DIR = "META-INF/services";
+    private static final Set<String> EXCLUDED_EXTENSIONS = new HashSet<>(Lists.of("DSA", "SF"));
+
+    private final int jobs;
+
+    /**
+     * Creates a writer of executable jars.
+     *
+     * @param jobs number of source jars which are read at a time
+     */
+    public ExecutableJarWriter(int jobs) {
+        this.jobs = jobs;
+    }
+
+    /**
+     * Writes an executable jar.
+     *
+     * @param executablePath  path of the executable jar
+     * @param moduleJarPath   path of the jar of the module, whose entries take precedence over those of dependencies
+     * @param dependencyPaths paths of the dependency jars, in the order of precedence of their entries
+     * @param layerCachePath  path of the cached dependency layer jar, or null to copy the dependencies directly
+     * @throws IOException if a jar cannot be read or written
+     */
+    public void write(Path executablePath, Path moduleJarPath, Collection<Path> dependencyPaths, Path layerCachePath)
+            throws IOException {
+        List<Path> sourceJarPaths = new ArrayList<>();
+        sourceJarPaths.add(moduleJarPath);
+        if (layerCachePath == null) {
+            sourceJarPaths.addAll(dependencyPaths);
+        } else {
+            sourceJarPaths.add(getDependencyLayer(dependencyPaths, layerCachePath));
+        }
+        writeJar(executablePath, sourceJarPaths, "");
+    }
+
+    private Path getDependencyLayer(Collection<Path> dependencyPaths, Path layerPath) throws IOException {
+        // The key of the dependency jars is kept as the comment of the layer jar.
+        String key = getLayerKey(dependencyPaths);
+        if (Files.isRegularFile(layerPath)) {
+            try (FileChannel channel = FileChannel.open(layerPath, StandardOpenOption.READ)) {
+                if (key.equals(readEndRecord(channel, layerPath).comment)) {
+                    return layerPath;
+                }
+            } catch (IOException e) {
+                // An unreadable layer is assembled again.
+            }
+        }
+        Files.createDirectories(layerPath.getParent());
+        Path tempLayerPath = layerPath.resolveSibling(layerPath.getFileName() + ".tmp");
+        writeJar(tempLayerPath, new ArrayList<>(dependencyPaths), key);
+        Files.move(tempLayerPath, layerPath, StandardCopyOption.REPLACE_EXISTING);
+        return layerPath;
+    }
+
+    private String getLayerKey(Collection<Path> dependencyPaths) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException("unable to compute the key of the dependency jars: " + e.getMessage(), e);
+        }
+        digest.update(LAYER_FORMAT_VERSION.getBytes(StandardCharsets.UTF_8));
+        for (Path path : dependencyPaths) {
+            String dependency = path.toAbsolutePath() + ":" + Files.size(path) + ":" +
+                    Files.getLastModifiedTime(path).toMillis() + "\n";
+            digest.update(dependency.getBytes(StandardCharsets.UTF_8));
+        }
+        StringBuilder key = new StringBuilder();
+        for (byte b : digest.digest()) {
+            key.append(String.format("%02x", b));
+        }
+        return key.toString();
+    }
+
+    private void writeJar(Path jarPath, List<Path> sourceJarPaths, String comment) throws IOException {
+        List<SourceJar> sourceJars = readJars(sourceJarPaths);
+        Set<String> names = new HashSet<>();
+        Map<String, ServiceFile> services = new LinkedHashMap<>();
+        List<Entry> writtenEntries = new ArrayList<>();
+        try (FileChannel out = FileChannel.open(jarPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            for (SourceJar sourceJar : sourceJars) {
+                try (FileChannel in = FileChannel.open(sourceJar.path, StandardOpenOption.READ)) {
+                    for (Entry entry : sourceJar.entries) {
+                        // Skip the entries which are already copied from a previous jar.
+                        if (!names.add(entry.name)) {
+                            continue;
+                        }
+                        entry.localHeaderOffset = out.position();
+                        writeFully(out, createLocalHeader(entry));
+                        transferFully(in, entry.dataOffset, entry.compressedSize, out);
+                        writtenEntries.add(entry);
+                    }
+                }
+                for (ServiceFile serviceFile : sourceJar.serviceFiles) {
+                    ServiceFile mergedServiceFile = services.get(serviceFile.name);
+                    if (mergedServiceFile == null) {
+                        services.put(serviceFile.name, serviceFile);
+                    } else {
+                        mergedServiceFile.append(serviceFile);
+                    }
+                }
+            }
+            // Write the merged spi services.
+            for (ServiceFile serviceFile : services.values()) {
+                Entry entry = serviceFile.toEntry();
+                entry.localHeaderOffset = out.position();
+                writeFully(out, createLocalHeader(entry));
+                writeFully(out, ByteBuffer.wrap(serviceFile.content.toByteArray()));
+                writtenEntries.add(entry);
+            }
+            writeCentralDirectory(out, writtenEntries, comment);
+        }
+    }
+
+    private List<SourceJar> readJars(List<Path> jarPaths) throws IOException {
+        List<SourceJar> sourceJars = new ArrayList<>(jarPaths.size());
+        int parallelism = Math.min(jobs, jarPaths.size());
+        if (parallelism <= 1) {
+            for (Path jarPath : jarPaths) {
+                sourceJars.add(readJar(jarPath));
+            }
+            return sourceJars;
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<Future<SourceJar>> tasks = new ArrayList<>(jarPaths.size());
+            for (Path jarPath : jarPaths) {
+                tasks.add(pool.submit(() -> readJar(jarPath)));
+            }
+            for (Future<SourceJar> task : tasks) {
+                sourceJars.add(task.get());
+            }
+            return sourceJars;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("interrupted while reading the jar files");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause.getMessage(), cause);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private SourceJar readJar(Path jarPath) throws IOException {
+        SourceJar sourceJar = new SourceJar(jarPath);
+        try (FileChannel channel = FileChannel.open(jarPath, StandardOpenOption.READ)) {
+            EndRecord end = readEndRecord(channel, jarPath);
+            if (end.centralDirectorySize > Integer.MAX_VALUE) {
+                throw new IOException("unsupported central directory size in '" + jarPath + "'");
+            }
+            ByteBuffer centralDirectory = read(channel, end.centralDirectoryOffset, (int) end.centralDirectorySize);
+            ByteBuffer localHeader = ByteBuffer.allocate(LOCAL_HEADER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+            int position = 0;
+            for (long i = 0; i < end.entryCount; i++) {
+                if (position + CENTRAL_HEADER_SIZE > centralDirectory.limit() ||
+                        centralDirectory.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+                    throw new IOException("invalid central directory in '" + jarPath + "'");
+                }
+                int flags = getUnsignedShort(centralDirectory, position + 8);
+                int method = getUnsignedShort(centralDirectory, position + 10);
+                int dosTime = centralDirectory.getInt(position + 12);
+                int crc = centralDirectory.getInt(position + 16);
+                long compressedSize = getUnsignedInt(centralDirectory, position + 20);
+                long size = getUnsignedInt(centralDirectory, position + 24);
+                int nameLength = getUnsignedShort(centralDirectory, position + 28);
+                int extraLength = getUnsignedShort(centralDirectory, position + 30);
+                int commentLength = getUnsignedShort(centralDirectory, position + 32);
+                long localHeaderOffset = getUnsignedInt(centralDirectory, position + 42);
+                if (position + CENTRAL_HEADER_SIZE + nameLength + extraLength > centralDirectory.limit()) {
+                    throw new IOException("invalid central directory in '" + jarPath + "'");
+                }
+                byte[] nameBytes = new byte[nameLength];
+                centralDirectory.position(position + CENTRAL_HEADER_SIZE);
+                centralDirectory.get(nameBytes);
+                int extraPosition = position + CENTRAL_HEADER_SIZE + nameLength;
+                position += CENTRAL_HEADER_SIZE + nameLength + extraLength + commentLength;
+
+                String name = new String(nameBytes, StandardCharsets.UTF_8);
+                // Skip directories and excluded extensions.
+                if (name.endsWith("/") || EXCLUDED_EXTENSIONS.contains(name.substring(name.lastIndexOf(".") + 1))) {
+                    continue;
+                }
+                if ((flags & FLAG_ENCRYPTED) != 0) {
+                    throw new IOException("encrypted entry '" + name + "' in '" + jarPath + "' is not supported");
+                }
+                if (compressedSize == ZIP64_MAGIC_VALUE || size == ZIP64_MAGIC_VALUE ||
+                        localHeaderOffset == ZIP64_MAGIC_VALUE) {
+                    // The actual values are in the zip64 extra field, in this order, for the fields which overflow.
+                    ByteBuffer zip64Extra = findZip64Extra(centralDirectory, extraPosition, extraLength);
+                    if (zip64Extra == null) {
+                        throw new IOException("invalid zip64 entry '" + name + "' in '" + jarPath + "'");
+                    }
+                    try {
+                        if (size == ZIP64_MAGIC_VALUE) {
+                            size = zip64Extra.getLong();
+                        }
+                        if (compressedSize == ZIP64_MAGIC_VALUE) {
+                            compressedSize = zip64Extra.getLong();
+                        }
+                        if (localHeaderOffset == ZIP64_MAGIC_VALUE) {
+                            localHeaderOffset = zip64Extra.getLong();
+                        }
+                    } catch (BufferUnderflowException e) {
+                        throw new IOException("invalid zip64 entry '" + name + "' in '" + jarPath + "'", e);
+                    }
+                    // The entries are written without zip64 extra fields.
+                    if (size >= ZIP64_MAGIC_VALUE || compressedSize >= ZIP64_MAGIC_VALUE) {
+                        throw new IOException("entry '" + name + "' in '" + jarPath + "' is larger than 4GB, " +
+                                "which is not supported");
+                    }
+                }
+
+                // The data of an entry starts after its local header, whose extra field may differ from that of the
+                // central directory.
+                long localHeaderPosition = end.baseOffset + localHeaderOffset;
+                localHeader.clear();
+                readFully(channel, localHeader, localHeaderPosition);
+                if (localHeader.getInt(0) != LOCAL_HEADER_SIGNATURE) {
+                    throw new IOException("invalid local header of '" + name + "' in '" + jarPath + "'");
+                }
+                long dataOffset = localHeaderPosition + LOCAL_HEADER_SIZE + getUnsignedShort(localHeader, 26) +
+                        getUnsignedShort(localHeader, 28);
+
+                // The sizes are written in the local header, hence a data descriptor is not needed.
+                Entry entry = new Entry(name, nameBytes, flags & ~FLAG_DATA_DESCRIPTOR, method, dosTime, crc,
+                        compressedSize, size, dataOffset);
+                // SPIs will be merged first and then put into jar separately.
+                if (name.startsWith(SERVICES_DIR)) {
+                    sourceJar.serviceFiles.add(new ServiceFile(entry, readContent(channel, entry, jarPath)));
+                } else {
+                    sourceJar.entries.add(entry);
+                }
+            }
+        }
+        return sourceJar;
+    }
+
+    private static ByteBuffer findZip64Extra(ByteBuffer centralDirectory, int extraPosition, int extraLength) {
+        int position = extraPosition;
+        int extraEnd = extraPosition + extraLength;
+        while (position + 4 <= extraEnd) {
+            int headerId = getUnsignedShort(centralDirectory, position);
+            int dataSize = getUnsignedShort(centralDirectory, position + 2);
+            if (position + 4 + dataSize > extraEnd) {
+                return null;
+            }
+            if (headerId == ZIP64_EXTRA_ID) {
+                ByteBuffer zip64Extra = centralDirectory.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+                zip64Extra.limit(position + 4 + dataSize);
+                zip64Extra.position(position + 4);
+                return zip64Extra;
+            }
+            position += 4 + dataSize;
+        }
+        return null;
+    }
+
+    private EndRecord readEndRecord(FileChannel channel, Path jarPath) throws IOException {
+        long fileSize = channel.size();
+        int tailSize = (int) Math.min(fileSize, ZIP64_LOCATOR_SIZE + END_SIZE + MAX_COMMENT_SIZE);
+        long tailOffset = fileSize - tailSize;
+        ByteBuffer tail = read(channel, tailOffset, tailSize);
+        int endPosition = -1;
+        for (int i = tailSize - END_SIZE; i >= 0; i--) {
+            if (tail.getInt(i) == END_SIGNATURE && i + END_SIZE + getUnsignedShort(tail, i + 20) <= tailSize) {
+                endPosition = i;
+                break;
+            }
+        }
+        if (endPosition < 0) {
+            throw new IOException("unable to find the end of the central directory in '" + jarPath + "'");
+        }
+
+        EndRecord end = new EndRecord();
+        byte[] comment = new byte[getUnsignedShort(tail, endPosition + 20)];
+        tail.position(endPosition + END_SIZE);
+        tail.get(comment);
+        end.comment = new String(comment, StandardCharsets.UTF_8);
+
+        int locatorPosition = endPosition - ZIP64_LOCATOR_SIZE;
+        if (locatorPosition >= 0 && tail.getInt(locatorPosition) == ZIP64_LOCATOR_SIGNATURE) {
+            // The offset in the locator does not count the data a jar may be prefixed with, hence the zip64 end
+            // record is looked up right before the locator first.
+            long zip64EndOffset = tailOffset + locatorPosition - ZIP64_END_SIZE;
+            ByteBuffer zip64End = zip64EndOffset >= 0 ? read(channel, zip64EndOffset, ZIP64_END_SIZE) : null;
+            if (zip64End == null || zip64End.getInt(0) != ZIP64_END_SIGNATURE) {
+                zip64EndOffset = tail.getLong(locatorPosition + 8);
+                if (zip64EndOffset < 0 || zip64EndOffset > fileSize - ZIP64_END_SIZE) {
+                    throw new IOException("invalid zip64 end of the central directory in '" + jarPath + "'");
+                }
+                zip64End = read(channel, zip64EndOffset, ZIP64_END_SIZE);
+                if (zip64End.getInt(0) != ZIP64_END_SIGNATURE) {
+                    throw new IOException("invalid zip64 end of the central directory in '" + jarPath + "'");
+                }
+            }
+            end.entryCount = zip64End.getLong(32);
+            end.centralDirectorySize = zip64End.getLong(40);
+            long centralDirectoryOffset = zip64End.getLong(48);
+            end.baseOffset = zip64EndOffset - end.centralDirectorySize - centralDirectoryOffset;
+            end.centralDirectoryOffset = end.baseOffset + centralDirectoryOffset;
+        } else {
+            end.entryCount = getUnsignedShort(tail, endPosition + 10);
+            end.centralDirectorySize = getUnsignedInt(tail, endPosition + 12);
+            long centralDirectoryOffset = getUnsignedInt(tail, endPosition + 16);
+            // A jar may be prefixed with other data, such as a launcher script, which shifts all the offsets.
+            end.baseOffset = tailOffset + endPosition - end.centralDirectorySize - centralDirectoryOffset;
+            end.centralDirectoryOffset = end.baseOffset + centralDirectoryOffset;
+        }
+        if (end.baseOffset < 0) {
+            throw new IOException("invalid central directory offset in '" + jarPath + "'");
+        }
+        return end;
+    }
+
+    private byte[] readContent(FileChannel channel, Entry entry, Path jarPath) throws IOException {
+        if (entry.compressedSize > Integer.MAX_VALUE || entry.size > Integer.MAX_VALUE) {
+            throw new IOException("unsupported size of '" + entry.name + "' in '" + jarPath + "'");
+        }
+        byte[] compressed = new byte[(int) entry.compressedSize];
+        readFully(channel, ByteBuffer.wrap(compressed), entry.dataOffset);
+        if (entry.method == ZipEntry.STORED) {
+            return compressed;
+        }
+        if (entry.method != ZipEntry.DEFLATED) {
+            throw new IOException("unsupported compression method of '" + entry.name + "' in '" + jarPath + "'");
+        }
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(compressed);
+            byte[] content = new byte[(int) entry.size];
+            int length = 0;
+            while (length < content.length && !inflater.finished()) {
+                int inflated = inflater.inflate(content, length, content.length - length);
+                if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += inflated;
+            }
+            if (length != content.length) {
+                throw new IOException("invalid compressed data of '" + entry.name + "' in '" + jarPath + "'");
+            }
+            return content;
+        } catch (DataFormatException e) {
+            throw new IOException("invalid compressed data of '" + entry.name + "' in '" + jarPath + "'", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private ByteBuffer createLocalHeader(Entry entry) {
+        ByteBuffer header = ByteBuffer.allocate(LOCAL_HEADER_SIZE + entry.nameBytes.length)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        header.putInt(LOCAL_HEADER_SIGNATURE);
+        header.putShort((short) VERSION);
+        header.putShort((short) entry.flags);
+        header.putShort((short) entry.method);
+        header.putInt(entry.dosTime);
+        header.putInt(entry.crc);
+        header.putInt((int) entry.compressedSize);
+        header.putInt((int) entry.size);
+        header.putShort((short) entry.nameBytes.length);
+        header.putShort((short) 0);
+        header.put(entry.nameBytes);
+        header.flip();
+        return header;
+    }
+
+    private void writeCentralDirectory(FileChannel out, List<Entry> entries, String comment) throws IOException {
+        long centralDirectoryOffset = out.position();
+        if (centralDirectoryOffset >= ZIP64_MAGIC_VALUE) {
+            throw new IOException("jar files larger than 4GB are not supported");
+        }
+        int centralDirectorySize = 0;
+        for (Entry entry : entries) {
+            centralDirectorySize += CENTRAL_HEADER_SIZE + entry.nameBytes.length;
+        }
+        ByteBuffer centralDirectory = ByteBuffer.allocate(centralDirectorySize).order(ByteOrder.LITTLE_ENDIAN);
+        for (Entry entry : entries) {
+            centralDirectory.putInt(CENTRAL_HEADER_SIGNATURE);
+            centralDirectory.putShort((short) VERSION);
+            centralDirectory.putShort((short) VERSION);
+            centralDirectory.putShort((short) entry.flags);
+            centralDirectory.putShort((short) entry.method);
+            centralDirectory.putInt(entry.dosTime);
+            centralDirectory.putInt(entry.crc);
+            centralDirectory.putInt((int) entry.compressedSize);
+            centralDirectory.putInt((int) entry.size);
+            centralDirectory.putShort((short) entry.nameBytes.length);
+            // Extra field length, comment length, disk number and internal attributes
+            centralDirectory.putShort((short) 0);
+            centralDirectory.putShort((short) 0);
+            centralDirectory.putShort((short) 0);
+            centralDirectory.putShort((short) 0);
+            // External attributes
+            centralDirectory.putInt(0);
+            centralDirectory.putInt((int) entry.localHeaderOffset);
+            centralDirectory.put(entry.nameBytes);
+        }
+        centralDirectory.flip();
+        writeFully(out, centralDirectory);
+
+        byte[] commentBytes = comment.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer end = ByteBuffer.allocate(ZIP64_END_SIZE + ZIP64_LOCATOR_SIZE + END_SIZE + commentBytes.length)
+                .order(ByteOrder.LITTLE_ENDIAN);
+        // The entry count of the end record is 2 bytes long, hence a zip64 end record is needed for more entries.
+        boolean zip64 = entries.size() >= ZIP64_MAGIC_COUNT;
+        if (zip64) {
+            long zip64EndOffset = centralDirectoryOffset + centralDirectorySize;
+            end.putInt(ZIP64_END_SIGNATURE);
+            end.putLong(ZIP64_END_SIZE - 12);
+            end.putShort((short) ZIP64_VERSION);
+            end.putShort((short) ZIP64_VERSION);
+            end.putInt(0);
+            end.putInt(0);
+            end.putLong(entries.size());
+            end.putLong(entries.size());
+            end.putLong(centralDirectorySize);
+            end.putLong(centralDirectoryOffset);
+
+            end.putInt(ZIP64_LOCATOR_SIGNATURE);
+            end.putInt(0);
+            end.putLong(zip64EndOffset);
+            end.putInt(1);
+        }
+        int entryCount = zip64 ? ZIP64_MAGIC_COUNT : entries.size();
+        end.putInt(END_SIGNATURE);
+        end.putShort((short) 0);
+        end.putShort((short) 0);
+        end.putShort((short) entryCount);
+        end.putShort((short) entryCount);
+        end.putInt(centralDirectorySize);
+        end.putInt((int) centralDirectoryOffset);
+        end.putShort((short) commentBytes.length);
+        end.put(commentBytes);
+        end.flip();
+        writeFully(out, end);
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        readFully(channel, buffer, position);
+        return buffer;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            int read = channel.read(buffer, position);
+            if (read < 0) {
+                throw new EOFException("unexpected end of the jar file");
+            }
+            position += read;
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    private static void transferFully(FileChannel in, long position, long count, FileChannel out) throws IOException {
+        while (count > 0) {
+            long transferred = in.transferTo(position, count, out);
+            if (transferred <= 0) {
+                throw new EOFException("unexpected end of the jar file");
+            }
+            position += transferred;
+            count -= transferred;
+        }
+    }
+
+    private static int getUnsignedShort(ByteBuffer buffer, int index) {
+        return buffer.getShort(index) & 0xFFFF;
+    }
+
+    private static long getUnsignedInt(ByteBuffer buffer, int index) {
+        return buffer.getInt(index) & ZIP64_MAGIC_VALUE;
+    }
+
+    /**
+     * An entry of a jar, whose data is copied from a source jar as it is compressed.
+     */
+    private static class Entry {
+        final String name;
+        final byte[] nameBytes;
+        final int flags;
+        final int method;
+        final int dosTime;
+        final int crc;
+        final long compressedSize;
+        final long size;
+        final long dataOffset;
+        long localHeaderOffset;
+
+        Entry(String name, byte[] nameBytes, int flags, int method, int dosTime, int crc, long compressedSize,
+              long size, long dataOffset) {
+            this.name = name;
+            this.nameBytes = nameBytes;
+            this.flags = flags;
+            this.method = method;
+            this.dosTime = dosTime;
+            this.crc = crc;
+            this.compressedSize = compressedSize;
+            this.size = size;
+            this.dataOffset = dataOffset;
+        }
+    }
+
+    /**
+     * A spi service file, which is merged with the service files of the same name in the other jars.
+     */
+    private static class ServiceFile {
+        final String name;
+        final int dosTime;
+        final ByteArrayOutputStream content = new ByteArrayOutputStream();
+
+        ServiceFile(Entry entry, byte[] content) {
+            this.name = entry.name;
+            this.dosTime = entry.dosTime;
+            append(content);
+        }
+
+        void append(ServiceFile serviceFile) {
+            append(serviceFile.content.toByteArray());
+        }
+
+        private void append(byte[] bytes) {
+            content.write(bytes, 0, bytes.length);
+            if (bytes.length > 0 && bytes[bytes.length - 1] != '\n') {
+                content.write('\n');
+            }
+        }
+
+        Entry toEntry() {
+            byte[] bytes = content.toByteArray();
+            CRC32 crc = new CRC32();
+            crc.update(bytes);
+            return new Entry(name, name.getBytes(StandardCharsets.UTF_8), FLAG_UTF8, ZipEntry.STORED, dosTime,
+                    (int) crc.getValue(), bytes.length, bytes.length, -1);
+        }
+    }
+
+    /**
+     * The entries of a source jar, in the order of its central directory.
+     */
+    private static class SourceJar {
+        final Path path;
+        final List<Entry> entries = new ArrayList<>();
+        final List<ServiceFile> serviceFiles = new ArrayList<>();
+
+        SourceJar(Path path) {
+            this.path = path;
+        }
+    }
+
+    /**
+     * The end of the central directory of a jar.
+     */
+    private static class EndRecord {
+        long entryCount;
+        long centralDirectorySize;
+        long centralDirectoryOffset;
+        long baseOffset;
+        String comment;
+    }
+}
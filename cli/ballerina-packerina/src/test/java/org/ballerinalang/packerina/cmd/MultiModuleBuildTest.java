@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.cmd;
+
+import org.ballerinalang.util.BootstrapRunner;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
+import picocli.CommandLine;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BLANG_COMPILED_JAR_EXT;
+
+/**
+ * Tests building the modules of a project concurrently, with the compiler backend in the build process, and
+ * incrementally.
+ *
+ * @since 1.2.0
+ */
+public class MultiModuleBuildTest extends CommandTest {
+
+    private static final String COMPILER_BACKEND_JVM = "ballerina.compiler_backend_jvm.___init";
+    private static final String JAR_JOBS = "ballerina.build.jarJobs";
+
+    @Test(description = "Build the modules of a project with a jar generation job per module")
+    public void testBuildModulesConcurrently() throws IOException, InterruptedException {
+        Path projectPath = createProject("concurrent-build-project");
+        build(projectPath, 3);
+        Assert.assertTrue(Files.exists(getJarPathFromTargetCache(projectPath, "greeter")));
+        Assert.assertTrue(Files.exists(getJarPathFromTargetCache(projectPath, "punctuator")));
+        assertExecutableOutput(projectPath);
+    }
+
+    @Test(description = "Build the modules of a project with the compiler backend in the build process")
+    public void testBuildModulesWithBackendInCurrentProcess() throws IOException, InterruptedException {
+        if (!BootstrapRunner.isInProcessBackendSupported()) {
+            throw new SkipException("the compiler backend cannot be run in the current process on this JDK");
+        }
+        try {
+            Class.forName(COMPILER_BACKEND_JVM);
+        } catch (ClassNotFoundException e) {
+            throw new SkipException("the compiler backend is not in the class path");
+        }
+
+        Path projectPath = createProject("in-process-backend-project");
+        int runs = BootstrapRunner.getInProcessBackendRuns();
+        // The jars are generated one at a time, so that none of them is generated in a separate process.
+        build(projectPath, 1);
+
+        // Each module is a run of the backend, and the module initialization of each run starts anew.
+        Assert.assertTrue(BootstrapRunner.getInProcessBackendRuns() - runs >= 3,
+                          "the jars of all the modules have to be generated in the current process");
+        assertExecutableOutput(projectPath);
+    }
+
+    @Test(description = "An incremental build compiles only the modules which changed since the last build")
+    public void testIncrementalBuildReusesUnchangedModules() throws IOException, InterruptedException {
+        Path projectPath = createProject("incremental-build-project");
+        String output = build(projectPath, 1, "--incremental");
+        Assert.assertFalse(output.contains("Reusing modules of the last build"), output);
+
+        Path mainBal = projectPath.resolve(ProjectDirConstants.SOURCE_DIR_NAME).resolve("app").resolve("main.bal");
+        Files.write(mainBal, new String(Files.readAllBytes(mainBal), StandardCharsets.UTF_8)
+                .replace("\"World\"", "\"Ballerina\"").getBytes(StandardCharsets.UTF_8));
+        output = build(projectPath, 1, "--incremental");
+
+        String compiled = output.substring(output.indexOf("Compiling source"));
+        Assert.assertTrue(output.contains("Reusing modules of the last build"), output);
+        Assert.assertTrue(output.contains("testOrg/greeter:0.1.0"), output);
+        Assert.assertTrue(output.contains("testOrg/punctuator:0.1.0"), output);
+        Assert.assertTrue(compiled.contains("testOrg/app:0.1.0"), output);
+        Assert.assertFalse(compiled.contains("testOrg/greeter:0.1.0"), output);
+        Assert.assertTrue(Files.exists(getJarPathFromTargetCache(projectPath, "greeter")));
+        assertExecutableOutput(projectPath, "Hello, Ballerina!");
+    }
+
+    @Test(description = "An incremental build compiles a changed module and the modules importing it")
+    public void testIncrementalBuildCompilesChangedModuleAndImporters() throws IOException, InterruptedException {
+        Path projectPath = createProject("incremental-build-imported-project");
+        build(projectPath, 1, "--incremental");
+
+        Path greeterBal = projectPath.resolve(ProjectDirConstants.SOURCE_DIR_NAME).resolve("greeter")
+                .resolve("greeter.bal");
+        Files.write(greeterBal, new String(Files.readAllBytes(greeterBal), StandardCharsets.UTF_8)
+                .replace("\"Hello, \"", "\"Hi, \"").getBytes(StandardCharsets.UTF_8));
+        String output = build(projectPath, 1, "--incremental");
+
+        String reused = output.substring(0, output.indexOf("Compiling source"));
+        String compiled = output.substring(output.indexOf("Compiling source"));
+        Assert.assertTrue(reused.contains("testOrg/punctuator:0.1.0"), output);
+        Assert.assertFalse(reused.contains("testOrg/greeter:0.1.0"), output);
+        Assert.assertFalse(reused.contains("testOrg/app:0.1.0"), output);
+        Assert.assertTrue(compiled.contains("testOrg/greeter:0.1.0"), output);
+        Assert.assertTrue(compiled.contains("testOrg/app:0.1.0"), output);
+        Assert.assertFalse(compiled.contains("testOrg/punctuator:0.1.0"), output);
+        assertExecutableOutput(projectPath, "Hi, World!");
+    }
+
+    private Path createProject(String name) throws IOException {
+        Path projectPath = this.tmpDir.resolve(name);
+        Path src = projectPath.resolve(ProjectDirConstants.SOURCE_DIR_NAME);
+        Files.createDirectories(src.resolve("greeter"));
+        Files.createDirectories(src.resolve("punctuator"));
+        Files.createDirectories(src.resolve("app"));
+        Files.write(projectPath.resolve(ProjectDirConstants.MANIFEST_FILE_NAME),
+                    ("[project]\norg-name= \"testOrg\"\nversion= \"0.1.0\"\n").getBytes(StandardCharsets.UTF_8));
+        Files.write(src.resolve("greeter").resolve("greeter.bal"),
+                    ("public function greet(string name) returns string {\n" +
+                     "    return \"Hello, \" + name;\n" +
+                     "}\n").getBytes(StandardCharsets.UTF_8));
+        Files.write(src.resolve("punctuator").resolve("punctuator.bal"),
+                    ("public function exclaim(string sentence) returns string {\n" +
+                     "    return sentence + \"!\";\n" +
+                     "}\n").getBytes(StandardCharsets.UTF_8));
+        Files.write(src.resolve("app").resolve("main.bal"),
+                    ("import ballerina/io;\n" +
+                     "import testOrg/greeter;\n" +
+                     "import testOrg/punctuator;\n\n" +
+                     "public function main() {\n" +
+                     "    io:println(punctuator:exclaim(greeter:greet(\"World\")));\n" +
+                     "}\n").getBytes(StandardCharsets.UTF_8));
+        return projectPath;
+    }
+
+    private String build(Path projectPath, int jobs, String... options) throws IOException {
+        String jarJobs = System.getProperty(JAR_JOBS);
+        System.setProperty(JAR_JOBS, String.valueOf(jobs));
+        try {
+            BuildCommand buildCommand = new BuildCommand(projectPath, printStream, printStream, false, true);
+            List<String> args = new ArrayList<>(Arrays.asList("--all", "--skip-tests"));
+            args.addAll(Arrays.asList(options));
+            new CommandLine(buildCommand).parse(args.toArray(new String[0]));
+            buildCommand.execute();
+        } finally {
+            if (jarJobs == null) {
+                System.clearProperty(JAR_JOBS);
+            } else {
+                System.setProperty(JAR_JOBS, jarJobs);
+            }
+        }
+        return readOutput(true);
+    }
+
+    private static Path getJarPathFromTargetCache(Path projectPath, String module) {
+        return projectPath.resolve(ProjectDirConstants.TARGET_DIR_NAME).resolve(ProjectDirConstants.CACHES_DIR_NAME)
+                .resolve(ProjectDirConstants.JAR_CACHE_DIR_NAME).resolve("testOrg").resolve(module).resolve("0.1.0")
+                .resolve("testOrg-" + module + "-0.1.0" + BLANG_COMPILED_JAR_EXT);
+    }
+
+    private static void assertExecutableOutput(Path projectPath) throws IOException, InterruptedException {
+        assertExecutableOutput(projectPath, "Hello, World!");
+    }
+
+    private static void assertExecutableOutput(Path projectPath, String expectedOutput)
+            throws IOException, InterruptedException {
+        Path executable = projectPath.resolve(ProjectDirConstants.TARGET_DIR_NAME)
+                .resolve(ProjectDirConstants.BIN_DIR_NAME).resolve("app" + BLANG_COMPILED_JAR_EXT);
+        Assert.assertTrue(Files.exists(executable));
+
+        Path java = Paths.get(System.getProperty("java.home"), "bin", "java");
+        Process process = new ProcessBuilder(java.toString(), "-jar", executable.toString())
+                .redirectErrorStream(true).start();
+        String output;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(),
+                                                                              StandardCharsets.UTF_8))) {
+            output = reader.lines().collect(Collectors.joining("\n"));
+        }
+        Assert.assertTrue(process.waitFor(60, TimeUnit.SECONDS));
+        Assert.assertEquals(process.exitValue(), 0, output);
+        Assert.assertEquals(output.trim(), expectedOutput);
+    }
+}
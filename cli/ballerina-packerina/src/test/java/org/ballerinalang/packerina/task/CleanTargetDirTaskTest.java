@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.task;
+
+import org.ballerinalang.packerina.buildcontext.BuildContext;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.ballerinalang.packerina.utils.FileUtils.deleteDirectory;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BALLERINA_HOME;
+
+/**
+ * Tests cleaning up the target directory with {@link CleanTargetDirTask}.
+ *
+ * @since 1.2.0
+ */
+public class CleanTargetDirTaskTest {
+
+    private Path tmpDir;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        this.tmpDir = Files.createTempDirectory("b7a-clean-target-test-" + System.nanoTime());
+        System.setProperty(BALLERINA_HOME, this.tmpDir.resolve("home").toString());
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        deleteDirectory(this.tmpDir);
+    }
+
+    @Test(description = "The whole target directory is removed")
+    public void testTargetDirRemoved() throws IOException {
+        Path targetDir = createTarget("clean");
+
+        new CleanTargetDirTask().execute(new BuildContext(targetDir.getParent(), targetDir, null));
+
+        Assert.assertFalse(Files.exists(targetDir));
+    }
+
+    @Test(description = "The outputs of the modules are kept for incremental builds")
+    public void testModuleOutputsKept() throws IOException {
+        Path targetDir = createTarget("keep-outputs");
+
+        new CleanTargetDirTask(true).execute(new BuildContext(targetDir.getParent(), targetDir, null));
+
+        Assert.assertTrue(Files.exists(targetDir.resolve("caches").resolve("jar_cache").resolve("app.jar")));
+        Assert.assertTrue(Files.exists(targetDir.resolve("bin").resolve("app.jar")));
+        Assert.assertTrue(Files.exists(targetDir.resolve("balo").resolve("app.balo")));
+        Assert.assertFalse(Files.exists(targetDir.resolve("tmp")));
+        Assert.assertFalse(Files.exists(targetDir.resolve("test_results.json")));
+    }
+
+    @Test(description = "A missing target directory is ignored")
+    public void testMissingTargetDirIgnored() throws IOException {
+        Path projectDir = Files.createDirectories(this.tmpDir.resolve("missing-target"));
+        Path targetDir = projectDir.resolve("target");
+
+        new CleanTargetDirTask(true).execute(new BuildContext(projectDir, targetDir, null));
+
+        Assert.assertFalse(Files.exists(targetDir));
+    }
+
+    private Path createTarget(String projectName) throws IOException {
+        Path targetDir = this.tmpDir.resolve(projectName).resolve("target");
+        writeFile(targetDir.resolve("caches").resolve("jar_cache").resolve("app.jar"));
+        writeFile(targetDir.resolve("bin").resolve("app.jar"));
+        writeFile(targetDir.resolve("balo").resolve("app.balo"));
+        writeFile(targetDir.resolve("tmp").resolve("app-testable.jar"));
+        writeFile(targetDir.resolve("test_results.json"));
+        return targetDir;
+    }
+
+    private static void writeFile(Path path) throws IOException {
+        Files.createDirectories(path.getParent());
+        Files.write(path, "content".getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.task;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests the concurrent jar generation of {@link CreateJarTask}.
+ *
+ * @since 1.2.0
+ */
+public class CreateJarTaskTest {
+
+    private static final int MODULES = 4;
+
+    @AfterMethod
+    public void clearBuildJobs() {
+        System.clearProperty(CreateJarTask.JAR_JOBS);
+    }
+
+    @Test(description = "Jars of several modules are generated at the same time")
+    public void testJarsGeneratedConcurrently() {
+        System.setProperty(CreateJarTask.JAR_JOBS, String.valueOf(MODULES));
+        // Each jar generation waits for all the others to start, which only completes if they run concurrently.
+        CountDownLatch started = new CountDownLatch(MODULES);
+        List<String> threads = Collections.synchronizedList(new ArrayList<>());
+        Map<Path, Runnable> jarGenerations = new LinkedHashMap<>();
+        for (int i = 0; i < MODULES; i++) {
+            jarGenerations.put(Paths.get("module" + i + ".jar"), () -> {
+                started.countDown();
+                try {
+                    Assert.assertTrue(started.await(30, TimeUnit.SECONDS), "jars are not generated concurrently");
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    Assert.fail("interrupted while generating a jar");
+                }
+                threads.add(Thread.currentThread().getName());
+            });
+        }
+
+        CreateJarTask.generateJars(jarGenerations);
+
+        Assert.assertTrue(jarGenerations.isEmpty());
+        Assert.assertEquals(threads.size(), MODULES);
+        Assert.assertEquals(threads.stream().distinct().count(), MODULES);
+    }
+
+    @Test(description = "Jars are generated in order with a single job")
+    public void testJarsGeneratedInOrderWithSingleJob() {
+        System.setProperty(CreateJarTask.JAR_JOBS, "1");
+        Thread caller = Thread.currentThread();
+        List<Integer> order = new ArrayList<>();
+        Map<Path, Runnable> jarGenerations = new LinkedHashMap<>();
+        for (int i = 0; i < MODULES; i++) {
+            int module = i;
+            jarGenerations.put(Paths.get("module" + i + ".jar"), () -> {
+                order.add(module);
+                Assert.assertEquals(Thread.currentThread(), caller);
+            });
+        }
+
+        CreateJarTask.generateJars(jarGenerations);
+
+        Assert.assertTrue(jarGenerations.isEmpty());
+        Assert.assertEquals(order, Arrays.asList(0, 1, 2, 3));
+    }
+
+    @Test(description = "A failed jar generation fails the build")
+    public void testFailedJarGenerationIsThrown() {
+        System.setProperty(CreateJarTask.JAR_JOBS, String.valueOf(MODULES));
+        Map<Path, Runnable> jarGenerations = new LinkedHashMap<>();
+        for (int i = 0; i < MODULES; i++) {
+            int module = i;
+            jarGenerations.put(Paths.get("module" + i + ".jar"), () -> {
+                if (module == 2) {
+                    throw new IllegalStateException("failed to generate module2.jar");
+                }
+            });
+        }
+
+        try {
+            CreateJarTask.generateJars(jarGenerations);
+            Assert.fail("a failed jar generation has to fail the build");
+        } catch (IllegalStateException e) {
+            // The exception of another thread may be wrapped in a new exception of the same type.
+            Throwable cause = e;
+            while (cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            Assert.assertEquals(cause.getMessage(), "failed to generate module2.jar");
+        }
+        Assert.assertTrue(jarGenerations.isEmpty());
+    }
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.task;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.packerina.buildcontext.BuildContext;
+import org.ballerinalang.packerina.buildcontext.BuildContextField;
+import org.ballerinalang.packerina.buildcontext.sourcecontext.MultiModuleContext;
+import org.ballerinalang.packerina.buildcontext.sourcecontext.SingleModuleContext;
+import org.ballerinalang.packerina.buildcontext.sourcecontext.SourceType;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.tree.BLangPackage;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.Name;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.ballerinalang.compiler.CompilerOptionName.LOCK_ENABLED;
+import static org.ballerinalang.compiler.CompilerOptionName.OFFLINE;
+import static org.ballerinalang.compiler.CompilerOptionName.PROJECT_DIR;
+import static org.ballerinalang.compiler.CompilerOptionName.SKIP_TESTS;
+import static org.ballerinalang.packerina.utils.FileUtils.deleteDirectory;
+import static org.wso2.ballerinalang.compiler.util.ProjectDirConstants.BALLERINA_HOME;
+
+/**
+ * Tests how {@link FingerprintModulesTask} and {@link CreateFingerprintsTask} find the modules an incremental build
+ * reuses from the last build.
+ *
+ * @since 1.2.0
+ */
+public class FingerprintModulesTaskTest {
+
+    private static final String ORG_NAME = "testOrg";
+    private static final String VERSION = "0.1.0";
+    private static final String BSTRING_PROP = "ballerina.bstring";
+    private static final String USER_HOME_PROP = "user.home";
+    private static final PackageID LIBRARY_ID = new PackageID(new Name("libOrg"), new Name("lib"), new Name("1.0.0"));
+
+    private Path tmpDir;
+    private Path projectPath;
+    private String userHome;
+    private boolean offline;
+    // Module imported by the app module from the home repository, if any
+    private PackageID libraryID;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        this.tmpDir = Files.createTempDirectory("b7a-fingerprint-test-" + System.nanoTime());
+        System.setProperty(BALLERINA_HOME, this.tmpDir.resolve("home").toString());
+        this.userHome = System.getProperty(USER_HOME_PROP);
+        System.setProperty(USER_HOME_PROP, this.tmpDir.resolve("user").toString());
+    }
+
+    @AfterMethod
+    public void deleteProject() throws IOException {
+        System.clearProperty(BSTRING_PROP);
+        this.offline = false;
+        this.libraryID = null;
+        if (this.projectPath != null) {
+            deleteDirectory(this.projectPath);
+        }
+        if (Files.exists(this.tmpDir.resolve("user"))) {
+            deleteDirectory(this.tmpDir.resolve("user"));
+        }
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        System.setProperty(USER_HOME_PROP, this.userHome);
+        deleteDirectory(this.tmpDir);
+    }
+
+    @Test(description = "Modules which did not change are not compiled again")
+    public void testUnchangedModulesReused() throws IOException {
+        createProject("unchanged");
+
+        Assert.assertEquals(build(null, false), Collections.emptySet());
+        Assert.assertEquals(build(null, false), new HashSet<>(Arrays.asList("app", "greeter")));
+        Assert.assertTrue(Files.exists(getJarPath("app")));
+        Assert.assertTrue(Files.exists(getJarPath("greeter")));
+    }
+
+    @Test(description = "A changed module and the modules importing it are compiled again")
+    public void testChangedModuleAndImportersCompiled() throws IOException {
+        createProject("changed");
+        build(null, false);
+
+        writeSource("app", "main.bal", "public function main() {\n    greeter:greet(\"World\");\n}\n");
+        Assert.assertEquals(build(null, false), Collections.singleton("greeter"));
+        Assert.assertEquals(build(null, false), new HashSet<>(Arrays.asList("app", "greeter")));
+
+        writeSource("greeter", "greeter.bal", "public function greet(string name) returns string {\n" +
+                "    return \"Hi, \" + name;\n}\n");
+        Assert.assertEquals(build(null, false), Collections.emptySet());
+    }
+
+    @Test(description = "The outputs of the modules compiled again are removed before the compilation")
+    public void testOutputsOfChangedModuleRemoved() throws IOException {
+        createProject("removed-outputs");
+        build(null, false);
+        Path appJar = getJarPath("app");
+        Path greeterJar = getJarPath("greeter");
+
+        writeSource("app", "main.bal", "public function main() {\n}\n");
+        BuildContext buildContext = createBuildContext(null);
+        new FingerprintModulesTask(false, false, false, false).execute(buildContext);
+
+        Assert.assertFalse(Files.exists(appJar));
+        Assert.assertTrue(Files.exists(greeterJar));
+        Map<String, String> fingerprints = buildContext.get(BuildContextField.MODULE_FINGERPRINTS);
+        Assert.assertEquals(fingerprints.keySet(), Collections.singleton("app"));
+    }
+
+    @Test(description = "A module whose outputs are missing is compiled again")
+    public void testModuleWithMissingOutputCompiled() throws IOException {
+        createProject("missing-output");
+        build(null, false);
+
+        Files.delete(getJarPath("greeter"));
+        Assert.assertEquals(build(null, false), Collections.emptySet());
+        Assert.assertEquals(build(null, false), new HashSet<>(Arrays.asList("app", "greeter")));
+    }
+
+    @Test(description = "The outputs of a module removed from the project are removed")
+    public void testRemovedModuleOutputsRemoved() throws IOException {
+        createProject("removed-module");
+        build(null, false);
+        Path greeterJar = getJarPath("greeter");
+
+        deleteDirectory(this.projectPath.resolve("src").resolve("greeter"));
+        writeSource("app", "main.bal", "public function main() {\n}\n");
+        Assert.assertEquals(build(null, false), Collections.emptySet());
+        Assert.assertFalse(Files.exists(greeterJar));
+        Assert.assertFalse(Files.exists(FingerprintModulesTask.getFingerprintCacheDir(getTargetPath())
+                .resolve("greeter" + FingerprintModulesTask.FINGERPRINT_FILE_EXT)));
+    }
+
+    @Test(description = "All the modules are compiled again when the build options change")
+    public void testChangedBuildOptionsCompileAllModules() throws IOException {
+        createProject("build-options");
+        build(null, false);
+
+        Assert.assertEquals(build(null, true), Collections.emptySet());
+        Assert.assertEquals(build(null, true), new HashSet<>(Arrays.asList("app", "greeter")));
+
+        System.setProperty(BSTRING_PROP, "");
+        Assert.assertEquals(build(null, true), Collections.emptySet());
+        Assert.assertEquals(build(null, true), new HashSet<>(Arrays.asList("app", "greeter")));
+    }
+
+    @Test(description = "The module built by a single module build is compiled, while its imports are reused")
+    public void testSingleModuleBuildCompilesEntryModule() throws IOException {
+        createProject("single-module");
+        build(null, false);
+
+        Assert.assertEquals(build(Paths.get("app"), false), Collections.singleton("greeter"));
+        Assert.assertTrue(Files.exists(getJarPath("app")));
+    }
+
+    @Test(description = "A module is compiled again when the balo of a module it imports from the home repository " +
+            "changes")
+    public void testChangedDependencyBaloCompilesImporters() throws IOException {
+        createProject("changed-balo");
+        this.offline = true;
+        this.libraryID = LIBRARY_ID;
+        Path balo = writeBalo(LIBRARY_ID, "lib v1");
+        build(null, false);
+
+        Assert.assertEquals(build(null, false), new HashSet<>(Arrays.asList("app", "greeter")));
+        Files.write(balo, "lib v1 fixed".getBytes(StandardCharsets.UTF_8));
+        Assert.assertEquals(build(null, false), Collections.singleton("greeter"));
+        Assert.assertEquals(build(null, false), new HashSet<>(Arrays.asList("app", "greeter")));
+    }
+
+    @Test(description = "A module is compiled again when a new version of a module it imports is pulled to the " +
+            "home repository")
+    public void testNewDependencyVersionCompilesImporters() throws IOException {
+        createProject("new-version");
+        this.offline = true;
+        this.libraryID = LIBRARY_ID;
+        writeBalo(LIBRARY_ID, "lib v1");
+        build(null, false);
+
+        writeBalo(new PackageID(LIBRARY_ID.orgName, LIBRARY_ID.name, new Name("1.1.0")), "lib v1.1");
+        Assert.assertEquals(build(null, false), Collections.singleton("greeter"));
+        Assert.assertEquals(build(null, false), new HashSet<>(Arrays.asList("app", "greeter")));
+    }
+
+    @Test(description = "An online build reuses a module importing from outside the project only if the lock file " +
+            "pins the versions it was compiled with")
+    public void testOnlineBuildReusesLockedDependencies() throws IOException {
+        createProject("lock-file");
+        this.libraryID = LIBRARY_ID;
+        writeBalo(LIBRARY_ID, "lib v1");
+        build(null, false);
+
+        // Without a lock file a newer version may be resolved from central.
+        Assert.assertEquals(build(null, false), Collections.singleton("greeter"));
+
+        writeLockFile("1.0.0");
+        Assert.assertEquals(build(null, false), new HashSet<>(Arrays.asList("app", "greeter")));
+
+        writeLockFile("1.1.0");
+        Assert.assertEquals(build(null, false), Collections.singleton("greeter"));
+    }
+
+    private void createProject(String name) throws IOException {
+        this.projectPath = this.tmpDir.resolve(name);
+        Files.createDirectories(this.projectPath);
+        Files.write(this.projectPath.resolve("Ballerina.toml"), ("[project]\norg-name = \"" + ORG_NAME +
+                "\"\nversion = \"" + VERSION + "\"\n").getBytes(StandardCharsets.UTF_8));
+        writeSource("greeter", "greeter.bal", "public function greet(string name) returns string {\n" +
+                "    return \"Hello, \" + name;\n}\n");
+        writeSource("app", "main.bal", "import " + ORG_NAME + "/greeter;\n\npublic function main() {\n" +
+                "    string greeting = greeter:greet(\"World\");\n}\n");
+    }
+
+    private Path writeBalo(PackageID id, String content) throws IOException {
+        Path baloDir = this.tmpDir.resolve("user").resolve(".ballerina").resolve("balo_cache")
+                .resolve(id.orgName.value).resolve(id.name.value).resolve(id.version.value);
+        Files.createDirectories(baloDir);
+        Path balo = baloDir.resolve(id.name.value + "-2020r1-any-" + id.version.value + ".balo");
+        Files.write(balo, content.getBytes(StandardCharsets.UTF_8));
+        return balo;
+    }
+
+    private void writeLockFile(String libraryVersion) throws IOException {
+        String lockFile = "org_name = \"" + ORG_NAME + "\"\nversion = \"" + VERSION + "\"\n" +
+                "lockfile_version = \"1.0.0\"\nballerina_version = \"1.2.0\"\n\n" +
+                "[[imports.\"" + ORG_NAME + "/app:" + VERSION + "\"]]\n" +
+                "org_name = \"" + LIBRARY_ID.orgName.value + "\"\nname = \"" + LIBRARY_ID.name.value +
+                "\"\nversion = \"" + libraryVersion + "\"\n";
+        Files.write(this.projectPath.resolve("Ballerina.lock"), lockFile.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void writeSource(String module, String fileName, String content) throws IOException {
+        Path moduleDir = this.projectPath.resolve("src").resolve(module);
+        Files.createDirectories(moduleDir);
+        Files.write(moduleDir.resolve(fileName), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Path getTargetPath() {
+        return this.projectPath.resolve("target");
+    }
+
+    private Path getJarPath(String module) {
+        return createBuildContext(null).getJarPathFromTargetCache(getModuleID(module));
+    }
+
+    private static PackageID getModuleID(String module) {
+        return new PackageID(new Name(ORG_NAME), new Name(module), new Name(VERSION));
+    }
+
+    private BuildContext createBuildContext(Path source) {
+        CompilerContext compilerContext = new CompilerContext();
+        CompilerOptions options = CompilerOptions.getInstance(compilerContext);
+        options.put(PROJECT_DIR, this.projectPath.toString());
+        options.put(SKIP_TESTS, "false");
+        options.put(OFFLINE, Boolean.toString(this.offline));
+        options.put(LOCK_ENABLED, "true");
+        return new BuildContext(this.projectPath, getTargetPath(), source, compilerContext);
+    }
+
+    /**
+     * Run an incremental build, where the compilation of the modules is simulated by writing their bir and jar.
+     *
+     * @param source  the module to build, or null to build all the modules
+     * @param dumpBir whether the bir is dumped
+     * @return the modules reused from the last build
+     */
+    private Set<String> build(Path source, boolean dumpBir) {
+        BuildContext buildContext = createBuildContext(source);
+        new FingerprintModulesTask(false, dumpBir, false, false).execute(buildContext);
+
+        CompilerContext compilerContext = buildContext.get(BuildContextField.COMPILER_CONTEXT);
+        Set<String> cachedModules = CompilerOptions.getInstance(compilerContext).getCachedModules();
+        Map<String, String> fingerprints = buildContext.get(BuildContextField.MODULE_FINGERPRINTS);
+        List<BLangPackage> modules = new ArrayList<>();
+        for (String module : fingerprints.keySet()) {
+            if (buildContext.getSourceType() == SourceType.SINGLE_MODULE &&
+                    !module.equals(((SingleModuleContext) buildContext.get(BuildContextField.SOURCE_CONTEXT))
+                            .getModuleName())) {
+                continue;
+            }
+            modules.add(compile(buildContext, module));
+        }
+        if (buildContext.getSourceType() == SourceType.SINGLE_MODULE) {
+            ((SingleModuleContext) buildContext.get(BuildContextField.SOURCE_CONTEXT)).setModule(modules.get(0));
+        } else {
+            ((MultiModuleContext) buildContext.get(BuildContextField.SOURCE_CONTEXT)).setModules(modules);
+        }
+
+        new CreateFingerprintsTask().execute(buildContext);
+        return cachedModules;
+    }
+
+    private BLangPackage compile(BuildContext buildContext, String module) {
+        BLangPackage bLangPackage = new BLangPackage();
+        bLangPackage.packageID = getModuleID(module);
+        bLangPackage.symbol = new BPackageSymbol(bLangPackage.packageID, null);
+        if (module.equals("app") && Files.exists(this.projectPath.resolve("src").resolve("greeter"))) {
+            bLangPackage.symbol.imports.add(new BPackageSymbol(getModuleID("greeter"), null));
+        }
+        if (module.equals("app") && this.libraryID != null) {
+            bLangPackage.symbol.imports.add(new BPackageSymbol(this.libraryID, null));
+        }
+        try {
+            Files.write(buildContext.getBirPathFromTargetCache(bLangPackage.packageID), new byte[]{1});
+            Files.write(buildContext.getJarPathFromTargetCache(bLangPackage.packageID), new byte[]{1});
+        } catch (IOException e) {
+            throw new AssertionError("unable to write the outputs of " + module, e);
+        }
+        return bLangPackage;
+    }
+}
@@ -0,0 +1,386 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.packerina.writer;
+
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarFile;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
+
+import static org.ballerinalang.packerina.utils.FileUtils.deleteDirectory;
+
+/**
+ * Tests writing executable jars with {@link ExecutableJarWriter}. The written jars are read back through their
+ * central directory with {@link ZipFile}, and through their local headers with {@link ZipInputStream}, which verifies
+ * the sizes and the checksums of the entries.
+ *
+ * @since 1.2.0
+ */
+public class ExecutableJarWriterTest {
+
+    private static final String LAUNCHER_SCRIPT = "#!/bin/sh\nexec java -jar \"$0\" \"$@\"\n";
+    private static final int ZIP64_ENTRIES = 70000;
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_SIGNATURE = 0x06054b50;
+    private static final int ZIP64_END_SIGNATURE = 0x06064b50;
+    private static final int ZIP64_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final long ZIP64_MAGIC_VALUE = 0xFFFFFFFFL;
+
+    private Path tmpDir;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        this.tmpDir = Files.createTempDirectory("b7a-executable-jar-test-" + System.nanoTime());
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        deleteDirectory(this.tmpDir);
+    }
+
+    @Test(description = "Entries of the module jar take precedence over those of the dependencies")
+    public void testModuleJarTakesPrecedence() throws IOException {
+        Path moduleJar = createJar("precedence-module.jar", entries("app/main.class", "module main",
+                "lib/Util.class", "module util"));
+        Path firstDependency = createJar("precedence-first.jar", entries("lib/Util.class", "first util",
+                "lib/First.class", "first", "lib/Shared.class", "first shared"));
+        Path secondDependency = createJar("precedence-second.jar", entries("lib/Shared.class", "second shared",
+                "lib/Second.class", "second"));
+        Path executable = this.tmpDir.resolve("precedence.jar");
+
+        new ExecutableJarWriter(2).write(executable, moduleJar, Arrays.asList(firstDependency, secondDependency),
+                null);
+
+        Map<String, String> expected = entries("app/main.class", "module main", "lib/Util.class", "module util",
+                "lib/First.class", "first", "lib/Shared.class", "first shared", "lib/Second.class", "second");
+        Assert.assertEquals(readJar(executable), expected);
+    }
+
+    @Test(description = "The data descriptor flag of the copied entries is dropped, as their sizes are known")
+    public void testDataDescriptorFlagDropped() throws IOException {
+        // Entries written by a ZipOutputStream have data descriptors, as their sizes are not known beforehand.
+        Path moduleJar = createJar("descriptor-module.jar", entries("app/main.class", "module main"));
+        Path dependency = createJar("descriptor-dependency.jar", entries("lib/Util.class", "util"));
+        Assert.assertTrue(readLocalHeaders(dependency).stream().allMatch(flags -> (flags & (1 << 3)) != 0));
+        Path executable = this.tmpDir.resolve("descriptor.jar");
+
+        new ExecutableJarWriter(1).write(executable, moduleJar, Collections.singletonList(dependency), null);
+
+        List<Integer> flags = readLocalHeaders(executable);
+        Assert.assertEquals(flags.size(), 2);
+        Assert.assertTrue(flags.stream().allMatch(flag -> (flag & (1 << 3)) == 0));
+        Assert.assertEquals(readJar(executable), entries("app/main.class", "module main", "lib/Util.class", "util"));
+    }
+
+    @Test(description = "The service provider files of the jars are merged")
+    public void testServiceFilesMerged() throws IOException {
+        String service = "META-INF/services/org.ballerinalang.spi.Extension";
+        Path moduleJar = createJar("services-module.jar", entries(service, "org.app.Extension\n",
+                "app/main.class", "module main"));
+        Path firstDependency = createJar("services-first.jar", entries(service, "org.first.Extension"));
+        Path secondDependency = createJar("services-second.jar", entries(service, "org.second.Extension\n",
+                "META-INF/services/org.ballerinalang.spi.Other", "org.second.Other\n"));
+        Path executable = this.tmpDir.resolve("services.jar");
+
+        new ExecutableJarWriter(2).write(executable, moduleJar, Arrays.asList(firstDependency, secondDependency),
+                null);
+
+        Map<String, String> jar = readJar(executable);
+        Assert.assertEquals(jar.get(service), "org.app.Extension\norg.first.Extension\norg.second.Extension\n");
+        Assert.assertEquals(jar.get("META-INF/services/org.ballerinalang.spi.Other"), "org.second.Other\n");
+        Assert.assertEquals(jar.get("app/main.class"), "module main");
+    }
+
+    @Test(description = "A dependency jar prefixed with a launcher script is copied")
+    public void testPrefixedDependencyJar() throws IOException {
+        Path moduleJar = createJar("prefixed-module.jar", entries("app/main.class", "module main"));
+        Path dependency = prefix(createJar("prefixed-dependency.jar", entries("lib/Util.class", "util",
+                "META-INF/services/org.ballerinalang.spi.Extension", "org.lib.Extension\n")));
+        Path executable = this.tmpDir.resolve("prefixed.jar");
+
+        new ExecutableJarWriter(1).write(executable, moduleJar, Collections.singletonList(dependency), null);
+
+        Assert.assertEquals(readJar(executable), entries("app/main.class", "module main", "lib/Util.class", "util",
+                "META-INF/services/org.ballerinalang.spi.Extension", "org.lib.Extension\n"));
+    }
+
+    @Test(description = "A jar with 65535 entries or more is written with a zip64 end record and locator")
+    public void testZip64EndRecord() throws IOException {
+        Map<String, String> dependencyEntries = new LinkedHashMap<>();
+        for (int i = 0; i < ZIP64_ENTRIES; i++) {
+            dependencyEntries.put("lib/Class" + i + ".class", "class " + i);
+        }
+        // A ZipOutputStream writes the zip64 end record as well, and the dependency is prefixed so that the zip64
+        // end record is looked up through a base offset.
+        Path dependency = prefix(createJar("zip64-dependency.jar", dependencyEntries));
+        Path moduleJar = createJar("zip64-module.jar", entries("app/main.class", "module main"));
+        Path executable = this.tmpDir.resolve("zip64.jar");
+
+        new ExecutableJarWriter(1).write(executable, moduleJar, Collections.singletonList(dependency), null);
+
+        ByteBuffer jar = ByteBuffer.wrap(Files.readAllBytes(executable)).order(ByteOrder.LITTLE_ENDIAN);
+        int endPosition = jar.limit() - 22;
+        Assert.assertEquals(jar.getInt(endPosition), END_SIGNATURE);
+        Assert.assertEquals(jar.getShort(endPosition + 10) & 0xFFFF, 0xFFFF);
+        int locatorPosition = endPosition - 20;
+        Assert.assertEquals(jar.getInt(locatorPosition), ZIP64_LOCATOR_SIGNATURE);
+        int zip64EndPosition = (int) jar.getLong(locatorPosition + 8);
+        Assert.assertEquals(zip64EndPosition, locatorPosition - 56);
+        Assert.assertEquals(jar.getInt(zip64EndPosition), ZIP64_END_SIGNATURE);
+        Assert.assertEquals(jar.getLong(zip64EndPosition + 32), ZIP64_ENTRIES + 1);
+        long centralDirectoryOffset = jar.getLong(zip64EndPosition + 48);
+        Assert.assertEquals(centralDirectoryOffset + jar.getLong(zip64EndPosition + 40), zip64EndPosition);
+        Assert.assertEquals(jar.getInt((int) centralDirectoryOffset), CENTRAL_HEADER_SIGNATURE);
+
+        Map<String, String> expected = new LinkedHashMap<>(entries("app/main.class", "module main"));
+        expected.putAll(dependencyEntries);
+        Assert.assertEquals(readJar(executable), expected);
+    }
+
+    @Test(description = "Entries with zip64 extra fields in a dependency jar are copied")
+    public void testZip64EntriesInDependencyJar() throws IOException {
+        Path moduleJar = createJar("zip64-entries-module.jar", entries("app/main.class", "module main"));
+        Map<String, String> dependencyEntries = entries("lib/Util.class", "util", "lib/Other.class", "other");
+        Path dependency = createZip64EntriesJar("zip64-entries-dependency.jar", dependencyEntries);
+        // The written dependency is a valid jar.
+        Assert.assertEquals(readJar(dependency), dependencyEntries);
+        Path executable = this.tmpDir.resolve("zip64-entries.jar");
+
+        new ExecutableJarWriter(1).write(executable, moduleJar, Collections.singletonList(dependency), null);
+
+        Map<String, String> expected = new LinkedHashMap<>(entries("app/main.class", "module main"));
+        expected.putAll(dependencyEntries);
+        Assert.assertEquals(readJar(executable), expected);
+    }
+
+    @Test(description = "The dependency layer is reused until the key of the dependencies in its comment changes")
+    public void testDependencyLayerInvalidatedByKey() throws IOException {
+        Path moduleJar = createJar("layer-module.jar", entries("app/main.class", "module main"));
+        Path dependency = createJar("layer-dependency.jar", entries("lib/Util.class", "util"));
+        Path layer = this.tmpDir.resolve("layers").resolve("layer.jar");
+        Path executable = this.tmpDir.resolve("layer.jar");
+        ExecutableJarWriter writer = new ExecutableJarWriter(1);
+
+        writer.write(executable, moduleJar, Collections.singletonList(dependency), layer);
+        Assert.assertEquals(readJar(executable), entries("app/main.class", "module main", "lib/Util.class", "util"));
+        Assert.assertEquals(readJar(layer), entries("lib/Util.class", "util"));
+        String key;
+        try (ZipFile layerJar = new ZipFile(layer.toFile())) {
+            key = layerJar.getComment();
+        }
+        Assert.assertNotNull(key);
+        Assert.assertTrue(key.matches("[0-9a-f]{64}"), key);
+
+        // A layer with the same key is reused as it is.
+        createJar(layer, entries("lib/Cached.class", "cached"), key);
+        writer.write(executable, moduleJar, Collections.singletonList(dependency), layer);
+        Assert.assertEquals(readJar(executable), entries("app/main.class", "module main", "lib/Cached.class",
+                "cached"));
+
+        // The key changes with the dependencies, hence the layer is assembled again.
+        createJar(dependency, entries("lib/Util.class", "util", "lib/Added.class", "added"), null);
+        writer.write(executable, moduleJar, Collections.singletonList(dependency), layer);
+        Assert.assertEquals(readJar(executable), entries("app/main.class", "module main", "lib/Util.class", "util",
+                "lib/Added.class", "added"));
+        try (ZipFile layerJar = new ZipFile(layer.toFile())) {
+            Assert.assertNotEquals(layerJar.getComment(), key);
+        }
+    }
+
+    private static Map<String, String> entries(String... namesAndContents) {
+        Map<String, String> entries = new LinkedHashMap<>();
+        for (int i = 0; i < namesAndContents.length; i += 2) {
+            entries.put(namesAndContents[i], namesAndContents[i + 1]);
+        }
+        return entries;
+    }
+
+    private Path createJar(String fileName, Map<String, String> entries) throws IOException {
+        return createJar(this.tmpDir.resolve(fileName), entries, null);
+    }
+
+    private static Path createJar(Path path, Map<String, String> entries, String comment) throws IOException {
+        Files.createDirectories(path.getParent());
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(path))) {
+            for (Map.Entry<String, String> entry : entries.entrySet()) {
+                out.putNextEntry(new ZipEntry(entry.getKey()));
+                out.write(entry.getValue().getBytes(StandardCharsets.UTF_8));
+                out.closeEntry();
+            }
+            if (comment != null) {
+                out.setComment(comment);
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Prefix a jar with a launcher script, without updating the offsets of the jar.
+     */
+    private static Path prefix(Path jar) throws IOException {
+        byte[] content = Files.readAllBytes(jar);
+        ByteArrayOutputStream prefixed = new ByteArrayOutputStream();
+        prefixed.write(LAUNCHER_SCRIPT.getBytes(StandardCharsets.UTF_8));
+        prefixed.write(content);
+        Files.write(jar, prefixed.toByteArray());
+        return jar;
+    }
+
+    /**
+     * Create a jar of stored entries, whose sizes and offsets are kept in zip64 extra fields in the central directory.
+     */
+    private Path createZip64EntriesJar(String fileName, Map<String, String> entries) throws IOException {
+        ByteArrayOutputStream localHeaders = new ByteArrayOutputStream();
+        ByteArrayOutputStream centralDirectory = new ByteArrayOutputStream();
+        for (Map.Entry<String, String> entry : entries.entrySet()) {
+            byte[] name = entry.getKey().getBytes(StandardCharsets.UTF_8);
+            byte[] content = entry.getValue().getBytes(StandardCharsets.UTF_8);
+            CRC32 crc = new CRC32();
+            crc.update(content);
+            long localHeaderOffset = localHeaders.size();
+
+            ByteBuffer localHeader = ByteBuffer.allocate(30 + name.length + 20).order(ByteOrder.LITTLE_ENDIAN);
+            localHeader.putInt(LOCAL_HEADER_SIGNATURE).putShort((short) 45).putShort((short) 0)
+                    .putShort((short) ZipEntry.STORED).putInt(0).putInt((int) crc.getValue())
+                    .putInt((int) ZIP64_MAGIC_VALUE).putInt((int) ZIP64_MAGIC_VALUE)
+                    .putShort((short) name.length).putShort((short) 20).put(name)
+                    .putShort((short) 1).putShort((short) 16).putLong(content.length).putLong(content.length);
+            localHeaders.write(localHeader.array());
+            localHeaders.write(content);
+
+            ByteBuffer centralHeader = ByteBuffer.allocate(46 + name.length + 28).order(ByteOrder.LITTLE_ENDIAN);
+            centralHeader.putInt(CENTRAL_HEADER_SIGNATURE).putShort((short) 45).putShort((short) 45)
+                    .putShort((short) 0).putShort((short) ZipEntry.STORED).putInt(0).putInt((int) crc.getValue())
+                    .putInt((int) ZIP64_MAGIC_VALUE).putInt((int) ZIP64_MAGIC_VALUE)
+                    .putShort((short) name.length).putShort((short) 28).putShort((short) 0).putShort((short) 0)
+                    .putShort((short) 0).putInt(0).putInt((int) ZIP64_MAGIC_VALUE).put(name)
+                    .putShort((short) 1).putShort((short) 24).putLong(content.length).putLong(content.length)
+                    .putLong(localHeaderOffset);
+            centralDirectory.write(centralHeader.array());
+        }
+        ByteBuffer end = ByteBuffer.allocate(22).order(ByteOrder.LITTLE_ENDIAN);
+        end.putInt(END_SIGNATURE).putShort((short) 0).putShort((short) 0).putShort((short) entries.size())
+                .putShort((short) entries.size()).putInt(centralDirectory.size()).putInt(localHeaders.size())
+                .putShort((short) 0);
+
+        Path jar = this.tmpDir.resolve(fileName);
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        content.write(localHeaders.toByteArray());
+        content.write(centralDirectory.toByteArray());
+        content.write(end.array());
+        Files.write(jar, content.toByteArray());
+        return jar;
+    }
+
+    /**
+     * Read the entries of a jar, checking that its central directory and local headers agree.
+     */
+    private static Map<String, String> readJar(Path jar) throws IOException {
+        Map<String, String> entries = new LinkedHashMap<>();
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            Enumeration<? extends ZipEntry> jarEntries = jarFile.entries();
+            while (jarEntries.hasMoreElements()) {
+                ZipEntry entry = jarEntries.nextElement();
+                byte[] content;
+                try (InputStream in = jarFile.getInputStream(entry)) {
+                    content = readAll(in);
+                }
+                CRC32 crc = new CRC32();
+                crc.update(content);
+                Assert.assertEquals(entry.getCrc(), crc.getValue(), "checksum of " + entry.getName());
+                Assert.assertEquals(entry.getSize(), content.length, "size of " + entry.getName());
+                entries.put(entry.getName(), new String(content, StandardCharsets.UTF_8));
+            }
+        }
+
+        // ZipInputStream reads the entries through their local headers, and fails on a checksum mismatch.
+        Map<String, String> streamedEntries = new LinkedHashMap<>();
+        try (ZipInputStream in = new ZipInputStream(Files.newInputStream(jar))) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                streamedEntries.put(entry.getName(), new String(readAll(in), StandardCharsets.UTF_8));
+            }
+        }
+        Assert.assertEquals(streamedEntries, entries);
+        return entries;
+    }
+
+    /**
+     * Read the flags of the local headers of a jar, which has to have no data before its first local header.
+     */
+    private static List<Integer> readLocalHeaders(Path jar) throws IOException {
+        ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(jar)).order(ByteOrder.LITTLE_ENDIAN);
+        List<Integer> flags = new ArrayList<>();
+        int position = 0;
+        while (content.getInt(position) == LOCAL_HEADER_SIGNATURE) {
+            int flag = content.getShort(position + 6) & 0xFFFF;
+            flags.add(flag);
+            long compressedSize = content.getInt(position + 18) & ZIP64_MAGIC_VALUE;
+            int nameLength = content.getShort(position + 26) & 0xFFFF;
+            int extraLength = content.getShort(position + 28) & 0xFFFF;
+            position += 30 + nameLength + extraLength + (int) compressedSize;
+            if ((flag & (1 << 3)) != 0) {
+                // The sizes are in the data descriptor, which follows the data.
+                position = findNextHeader(content, position);
+            }
+        }
+        return flags;
+    }
+
+    private static int findNextHeader(ByteBuffer content, int position) {
+        while (content.getInt(position) != LOCAL_HEADER_SIGNATURE &&
+                content.getInt(position) != CENTRAL_HEADER_SIGNATURE) {
+            position++;
+        }
+        return position;
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
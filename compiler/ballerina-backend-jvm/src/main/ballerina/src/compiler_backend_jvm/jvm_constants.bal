@@ -221,6 +221,9 @@ const string BXML_QNAME = "org/ballerinalang/jvm/values/api/BXMLQName";
 // jvm runtime values related classes
 const string MAP_VALUE = "org/ballerinalang/jvm/values/MapValue";
 const string MAP_VALUE_IMPL = "org/ballerinalang/jvm/values/MapValueImpl";
+const string INT_MAP_VALUE = "org/ballerinalang/jvm/values/IntMapValue";
+const string FLOAT_MAP_VALUE = "org/ballerinalang/jvm/values/FloatMapValue";
+const string BOOLEAN_MAP_VALUE = "org/ballerinalang/jvm/values/BooleanMapValue";
 const string TABLE_VALUE = "org/ballerinalang/jvm/values/TableValue";
 const string ARRAY_VALUE = "org/ballerinalang/jvm/values/ArrayValue";
 const string OBJECT_VALUE = "org/ballerinalang/jvm/values/ObjectValue";
@@ -52,22 +52,29 @@ type InstructionGenerator object {
             string val = <string> loadIns.value;
             if (useBString) {
                 int[] highSurrogates = listHighSurrogates(val);
-
-                self.mv.visitTypeInsn(NEW, NON_BMP_STRING_VALUE);
-                self.mv.visitInsn(DUP);
-                self.mv.visitLdcInsn(val);
-                self.mv.visitIntInsn(BIPUSH, highSurrogates.length());
-                self.mv.visitIntInsn(NEWARRAY, T_INT);
-
-                int i = 0;
-                foreach var char in highSurrogates {
+                if (highSurrogates.length() == 0) {
+                    // Classify the string at compile time, so that BMP strings are indexed directly
+                    self.mv.visitTypeInsn(NEW, BMP_STRING_VALUE);
+                    self.mv.visitInsn(DUP);
+                    self.mv.visitLdcInsn(val);
+                    self.mv.visitMethodInsn(INVOKESPECIAL, BMP_STRING_VALUE, "<init>", io:sprintf("(L%s;)V", STRING_VALUE), false);
+                } else {
+                    self.mv.visitTypeInsn(NEW, NON_BMP_STRING_VALUE);
                     self.mv.visitInsn(DUP);
-                    self.mv.visitIntInsn(BIPUSH, i);
-                    self.mv.visitIntInsn(BIPUSH, char);
-                    i = i + 1;
-                    self.mv.visitInsn(IASTORE);
+                    self.mv.visitLdcInsn(val);
+                    self.mv.visitIntInsn(BIPUSH, highSurrogates.length());
+                    self.mv.visitIntInsn(NEWARRAY, T_INT);
+
+                    int i = 0;
+                    foreach var char in highSurrogates {
+                        self.mv.visitInsn(DUP);
+                        self.mv.visitIntInsn(BIPUSH, i);
+                        self.mv.visitIntInsn(BIPUSH, char);
+                        i = i + 1;
+                        self.mv.visitInsn(IASTORE);
+                    }
+                    self.mv.visitMethodInsn(INVOKESPECIAL, NON_BMP_STRING_VALUE, "<init>", io:sprintf("(L%s;[I)V", STRING_VALUE), false);
                 }
-                self.mv.visitMethodInsn(INVOKESPECIAL, NON_BMP_STRING_VALUE, "<init>", io:sprintf("(L%s;[I)V", STRING_VALUE), false);
             } else {
                 self.mv.visitLdcInsn(val);
             }
@@ -656,6 +663,7 @@ type InstructionGenerator object {
             self.mv.visitInsn(SWAP);
             self.mv.visitMethodInsn(INVOKESTATIC, className, "$init", io:sprintf("(L%s;L%s;)V", STRAND, MAP_VALUE), false);
         } else {
+            className = getMapValueClassName(typeOfMapNewIns);
             self.mv.visitTypeInsn(NEW, className);
             self.mv.visitInsn(DUP);
             loadType(self.mv, mapNewIns.bType);
@@ -938,6 +938,21 @@ function getTypeValueClassName(bir:Package|bir:ModuleID module, string typeName)
     return packageName + "$value$" + cleanupTypeName(typeName);
 }
 
+function getMapValueClassName(bir:BType mapType) returns string {
+    if (mapType is bir:BMapType) {
+        bir:BType constraint = mapType.constraint;
+        if (constraint is bir:BTypeInt) {
+            return INT_MAP_VALUE;
+        } else if (constraint is bir:BTypeFloat) {
+            return FLOAT_MAP_VALUE;
+        } else if (constraint is bir:BTypeBoolean) {
+            return BOOLEAN_MAP_VALUE;
+        }
+    }
+
+    return MAP_VALUE_IMPL;
+}
+
 function createLabelsForEqualCheck(jvm:MethodVisitor mv, int nameRegIndex, NamedNode?[] nodes,
         jvm:Label[] labels, jvm:Label defaultCaseLabel) returns jvm:Label[] {
     jvm:Label[] targetLabels = [];
@@ -24,17 +24,24 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.PrintStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.security.Permission;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.StringJoiner;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 /**
@@ -48,7 +55,18 @@ public class BootstrapRunner {
     private static final String TMP_OBJECT_FILE_NAME = "ballerina_native_objf.o";
     private static final String COMPILER_BACKEND_JVM = "ballerina.compiler_backend_jvm.___init";
     private static final String COMPILER_BACKEND_LLVM = "ballerina.compiler_backend_llvm.___init";
+    private static final String FORK_COMPILER_BACKEND = "ballerina.backend.fork";
     private static String javaCommand = System.getProperty("java.command");
+    private static final String SHUTDOWN_HOOKS_CLASS = "java.lang.ApplicationShutdownHooks";
+    private static final String SIGNAL_LISTENER_SUFFIX = "$SignalListener";
+    private static final String CONFIG_REGISTRY_CLASS = "org.ballerinalang.config.ConfigRegistry";
+    private static final String BACKEND_THREAD_NAME = "ballerina-compiler-backend";
+    private static final long BACKEND_THREADS_EXIT_TIMEOUT = 10000;
+    private static Method compilerBackendMain;
+    private static final ReentrantLock compilerBackendLock = new ReentrantLock();
+    private static Field shutdownHooksField;
+    private static boolean inProcessBackendUnsupported;
+    private static final AtomicInteger inProcessBackendRuns = new AtomicInteger();
 
     public static void loadTargetAndGenerateJarBinary(String entryBir, String jarOutputPath, boolean dumpBir,
                                                       HashSet<Path> moduleDependencySet, String... birCachePaths) {
@@ -57,11 +75,267 @@ public class BootstrapRunner {
         for (Path path : moduleDependencySet) {
             jarFilePaths.add(path.toString());
         }
+        // The backend in the current process is not reentrant. Hence, when jars are generated concurrently, a jar is
+        // generated in a separate process while the backend in the current process is busy with another jar.
+        if (!Boolean.getBoolean(FORK_COMPILER_BACKEND) && loadCompilerBackend() && compilerBackendLock.tryLock()) {
+            boolean generated;
+            try {
+                List<String> args = createArgsForCompilerBackend(entryBir, jarOutputPath, dumpBir, true,
+                        birCachePaths, jarFilePaths);
+                generated = generateJarBinaryInCurrentProcess(compilerBackendMain, args);
+            } finally {
+                compilerBackendLock.unlock();
+            }
+            if (generated) {
+                return;
+            }
+        }
         List<String> commands =
                 createArgsForJBalCompilerBackend(entryBir, jarOutputPath, dumpBir, jarFilePaths, birCachePaths);
         generateJarBinaryInProc(commands);
     }
 
+    /**
+     * Load the JVM compiler backend into the current process. The backend is loaded once, so that all the modules of
+     * a build are compiled by the same warmed up backend instead of starting a JVM for each module.
+     *
+     * @return whether the backend is available in the class path of the current process
+     */
+    private static synchronized boolean loadCompilerBackend() {
+        if (!isInProcessBackendSupported()) {
+            return false;
+        }
+        if (compilerBackendMain != null) {
+            return true;
+        }
+        try {
+            Class<?> backendMain = Class.forName(COMPILER_BACKEND_JVM);
+            compilerBackendMain = backendMain.getMethod("main", String[].class);
+            return true;
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            // The backend is run in a separate process, with the class path of the current process.
+            return false;
+        }
+    }
+
+    /**
+     * Check whether the compiler backend can be run in the current process. The exit of the backend is intercepted
+     * by a security manager, which cannot be installed at runtime from JDK 18 onwards, and the shutdown hook the
+     * backend registers on each run is removed reflectively, which JDK 9 and later restrict. Hence the backend is run
+     * in the current process only on JDK 8.
+     *
+     * @return whether the backend can be run in the current process
+     */
+    public static synchronized boolean isInProcessBackendSupported() {
+        if (shutdownHooksField != null) {
+            return true;
+        }
+        if (inProcessBackendUnsupported) {
+            return false;
+        }
+        if (!System.getProperty("java.specification.version", "").startsWith("1.")) {
+            inProcessBackendUnsupported = true;
+            return false;
+        }
+        try {
+            Field hooksField = Class.forName(SHUTDOWN_HOOKS_CLASS).getDeclaredField("hooks");
+            hooksField.setAccessible(true);
+            shutdownHooksField = hooksField;
+            return true;
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            inProcessBackendUnsupported = true;
+            return false;
+        }
+    }
+
+    private static synchronized void setInProcessBackendUnsupported() {
+        inProcessBackendUnsupported = true;
+        shutdownHooksField = null;
+    }
+
+    /**
+     * Get the number of jars generated by the compiler backend in the current process.
+     *
+     * @return number of in-process runs of the backend
+     */
+    public static int getInProcessBackendRuns() {
+        return inProcessBackendRuns.get();
+    }
+
+    /**
+     * Run the JVM compiler backend in the current process. The backend is a Ballerina program which exits the JVM
+     * once the jar is generated, hence the exit is intercepted and turned into the result of the backend. The backend
+     * runs in a thread group of its own, and only the exits of the threads of that group are intercepted.
+     * <p>
+     * The exit is intercepted by a security manager, which replaces the security manager of the current process for
+     * the duration of the run. Hence the backend is run in a separate process instead if a security manager is
+     * already installed, since it would not be enforced during the run, and the current process is left as is if the
+     * security manager is replaced during the run.
+     * <p>
+     * Each run initializes the modules of the backend again, which resets their module level state, but static state
+     * of the current process carries over to the next run. Hence the backend is run in a separate process instead if
+     * the config registry holds entries, which the backend would read instead of its own configuration, and all the
+     * following jars are generated in separate processes once a run leaves threads running.
+     *
+     * @param backendMain main method of the compiler backend
+     * @param args        arguments of the compiler backend
+     * @return false if the backend cannot be run in the current process, in which case it has not been run
+     */
+    static boolean generateJarBinaryInCurrentProcess(Method backendMain, List<String> args) {
+        if (!isInProcessBackendSupported() || hasConfigEntries(backendMain.getDeclaringClass().getClassLoader())) {
+            return false;
+        }
+        ThreadGroup backendThreads = new ThreadGroup(BACKEND_THREAD_NAME);
+        Throwable[] failure = new Throwable[1];
+        Thread backendThread = new Thread(backendThreads, () -> {
+            try {
+                backendMain.invoke(null, new Object[]{args.toArray(new String[0])});
+            } catch (InvocationTargetException e) {
+                if (!(e.getTargetException() instanceof BackendExitException)) {
+                    failure[0] = e.getTargetException();
+                }
+            } catch (IllegalAccessException e) {
+                failure[0] = e;
+            }
+        }, BACKEND_THREAD_NAME);
+        BackendExitHandler exitHandler = new BackendExitHandler(backendThread);
+        try {
+            if (!exitHandler.install()) {
+                return false;
+            }
+        } catch (UnsupportedOperationException | SecurityException e) {
+            setInProcessBackendUnsupported();
+            return false;
+        }
+        try {
+            backendThread.start();
+            joinUninterruptibly(backendThread);
+        } finally {
+            removeShutdownHooks(backendMain.getDeclaringClass().getName() + SIGNAL_LISTENER_SUFFIX);
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(BACKEND_THREADS_EXIT_TIMEOUT);
+            if (!awaitThreads(backendThreads, deadline) || !exitHandler.uninstall()) {
+                // The threads left running would see the state of the following runs. The exit handler stays
+                // installed, so that these threads cannot exit the JVM. A security manager which replaced the exit
+                // handler during the run is left installed as well.
+                setInProcessBackendUnsupported();
+            }
+        }
+        // An exit of another thread of the backend interrupts the main thread, which then fails. The exit is the
+        // result of the backend in that case.
+        if (!exitHandler.exited && failure[0] != null) {
+            throw new RuntimeException("failed running jvm code gen phase.", failure[0]);
+        }
+        // The errors are already printed by the backend.
+        if (exitHandler.exitStatus != 0) {
+            throw new BLangCompilerException("failed to generate the jar file.");
+        }
+        inProcessBackendRuns.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Check whether the config registry of the backend holds any entries. The registry is static, so entries loaded
+     * by the build process or by an earlier run of the backend would be seen by the next run.
+     *
+     * @param backendClassLoader class loader of the backend
+     * @return whether the registry holds entries
+     */
+    private static boolean hasConfigEntries(ClassLoader backendClassLoader) {
+        try {
+            Class<?> registryClass = Class.forName(CONFIG_REGISTRY_CLASS, true, backendClassLoader);
+            Object registry = registryClass.getMethod("getInstance").invoke(null);
+            return ((Iterator<?>) registryClass.getMethod("keySetIterator").invoke(registry)).hasNext();
+        } catch (ReflectiveOperationException e) {
+            // Without a config registry there is no configuration to carry over.
+            return false;
+        }
+    }
+
+    private static void joinUninterruptibly(Thread thread) {
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Wait for the threads of a thread group to end, such as the strand threads of the backend which end shortly after
+     * the backend returns.
+     *
+     * @param threadGroup thread group
+     * @param deadline    {@link System#nanoTime()} by which the threads have to end
+     * @return whether all the threads of the group have ended
+     */
+    private static boolean awaitThreads(ThreadGroup threadGroup, long deadline) {
+        Thread[] threads = new Thread[threadGroup.activeCount() + 1];
+        int count;
+        // Threads may start while they are enumerated, hence the array is enlarged until all of them fit.
+        while ((count = threadGroup.enumerate(threads)) == threads.length) {
+            threads = new Thread[threads.length * 2];
+        }
+        for (int i = 0; i < count; i++) {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                break;
+            }
+            try {
+                threads[i].join(remainingMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            if (threads[i].isAlive()) {
+                return false;
+            }
+        }
+        // Threads which ended may have started others.
+        return threadGroup.activeCount() == 0 || awaitThreads(threadGroup, deadline);
+    }
+
+    /**
+     * Remove the shutdown hooks of the given class. Each run of the backend registers a shutdown hook which stops the
+     * modules of the backend, and these would otherwise pile up in the current process.
+     *
+     * @param hookClassName class name of the hooks
+     */
+    private static void removeShutdownHooks(String hookClassName) {
+        List<Thread> hooks = new ArrayList<>();
+        try {
+            Field hooksField = shutdownHooksField;
+            synchronized (hooksField.getDeclaringClass()) {
+                Map<?, ?> registeredHooks = (Map<?, ?>) hooksField.get(null);
+                if (registeredHooks == null) {
+                    // The JVM is shutting down
+                    return;
+                }
+                for (Object hook : registeredHooks.keySet()) {
+                    if (hook.getClass().getName().equals(hookClassName)) {
+                        hooks.add((Thread) hook);
+                    }
+                }
+            }
+        } catch (IllegalAccessException e) {
+            return;
+        }
+        for (Thread hook : hooks) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(hook);
+            } catch (IllegalStateException e) {
+                // The JVM is shutting down
+                return;
+            }
+        }
+    }
+
     public static void genNativeCode(String entryBir, Path targetDir, boolean dumpLLVM, boolean noOptimizeLLVM) {
         Path nativeFolder = genNativeForlderInTarget(targetDir);
         Path objectFilePath = nativeFolder.resolve(TMP_OBJECT_FILE_NAME);
@@ -241,5 +515,87 @@ public class BootstrapRunner {
         String ballerinaNativeMap = System.getenv("BALLERINA_NATIVE_MAP");
         return ballerinaNativeMap == null ? " " : ballerinaNativeMap;
     }
+
+    /**
+     * Security manager which stops the compiler backend from exiting the JVM, and records its exit status. An exit
+     * of any thread of the backend ends the backend, as it would end the process the backend runs in, hence the
+     * main thread of the backend is interrupted when another thread of the backend exits. It is only installed when
+     * there is no other security manager, hence all the other checks pass.
+     */
+    private static class BackendExitHandler extends SecurityManager {
+
+        private final Thread backendThread;
+        private final ThreadGroup backendThreads;
+        private volatile boolean exited = false;
+        private volatile int exitStatus = 0;
+
+        BackendExitHandler(Thread backendThread) {
+            this.backendThread = backendThread;
+            this.backendThreads = backendThread.getThreadGroup();
+        }
+
+        @Override
+        public void checkPermission(Permission perm) {
+        }
+
+        @Override
+        public void checkPermission(Permission perm, Object context) {
+        }
+
+        @Override
+        public void checkExit(int status) {
+            Thread currentThread = Thread.currentThread();
+            if (!backendThreads.parentOf(currentThread.getThreadGroup())) {
+                return;
+            }
+            synchronized (this) {
+                // Only the first exit counts, as the process of the backend would have ended with it.
+                if (!exited) {
+                    exited = true;
+                    exitStatus = status;
+                    if (currentThread != backendThread) {
+                        backendThread.interrupt();
+                    }
+                }
+            }
+            throw new BackendExitException();
+        }
+
+        /**
+         * Install this exit handler, unless a security manager is already installed. The security manager is set
+         * while holding the lock of {@link System}, as {@link System#setSecurityManager(SecurityManager)} does, so
+         * that it cannot be replaced in between.
+         *
+         * @return whether this exit handler was installed
+         */
+        boolean install() {
+            synchronized (System.class) {
+                if (System.getSecurityManager() != null) {
+                    return false;
+                }
+                System.setSecurityManager(this);
+                return true;
+            }
+        }
+
+        /**
+         * Remove this exit handler, unless another security manager replaced it in the meantime.
+         *
+         * @return whether this exit handler was removed
+         */
+        boolean uninstall() {
+            synchronized (System.class) {
+                if (System.getSecurityManager() != this) {
+                    return false;
+                }
+                System.setSecurityManager(null);
+                return true;
+            }
+        }
+    }
+
+    private static class BackendExitException extends SecurityException {
+        private static final long serialVersionUID = 1L;
+    }
 }
 
@@ -84,8 +84,10 @@ import org.wso2.ballerinalang.util.Flags;
 
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
+import java.io.EOFException;
 import java.io.IOException;
-import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.EnumSet;
@@ -121,6 +123,12 @@ public class BIRPackageSymbolEnter {
     private BStructureTypeSymbol currentStructure = null;
     private LinkedList<Object> compositeStack = new LinkedList<>();
 
+    // Whether all the constant pool entries other than the shapes are decoded up front, as they were before they were
+    // decoded on first use. Used to check that the lazily decoded entries give the same symbols.
+    boolean decodeConstantPoolEagerly = false;
+    // Number of constant pool entries decoded for the last package read
+    int decodedCPEntryCount;
+
     private static final CompilerContext.Key<BIRPackageSymbolEnter> COMPILED_PACKAGE_SYMBOL_ENTER_KEY =
             new CompilerContext.Key<>();
 
@@ -147,8 +155,7 @@ public class BIRPackageSymbolEnter {
     public BPackageSymbol definePackage(PackageID packageId,
                                         RepoHierarchy packageRepositoryHierarchy,
                                         byte[] packageBinaryContent) {
-        BPackageSymbol pkgSymbol = definePackage(packageId, packageRepositoryHierarchy,
-                new ByteArrayInputStream(packageBinaryContent));
+        BPackageSymbol pkgSymbol = readPackage(packageId, packageRepositoryHierarchy, packageBinaryContent);
 
         // Strip magic value (4 bytes) and the version (2 bytes) off from the binary content of the package.
         byte[] modifiedPkgBinaryContent = Arrays.copyOfRange(
@@ -160,17 +167,19 @@ public class BIRPackageSymbolEnter {
         return pkgSymbol;
     }
 
-    private BPackageSymbol definePackage(PackageID packageId,
-                                        RepoHierarchy packageRepositoryHierarchy,
-                                        InputStream programFileInStream) {
+    private BPackageSymbol readPackage(PackageID packageId,
+                                       RepoHierarchy packageRepositoryHierarchy,
+                                       byte[] packageBinaryContent) {
         // TODO packageID --> package to be loaded. this is required for error reporting..
-        try (DataInputStream dataInStream = new DataInputStream(programFileInStream)) {
+        try (DataInputStream dataInStream = new DataInputStream(new ByteArrayInputStream(packageBinaryContent))) {
             BIRPackageSymbolEnv prevEnv = this.env;
             this.env = new BIRPackageSymbolEnv();
             this.env.requestedPackageId = packageId;
             this.env.repoHierarchy = packageRepositoryHierarchy;
+            this.env.content = ByteBuffer.wrap(packageBinaryContent);
 
             BPackageSymbol pkgSymbol = definePackage(dataInStream);
+            this.decodedCPEntryCount = this.env.decodedCPEntryCount;
             this.env = prevEnv;
             return pkgSymbol;
         } catch (IOException e) {
@@ -207,11 +216,11 @@ public class BIRPackageSymbolEnter {
 
     private BPackageSymbol definePackage(DataInputStream dataInStream, int pkgCpIndex) throws IOException {
 
-        PackageCPEntry pkgCpEntry = (PackageCPEntry) this.env.constantPool[pkgCpIndex];
+        PackageCPEntry pkgCpEntry = (PackageCPEntry) getCPEntry(pkgCpIndex);
 
-        String orgName = ((StringCPEntry) this.env.constantPool[pkgCpEntry.orgNameCPIndex]).value;
-        String pkgName = ((StringCPEntry) this.env.constantPool[pkgCpEntry.pkgNameCPIndex]).value;
-        String pkgVersion = ((StringCPEntry) this.env.constantPool[pkgCpEntry.versionCPIndex]).value;
+        String orgName = getStringCPEntryValue(pkgCpEntry.orgNameCPIndex);
+        String pkgName = getStringCPEntryValue(pkgCpEntry.pkgNameCPIndex);
+        String pkgVersion = getStringCPEntryValue(pkgCpEntry.versionCPIndex);
 
         PackageID pkgId = createPackageID(orgName, pkgName, pkgVersion);
         this.env.pkgSymbol = Symbols.createPackageSymbol(pkgId, this.symTable);
@@ -257,57 +266,110 @@ public class BIRPackageSymbolEnter {
     private CPEntry[] readConstantPool(DataInputStream dataInStream) throws IOException {
         int constantPoolSize = dataInStream.readInt();
         CPEntry[] constantPool = new CPEntry[constantPoolSize];
+        int[] cpEntryOffsets = new int[constantPoolSize];
         this.env.constantPool = constantPool;
+        this.env.cpEntryOffsets = cpEntryOffsets;
+        // Only the offsets of the entries are read here, and an entry is decoded when it is first used. Most of the
+        // entries are only used by the function bodies, which are not read by the compiler.
         for (int i = 0; i < constantPoolSize; i++) {
+            cpEntryOffsets[i] = this.env.content.limit() - dataInStream.available();
             byte cpTag = dataInStream.readByte();
             CPEntry.Type cpEntryType = CPEntry.Type.values()[cpTag - 1];
-            constantPool[i] = readCPEntry(dataInStream, constantPool, cpEntryType, i);
+            skipCPEntry(dataInStream, cpEntryType);
+        }
+        if (this.decodeConstantPoolEagerly) {
+            for (int i = 0; i < constantPoolSize; i++) {
+                if (this.env.content.get(cpEntryOffsets[i]) != CPEntry.Type.CP_ENTRY_SHAPE.getValue()) {
+                    getCPEntry(i);
+                }
+            }
         }
         return constantPool;
     }
 
-    private CPEntry readCPEntry(DataInputStream dataInStream,
-                                CPEntry[] constantPool,
-                                CPEntry.Type cpEntryType, int i) throws IOException {
+    private void skipCPEntry(DataInputStream dataInStream, CPEntry.Type cpEntryType) throws IOException {
         switch (cpEntryType) {
             case CP_ENTRY_INTEGER:
-                return new CPEntry.IntegerCPEntry(dataInStream.readLong());
             case CP_ENTRY_FLOAT:
-                return new CPEntry.FloatCPEntry(dataInStream.readDouble());
+                skipBytes(dataInStream, Long.BYTES);
+                break;
             case CP_ENTRY_BOOLEAN:
-                return new CPEntry.BooleanCPEntry(dataInStream.readBoolean());
+                skipBytes(dataInStream, 1);
+                break;
             case CP_ENTRY_STRING:
-                int length = dataInStream.readInt();
+            case CP_ENTRY_SHAPE:
+                // The length of a null string is -1, and no bytes are written for it.
+                skipBytes(dataInStream, Math.max(dataInStream.readInt(), 0));
+                break;
+            case CP_ENTRY_PACKAGE:
+                skipBytes(dataInStream, 3 * Integer.BYTES);
+                break;
+            case CP_ENTRY_BYTE:
+                skipBytes(dataInStream, Integer.BYTES);
+                break;
+            default:
+                throw new IllegalStateException("unsupported constant pool entry type: " +
+                        cpEntryType.name());
+        }
+    }
+
+    private void skipBytes(DataInputStream dataInStream, int length) throws IOException {
+        if (dataInStream.skipBytes(length) != length) {
+            throw new EOFException("unexpected end of the compiled package file");
+        }
+    }
+
+    private CPEntry getCPEntry(int cpIndex) {
+        CPEntry cpEntry = this.env.constantPool[cpIndex];
+        if (cpEntry == null) {
+            cpEntry = readCPEntry(cpIndex);
+            this.env.constantPool[cpIndex] = cpEntry;
+            this.env.decodedCPEntryCount++;
+        }
+        return cpEntry;
+    }
+
+    private CPEntry readCPEntry(int cpIndex) {
+        ByteBuffer content = this.env.content;
+        int offset = this.env.cpEntryOffsets[cpIndex];
+        CPEntry.Type cpEntryType = CPEntry.Type.values()[content.get(offset) - 1];
+        int valueOffset = offset + 1;
+        switch (cpEntryType) {
+            case CP_ENTRY_INTEGER:
+                return new CPEntry.IntegerCPEntry(content.getLong(valueOffset));
+            case CP_ENTRY_FLOAT:
+                return new CPEntry.FloatCPEntry(content.getDouble(valueOffset));
+            case CP_ENTRY_BOOLEAN:
+                return new CPEntry.BooleanCPEntry(content.get(valueOffset) != 0);
+            case CP_ENTRY_STRING:
+                int length = content.getInt(valueOffset);
                 String strValue = null;
 
                 // If the length of the bytes is -1, that means no UTF value has been written.
                 // i.e: string value represented by the UTF should be null.
                 // Therefore we read the UTF value only if the length >= 0.
                 if (length >= 0) {
-                    byte[] bytes = new byte[length];
-                    dataInStream.read(bytes, 0, length);
-                    strValue = new String(bytes);
+                    strValue = new String(content.array(), valueOffset + Integer.BYTES, length,
+                            StandardCharsets.UTF_8);
                 }
                 return new CPEntry.StringCPEntry(strValue);
             case CP_ENTRY_PACKAGE:
-                return new CPEntry.PackageCPEntry(dataInStream.readInt(),
-                                                  dataInStream.readInt(), dataInStream.readInt());
-            case CP_ENTRY_SHAPE:
-                env.unparsedBTypeCPs.put(i, readByteArray(dataInStream));
-                return null;
+                return new CPEntry.PackageCPEntry(content.getInt(valueOffset),
+                        content.getInt(valueOffset + Integer.BYTES), content.getInt(valueOffset + 2 * Integer.BYTES));
             case CP_ENTRY_BYTE:
-                return new CPEntry.ByteCPEntry(dataInStream.readInt());
+                return new CPEntry.ByteCPEntry(content.getInt(valueOffset));
             default:
+                // Shapes are read with a type reader, since reading a shape may define other shapes.
                 throw new IllegalStateException("unsupported constant pool entry type: " +
                         cpEntryType.name());
         }
     }
 
-    private byte[] readByteArray(DataInputStream dataInStream) throws IOException {
-        int length = dataInStream.readInt();
-        byte[] bytes = new byte[length];
-        dataInStream.readFully(bytes);
-        return bytes;
+    private DataInputStream getShapeInputStream(int typeCpIndex) {
+        // The shape is read in place, without copying its bytes out of the compiled package file.
+        int offset = this.env.cpEntryOffsets[typeCpIndex] + 1;
+        int length = this.env.content.getInt(offset);
+        return new DataInputStream(new ByteArrayInputStream(this.env.content.array(), offset + Integer.BYTES, length));
     }
 
     private void defineSymbols(DataInputStream dataInStream,
@@ -509,8 +571,7 @@ public class BIRPackageSymbolEnter {
             }
         }
         if (type == null) {
-            byte[] e = env.unparsedBTypeCPs.get(typeCpIndex);
-            type = new BIRTypeReader(new DataInputStream(new ByteArrayInputStream(e))).readType(typeCpIndex);
+            type = new BIRTypeReader(getShapeInputStream(typeCpIndex)).readType(typeCpIndex);
             addShapeCP(type, typeCpIndex);
         }
 
@@ -722,30 +783,30 @@ public class BIRPackageSymbolEnter {
     // private utility methods
     private String getStringCPEntryValue(DataInputStream dataInStream) throws IOException {
         int pkgNameCPIndex = dataInStream.readInt();
-        StringCPEntry stringCPEntry = (StringCPEntry) this.env.constantPool[pkgNameCPIndex];
+        StringCPEntry stringCPEntry = (StringCPEntry) getCPEntry(pkgNameCPIndex);
         return stringCPEntry.value;
     }
 
     private String getStringCPEntryValue(int cpIndex) throws IOException {
-        StringCPEntry stringCPEntry = (StringCPEntry) this.env.constantPool[cpIndex];
+        StringCPEntry stringCPEntry = (StringCPEntry) getCPEntry(cpIndex);
         return stringCPEntry.value;
     }
 
     private long getIntCPEntryValue(DataInputStream dataInStream) throws IOException {
         int pkgNameCPIndex = dataInStream.readInt();
-        IntegerCPEntry intCPEntry = (IntegerCPEntry) this.env.constantPool[pkgNameCPIndex];
+        IntegerCPEntry intCPEntry = (IntegerCPEntry) getCPEntry(pkgNameCPIndex);
         return intCPEntry.value;
     }
 
     private int getByteCPEntryValue(DataInputStream dataInStream) throws IOException {
         int byteCpIndex = dataInStream.readInt();
-        ByteCPEntry byteCPEntry = (ByteCPEntry) this.env.constantPool[byteCpIndex];
+        ByteCPEntry byteCPEntry = (ByteCPEntry) getCPEntry(byteCpIndex);
         return byteCPEntry.value;
     }
 
     private String getFloatCPEntryValue(DataInputStream dataInStream) throws IOException {
         int floatCpIndex = dataInStream.readInt();
-        FloatCPEntry floatCPEntry = (FloatCPEntry) this.env.constantPool[floatCpIndex];
+        FloatCPEntry floatCPEntry = (FloatCPEntry) getCPEntry(floatCpIndex);
         return Double.toString(floatCPEntry.value);
     }
 
@@ -767,9 +828,11 @@ public class BIRPackageSymbolEnter {
     private static class BIRPackageSymbolEnv {
         PackageID requestedPackageId;
         RepoHierarchy repoHierarchy;
-        Map<Integer, byte[]> unparsedBTypeCPs = new HashMap<>();
         BPackageSymbol pkgSymbol;
+        ByteBuffer content;
         CPEntry[] constantPool;
+        int[] cpEntryOffsets;
+        int decodedCPEntryCount;
         List<UnresolvedType> unresolvedTypes;
 
         BIRPackageSymbolEnv() {
@@ -1118,10 +1181,10 @@ public class BIRPackageSymbolEnter {
     }
 
     private PackageID getPackageId(int pkgCPIndex) {
-        PackageCPEntry pkgCpEntry = (PackageCPEntry) env.constantPool[pkgCPIndex];
-        String orgName = ((StringCPEntry) env.constantPool[pkgCpEntry.orgNameCPIndex]).value;
-        String pkgName = ((StringCPEntry) env.constantPool[pkgCpEntry.pkgNameCPIndex]).value;
-        String version = ((StringCPEntry) env.constantPool[pkgCpEntry.versionCPIndex]).value;
+        PackageCPEntry pkgCpEntry = (PackageCPEntry) getCPEntry(pkgCPIndex);
+        String orgName = ((StringCPEntry) getCPEntry(pkgCpEntry.orgNameCPIndex)).value;
+        String pkgName = ((StringCPEntry) getCPEntry(pkgCpEntry.pkgNameCPIndex)).value;
+        String version = ((StringCPEntry) getCPEntry(pkgCpEntry.versionCPIndex)).value;
         return new PackageID(names.fromString(orgName),
                 names.fromString(pkgName), names.fromString(version));
     }
@@ -1133,17 +1196,17 @@ public class BIRPackageSymbolEnter {
         switch (valueType.tag) {
             case TypeTags.INT:
                 int integerCpIndex = dataInStream.readInt();
-                IntegerCPEntry integerCPEntry = (IntegerCPEntry) this.env.constantPool[integerCpIndex];
+                IntegerCPEntry integerCPEntry = (IntegerCPEntry) getCPEntry(integerCpIndex);
                 litExpr.value = integerCPEntry.value;
                 break;
             case TypeTags.BYTE:
                 int byteCpIndex = dataInStream.readInt();
-                ByteCPEntry byteCPEntry = (ByteCPEntry) this.env.constantPool[byteCpIndex];
+                ByteCPEntry byteCPEntry = (ByteCPEntry) getCPEntry(byteCpIndex);
                 litExpr.value = byteCPEntry.value;
                 break;
             case TypeTags.FLOAT:
                 int floatCpIndex = dataInStream.readInt();
-                FloatCPEntry floatCPEntry = (FloatCPEntry) this.env.constantPool[floatCpIndex];
+                FloatCPEntry floatCPEntry = (FloatCPEntry) getCPEntry(floatCpIndex);
                 litExpr.value = Double.toString(floatCPEntry.value);
                 break;
             case TypeTags.STRING:
@@ -21,8 +21,10 @@ import org.ballerinalang.compiler.BLangCompilerException;
 import org.ballerinalang.model.elements.PackageID;
 import org.ballerinalang.toml.model.Manifest;
 import org.ballerinalang.toml.parser.ManifestProcessor;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
 import org.wso2.ballerinalang.compiler.tree.BLangPackage;
 import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
 import org.wso2.ballerinalang.compiler.util.ProjectDirs;
 import org.wso2.ballerinalang.compiler.util.diagnotic.BLangDiagnosticLog;
 import org.wso2.ballerinalang.util.Lists;
@@ -30,6 +32,7 @@ import org.wso2.ballerinalang.util.Lists;
 import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -47,6 +50,7 @@ public class Compiler {
     private final BLangDiagnosticLog dlog;
     private final PackageLoader pkgLoader;
     private final Manifest manifest;
+    private final CompilerOptions options;
     private boolean langLibsLoaded;
     private PrintStream outStream;
 
@@ -59,6 +63,7 @@ public class Compiler {
         this.dlog = BLangDiagnosticLog.getInstance(context);
         this.pkgLoader = PackageLoader.getInstance(context);
         this.manifest = ManifestProcessor.getInstance(context).getManifest();
+        this.options = CompilerOptions.getInstance(context);
         this.outStream = System.out;
         this.langLibsLoaded = false;
     }
@@ -128,7 +133,11 @@ public class Compiler {
     }
 
     public List<BLangPackage> compilePackages(boolean isBuild) {
-        List<PackageID> pkgList = this.sourceDirectoryManager.listSourceFilesAndPackages().collect(Collectors.toList());
+        // Modules reused from the last build are not compiled again.
+        Set<String> cachedModules = this.options.getCachedModules();
+        List<PackageID> pkgList = this.sourceDirectoryManager.listSourceFilesAndPackages()
+                .filter(pkgId -> !cachedModules.contains(pkgId.name.value))
+                .collect(Collectors.toList());
         if (pkgList.size() == 0) {
             return new ArrayList<>();
         }
@@ -141,6 +150,41 @@ public class Compiler {
         }
         return compiledPackages;
     }
+
+    /**
+     * Load the symbols of the modules of the project which are reused from the last build. These modules are not
+     * compiled, and are loaded from the bir cache of the project instead.
+     *
+     * @return symbols of the cached modules
+     */
+    public List<BPackageSymbol> loadCachedModules() {
+        List<PackageID> pkgIdList = new ArrayList<>();
+        for (String moduleName : this.options.getCachedModules()) {
+            PackageID pkgId = this.sourceDirectoryManager.getPackageID(moduleName);
+            if (pkgId == null) {
+                throw ProjectDirs.getPackageNotFoundError(moduleName);
+            }
+            pkgIdList.add(pkgId);
+        }
+        if (pkgIdList.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (!this.langLibsLoaded) {
+            this.compilerDriver.loadLangModules(pkgIdList);
+            this.langLibsLoaded = true;
+        }
+
+        List<BPackageSymbol> cachedModules = new ArrayList<>();
+        for (PackageID pkgId : pkgIdList) {
+            BPackageSymbol pkgSymbol = this.pkgLoader.loadPackageSymbol(pkgId, null, null);
+            if (pkgSymbol == null) {
+                throw new BLangCompilerException("unable to load the cached module '" + pkgId + "'");
+            }
+            cachedModules.add(pkgSymbol);
+        }
+        return cachedModules;
+    }
+
     // private methods
 
     private List<BLangPackage> compilePackages(List<PackageID> pkgIdList) {
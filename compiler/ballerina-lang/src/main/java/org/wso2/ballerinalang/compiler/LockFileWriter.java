@@ -30,6 +30,7 @@ import org.wso2.ballerinalang.util.RepoUtils;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -145,8 +146,20 @@ public class LockFileWriter {
      * @param lockFilePath Path to the lock file.
      */
     public void writeLockFile(List<BLangPackage> modules, Path lockFilePath) {
+        writeLockFile(modules, Collections.emptyList(), lockFilePath);
+    }
+
+    /**
+     * Write Ballerina.lock file overwriting existing Ballerina.lock file.
+     *
+     * @param modules       Modules to lock dependencies.
+     * @param cachedModules Modules reused from the last build, which are not compiled.
+     * @param lockFilePath  Path to the lock file.
+     */
+    public void writeLockFile(List<BLangPackage> modules, List<BPackageSymbol> cachedModules, Path lockFilePath) {
         updateProject();
         updateDependencies(modules);
+        cachedModules.forEach(this::addImportsToLockFileModel);
         try {
             TomlWriter tomlLockWriter = new TomlWriter();
             String tomlString = tomlLockWriter.write(this.lockFile);
@@ -47,6 +47,7 @@ import org.wso2.ballerinalang.compiler.packaging.repo.HomeBaloRepo;
 import org.wso2.ballerinalang.compiler.packaging.repo.HomeBirRepo;
 import org.wso2.ballerinalang.compiler.packaging.repo.PathBaloRepo;
 import org.wso2.ballerinalang.compiler.packaging.repo.ProgramingSourceRepo;
+import org.wso2.ballerinalang.compiler.packaging.repo.ProjectBirRepo;
 import org.wso2.ballerinalang.compiler.packaging.repo.ProjectSourceRepo;
 import org.wso2.ballerinalang.compiler.packaging.repo.RemoteRepo;
 import org.wso2.ballerinalang.compiler.packaging.repo.Repo;
@@ -76,6 +77,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -162,6 +164,7 @@ public class PackageLoader {
      * Generates the repository hierarchy. Following is the hierarchy.
      * 1. Program Source
      * 2. Project Repo
+     * 2.1. Project Bir Cache, of the modules reused from the last build
      * 3.1. Project Cache
      * 3.2. Home Repo
      * 4. Home Cache
@@ -222,9 +225,19 @@ public class PackageLoader {
         RepoNode fullRepoGraph;
         if (converter != null) {
             Repo programingSource = new ProgramingSourceRepo(converter);
-            Repo projectSource = new ProjectSourceRepo(converter, this.manifest, testEnabled);
-            fullRepoGraph = node(programingSource,
-                                 node(projectSource, homeCacheNode));
+            // Modules reused from the last build are loaded from the bir cache of the project. The modules which are
+            // compiled from sources resolve them after the project sources, and their imports are cached as well.
+            Set<String> cachedModules = this.options.getCachedModules();
+            Repo projectSource = new ProjectSourceRepo(converter, this.manifest, testEnabled, cachedModules);
+            if (cachedModules.isEmpty()) {
+                fullRepoGraph = node(programingSource,
+                                     node(projectSource, homeCacheNode));
+            } else {
+                Repo projectBir = new ProjectBirRepo(sourceRoot, this.manifest, cachedModules);
+                fullRepoGraph = node(programingSource,
+                                     node(projectSource,
+                                         node(projectBir, homeCacheNode)));
+            }
         } else {
             fullRepoGraph = homeCacheNode;
         }
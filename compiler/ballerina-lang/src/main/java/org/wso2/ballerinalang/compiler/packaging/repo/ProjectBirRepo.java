@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.wso2.ballerinalang.compiler.packaging.repo;
+
+import org.ballerinalang.model.elements.PackageID;
+import org.ballerinalang.toml.model.Manifest;
+import org.wso2.ballerinalang.compiler.packaging.Patten;
+import org.wso2.ballerinalang.compiler.packaging.converters.Converter;
+import org.wso2.ballerinalang.compiler.packaging.converters.PathConverter;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
+
+import java.nio.file.Path;
+import java.util.Set;
+
+import static org.wso2.ballerinalang.compiler.packaging.Patten.LATEST_VERSION_DIR;
+import static org.wso2.ballerinalang.compiler.packaging.Patten.path;
+
+/**
+ * Repo for the bir_cache in the target directory of a project. Only the modules of the project which are reused from
+ * the last build are resolved by this repo, the other modules of the project are compiled from their sources.
+ *
+ * @since 1.2.0
+ */
+public class ProjectBirRepo implements Repo<Path> {
+    private final PathConverter pathConverter;
+    private final Manifest manifest;
+    private final Set<String> cachedModules;
+
+    public ProjectBirRepo(Path projectRoot, Manifest manifest, Set<String> cachedModules) {
+        Path repoLocation = projectRoot.resolve(ProjectDirConstants.TARGET_DIR_NAME)
+                .resolve(ProjectDirConstants.CACHES_DIR_NAME)
+                .resolve(ProjectDirConstants.BIR_CACHE_DIR_NAME);
+        this.pathConverter = new PathConverter(repoLocation);
+        this.manifest = manifest;
+        this.cachedModules = cachedModules;
+    }
+
+    @Override
+    public Patten calculate(PackageID moduleID) {
+        String orgName = moduleID.getOrgName().getValue();
+        String pkgName = moduleID.getName().getValue();
+        if (null == this.manifest || !orgName.equals(this.manifest.getProject().getOrgName()) ||
+                !this.cachedModules.contains(pkgName)) {
+            return Patten.NULL;
+        }
+
+        Patten.Part version;
+        String versionStr = moduleID.getPackageVersion().getValue();
+        if (versionStr.isEmpty()) {
+            version = LATEST_VERSION_DIR;
+        } else {
+            version = path(versionStr);
+        }
+        return new Patten(path(orgName, pkgName), version,
+                          path(pkgName + ProjectDirConstants.BLANG_COMPILED_PKG_BIR_EXT));
+    }
+
+    @Override
+    public Converter<Path> getConverterInstance() {
+        return this.pathConverter;
+    }
+
+    @Override
+    public String toString() {
+        return "{t:'ProjectBirRepo', c:'" + this.pathConverter + "'}";
+    }
+}
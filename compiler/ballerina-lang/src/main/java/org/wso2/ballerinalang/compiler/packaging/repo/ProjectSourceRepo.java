@@ -26,6 +26,8 @@ import org.wso2.ballerinalang.compiler.packaging.converters.PathConverter;
 import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
 
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Set;
 
 /**
  * Calculate bal files' path pattens in a project, excluding test files.
@@ -33,11 +35,27 @@ import java.nio.file.Path;
 public class ProjectSourceRepo extends NonSysRepo<Path> {
     private final boolean testEnabled;
     private final Manifest manifest;
+    private final Set<String> cachedModules;
 
     public ProjectSourceRepo(Converter<Path> converter, Manifest manifest, boolean testEnabled) {
+        this(converter, manifest, testEnabled, Collections.emptySet());
+    }
+
+    /**
+     * Create a repo for the sources of a project, which does not resolve the given modules. These modules are reused
+     * from the last build instead.
+     *
+     * @param converter     converter of the project directory
+     * @param manifest      manifest of the project
+     * @param testEnabled   whether the test sources are included
+     * @param cachedModules names of the modules which are not compiled from their sources
+     */
+    public ProjectSourceRepo(Converter<Path> converter, Manifest manifest, boolean testEnabled,
+                             Set<String> cachedModules) {
         super(converter);
         this.testEnabled = testEnabled;
         this.manifest = manifest;
+        this.cachedModules = cachedModules;
     }
 
     public ProjectSourceRepo(Path projectRoot, Manifest manifest, boolean testEnabled) {
@@ -50,6 +68,10 @@ public class ProjectSourceRepo extends NonSysRepo<Path> {
         if (null != this.manifest && !moduleID.orgName.value.equals(this.manifest.getProject().getOrgName())) {
             return Patten.NULL;
         }
+
+        if (this.cachedModules.contains(moduleID.getName().value)) {
+            return Patten.NULL;
+        }
         
         if (testEnabled) {
             return new Patten(Patten.path(ProjectDirConstants.SOURCE_DIR_NAME), Patten.path(moduleID.getName().value),
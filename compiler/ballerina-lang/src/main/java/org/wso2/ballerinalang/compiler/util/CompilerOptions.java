@@ -20,8 +20,12 @@ package org.wso2.ballerinalang.compiler.util;
 import org.ballerinalang.compiler.CompilerOptionName;
 import org.ballerinalang.compiler.CompilerPhase;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Container for command-line options.
@@ -68,4 +72,17 @@ public class CompilerOptions {
 
         return CompilerPhase.fromValue(phaseName);
     }
+
+    /**
+     * Get the names of the modules of the project which are reused from the last build instead of being compiled.
+     *
+     * @return names of the cached modules
+     */
+    public Set<String> getCachedModules() {
+        String cachedModules = get(CompilerOptionName.CACHED_MODULES);
+        if (cachedModules == null || cachedModules.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return new HashSet<>(Arrays.asList(cachedModules.split(",")));
+    }
 }
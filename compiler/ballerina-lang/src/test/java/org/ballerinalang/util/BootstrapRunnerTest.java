@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.util;
+
+import org.ballerinalang.compiler.BLangCompilerException;
+import org.ballerinalang.config.ConfigRegistry;
+import org.testng.Assert;
+import org.testng.SkipException;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.security.Permission;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Tests running the compiler backend in the current process.
+ *
+ * @since 1.2.0
+ */
+public class BootstrapRunnerTest {
+
+    private Method backendMain;
+
+    @BeforeClass
+    public void setup() throws NoSuchMethodException {
+        if (!BootstrapRunner.isInProcessBackendSupported()) {
+            throw new SkipException("the compiler backend cannot be run in the current process on this JDK");
+        }
+        backendMain = TestCompilerBackend.class.getMethod("main", String[].class);
+    }
+
+    @Test
+    public void testSuccessfulExit() throws ReflectiveOperationException {
+        int hooks = countShutdownHooks();
+        for (int i = 0; i < 3; i++) {
+            Assert.assertTrue(BootstrapRunner.generateJarBinaryInCurrentProcess(backendMain,
+                                                                                Collections.singletonList("0")));
+        }
+        Assert.assertEquals(countShutdownHooks(), hooks);
+        Assert.assertNull(System.getSecurityManager());
+    }
+
+    @Test
+    public void testFailingExit() throws ReflectiveOperationException {
+        int hooks = countShutdownHooks();
+        try {
+            BootstrapRunner.generateJarBinaryInCurrentProcess(backendMain, Collections.singletonList("1"));
+            Assert.fail("a non zero exit of the backend has to fail the build");
+        } catch (BLangCompilerException e) {
+            Assert.assertEquals(e.getMessage(), "failed to generate the jar file.");
+        }
+        Assert.assertEquals(countShutdownHooks(), hooks);
+        Assert.assertNull(System.getSecurityManager());
+    }
+
+    @Test
+    public void testExitOfOtherThreadIsNotIntercepted() throws Exception {
+        // The thread of the executor is started before the run, so that it is not a thread of the backend
+        TestCompilerBackend.otherThreads = Executors.newSingleThreadExecutor();
+        try {
+            TestCompilerBackend.otherThreads.submit(() -> { }).get();
+            Assert.assertTrue(BootstrapRunner.generateJarBinaryInCurrentProcess(backendMain,
+                                                                                Collections.singletonList("other")));
+        } finally {
+            TestCompilerBackend.otherThreads.shutdownNow();
+        }
+        Assert.assertNull(System.getSecurityManager());
+    }
+
+    @Test
+    public void testExitOfBackendWorkerThread() throws ReflectiveOperationException {
+        int hooks = countShutdownHooks();
+        Assert.assertTrue(BootstrapRunner.generateJarBinaryInCurrentProcess(backendMain, Arrays.asList("worker", "0")));
+        try {
+            BootstrapRunner.generateJarBinaryInCurrentProcess(backendMain, Arrays.asList("worker", "1"));
+            Assert.fail("a non zero exit of a thread of the backend has to fail the build");
+        } catch (BLangCompilerException e) {
+            Assert.assertEquals(e.getMessage(), "failed to generate the jar file.");
+        }
+        Assert.assertEquals(countShutdownHooks(), hooks);
+        Assert.assertNull(System.getSecurityManager());
+    }
+
+    @Test
+    public void testConfigEntriesRunBackendInSeparateProcess() {
+        ConfigRegistry registry = ConfigRegistry.getInstance();
+        int runs = BootstrapRunner.getInProcessBackendRuns();
+        registry.addConfiguration("b7a.test.bootstrap.key", "value");
+        try {
+            Assert.assertFalse(BootstrapRunner.generateJarBinaryInCurrentProcess(backendMain,
+                                                                                 Collections.singletonList("0")));
+        } finally {
+            registry.removeConfiguration("b7a.test.bootstrap.key");
+        }
+        Assert.assertEquals(BootstrapRunner.getInProcessBackendRuns(), runs);
+        Assert.assertTrue(BootstrapRunner.generateJarBinaryInCurrentProcess(backendMain,
+                                                                            Collections.singletonList("0")));
+        Assert.assertEquals(BootstrapRunner.getInProcessBackendRuns(), runs + 1);
+    }
+
+    @Test
+    public void testInstalledSecurityManagerRunsBackendInSeparateProcess() {
+        SecurityManager securityManager = new SecurityManager() {
+            @Override
+            public void checkPermission(Permission perm) {
+            }
+        };
+        int runs = BootstrapRunner.getInProcessBackendRuns();
+        System.setSecurityManager(securityManager);
+        try {
+            Assert.assertFalse(BootstrapRunner.generateJarBinaryInCurrentProcess(backendMain,
+                                                                                 Collections.singletonList("0")));
+            Assert.assertSame(System.getSecurityManager(), securityManager);
+        } finally {
+            System.setSecurityManager(null);
+        }
+        Assert.assertEquals(BootstrapRunner.getInProcessBackendRuns(), runs);
+        Assert.assertTrue(BootstrapRunner.generateJarBinaryInCurrentProcess(backendMain,
+                                                                            Collections.singletonList("0")));
+    }
+
+    // Leaving a thread running disables the backend in the current process, hence this test runs last.
+    @Test(dependsOnMethods = {"testSuccessfulExit", "testFailingExit", "testExitOfOtherThreadIsNotIntercepted",
+            "testExitOfBackendWorkerThread", "testConfigEntriesRunBackendInSeparateProcess",
+            "testInstalledSecurityManagerRunsBackendInSeparateProcess"}, alwaysRun = true)
+    public void testThreadLeftRunningDisablesBackendInCurrentProcess() {
+        try {
+            Assert.assertTrue(BootstrapRunner.generateJarBinaryInCurrentProcess(backendMain,
+                                                                                Collections.singletonList("leak")));
+            Assert.assertFalse(BootstrapRunner.isInProcessBackendSupported());
+            Assert.assertFalse(BootstrapRunner.generateJarBinaryInCurrentProcess(backendMain,
+                                                                                 Collections.singletonList("0")));
+        } finally {
+            TestCompilerBackend.leakedThreadLatch.countDown();
+        }
+    }
+
+    private static int countShutdownHooks() throws ReflectiveOperationException {
+        Class<?> hooksClass = Class.forName("java.lang.ApplicationShutdownHooks");
+        Field hooksField = hooksClass.getDeclaredField("hooks");
+        hooksField.setAccessible(true);
+        synchronized (hooksClass) {
+            return ((Map<?, ?>) hooksField.get(null)).size();
+        }
+    }
+}
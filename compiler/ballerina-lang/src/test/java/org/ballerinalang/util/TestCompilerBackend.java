@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.util;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Compiler backend which registers a shutdown hook and exits the JVM with the given status, like the generated
+ * main of the JVM compiler backend does.
+ *
+ * @since 1.2.0
+ */
+public class TestCompilerBackend {
+
+    /**
+     * Executor of threads which are not threads of the backend, set by the tests.
+     */
+    static ExecutorService otherThreads;
+
+    /**
+     * Latch which keeps the thread left running by the backend alive, until the tests release it.
+     */
+    static final CountDownLatch leakedThreadLatch = new CountDownLatch(1);
+
+    public static void main(String[] args) throws Exception {
+        Runtime.getRuntime().addShutdownHook(new SignalListener());
+        switch (args[0]) {
+            case "other":
+                // The exit of a thread which is not a thread of the backend must not be intercepted
+                otherThreads.submit(() -> System.getSecurityManager().checkExit(1)).get();
+                Runtime.getRuntime().exit(0);
+                break;
+            case "worker":
+                // An exit of a thread started by the backend ends the backend, like a strand thread would
+                Thread worker = new Thread(() -> {
+                    try {
+                        Runtime.getRuntime().exit(Integer.parseInt(args[1]));
+                    } catch (SecurityException e) {
+                        // The exit is intercepted, and this thread ends like the rest of the backend
+                    }
+                });
+                worker.start();
+                Thread.sleep(Long.MAX_VALUE);
+                break;
+            case "leak":
+                new Thread(() -> {
+                    try {
+                        leakedThreadLatch.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }).start();
+                Runtime.getRuntime().exit(0);
+                break;
+            default:
+                Runtime.getRuntime().exit(Integer.parseInt(args[0]));
+        }
+    }
+
+    /**
+     * Shutdown hook registered by each run of the backend.
+     */
+    public static class SignalListener extends Thread {
+    }
+}
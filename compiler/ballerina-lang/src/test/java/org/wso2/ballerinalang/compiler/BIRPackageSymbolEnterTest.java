@@ -0,0 +1,247 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.wso2.ballerinalang.compiler;
+
+import org.ballerinalang.compiler.CompilerOptionName;
+import org.ballerinalang.model.elements.PackageID;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNode;
+import org.wso2.ballerinalang.compiler.bir.model.BIRNonTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.BIROperand;
+import org.wso2.ballerinalang.compiler.bir.model.BIRTerminator;
+import org.wso2.ballerinalang.compiler.bir.model.VarKind;
+import org.wso2.ballerinalang.compiler.bir.model.VarScope;
+import org.wso2.ballerinalang.compiler.bir.writer.BIRBinaryWriter;
+import org.wso2.ballerinalang.compiler.semantics.model.Scope;
+import org.wso2.ballerinalang.compiler.semantics.model.SymbolTable;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BConstantSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BInvokableSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BPackageSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BRecordTypeSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.BVarSymbol;
+import org.wso2.ballerinalang.compiler.semantics.model.symbols.Symbols;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BField;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BInvokableType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BRecordType;
+import org.wso2.ballerinalang.compiler.semantics.model.types.BType;
+import org.wso2.ballerinalang.compiler.util.CompilerContext;
+import org.wso2.ballerinalang.compiler.util.CompilerOptions;
+import org.wso2.ballerinalang.compiler.util.Name;
+import org.wso2.ballerinalang.compiler.util.ProjectDirConstants;
+import org.wso2.ballerinalang.programfile.CompiledBinaryFile.BIRPackageFile;
+import org.wso2.ballerinalang.programfile.PackageFileWriter;
+import org.wso2.ballerinalang.util.Flags;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Tests that the constant pool entries of a compiled module which are decoded on first use give the same symbols as
+ * decoding all the entries up front.
+ *
+ * @since 1.2.0
+ */
+public class BIRPackageSymbolEnterTest {
+
+    private static final PackageID PKG_ID = new PackageID(new Name("testOrg"), new Name("shapes"),
+                                                          new Name("1.0.0"));
+
+    private Path ballerinaHome;
+    private String ballerinaHomeProperty;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        // The system repository of an empty distribution, since the package read does not import any module
+        this.ballerinaHome = Files.createTempDirectory("b7a-bir-test-" + System.nanoTime());
+        this.ballerinaHomeProperty = System.getProperty(ProjectDirConstants.BALLERINA_HOME);
+        System.setProperty(ProjectDirConstants.BALLERINA_HOME, this.ballerinaHome.toString());
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        if (this.ballerinaHomeProperty == null) {
+            System.clearProperty(ProjectDirConstants.BALLERINA_HOME);
+        } else {
+            System.setProperty(ProjectDirConstants.BALLERINA_HOME, this.ballerinaHomeProperty);
+        }
+        Files.delete(this.ballerinaHome);
+    }
+
+    @Test(description = "Test that the lazily decoded constant pool defines the same symbols as the eager one")
+    public void testLazyConstantPoolDefinesSameSymbols() {
+        byte[] bir = writePackage(new CompilerContext());
+
+        BIRPackageSymbolEnter lazyReader = BIRPackageSymbolEnter.getInstance(createContext());
+        BPackageSymbol lazySymbol = lazyReader.definePackage(PKG_ID, null, bir);
+        int lazilyDecodedEntries = lazyReader.decodedCPEntryCount;
+
+        BIRPackageSymbolEnter eagerReader = BIRPackageSymbolEnter.getInstance(createContext());
+        eagerReader.decodeConstantPoolEagerly = true;
+        BPackageSymbol eagerSymbol = eagerReader.definePackage(PKG_ID, null, bir);
+        int eagerlyDecodedEntries = eagerReader.decodedCPEntryCount;
+
+        // The entries used only by the function bodies are left undecoded.
+        Assert.assertTrue(lazilyDecodedEntries < eagerlyDecodedEntries,
+                          lazilyDecodedEntries + " of " + eagerlyDecodedEntries + " entries decoded");
+        Map<String, String> lazySymbols = describe(lazySymbol);
+        Assert.assertEquals(lazySymbols, describe(eagerSymbol));
+        Assert.assertEquals(lazySymbols.keySet(), new TreeSet<>(Arrays.asList(
+                "MAX_SIZE", "NAME", "RATIO", "ENABLED", "Shape", "count", "area")));
+    }
+
+    @Test(description = "Test that the values of constants are decoded on first use")
+    public void testConstantValuesDecoded() {
+        byte[] bir = writePackage(new CompilerContext());
+        BPackageSymbol pkgSymbol = BIRPackageSymbolEnter.getInstance(createContext())
+                .definePackage(PKG_ID, null, bir);
+
+        Assert.assertEquals(pkgSymbol.pkgID, PKG_ID);
+        Assert.assertEquals(getConstantValue(pkgSymbol, "MAX_SIZE"), 1024L);
+        Assert.assertEquals(getConstantValue(pkgSymbol, "NAME"), "shape \u0db8\u0dd4\u0dbd\u0dca");
+        Assert.assertEquals(getConstantValue(pkgSymbol, "RATIO"), "0.5");
+        Assert.assertEquals(getConstantValue(pkgSymbol, "ENABLED"), true);
+        BInvokableSymbol area = (BInvokableSymbol) lookup(pkgSymbol, "area");
+        Assert.assertEquals(area.params.size(), 1);
+        Assert.assertEquals(area.params.get(0).name.value, "shape");
+        Assert.assertEquals(area.retType.toString(), "float");
+    }
+
+    private static CompilerContext createContext() {
+        CompilerContext context = new CompilerContext();
+        CompilerOptions options = CompilerOptions.getInstance(context);
+        options.put(CompilerOptionName.PROJECT_DIR, "src/test/resources");
+        options.put(CompilerOptionName.OFFLINE, "true");
+        SourceDirectoryManager.getInstance(context);
+        return context;
+    }
+
+    private static byte[] writePackage(CompilerContext context) {
+        SymbolTable symTable = SymbolTable.getInstance(context);
+        BIRNode.BIRPackage birPackage = new BIRNode.BIRPackage(null, PKG_ID.orgName, PKG_ID.name, PKG_ID.version,
+                                                               new Name("shapes.bal"));
+
+        addConstant(birPackage, "MAX_SIZE", symTable.intType, 1024L);
+        addConstant(birPackage, "NAME", symTable.stringType, "shape \u0db8\u0dd4\u0dbd\u0dca");
+        addConstant(birPackage, "RATIO", symTable.floatType, 0.5d);
+        addConstant(birPackage, "ENABLED", symTable.booleanType, true);
+
+        BRecordTypeSymbol shapeSymbol = Symbols.createRecordSymbol(Flags.PUBLIC, new Name("Shape"), PKG_ID, null,
+                                                                   null);
+        BRecordType shapeType = new BRecordType(shapeSymbol);
+        shapeSymbol.type = shapeType;
+        shapeType.sealed = true;
+        shapeType.restFieldType = symTable.noType;
+        shapeType.fields.add(createField(shapeSymbol, "name", symTable.stringType));
+        shapeType.fields.add(createField(shapeSymbol, "width", symTable.floatType));
+        birPackage.typeDefs.add(new BIRNode.BIRTypeDefinition(null, new Name("Shape"), Flags.PUBLIC, false,
+                                                              shapeType, new ArrayList<>()));
+
+        birPackage.globalVars.add(new BIRNode.BIRGlobalVariableDcl(null, Flags.PUBLIC, symTable.intType, PKG_ID,
+                                                                   new Name("count"), VarScope.GLOBAL,
+                                                                   VarKind.GLOBAL, "count"));
+
+        BInvokableType areaType = new BInvokableType(Collections.singletonList(shapeType), symTable.floatType, null);
+        BIRNode.BIRFunction area = new BIRNode.BIRFunction(null, new Name("area"), Flags.PUBLIC, areaType,
+                                                           new Name("default"), 0, new BIRNode.TaintTable());
+        area.requiredParams.add(new BIRNode.BIRParameter(null, new Name("shape"), 0));
+        area.argsCount = 1;
+        area.returnVariable = new BIRNode.BIRVariableDcl(symTable.floatType, new Name("%0"), VarScope.FUNCTION,
+                                                         VarKind.RETURN);
+        area.localVars.add(area.returnVariable);
+        // The values loaded by the function body are only in the constant pool, and are not used by the symbols.
+        BIRNode.BIRVariableDcl message = new BIRNode.BIRVariableDcl(symTable.stringType, new Name("%1"),
+                                                                    VarScope.FUNCTION, VarKind.TEMP);
+        area.localVars.add(message);
+        BIRNode.BIRBasicBlock entry = new BIRNode.BIRBasicBlock(new Name("bb0"));
+        entry.instructions.add(new BIRNonTerminator.ConstantLoad(null, "computing the area", symTable.stringType,
+                                                                 new BIROperand(message)));
+        entry.instructions.add(new BIRNonTerminator.ConstantLoad(null, 2.5d, symTable.floatType,
+                                                                 new BIROperand(area.returnVariable)));
+        entry.terminator = new BIRTerminator.Return(null);
+        area.basicBlocks.add(entry);
+        birPackage.functions.add(area);
+
+        try {
+            return PackageFileWriter.writePackage(new BIRPackageFile(new BIRBinaryWriter(birPackage).serialize()));
+        } catch (IOException e) {
+            throw new AssertionError("unable to write the package", e);
+        }
+    }
+
+    private static void addConstant(BIRNode.BIRPackage birPackage, String name, BType type, Object value) {
+        birPackage.constants.add(new BIRNode.BIRConstant(null, new Name(name), Flags.PUBLIC, type,
+                                                         new BIRNode.ConstValue(value, type)));
+    }
+
+    private static BField createField(BRecordTypeSymbol owner, String name, BType type) {
+        BVarSymbol fieldSymbol = new BVarSymbol(Flags.REQUIRED, new Name(name), PKG_ID, type, owner);
+        return new BField(new Name(name), null, fieldSymbol);
+    }
+
+    private static BSymbol lookup(BPackageSymbol pkgSymbol, String name) {
+        Scope.ScopeEntry entry = pkgSymbol.scope.entries.get(new Name(name));
+        Assert.assertNotNull(entry, name + " is not defined");
+        return entry.symbol;
+    }
+
+    private static Object getConstantValue(BPackageSymbol pkgSymbol, String name) {
+        return ((BConstantSymbol) lookup(pkgSymbol, name)).value.value;
+    }
+
+    /**
+     * Describe the symbols of a package by their tags, flags, types and constant values.
+     */
+    private static Map<String, String> describe(BPackageSymbol pkgSymbol) {
+        Map<String, String> symbols = new TreeMap<>();
+        for (Map.Entry<Name, Scope.ScopeEntry> entry : pkgSymbol.scope.entries.entrySet()) {
+            BSymbol symbol = entry.getValue().symbol;
+            StringBuilder description = new StringBuilder()
+                    .append("tag=").append(symbol.tag)
+                    .append(", flags=").append(symbol.flags)
+                    .append(", pkg=").append(symbol.pkgID)
+                    .append(", type=").append(symbol.type);
+            if (symbol instanceof BConstantSymbol) {
+                description.append(", value=").append(((BConstantSymbol) symbol).value.value);
+            }
+            if (symbol.type instanceof BRecordType) {
+                for (BField field : ((BRecordType) symbol.type).fields) {
+                    description.append(", field ").append(field.name).append(':').append(field.type)
+                            .append(" flags=").append(field.symbol.flags);
+                }
+            }
+            if (symbol instanceof BInvokableSymbol) {
+                for (BVarSymbol param : ((BInvokableSymbol) symbol).params) {
+                    description.append(", param ").append(param.name).append(':').append(param.type);
+                }
+            }
+            symbols.put(entry.getKey().value, description.toString());
+        }
+        return symbols;
+    }
+}
@@ -57,17 +57,22 @@ import static org.ballerinalang.jvm.util.BLangConstants.BALLERINA_LANG_ERROR_PKG
         returnType = {@ReturnType(type = TypeKind.OBJECT)})
 public class StackTrace {
 
+    private static final BObjectType CALL_STACK_OBJ_TYPE = createCallStackObjType();
+
     public static ObjectValue stackTrace(Strand strand, ErrorValue value) {
 
+        CallStack callStack = new CallStack(CALL_STACK_OBJ_TYPE);
+        callStack.callStack = getCallStackArray(value.getStackTrace());
+        callStack.freeze();
+        return callStack;
+    }
+
+    private static BObjectType createCallStackObjType() {
         BObjectType callStackObjType = new BObjectType("CallStack", new BPackage("ballerina", "lang.error", null), 0);
         callStackObjType.setAttachedFunctions(new AttachedFunction[]{});
         callStackObjType.setFields(
                 Collections.singletonMap("callStack", new BField(new BArrayType(BTypes.typeAny), null, 0)));
-
-        CallStack callStack = new CallStack(callStackObjType);
-        callStack.callStack = getCallStackArray(value.getStackTrace());
-        callStack.freeze();
-        return callStack;
+        return callStackObjType;
     }
 
     private static ArrayValue getCallStackArray(StackTraceElement[] stackTrace) {
@@ -18,6 +18,7 @@
 
 package org.ballerinalang.langlib.map;
 
+import org.ballerinalang.jvm.BallerinaValues;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.types.BMapType;
 import org.ballerinalang.jvm.types.BRecordType;
@@ -25,7 +26,6 @@ import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.TypeTags;
 import org.ballerinalang.jvm.values.FPValue;
 import org.ballerinalang.jvm.values.MapValue;
-import org.ballerinalang.jvm.values.MapValueImpl;
 import org.ballerinalang.langlib.map.util.MapLibUtils;
 import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.natives.annotations.Argument;
@@ -61,7 +61,7 @@ public class Filter {
             default:
                 throw createOpNotSupportedError(mapType, "filter()");
         }
-        MapValue newMap = new MapValueImpl(newMapType);
+        MapValue newMap = BallerinaValues.createMapValue(newMapType);
 
         m.entrySet().forEach(entry -> {
             if (func.apply(new Object[]{strand, entry.getValue(), true})) {
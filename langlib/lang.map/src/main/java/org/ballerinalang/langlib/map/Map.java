@@ -18,12 +18,12 @@
 
 package org.ballerinalang.langlib.map;
 
+import org.ballerinalang.jvm.BallerinaValues;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.types.BFunctionType;
 import org.ballerinalang.jvm.types.BMapType;
 import org.ballerinalang.jvm.values.FPValue;
 import org.ballerinalang.jvm.values.MapValue;
-import org.ballerinalang.jvm.values.MapValueImpl;
 import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
@@ -44,7 +44,7 @@ public class Map {
 
     public static MapValue map(Strand strand, MapValue<?, ?> m, FPValue<Object, Object> func) {
         BMapType newMapType = new BMapType(((BFunctionType) func.getType()).retType);
-        MapValue newMap = new MapValueImpl(newMapType);
+        MapValue newMap = BallerinaValues.createMapValue(newMapType);
 
         m.entrySet().forEach(entry -> {
             Object newVal = func.apply(new Object[]{strand, entry.getValue(), true});
@@ -20,6 +20,7 @@ package org.ballerinalang.langlib.string;
 
 import org.ballerinalang.jvm.BallerinaErrors;
 import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.values.StringValue;
 import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
@@ -51,4 +52,14 @@ public class GetCodePoint {
                     "String codepoint index out of range: " + i);
         }
     }
+
+    public static long getCodePoint(Strand strand, StringValue str, long i) {
+        try {
+            return str.getCodePoint((int) i);
+        } catch (IndexOutOfBoundsException e) {
+            throw BallerinaErrors.createError(getModulePrefixedReason(STRING_LANG_LIB,
+                                                                      INDEX_OUT_OF_RANGE_ERROR_IDENTIFIER),
+                    "String codepoint index out of range: " + i);
+        }
+    }
 }
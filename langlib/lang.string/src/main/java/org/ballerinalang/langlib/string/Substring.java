@@ -16,10 +16,12 @@
 
 package org.ballerinalang.langlib.string;
 
+import org.ballerinalang.jvm.BallerinaErrors;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.util.exceptions.BLangExceptionHelper;
 import org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons;
 import org.ballerinalang.jvm.util.exceptions.RuntimeErrors;
+import org.ballerinalang.jvm.values.StringValue;
 import org.ballerinalang.langlib.string.utils.StringUtils;
 import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.natives.annotations.Argument;
@@ -42,6 +44,19 @@ public class Substring {
 
     public static String substring(Strand strand, String value, long startIndex, long endIndex) {
         StringUtils.checkForNull(value);
+        checkIndices(startIndex, endIndex, value.length());
+        return value.substring((int) startIndex, (int) endIndex);
+    }
+
+    public static StringValue substring(Strand strand, StringValue value, long startIndex, long endIndex) {
+        if (value == null) {
+            throw BallerinaErrors.createNullReferenceError();
+        }
+        checkIndices(startIndex, endIndex, value.length());
+        return value.substring((int) startIndex, (int) endIndex);
+    }
+
+    private static void checkIndices(long startIndex, long endIndex, int length) {
         if (startIndex != (int) startIndex) {
             throw BLangExceptionHelper.getRuntimeException(BallerinaErrorReasons.STRING_OPERATION_ERROR,
                     RuntimeErrors.INDEX_NUMBER_TOO_LARGE, startIndex);
@@ -51,14 +66,13 @@ public class Substring {
                     RuntimeErrors.INDEX_NUMBER_TOO_LARGE, endIndex);
         }
 
-        if (startIndex < 0 || endIndex > value.length()) {
+        if (startIndex < 0 || endIndex > length) {
             throw BLangExceptionHelper.getRuntimeException(BallerinaErrorReasons.STRING_OPERATION_ERROR,
-                    RuntimeErrors.STRING_INDEX_OUT_OF_RANGE, value.length(), startIndex, endIndex);
+                    RuntimeErrors.STRING_INDEX_OUT_OF_RANGE, length, startIndex, endIndex);
         }
         if (endIndex < startIndex) {
             throw BLangExceptionHelper.getRuntimeException(BallerinaErrorReasons.STRING_OPERATION_ERROR,
-                    RuntimeErrors.INVALID_SUBSTRING_RANGE, value.length(), startIndex, endIndex);
+                    RuntimeErrors.INVALID_SUBSTRING_RANGE, length, startIndex, endIndex);
         }
-        return value.substring((int) startIndex, (int) endIndex);
     }
 }
@@ -21,6 +21,7 @@ package org.ballerinalang.langlib.string;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ArrayValueImpl;
+import org.ballerinalang.jvm.values.StringValue;
 import org.ballerinalang.model.types.TypeKind;
 import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
@@ -43,4 +44,12 @@ public class ToCodePointInts {
         long[] ints = str.codePoints().asLongStream().toArray();
         return new ArrayValueImpl(ints);
     }
+
+    public static ArrayValue toCodePointInts(Strand strand, StringValue str) {
+        long[] ints = new long[str.length()];
+        for (int i = 0; i < ints.length; i++) {
+            ints[i] = str.getCodePoint(i);
+        }
+        return new ArrayValueImpl(ints);
+    }
 }
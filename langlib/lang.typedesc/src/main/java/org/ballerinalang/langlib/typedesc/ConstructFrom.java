@@ -22,6 +22,7 @@ import org.ballerinalang.jvm.BallerinaErrors;
 import org.ballerinalang.jvm.BallerinaValues;
 import org.ballerinalang.jvm.TypeChecker;
 import org.ballerinalang.jvm.TypeConverter;
+import org.ballerinalang.jvm.ValueConverter;
 import org.ballerinalang.jvm.commons.TypeValuePair;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.types.BArrayType;
@@ -92,6 +93,13 @@ public class ConstructFrom {
     }
 
     public static Object convert(BType convertType, Object inputValue) {
+        // Convert in a single pass where possible, and validate the value before converting it otherwise, which is
+        // also how the conversion errors are reported
+        Object convertedValue = ValueConverter.tryConvert(inputValue, convertType);
+        if (convertedValue != ValueConverter.NOT_CONVERTED) {
+            return convertedValue;
+        }
+
         try {
             return convert(inputValue, convertType, new ArrayList<>());
         } catch (ErrorValue e) {
@@ -171,7 +179,7 @@ public class ConstructFrom {
     private static Object convertMap(MapValue<?, ?> map, BType targetType, List<TypeValuePair> unresolvedValues) {
         switch (targetType.getTag()) {
             case TypeTags.MAP_TAG:
-                MapValueImpl<String, Object> newMap = new MapValueImpl<>(targetType);
+                MapValueImpl<String, Object> newMap = BallerinaValues.createMapValue(targetType);
                 for (Map.Entry entry : map.entrySet()) {
                     BType constraintType = ((BMapType) targetType).getConstrainedType();
                     putToMap(newMap, entry, constraintType, unresolvedValues);
@@ -183,13 +191,11 @@ public class ConstructFrom {
                         .createRecordValue(recordType.getPackage(), recordType.getName());
 
                 BType restFieldType = recordType.restFieldType;
-                Map<String, BType> targetTypeField = new HashMap<>();
-                for (BField field : recordType.getFields().values()) {
-                    targetTypeField.put(field.getFieldName(), field.getFieldType());
-                }
+                Map<String, BField> targetTypeFields = recordType.getFields();
 
                 for (Map.Entry entry : map.entrySet()) {
-                    BType fieldType = targetTypeField.getOrDefault(entry.getKey(), restFieldType);
+                    BField targetField = targetTypeFields.get(entry.getKey());
+                    BType fieldType = targetField != null ? targetField.getFieldType() : restFieldType;
                     putToMap(newRecord, entry, fieldType, unresolvedValues);
                 }
                 return newRecord;
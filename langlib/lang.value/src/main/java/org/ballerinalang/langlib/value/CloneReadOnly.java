@@ -51,6 +51,10 @@ public class CloneReadOnly {
             return value;
         }
 
-        return ((RefValue) value).frozenCopy(new HashMap<>());
+        RefValue refValue = (RefValue) value;
+        if (refValue.isFrozen()) {
+            return refValue;
+        }
+        return refValue.frozenCopy(new HashMap<>());
     }
 }
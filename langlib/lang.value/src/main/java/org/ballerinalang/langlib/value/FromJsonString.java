@@ -27,9 +27,6 @@ import org.ballerinalang.natives.annotations.Argument;
 import org.ballerinalang.natives.annotations.BallerinaFunction;
 import org.ballerinalang.natives.annotations.ReturnType;
 
-import java.io.Reader;
-import java.io.StringReader;
-
 /**
  * Parse a string in JSON format and return the the value that it represents.
  *
@@ -49,9 +46,8 @@ public class FromJsonString {
         if (value.equals("null")) {
             return null;
         }
-        Reader reader = new StringReader(value);
         try {
-            return JSONParser.parse(reader);
+            return JSONParser.parse(value);
         } catch (BallerinaException e) {
             return BallerinaErrors.createError("{ballerina}FromJsonStringError", e.getMessage());
         }
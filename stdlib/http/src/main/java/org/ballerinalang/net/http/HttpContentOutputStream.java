@@ -0,0 +1,103 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.net.http;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.handler.codec.http.DefaultHttpContent;
+import org.wso2.transport.http.netty.message.HttpCarbonMessage;
+
+import java.io.OutputStream;
+
+/**
+ * An {@link OutputStream} which adds the written bytes to a {@link HttpCarbonMessage}, as pooled {@link ByteBuf}
+ * chunks. Each write is copied into the current chunk in bulk, instead of one byte at a time.
+ * <p>
+ * The last content of the message is not added when this stream is closed. It is added by closing the output stream
+ * of the {@link org.wso2.transport.http.netty.message.HttpMessageDataStreamer} of the message. If the content could
+ * not be written completely, {@link #release()} drops the chunk that was not added to the message.
+ *
+ * @since 1.2.0
+ */
+public class HttpContentOutputStream extends OutputStream {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final HttpCarbonMessage message;
+    private ByteBuf chunk;
+
+    public HttpContentOutputStream(HttpCarbonMessage message) {
+        this.message = message;
+    }
+
+    @Override
+    public void write(int b) {
+        if (chunk == null) {
+            chunk = PooledByteBufAllocator.DEFAULT.directBuffer(CHUNK_SIZE, CHUNK_SIZE);
+        }
+        chunk.writeByte(b);
+        if (!chunk.isWritable()) {
+            addChunk();
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        while (len > 0) {
+            if (chunk == null) {
+                chunk = PooledByteBufAllocator.DEFAULT.directBuffer(CHUNK_SIZE, CHUNK_SIZE);
+            }
+            int count = Math.min(len, chunk.writableBytes());
+            chunk.writeBytes(b, off, count);
+            off += count;
+            len -= count;
+            if (!chunk.isWritable()) {
+                addChunk();
+            }
+        }
+    }
+
+    @Override
+    public void flush() {
+        if (chunk != null) {
+            addChunk();
+        }
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+
+    /**
+     * Releases the chunk that has not been added to the message yet. This is called instead of {@link #close()}
+     * when writing the content failed, so that the pooled buffer is returned. It does nothing after a flush.
+     */
+    public void release() {
+        if (chunk != null) {
+            chunk.release();
+            chunk = null;
+        }
+    }
+
+    private void addChunk() {
+        message.addHttpContent(new DefaultHttpContent(chunk));
+        chunk = null;
+    }
+}
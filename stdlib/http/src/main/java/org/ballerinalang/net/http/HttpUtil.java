@@ -1396,10 +1396,37 @@ public class HttpUtil {
      */
     public static void serializeDataSource(Object outboundMessageSource, ObjectValue entity,
                                            OutputStream messageOutputStream) throws IOException {
+        serializeDataSource(outboundMessageSource, entity, null, messageOutputStream);
+    }
+
+    /**
+     * Serialize outbound message. JSON is added to the given message directly as pooled buffers, instead of being
+     * written to the output stream of the message.
+     *
+     * @param outboundMessageSource Represent the outbound message datasource
+     * @param entity                Represent the entity of the outbound message
+     * @param message               Represent the message to which the output stream belongs, or null
+     * @param messageOutputStream   Represent the output stream
+     * @throws IOException In case an error occurs while writing to output stream
+     */
+    public static void serializeDataSource(Object outboundMessageSource, ObjectValue entity, HttpCarbonMessage message,
+                                           OutputStream messageOutputStream) throws IOException {
         if (MimeUtil.generateAsJSON(outboundMessageSource, entity)) {
-            JSONGenerator gen = new JSONGenerator(messageOutputStream);
-            gen.serialize(outboundMessageSource);
-            gen.flush();
+            if (message == null) {
+                JSONGenerator gen = new JSONGenerator(messageOutputStream);
+                gen.serialize(outboundMessageSource);
+                gen.flush();
+                return;
+            }
+            HttpContentOutputStream out = new HttpContentOutputStream(message);
+            try {
+                JSONGenerator gen = new JSONGenerator(out);
+                gen.serialize(outboundMessageSource);
+                gen.flush();
+            } finally {
+                // Nothing is left to release once the content is flushed
+                out.release();
+            }
         } else {
             serialize(outboundMessageSource, messageOutputStream);
         }
@@ -345,9 +345,9 @@ public abstract class AbstractHTTPAction {
         try {
             if (entityObj != null) {
                 if (boundaryString != null) {
-                    serializeMultiparts(entityObj, messageOutputStream, boundaryString);
+                    serializeMultiparts(entityObj, outboundRequestMsg, messageOutputStream, boundaryString);
                 } else {
-                    serializeDataSource(entityObj, messageOutputStream);
+                    serializeDataSource(entityObj, outboundRequestMsg, messageOutputStream);
                 }
             }
         } catch (IOException | EncoderException serializerException) {
@@ -380,16 +380,18 @@ public abstract class AbstractHTTPAction {
      * if it exist as a byte channel.
      *
      * @param entityObj           Represents the entity that holds the actual body
-     * @param boundaryString      Boundary string that should be used in encoding body parts
+     * @param message             Message to which the output stream belongs
      * @param messageOutputStream Output stream to which the payload is written
+     * @param boundaryString      Boundary string that should be used in encoding body parts
      */
-    private static void serializeMultiparts(ObjectValue entityObj, OutputStream messageOutputStream,
-                                            String boundaryString) throws IOException {
+    private static void serializeMultiparts(ObjectValue entityObj, HttpCarbonMessage message,
+                                            OutputStream messageOutputStream, String boundaryString)
+            throws IOException {
         ArrayValue bodyParts = EntityBodyHandler.getBodyPartArray(entityObj);
         if (bodyParts != null && bodyParts.size() > 0) {
             serializeMultipartDataSource(messageOutputStream, boundaryString, entityObj);
         } else { //If the content is in a byte channel
-            serializeDataSource(entityObj, messageOutputStream);
+            serializeDataSource(entityObj, message, messageOutputStream);
         }
     }
 
@@ -407,11 +409,11 @@ public abstract class AbstractHTTPAction {
         HttpUtil.closeMessageOutputStream(messageOutputStream);
     }
 
-    private static void serializeDataSource(ObjectValue entityObj, OutputStream messageOutputStream)
-            throws IOException {
+    private static void serializeDataSource(ObjectValue entityObj, HttpCarbonMessage message,
+                                            OutputStream messageOutputStream) throws IOException {
         Object messageDataSource = EntityBodyHandler.getMessageDataSource(entityObj);
         if (messageDataSource != null) {
-            HttpUtil.serializeDataSource(messageDataSource, entityObj, messageOutputStream);
+            HttpUtil.serializeDataSource(messageDataSource, entityObj, message, messageOutputStream);
             HttpUtil.closeMessageOutputStream(messageOutputStream);
         } else if (EntityBodyHandler.getByteChannel(entityObj) != null) {
             //When the entity body is a byte channel and when it is not null
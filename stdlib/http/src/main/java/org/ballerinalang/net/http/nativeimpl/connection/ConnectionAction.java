@@ -50,8 +50,8 @@ public abstract class ConnectionAction {
     }
 
     static void serializeMsgDataSource(Object outboundMessageSource, ObjectValue entityStruct,
-                                OutputStream messageOutputStream) {
-        serializeDataSource(outboundMessageSource, entityStruct, messageOutputStream);
+                                       HttpCarbonMessage message, OutputStream messageOutputStream) {
+        serializeDataSource(outboundMessageSource, entityStruct, message, messageOutputStream);
     }
 
     static HttpMessageDataStreamer getMessageDataStreamer(HttpCarbonMessage outboundResponse) {
@@ -75,7 +75,7 @@ public class PushPromisedResponse extends ConnectionAction {
         ObjectValue entityObj = extractEntity(outboundResponseObj);
         if (entityObj != null) {
             Object outboundMessageSource = EntityBodyHandler.getMessageDataSource(entityObj);
-            serializeMsgDataSource(outboundMessageSource, entityObj, messageOutputStream);
+            serializeMsgDataSource(outboundMessageSource, entityObj, responseMessage, messageOutputStream);
         }
     }
 }
@@ -75,10 +75,10 @@ public class ResponseWriter {
         OutputStream messageOutputStream = outboundMsgDataStreamer.getOutputStream();
         if (entityObj != null) {
             if (boundaryString != null) {
-                serializeMultiparts(boundaryString, entityObj, messageOutputStream);
+                serializeMultiparts(boundaryString, entityObj, responseMessage, messageOutputStream);
             } else {
                 Object outboundMessageSource = EntityBodyHandler.getMessageDataSource(entityObj);
-                serializeDataSource(outboundMessageSource, entityObj, messageOutputStream);
+                serializeDataSource(outboundMessageSource, entityObj, responseMessage, messageOutputStream);
             }
         }
     }
@@ -89,15 +89,16 @@ public class ResponseWriter {
      *
      * @param boundaryString      Boundary string that should be used in encoding body parts
      * @param entity              Represents the entity that holds the actual body
+     * @param message             Represents the message to which the output stream belongs
      * @param messageOutputStream Represents the output stream
      */
-    private static void serializeMultiparts(String boundaryString, ObjectValue entity,
+    private static void serializeMultiparts(String boundaryString, ObjectValue entity, HttpCarbonMessage message,
                                             OutputStream messageOutputStream) {
         ArrayValue bodyParts = EntityBodyHandler.getBodyPartArray(entity);
         try {
             if (bodyParts != null && bodyParts.size() > 0) {
                 MultipartDataSource multipartDataSource = new MultipartDataSource(entity, boundaryString);
-                serializeDataSource(multipartDataSource, entity, messageOutputStream);
+                serializeDataSource(multipartDataSource, entity, message, messageOutputStream);
                 HttpUtil.closeMessageOutputStream(messageOutputStream);
             } else {
                 EntityBodyHandler.writeByteChannelToOutputStream(entity, messageOutputStream);
@@ -114,13 +115,14 @@ public class ResponseWriter {
      *
      * @param outboundMessageSource Outbound message datasource that needs to be serialized
      * @param entity                Represents the entity that holds headers and body content
+     * @param message               Represents the message to which the output stream belongs
      * @param messageOutputStream   Represents the output stream
      */
-    static void serializeDataSource(Object outboundMessageSource, ObjectValue entity,
+    static void serializeDataSource(Object outboundMessageSource, ObjectValue entity, HttpCarbonMessage message,
                                     OutputStream messageOutputStream) {
         try {
             if (outboundMessageSource != null) {
-                HttpUtil.serializeDataSource(outboundMessageSource, entity, messageOutputStream);
+                HttpUtil.serializeDataSource(outboundMessageSource, entity, message, messageOutputStream);
                 HttpUtil.closeMessageOutputStream(messageOutputStream);
             } else { //When the entity body is a byte channel
                 EntityBodyHandler.writeByteChannelToOutputStream(entity, messageOutputStream);
@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.services.nativeimpl.response;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.handler.codec.http.DefaultHttpResponse;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.netty.handler.codec.http.HttpVersion;
+import org.ballerinalang.jvm.JSONGenerator;
+import org.ballerinalang.jvm.JSONParser;
+import org.ballerinalang.net.http.HttpContentOutputStream;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+import org.wso2.transport.http.netty.message.HttpCarbonMessage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Tests streaming a JSON payload into the content of an outbound message with {@link HttpContentOutputStream}.
+ *
+ * @since 1.2.0
+ */
+public class HttpContentOutputStreamTest {
+
+    private static final int CHUNK_SIZE = 8192;
+
+    @Test(description = "Test that a JSON payload larger than a chunk is added to the message in full chunks")
+    public void testLargeJsonPayloadStreamedInChunks() throws IOException {
+        StringBuilder json = new StringBuilder("{\"items\":[");
+        for (int i = 0; i < 2000; i++) {
+            json.append(i == 0 ? "" : ", ").append("{\"id\":").append(i).append(", \"name\":\"item ").append(i)
+                    .append("\"}");
+        }
+        Object payload = JSONParser.parse(json.append("]}").toString());
+        HttpCarbonMessage message = createMessage();
+
+        HttpContentOutputStream out = new HttpContentOutputStream(message);
+        JSONGenerator gen = new JSONGenerator(out);
+        gen.serialize(payload);
+        gen.flush();
+        out.release();
+
+        byte[] expected = serialize(payload);
+        Assert.assertTrue(expected.length > 2 * CHUNK_SIZE);
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        int chunks = 0;
+        while (!message.isEmpty()) {
+            ByteBuf chunk = message.getHttpContent().content();
+            chunks++;
+            // Only the last chunk may be partly filled
+            if (content.size() + chunk.readableBytes() < expected.length) {
+                Assert.assertEquals(chunk.readableBytes(), CHUNK_SIZE);
+            }
+            chunk.readBytes(content, chunk.readableBytes());
+            chunk.release();
+        }
+        Assert.assertEquals(chunks, (expected.length + CHUNK_SIZE - 1) / CHUNK_SIZE);
+        Assert.assertEquals(content.toByteArray(), expected);
+    }
+
+    @Test(description = "Test that non ASCII strings of a JSON payload are added to the message as UTF-8")
+    public void testJsonPayloadEncodedAsUtf8() throws IOException {
+        Object payload = JSONParser.parse("{\"city\":\"S\u00e3o Paulo\", \"greeting\":\"\u0db8\u0dd4\u0dbd\u0dca\"}");
+        HttpCarbonMessage message = createMessage();
+
+        HttpContentOutputStream out = new HttpContentOutputStream(message);
+        JSONGenerator gen = new JSONGenerator(out);
+        gen.serialize(payload);
+        gen.flush();
+
+        HttpContent content = message.getHttpContent();
+        Assert.assertTrue(message.isEmpty());
+        Assert.assertEquals(content.content().toString(StandardCharsets.UTF_8),
+                            "{\"city\":\"S\u00e3o Paulo\", \"greeting\":\"\u0db8\u0dd4\u0dbd\u0dca\"}");
+        content.release();
+    }
+
+    @Test(description = "Test that content which was not flushed is dropped on release")
+    public void testUnflushedContentDroppedOnRelease() {
+        HttpCarbonMessage message = createMessage();
+
+        HttpContentOutputStream out = new HttpContentOutputStream(message);
+        out.write(new byte[CHUNK_SIZE + 10], 0, CHUNK_SIZE + 10);
+        out.release();
+        out.flush();
+
+        HttpContent content = message.getHttpContent();
+        Assert.assertEquals(content.content().readableBytes(), CHUNK_SIZE);
+        Assert.assertTrue(message.isEmpty());
+        content.release();
+    }
+
+    private static HttpCarbonMessage createMessage() {
+        return new HttpCarbonMessage(new DefaultHttpResponse(HttpVersion.HTTP_1_1, HttpResponseStatus.OK));
+    }
+
+    private static byte[] serialize(Object payload) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        JSONGenerator gen = new JSONGenerator(out);
+        gen.serialize(payload);
+        gen.flush();
+        return out.toByteArray();
+    }
+}
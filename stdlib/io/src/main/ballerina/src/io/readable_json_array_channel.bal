@@ -0,0 +1,77 @@
+// Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+//
+// WSO2 Inc. licenses this file to you under the Apache License,
+// Version 2.0 (the "License"); you may not use this file except
+// in compliance with the License.
+// You may obtain a copy of the License at
+//
+// http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+import ballerinax/java;
+
+# Represents a channel which reads the elements of a JSON array one at a time. Only the element which is being read
+# is kept in memory, so arrays which are too large to be read with `ReadableCharacterChannel.readJson()` can be
+# processed.
+public type ReadableJsonArrayChannel object {
+
+    private ReadableCharacterChannel charChannel;
+
+    # Constructs a ReadableJsonArrayChannel from a given ReadableCharacterChannel.
+    #
+    # + charChannel - CharacterChannel which points to a JSON array
+    public function __init(ReadableCharacterChannel charChannel) {
+        self.charChannel = charChannel;
+        initReadableJsonArrayChannel(self, charChannel);
+    }
+
+    # Checks whether there's an element left to be read.
+    #
+    # + return - True if there's an element left to be read
+    public function hasNext() returns boolean {
+        return hasNextJsonElementExtern(self);
+    }
+
+    # Reads the next element of the array.
+    #
+    # + return - The element, `EofError` if there are no elements left or `Error` if any error occurred
+    public function getNext() returns @tainted json|Error {
+        return getNextJsonElementExtern(self);
+    }
+
+    # Closes a given json array channel.
+    #
+    # + return - An `Error` if the channel could not be closed properly
+    public function close() returns Error? {
+        return closeReadableJsonArrayChannelExtern(self);
+    }
+};
+
+function initReadableJsonArrayChannel(ReadableJsonArrayChannel jsonArrayChannel,
+            ReadableCharacterChannel charChannel) = @java:Method {
+    name: "initJsonArrayChannel",
+    class: "org.ballerinalang.stdlib.io.nativeimpl.JsonArrayChannelUtils"
+} external;
+
+function hasNextJsonElementExtern(ReadableJsonArrayChannel jsonArrayChannel) returns boolean = @java:Method {
+    name: "hasNext",
+    class: "org.ballerinalang.stdlib.io.nativeimpl.JsonArrayChannelUtils"
+} external;
+
+function getNextJsonElementExtern(ReadableJsonArrayChannel jsonArrayChannel) returns @tainted json|Error =
+            @java:Method {
+    name: "getNext",
+    class: "org.ballerinalang.stdlib.io.nativeimpl.JsonArrayChannelUtils"
+} external;
+
+function closeReadableJsonArrayChannelExtern(ReadableJsonArrayChannel jsonArrayChannel) returns Error? =
+            @java:Method {
+    name: "close",
+    class: "org.ballerinalang.stdlib.io.nativeimpl.JsonArrayChannelUtils"
+} external;
@@ -48,6 +48,11 @@ public class IOConstants {
      */
     public static final String TXT_RECORD_CHANNEL_NAME = "txt_record";
 
+    /**
+     * The name of the json array channel which will be represented through the native struct.
+     */
+    public static final String JSON_ARRAY_CHANNEL_NAME = "json_array";
+
     /**
      * The size of the buffer allocated for reading bytes from the channel (15~ KB).
      */
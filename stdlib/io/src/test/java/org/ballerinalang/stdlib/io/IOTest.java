@@ -312,6 +312,24 @@ public class IOTest {
         BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
     }
 
+    @Test(description = "Test reading a json array with 'ReadableJsonArrayChannel' in ballerina/io package")
+    public void testJsonArrayCharacters() throws URISyntaxException {
+        String resourceToRead = "datafiles/io/text/array.json";
+
+        //Will initialize the channel
+        BValue[] args = { new BString(getAbsoluteFilePath(resourceToRead)), new BString("UTF-8") };
+        BRunUtil.invoke(characterInputOutputProgramFile, "initReadableChannel", args);
+
+        BValue[] returns = BRunUtil.invoke(characterInputOutputProgramFile, "readJsonArray");
+        BValueArray elements = (BValueArray) returns[0];
+        Assert.assertEquals(elements.size(), 4);
+        Assert.assertEquals(elements.getRefValue(0).stringValue(), "{\"id\":1, \"name\":\"Foo\"}");
+        Assert.assertEquals(elements.getRefValue(2).stringValue(), "Baz");
+        Assert.assertEquals(((BInteger) elements.getRefValue(3)).intValue(), 3);
+
+        BRunUtil.invoke(characterInputOutputProgramFile, "closeReadableChannel");
+    }
+
     @Test(description = "Test 'writeJson' function in ballerina/io package")
     public void testWriteJsonCharacters() {
         String content = "{\n" + "  \"test\": { \"name\": \"Foo\" }\n" + "}";
@@ -116,6 +116,23 @@ function readJson() returns @tainted json|error {
     return ();
 }
 
+function readJsonArray() returns @tainted json[]|error {
+    var rCha = rch;
+    json[] elements = [];
+    if(rCha is io:ReadableCharacterChannel){
+        io:ReadableJsonArrayChannel jsonArrayChannel = new io:ReadableJsonArrayChannel(rCha);
+        while (jsonArrayChannel.hasNext()) {
+            var result = jsonArrayChannel.getNext();
+            if (result is json) {
+                elements.push(result);
+            } else {
+                return result;
+            }
+        }
+    }
+    return elements;
+}
+
 function readXml() returns @tainted xml|error {
     var rCha = rch;
     if(rCha is io:ReadableCharacterChannel){
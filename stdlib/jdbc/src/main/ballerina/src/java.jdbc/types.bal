@@ -25,12 +25,20 @@ import ballerinax/java;
 # + poolOptions - Properties for the connection pool configuration. Refer `PoolOptions` for more details
 # + dbOptions - A map of DB specific properties. These properties will have an effect only if the dataSourceClassName is
 #               provided in poolOptions
+# + fetchSize - The number of rows fetched from the database at a time, while iterating a table returned by the select
+#               remote function. A value of 0 or less uses the default of the driver, which fetches all the rows at once
+#               for some drivers. MySQL fetches one row at a time by default, and honors a fetch size only when the
+#               `useCursorFetch` DB option is set. PostgreSQL honors a fetch size only when auto-commit is disabled.
+#               Hence a select with a fetch size that runs outside of a transaction is run in a transaction of its
+#               own, which is rolled back when the table is closed. Any change made by such a select, for example by
+#               a function it calls, is discarded.
 public type ClientConfiguration record {|
     string url = "";
     string username = "";
     string password = "";
     PoolOptions poolOptions?;
     map<anydata> dbOptions = {};
+    int fetchSize = 0;
 |};
 
 # Represents the properties which are used to configure DB connection pool.
@@ -70,6 +78,14 @@ public type ClientConfiguration record {|
 # + validationTimeoutInMillis - The maximum duration of time that a connection will be tested for aliveness. Default
 #                       value is 5000 (5 seconds) and it can be changed through the configuration API with the key
 #                       `b7a.jdbc.pool.validationTimeoutInMillis`.  Lowest acceptable validation timeout is 250 ms.
+# + statementCacheSize - The maximum number of parsed queries which are cached by the client, and of prepared statements
+#                        which are cached by the driver, if the driver supports a statement cache and a JDBC URL is
+#                        used. A value of 0 disables both caches. Default value is 250 and it can be changed through
+#                        the configuration API with the key `b7a.jdbc.pool.statementCacheSize`.
+# + asyncExecution - Whether statements are executed on a dedicated thread pool, which is sized to the connection
+#                    pool, so that a slow statement does not occupy a thread of the Ballerina scheduler. Statements
+#                    of a transaction are always executed by the calling strand. Default value is `false` and it can
+#                    be changed through the configuration API with the key `b7a.jdbc.pool.asyncExecution`.
 public type PoolOptions record {|
     string connectionInitSql = config:getAsString("b7a.jdbc.pool.connectionInitSql", "");
     string dataSourceClassName = config:getAsString("b7a.jdbc.pool.dataSourceClassName", "");
@@ -81,6 +97,8 @@ public type PoolOptions record {|
     int minimumIdle = config:getAsInt("b7a.jdbc.pool.minimumIdle", 15);
     int maxLifetimeInMillis = config:getAsInt("b7a.jdbc.pool.maxLifetimeInMillis", 1800000);
     int validationTimeoutInMillis = config:getAsInt("\"b7a.jdbc.pool.validationTimeoutInMillis\"", 5000);
+    int statementCacheSize = config:getAsInt("b7a.jdbc.pool.statementCacheSize", 250);
+    boolean asyncExecution = config:getAsBoolean("b7a.jdbc.pool.asyncExecution", false);
 |};
 
 // This is a container object that holds the global pool config and initilizes the internal map of connection pools
@@ -131,6 +131,7 @@ public final class Constants {
         public static final String PASSWORD = "password";
         public static final String POOL_OPTIONS = "poolOptions";
         public static final String DB_OPTIONS = "dbOptions";
+        public static final String FETCH_SIZE = "fetchSize";
     }
 
     /**
@@ -145,6 +146,7 @@ public final class Constants {
         //Boolean
         public static final String AUTOCOMMIT = "autoCommit";
         public static final String IS_XA = "isXA";
+        public static final String ASYNC_EXECUTION = "asyncExecution";
 
         //Int
         public static final String MAXIMUM_POOL_SIZE = "maximumPoolSize";
@@ -153,6 +155,7 @@ public final class Constants {
         public static final String MINIMUM_IDLE = "minimumIdle";
         public static final String MAX_LIFETIME_IN_MILLIS = "maxLifetimeInMillis";
         public static final String VALIDATION_TIMEOUT_IN_MILLIS = "validationTimeoutInMillis";
+        public static final String STATEMENT_CACHE_SIZE = "statementCacheSize";
     }
 
     /**
@@ -182,6 +185,7 @@ public final class Constants {
     public static final String JDBC_UPDATE_RESULT = "UpdateResult";
     public static final String JDBC_BATCH_UPDATE_RESULT = "BatchUpdateResult";
     public static final String CONNECTOR_ID_KEY = UUID.randomUUID().toString();
+    public static final String FETCH_SIZE_KEY = UUID.randomUUID().toString();
 
     public static final String APPLICATION_ERROR_DATA_RECORD_NAME = "ApplicationErrorData";
     public static final String DATABASE_ERROR_DATA_RECORD_NAME = "DatabaseErrorData";
@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.jdbc.datasource;
+
+import org.ballerinalang.jvm.observability.ObservabilityConstants;
+import org.ballerinalang.jvm.observability.ObserveUtils;
+import org.ballerinalang.jvm.observability.metrics.Counter;
+import org.ballerinalang.jvm.observability.metrics.DefaultMetricRegistry;
+import org.ballerinalang.jvm.observability.metrics.MetricId;
+import org.ballerinalang.jvm.observability.metrics.Tag;
+import org.ballerinax.jdbc.statement.ParsedQuery;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache of the parsed queries of a datasource. When the cache is full, the least recently used query is evicted, so
+ * that queries which are no longer used do not stay in the cache.
+ * <p>
+ * The numbers of hits and misses are always counted, and are also published as metrics when metrics are enabled.
+ *
+ * @since 1.2.0
+ */
+public class QueryCache {
+
+    private static final String METRIC_HITS = "jdbc_query_cache_hits";
+    private static final String METRIC_MISSES = "jdbc_query_cache_misses";
+
+    private final Map<String, ParsedQuery> queries;
+    private final int maxSize;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    QueryCache(int maxSize, String peerAddress) {
+        this.maxSize = maxSize;
+        this.queries = new LinkedHashMap<String, ParsedQuery>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ParsedQuery> eldest) {
+                return size() > maxSize;
+            }
+        };
+        if (ObserveUtils.isMetricsEnabled()) {
+            // A datasource configured without a JDBC URL has no peer address to tag the counters with
+            Set<Tag> tags = peerAddress == null ? Collections.emptySet() :
+                    Collections.singleton(new Tag(ObservabilityConstants.TAG_KEY_PEER_ADDRESS, peerAddress));
+            hitCounter = DefaultMetricRegistry.getInstance().counter(
+                    new MetricId(METRIC_HITS, "Number of queries found in the query cache", tags));
+            missCounter = DefaultMetricRegistry.getInstance().counter(
+                    new MetricId(METRIC_MISSES, "Number of queries parsed since not in the query cache", tags));
+        } else {
+            hitCounter = null;
+            missCounter = null;
+        }
+    }
+
+    /**
+     * Get the parsed form of a query, parsing it if it is not in the cache.
+     *
+     * @param query The query
+     * @return The parsed query
+     */
+    public ParsedQuery get(String query) {
+        ParsedQuery parsedQuery = null;
+        if (maxSize > 0) {
+            // An access ordered map is modified by lookups as well
+            synchronized (queries) {
+                parsedQuery = queries.get(query);
+            }
+        }
+        if (parsedQuery != null) {
+            hits.increment();
+            if (hitCounter != null) {
+                hitCounter.increment();
+            }
+            return parsedQuery;
+        }
+
+        misses.increment();
+        if (missCounter != null) {
+            missCounter.increment();
+        }
+        parsedQuery = new ParsedQuery(query);
+        if (maxSize > 0) {
+            synchronized (queries) {
+                queries.put(query, parsedQuery);
+            }
+        }
+        return parsedQuery;
+    }
+
+    /**
+     * Get the number of queries found in the cache.
+     *
+     * @return The number of cache hits
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Get the number of queries parsed since they were not in the cache.
+     *
+     * @return The number of cache misses
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+}
@@ -29,6 +29,10 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -42,6 +46,12 @@ import javax.sql.XADataSource;
  */
 public class SQLDatasource {
 
+    // Statements which may wait for a free executor thread, per connection of the pool
+    private static final int QUEUED_STATEMENTS_PER_CONNECTION = 32;
+    private static final long EXECUTOR_KEEP_ALIVE_IN_MILLIS = 60000;
+    private static final int DEFAULT_STATEMENT_CACHE_SIZE = 250;
+    private static final int MYSQL_STATEMENT_CACHE_SQL_LIMIT = 2048;
+
     private HikariDataSource hikariDataSource;
     private String peerAddress;
     private String databaseProductName;
@@ -50,6 +60,8 @@ public class SQLDatasource {
     private AtomicInteger clientCounter = new AtomicInteger(0);
     private Lock mutex = new ReentrantLock();
     private boolean poolShutdown = false;
+    private ExecutorService statementExecutor;
+    private QueryCache queryCache;
 
     public SQLDatasource init(SQLDatasourceParams sqlDatasourceParams) {
         this.globalDatasource = sqlDatasourceParams.isGlobalDatasource;
@@ -92,6 +104,15 @@ public class SQLDatasource {
         return hikariDataSource.getConnection();
     }
 
+    /**
+     * Get the cache of the parsed queries of this datasource.
+     *
+     * @return The query cache
+     */
+    public QueryCache getQueryCache() {
+        return queryCache;
+    }
+
     public boolean isXAConnection() {
         return this.xaConn;
     }
@@ -106,7 +127,20 @@ public class SQLDatasource {
         return xaDataSource;
     }
 
+    /**
+     * Get the executor on which the statements of this datasource are executed, so that a statement does not occupy a
+     * thread of the scheduler while it waits for the database.
+     *
+     * @return The statement executor, or null if statements are executed by the calling strand.
+     */
+    public ExecutorService getStatementExecutor() {
+        return statementExecutor;
+    }
+
     private void closeConnectionPool() {
+        if (statementExecutor != null) {
+            statementExecutor.shutdown();
+        }
         hikariDataSource.close();
         poolShutdown = true;
     }
@@ -144,6 +178,8 @@ public class SQLDatasource {
     private void buildDataSource(SQLDatasourceParams sqlDatasourceParams) {
         try {
             HikariConfig config = new HikariConfig();
+            boolean asyncExecution = false;
+            int statementCacheSize = DEFAULT_STATEMENT_CACHE_SIZE;
             //Set username password
             config.setUsername(sqlDatasourceParams.username);
             config.setPassword(sqlDatasourceParams.password);
@@ -206,6 +242,9 @@ public class SQLDatasource {
                 }
                 boolean autoCommit = sqlDatasourceParams.poolOptionsWrapper.getBoolean(Constants.Options.AUTOCOMMIT);
                 config.setAutoCommit(autoCommit);
+                asyncExecution = sqlDatasourceParams.poolOptionsWrapper.getBoolean(Constants.Options.ASYNC_EXECUTION);
+                statementCacheSize = sqlDatasourceParams.poolOptionsWrapper
+                        .getInt(Constants.Options.STATEMENT_CACHE_SIZE).intValue();
             } else {
                 config.setJdbcUrl(sqlDatasourceParams.jdbcUrl);
             }
@@ -219,6 +258,10 @@ public class SQLDatasource {
                     }
                 });
             }
+            if (config.getDataSourceClassName() == null && statementCacheSize > 0) {
+                addStatementCacheProperties(config, sqlDatasourceParams, statementCacheSize);
+            }
+            queryCache = new QueryCache(statementCacheSize, peerAddress);
             // Clarification on behavior with parameters.
             // 1. Adding an invalid param in the JDBC URL. This will result in an error getting returned
             //    eg: jdbc:Client testDB = new({
@@ -246,6 +289,9 @@ public class SQLDatasource {
             //        dbOptions: { "INVALID_PARAM": -1 }
             //    });
             hikariDataSource = new HikariDataSource(config);
+            if (asyncExecution) {
+                statementExecutor = createStatementExecutor(hikariDataSource.getMaximumPoolSize());
+            }
             Runtime.getRuntime().addShutdownHook(new Thread(this::closeConnectionPool));
         } catch (Throwable t) {
             String message = "error in sql connector configuration: " + t.getMessage();
@@ -256,6 +302,61 @@ public class SQLDatasource {
         }
     }
 
+    /**
+     * Enable the prepared statement cache of the drivers which support one, unless the properties of the cache are
+     * given as DB options. The properties are passed to the driver only when a JDBC URL is used, since a data source
+     * class fails on a property which it does not have.
+     */
+    private static void addStatementCacheProperties(HikariConfig config, SQLDatasourceParams sqlDatasourceParams,
+                                                    int statementCacheSize) {
+        MapValue<String, Object> dbOptions = sqlDatasourceParams.dbOptionsMap;
+        switch (sqlDatasourceParams.dbType) {
+        case Constants.DBTypes.MYSQL:
+            addDataSourceProperty(config, dbOptions, "cachePrepStmts", true);
+            addDataSourceProperty(config, dbOptions, "prepStmtCacheSize", statementCacheSize);
+            addDataSourceProperty(config, dbOptions, "prepStmtCacheSqlLimit", MYSQL_STATEMENT_CACHE_SQL_LIMIT);
+            break;
+        case Constants.DBTypes.POSTGRESQL:
+            addDataSourceProperty(config, dbOptions, "preparedStatementCacheQueries", statementCacheSize);
+            break;
+        case Constants.DBTypes.ORACLE:
+            addDataSourceProperty(config, dbOptions, "oracle.jdbc.implicitStatementCacheSize", statementCacheSize);
+            break;
+        case Constants.DBTypes.SQLSERVER:
+            addDataSourceProperty(config, dbOptions, "disableStatementPooling", false);
+            addDataSourceProperty(config, dbOptions, "statementPoolingCacheSize", statementCacheSize);
+            break;
+        default:
+            // Other databases either cache statements by default or do not support a statement cache
+            break;
+        }
+    }
+
+    private static void addDataSourceProperty(HikariConfig config, MapValue<String, Object> dbOptions, String name,
+                                              Object value) {
+        if (dbOptions == null || !dbOptions.containsKey(name)) {
+            config.addDataSourceProperty(name, value);
+        }
+    }
+
+    /**
+     * Create an executor with a thread per connection of the pool, since a statement cannot run without a connection.
+     * A statement submitted when the queue of the executor is full, or after the executor is shut down, is executed by
+     * the calling strand.
+     */
+    private static ExecutorService createStatementExecutor(int maximumPoolSize) {
+        AtomicInteger threadCount = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(maximumPoolSize, maximumPoolSize,
+                EXECUTOR_KEEP_ALIVE_IN_MILLIS, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(maximumPoolSize * QUEUED_STATEMENTS_PER_CONNECTION), runnable -> {
+                    Thread thread = new Thread(runnable, "jdbc-statement-exec-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, (statement, rejectingExecutor) -> statement.run());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     private String getXADatasourceClassName(String dbType, String url, String userName, String password)
             throws PanickingApplicationException, PanickingDatabaseException {
         String xaDataSource = null;
@@ -18,18 +18,24 @@
 package org.ballerinax.jdbc.methods;
 
 import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.ErrorValue;
 import org.ballerinalang.jvm.values.MapValue;
 import org.ballerinalang.jvm.values.ObjectValue;
 import org.ballerinalang.jvm.values.TypedescValue;
+import org.ballerinalang.jvm.values.connector.NonBlockingCallback;
 import org.ballerinax.jdbc.Constants;
 import org.ballerinax.jdbc.datasource.SQLDatasource;
+import org.ballerinax.jdbc.exceptions.ErrorGenerator;
 import org.ballerinax.jdbc.statement.BatchUpdateStatement;
 import org.ballerinax.jdbc.statement.CallStatement;
 import org.ballerinax.jdbc.statement.SQLStatement;
 import org.ballerinax.jdbc.statement.SelectStatement;
 import org.ballerinax.jdbc.statement.UpdateStatement;
 
+import java.util.concurrent.ExecutorService;
+
 /**
  * External remote method implementations of the JDBC client.
  *
@@ -42,31 +48,74 @@ public class ExternActions {
     public static MapValue<String, Object> nativeBatchUpdate(ObjectValue client, String sqlQuery,
                                                              boolean rollbackAllInFailure, ArrayValue... parameters) {
         SQLDatasource datasource = (SQLDatasource) client.getNativeData(Constants.JDBC_CLIENT);
+        Strand strand = Scheduler.getStrand();
         SQLStatement batchUpdateStatement = new BatchUpdateStatement(client, datasource, sqlQuery,
-                rollbackAllInFailure, Scheduler.getStrand(), parameters);
-        return (MapValue<String, Object>) batchUpdateStatement.execute();
+                rollbackAllInFailure, strand, parameters);
+        return (MapValue<String, Object>) execute(batchUpdateStatement, datasource, strand);
     }
 
     public static Object nativeCall(ObjectValue client, String sqlQuery, Object recordType,
                                     ArrayValue parameters) {
         SQLDatasource datasource = (SQLDatasource) client.getNativeData(Constants.JDBC_CLIENT);
+        Strand strand = Scheduler.getStrand();
         SQLStatement callStatement = new CallStatement(client, datasource, sqlQuery, (ArrayValue) recordType,
-                parameters, Scheduler.getStrand());
-        return callStatement.execute();
+                parameters, strand);
+        return execute(callStatement, datasource, strand);
     }
 
     public static Object nativeSelect(ObjectValue client, String query, Object recordType,
                                       ArrayValue parameters) {
         SQLDatasource sqlDatasource = (SQLDatasource) client.getNativeData(Constants.JDBC_CLIENT);
+        Strand strand = Scheduler.getStrand();
         SQLStatement selectStatement = new SelectStatement(client, sqlDatasource, query, parameters,
-                (TypedescValue) recordType, Scheduler.getStrand());
-        return selectStatement.execute();
+                (TypedescValue) recordType, strand);
+        return execute(selectStatement, sqlDatasource, strand);
     }
 
     public static Object nativeUpdate(ObjectValue client, String query, ArrayValue parameters) {
         SQLDatasource sqlDatasource = (SQLDatasource) client.getNativeData(Constants.JDBC_CLIENT);
-        SQLStatement updateStatement = new UpdateStatement(client, sqlDatasource, query, parameters,
-                Scheduler.getStrand());
-        return updateStatement.execute();
+        Strand strand = Scheduler.getStrand();
+        SQLStatement updateStatement = new UpdateStatement(client, sqlDatasource, query, parameters, strand);
+        return execute(updateStatement, sqlDatasource, strand);
+    }
+
+    private static Object execute(SQLStatement statement, SQLDatasource datasource, Strand strand) {
+        return execute(statement, datasource.getStatementExecutor(), strand);
+    }
+
+    /**
+     * Execute a statement on the given statement executor, if there is one. The strand is then parked until the
+     * statement completes, and the result of the statement is returned to the strand when it is resumed. Statements
+     * of a transaction are executed by the strand, since a distributed transaction is bound to the thread which
+     * started it. Either way, an error which ends the statement is returned as its result, and the strand is resumed
+     * whatever the statement throws.
+     */
+    static Object execute(SQLStatement statement, ExecutorService executor, Strand strand) {
+        if (executor == null || strand.isInTransaction()) {
+            return executeStatement(statement);
+        }
+        NonBlockingCallback callback = new NonBlockingCallback(strand);
+        executor.execute(() -> {
+            Object result = null;
+            try {
+                result = executeStatement(statement);
+            } finally {
+                callback.setReturnValues(result);
+                callback.notifySuccess();
+            }
+        });
+        return null;
+    }
+
+    private static Object executeStatement(SQLStatement statement) {
+        try {
+            return statement.execute();
+        } catch (ErrorValue e) {
+            return statement.createErrorResult(e);
+        } catch (Throwable e) {
+            // Errors such as a driver class failing to load must also resume a parked strand.
+            return statement.createErrorResult(
+                    ErrorGenerator.getSQLApplicationError("failed to execute statement: " + e.getMessage()));
+        }
     }
 }
@@ -80,6 +80,7 @@ public class ExternFunctions {
                 .retrieveDatasource(sqlDatasourceParams);
         client.addNativeData(Constants.JDBC_CLIENT, sqlDatasource);
         client.addNativeData(Constants.CONNECTOR_ID_KEY, UUID.randomUUID().toString());
+        client.addNativeData(Constants.FETCH_SIZE_KEY, config.getIntValue(Constants.EndpointConfig.FETCH_SIZE));
     }
 
     // Unable to perform a complete validation since URL differs based on the database.
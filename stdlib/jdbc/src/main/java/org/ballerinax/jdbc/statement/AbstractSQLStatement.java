@@ -118,42 +118,40 @@ public abstract class AbstractSQLStatement implements SQLStatement {
 
     /**
      * If there are any arrays of parameter for types other than sql array, the given query is expanded by adding "?" s
-     * to match with the array size.
+     * to match with the array size. The query is parsed once per datasource, and the parsed form is taken from the
+     * query cache of the datasource afterwards.
      *
+     * @param datasource The datasource the query is executed on
      * @param query The query to be processed
      * @param parameters Array of parameters belonging to the query
      *
      * @return The string with "?" place holders for parameters
      */
-     String createProcessedQueryString(String query, ArrayValue parameters) {
-        String currentQuery = query;
-        if (parameters != null) {
-            int start = 0;
-            Object[] vals;
-            int count;
-            int paramCount = parameters.size();
-            for (int i = 0; i < paramCount; i++) {
-                // types.bal Parameter
-                MapValue<String, Object> paramValue = (MapValue<String, Object>) parameters.getRefValue(i);
-                if (paramValue != null) {
-                    String sqlType = StatementProcessUtils.getSQLType(paramValue);
-                    Object value = paramValue.get(PARAMETER_VALUE_FIELD);
-                    BType type = TypeChecker.getType(value);
-                    if (value != null && (type.getTag() == TypeTags.ARRAY_TAG
-                            && ((BArrayType) type).getElementType().getTag()
-                            != TypeTags.BYTE_TAG)
-                            && !Constants.SQLDataTypes.ARRAY.equalsIgnoreCase(sqlType)) {
-                        count = ((ArrayValue) value).size();
-                    } else {
-                        count = 1;
-                    }
-                    vals = expandQuery(start, count, currentQuery);
-                    start = (Integer) vals[0];
-                    currentQuery = (String) vals[1];
+    String createProcessedQueryString(SQLDatasource datasource, String query, ArrayValue parameters) {
+        if (parameters == null) {
+            return query;
+        }
+        int paramCount = parameters.size();
+        int[] counts = new int[paramCount];
+        int count = 0;
+        for (int i = 0; i < paramCount; i++) {
+            // types.bal Parameter
+            MapValue<String, Object> paramValue = (MapValue<String, Object>) parameters.getRefValue(i);
+            if (paramValue != null) {
+                String sqlType = StatementProcessUtils.getSQLType(paramValue);
+                Object value = paramValue.get(PARAMETER_VALUE_FIELD);
+                BType type = TypeChecker.getType(value);
+                if (value != null && (type.getTag() == TypeTags.ARRAY_TAG
+                        && ((BArrayType) type).getElementType().getTag()
+                        != TypeTags.BYTE_TAG)
+                        && !Constants.SQLDataTypes.ARRAY.equalsIgnoreCase(sqlType)) {
+                    counts[count++] = ((ArrayValue) value).size();
+                } else {
+                    counts[count++] = 1;
                 }
             }
         }
-        return currentQuery;
+        return datasource.getQueryCache().get(query).expand(counts, count);
     }
 
     TableValue constructTable(TableResourceManager rm, ResultSet rs, BStructureType structType,
@@ -413,45 +411,6 @@ public abstract class AbstractSQLStatement implements SQLStatement {
         TransactionUtils.notifyTransactionAbort(strand, globalTransactionId, transactionBlockId);
     }
 
-    /**
-     * Search for the first occurrence of "?" from the given starting point and replace it with given number of "?"'s.
-     */
-    private Object[] expandQuery(int start, int count, String query) {
-        StringBuilder result = new StringBuilder();
-        int n = query.length();
-        boolean doubleQuoteExists = false;
-        boolean singleQuoteExists = false;
-        int end = n;
-        for (int i = start; i < n; i++) {
-            if (query.charAt(i) == '\'') {
-                singleQuoteExists = !singleQuoteExists;
-            } else if (query.charAt(i) == '\"') {
-                doubleQuoteExists = !doubleQuoteExists;
-            } else if (query.charAt(i) == '?' && !(doubleQuoteExists || singleQuoteExists)) {
-                result.append(query, 0, i);
-                result.append(generateQuestionMarks(count));
-                end = result.length() + 1;
-                if (i + 1 < n) {
-                    result.append(query.substring(i + 1));
-                }
-                break;
-            }
-        }
-        return new Object[] { end, result.toString() };
-    }
-
-    private String generateQuestionMarks(int n) {
-        StringBuilder builder = new StringBuilder();
-        for (int i = 0; i < n; i++) {
-            builder.append(Constants.QUESTION_MARK);
-            if (i + 1 < n) {
-                builder.append(",");
-            }
-        }
-        return builder.toString();
-    }
-
-
     protected void checkAndObserveSQLAction(Strand strand, SQLDatasource datasource, String query) {
         Optional<ObserverContext> observerContext = ObserveUtils.getObserverContextOfCurrentFrame(strand);
         observerContext.ifPresent(ctx -> {
@@ -147,6 +147,13 @@ public class BatchUpdateStatement extends AbstractSQLStatement {
         }
     }
 
+    @Override
+    public MapValue<String, Object> createErrorResult(ErrorValue error) {
+        int paramArrayCount = parameters != null ? parameters.length : 0;
+        return createFrozenBatchUpdateResultRecord(createUpdatedCountArray(null, paramArrayCount),
+                new MapValueImpl<>(), error);
+    }
+
     // It has been identified that Oracle and MS SQL Server does not support returning generated keys along with
     // batch update. And such effort would result in an exception causing batch update failure.
     // If such other databases are identified they can be included here.
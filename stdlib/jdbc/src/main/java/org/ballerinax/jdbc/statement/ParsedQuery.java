@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.jdbc.statement;
+
+import org.ballerinax.jdbc.Constants;
+
+/**
+ * A parameterized query with the positions of its "?" place holders, so that the query is scanned once and the place
+ * holders of array parameters can be expanded without scanning it again. A "?" within quotes or a comment is not a
+ * place holder.
+ *
+ * @since 1.2.0
+ */
+public class ParsedQuery {
+
+    private final String query;
+    private final int[] placeholders;
+
+    public ParsedQuery(String query) {
+        this.query = query;
+        this.placeholders = findPlaceholders(query);
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * Expand the place holders of the query to match the number of values of each parameter.
+     *
+     * @param counts Number of values of each parameter, in the order of the place holders
+     * @param paramCount Number of parameters
+     * @return The query with "?" place holders for all the values, or an empty query if there are more parameters than
+     * place holders
+     */
+    String expand(int[] counts, int paramCount) {
+        if (paramCount > placeholders.length) {
+            return "";
+        }
+        boolean expanded = false;
+        for (int i = 0; i < paramCount; i++) {
+            expanded |= counts[i] != 1;
+        }
+        if (!expanded) {
+            return query;
+        }
+
+        StringBuilder result = new StringBuilder(query.length() + paramCount * 2);
+        int start = 0;
+        for (int i = 0; i < paramCount; i++) {
+            result.append(query, start, placeholders[i]);
+            for (int j = 0; j < counts[i]; j++) {
+                if (j > 0) {
+                    result.append(',');
+                }
+                result.append(Constants.QUESTION_MARK);
+            }
+            start = placeholders[i] + 1;
+        }
+        result.append(query, start, query.length());
+        return result.toString();
+    }
+
+    private static int[] findPlaceholders(String query) {
+        int[] positions = new int[8];
+        int count = 0;
+        boolean doubleQuoteExists = false;
+        boolean singleQuoteExists = false;
+        int n = query.length();
+        for (int i = 0; i < n; i++) {
+            char c = query.charAt(i);
+            if (singleQuoteExists) {
+                singleQuoteExists = c != '\'';
+            } else if (doubleQuoteExists) {
+                doubleQuoteExists = c != '\"';
+            } else if (c == '\'') {
+                singleQuoteExists = true;
+            } else if (c == '\"') {
+                doubleQuoteExists = true;
+            } else if (c == '-' && i + 1 < n && query.charAt(i + 1) == '-') {
+                // A "?" in a comment is not a place holder, as the driver skips comments
+                int end = query.indexOf('\n', i + 2);
+                i = end < 0 ? n : end;
+            } else if (c == '/' && i + 1 < n && query.charAt(i + 1) == '*') {
+                int end = query.indexOf("*/", i + 2);
+                i = end < 0 ? n : end + 1;
+            } else if (c == '?') {
+                if (count == positions.length) {
+                    int[] newPositions = new int[count * 2];
+                    System.arraycopy(positions, 0, newPositions, 0, count);
+                    positions = newPositions;
+                }
+                positions[count++] = i;
+                // The character following a place holder is not scanned, as a place holder is followed by a separator
+                i++;
+            }
+        }
+        int[] result = new int[count];
+        System.arraycopy(positions, 0, result, 0, count);
+        return result;
+    }
+}
@@ -17,6 +17,8 @@
  */
 package org.ballerinax.jdbc.statement;
 
+import org.ballerinalang.jvm.values.ErrorValue;
+
 /**
  * Represents the behavior of an SQL Statement.
  *
@@ -25,4 +27,16 @@ package org.ballerinax.jdbc.statement;
 public interface SQLStatement {
 
     Object execute();
+
+    /**
+     * Create the result of the statement for an error which ended its execution. The error is returned as the result
+     * rather than raised as a panic, since a statement executed off the strand cannot panic the strand, and a
+     * statement behaves the same whether it is executed off the strand or not.
+     *
+     * @param error The error which ended the execution
+     * @return The result of the statement
+     */
+    default Object createErrorResult(ErrorValue error) {
+        return error;
+    }
 }
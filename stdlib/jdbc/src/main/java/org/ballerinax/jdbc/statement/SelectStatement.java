@@ -68,7 +68,7 @@ public class SelectStatement extends AbstractSQLStatement {
         try {
             ArrayValue generatedParams = constructParameters(parameters);
             conn = getDatabaseConnection(strand, client, datasource);
-            String processedQuery = createProcessedQueryString(query, generatedParams);
+            String processedQuery = createProcessedQueryString(datasource, query, generatedParams);
             stmt = getPreparedStatement(conn, datasource, processedQuery);
             ProcessedStatement processedStatement = new ProcessedStatement(conn, stmt, generatedParams,
                     datasource.getDatabaseProductName());
@@ -93,20 +93,28 @@ public class SelectStatement extends AbstractSQLStatement {
 
     private PreparedStatement getPreparedStatement(Connection conn, SQLDatasource datasource, String query)
             throws SQLException {
-        PreparedStatement stmt;
-        boolean mysql = datasource.getDatabaseProductName().contains(Constants.DatabaseNames.MYSQL);
-        /* In MySQL by default, ResultSets are completely retrieved and stored in memory.
-           Following properties are set to stream the results back one row at a time.*/
-        if (mysql) {
-            stmt = conn.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
-            // To fulfill OBL_UNSATISFIED_OBLIGATION_EXCEPTION_EDGE findbugs validation.
-            try {
+        PreparedStatement stmt = conn.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY,
+                ResultSet.CONCUR_READ_ONLY);
+        Long fetchSize = (Long) client.getNativeData(Constants.FETCH_SIZE_KEY);
+        String databaseProductName = datasource.getDatabaseProductName();
+        // To fulfill OBL_UNSATISFIED_OBLIGATION_EXCEPTION_EDGE findbugs validation.
+        try {
+            if (fetchSize != null && fetchSize > 0) {
+                /* PostgreSQL fetches all the rows at once unless the results are read within a transaction. The
+                   transaction is rolled back when the connection is returned to the pool. */
+                if (databaseProductName.contains(Constants.DatabaseNames.POSTGRESQL) && !strand.isInTransaction()
+                        && conn.getAutoCommit()) {
+                    conn.setAutoCommit(false);
+                }
+                stmt.setFetchSize(fetchSize.intValue());
+            } else if (databaseProductName.contains(Constants.DatabaseNames.MYSQL)) {
+                /* In MySQL by default, ResultSets are completely retrieved and stored in memory.
+                   Following properties are set to stream the results back one row at a time.*/
                 stmt.setFetchSize(Integer.MIN_VALUE);
-            } catch (SQLException e) {
-                stmt.close();
             }
-        } else {
-            stmt = conn.prepareStatement(query);
+        } catch (SQLException e) {
+            stmt.close();
+            throw e;
         }
         return stmt;
     }
@@ -73,7 +73,7 @@ public class UpdateStatement extends AbstractSQLStatement {
         try {
             ArrayValue generatedParams = constructParameters(parameters);
             conn = getDatabaseConnection(strand, client, datasource);
-            String processedQuery = createProcessedQueryString(query, generatedParams);
+            String processedQuery = createProcessedQueryString(datasource, query, generatedParams);
             stmt = conn.prepareStatement(processedQuery, Statement.RETURN_GENERATED_KEYS);
             ProcessedStatement processedStatement = new ProcessedStatement(conn, stmt, generatedParams,
                     datasource.getDatabaseProductName());
@@ -45,6 +45,22 @@ public class BCursorTable extends TableValue {
         resetIterationHelperAttributes();
     }
 
+    /**
+     * Read the next rows of the table into a batch of columns. This is an alternative to iterating the table, for
+     * reading a large number of rows.
+     *
+     * @param maxRows The maximum number of rows to read, which has to be positive
+     * @return The batch of rows, which has no rows if all the rows have been read
+     * @see SQLDataIterator#nextColumnBatch(int)
+     */
+    public ColumnBatch nextColumnBatch(int maxRows) {
+        if (!(iterator instanceof SQLDataIterator)) {
+            throw BallerinaErrors.createError(BallerinaErrorReasons.TABLE_OPERATION_ERROR,
+                    "the rows of the table cannot be read in batches");
+        }
+        return ((SQLDataIterator) iterator).nextColumnBatch(maxRows);
+    }
+
     public String stringValue() {
         return "";
     }
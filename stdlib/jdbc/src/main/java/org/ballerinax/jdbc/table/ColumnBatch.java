@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.jdbc.table;
+
+import java.util.BitSet;
+
+/**
+ * A batch of rows of a result set, stored column by column. Integer, floating point and boolean columns are stored in
+ * primitive arrays, and the other columns in object arrays. The arrays of a batch are reused by the next batch read
+ * from the same table, hence the values of a batch have to be consumed before the next batch is read.
+ *
+ * @since 1.2.0
+ */
+public class ColumnBatch {
+
+    private final String[] columnNames;
+    private final Object[] columns;
+    private final BitSet[] nulls;
+    private int rowCount;
+
+    ColumnBatch(String[] columnNames, Object[] columns) {
+        this.columnNames = columnNames;
+        this.columns = columns;
+        this.nulls = new BitSet[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            nulls[i] = new BitSet();
+        }
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    public String getColumnName(int column) {
+        return columnNames[column];
+    }
+
+    /**
+     * Get the values of an integer column. Only the first {@link #getRowCount()} values belong to the batch.
+     *
+     * @param column The index of the column, starting from 0
+     * @return The values of the column, or null if the column is not an integer column
+     */
+    public long[] getLongColumn(int column) {
+        return columns[column] instanceof long[] ? (long[]) columns[column] : null;
+    }
+
+    /**
+     * Get the values of a floating point column. Only the first {@link #getRowCount()} values belong to the batch.
+     *
+     * @param column The index of the column, starting from 0
+     * @return The values of the column, or null if the column is not a floating point column
+     */
+    public double[] getDoubleColumn(int column) {
+        return columns[column] instanceof double[] ? (double[]) columns[column] : null;
+    }
+
+    /**
+     * Get the values of a boolean column. Only the first {@link #getRowCount()} values belong to the batch.
+     *
+     * @param column The index of the column, starting from 0
+     * @return The values of the column, or null if the column is not a boolean column
+     */
+    public boolean[] getBooleanColumn(int column) {
+        return columns[column] instanceof boolean[] ? (boolean[]) columns[column] : null;
+    }
+
+    /**
+     * Get the values of a column which is not stored in a primitive array. Only the first {@link #getRowCount()}
+     * values belong to the batch.
+     *
+     * @param column The index of the column, starting from 0
+     * @return The values of the column, or null if the column is stored in a primitive array
+     */
+    public Object[] getObjectColumn(int column) {
+        return columns[column] instanceof Object[] ? (Object[]) columns[column] : null;
+    }
+
+    public boolean isNull(int column, int row) {
+        return nulls[column].get(row);
+    }
+
+    Object getColumn(int column) {
+        return columns[column];
+    }
+
+    void setNull(int column, int row) {
+        nulls[column].set(row);
+    }
+
+    void clear() {
+        for (BitSet columnNulls : nulls) {
+            columnNulls.clear();
+        }
+        rowCount = 0;
+    }
+
+    void setRowCount(int rowCount) {
+        this.rowCount = rowCount;
+    }
+}
@@ -17,6 +17,7 @@
  */
 package org.ballerinax.jdbc.table;
 
+import org.ballerinalang.jvm.BallerinaErrors;
 import org.ballerinalang.jvm.ColumnDefinition;
 import org.ballerinalang.jvm.TableResourceManager;
 import org.ballerinalang.jvm.types.BArrayType;
@@ -27,6 +28,7 @@ import org.ballerinalang.jvm.types.BType;
 import org.ballerinalang.jvm.types.BTypes;
 import org.ballerinalang.jvm.types.BUnionType;
 import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons;
 import org.ballerinalang.jvm.values.ArrayValue;
 import org.ballerinalang.jvm.values.ArrayValueImpl;
 import org.ballerinalang.jvm.values.DecimalValue;
@@ -70,6 +72,8 @@ public class SQLDataIterator extends TableIterator {
     private static final String MISMATCHING_FIELD_ASSIGNMENT = "trying to assign to a mismatching type";
     private String sourceDatabase;
     private static final String POSTGRES_OID_COLUMN_TYPE_NAME = "oid";
+    private ColumnBatch columnBatch;
+    private int columnBatchCapacity;
 
     public SQLDataIterator(TableResourceManager rm, ResultSet rs, Calendar utcCalendar,
             List<ColumnDefinition> columnDefs, BStructureType structType, String databaseProductName) {
@@ -241,6 +245,136 @@ public class SQLDataIterator extends TableIterator {
         return bStruct;
     }
 
+    /**
+     * Read the next rows of the result set into a batch of columns, without creating a record per row. The batch and
+     * its arrays are reused by the next call of this method. The result set is closed once all its rows are read.
+     * The rows of a table are to be read either by iterating the table, or by this method.
+     *
+     * @param maxRows The maximum number of rows to read, which has to be positive
+     * @return The batch of rows, which has no rows if all the rows have been read
+     */
+    public ColumnBatch nextColumnBatch(int maxRows) {
+        if (maxRows <= 0) {
+            throw BallerinaErrors.createError(BallerinaErrorReasons.TABLE_OPERATION_ERROR,
+                    "the maximum number of rows of a batch has to be positive: " + maxRows);
+        }
+        if (columnBatch == null || columnBatchCapacity < maxRows) {
+            columnBatch = createColumnBatch(maxRows);
+            columnBatchCapacity = maxRows;
+        }
+        columnBatch.clear();
+        if (rs == null) {
+            return columnBatch;
+        }
+        int row = 0;
+        int columnCount = columnDefs.size();
+        try {
+            while (row < maxRows && rs.next()) {
+                for (int column = 0; column < columnCount; column++) {
+                    int sqlType = ((SQLColumnDefinition) columnDefs.get(column)).getSqlType();
+                    readColumnValue(sqlType, column, row);
+                }
+                row++;
+            }
+        } catch (SQLException e) {
+            throw ErrorGenerator.getSQLDatabaseError(e);
+        }
+        columnBatch.setRowCount(row);
+        if (row < maxRows) {
+            close();
+        }
+        return columnBatch;
+    }
+
+    private ColumnBatch createColumnBatch(int capacity) {
+        int columnCount = columnDefs.size();
+        String[] columnNames = new String[columnCount];
+        Object[] columns = new Object[columnCount];
+        for (int column = 0; column < columnCount; column++) {
+            SQLColumnDefinition def = (SQLColumnDefinition) columnDefs.get(column);
+            columnNames[column] = def.getName();
+            switch (def.getSqlType()) {
+                case Types.TINYINT:
+                case Types.SMALLINT:
+                case Types.INTEGER:
+                case Types.BIGINT:
+                    columns[column] = new long[capacity];
+                    break;
+                case Types.REAL:
+                case Types.FLOAT:
+                case Types.DOUBLE:
+                    columns[column] = new double[capacity];
+                    break;
+                case Types.BIT:
+                case Types.BOOLEAN:
+                    columns[column] = new boolean[capacity];
+                    break;
+                default:
+                    columns[column] = new Object[capacity];
+                    break;
+            }
+        }
+        return new ColumnBatch(columnNames, columns);
+    }
+
+    private void readColumnValue(int sqlType, int column, int row) throws SQLException {
+        int index = column + 1;
+        Object values = columnBatch.getColumn(column);
+        switch (sqlType) {
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                ((long[]) values)[row] = rs.getLong(index);
+                break;
+            case Types.REAL:
+            case Types.FLOAT:
+                ((double[]) values)[row] = rs.getFloat(index);
+                break;
+            case Types.DOUBLE:
+                ((double[]) values)[row] = rs.getDouble(index);
+                break;
+            case Types.BIT:
+            case Types.BOOLEAN:
+                ((boolean[]) values)[row] = rs.getBoolean(index);
+                break;
+            case Types.CHAR:
+            case Types.VARCHAR:
+            case Types.LONGVARCHAR:
+            case Types.NCHAR:
+            case Types.NVARCHAR:
+            case Types.LONGNVARCHAR:
+                ((Object[]) values)[row] = rs.getString(index);
+                break;
+            case Types.BINARY:
+            case Types.VARBINARY:
+            case Types.LONGVARBINARY:
+                ((Object[]) values)[row] = rs.getBytes(index);
+                break;
+            case Types.NUMERIC:
+            case Types.DECIMAL:
+                ((Object[]) values)[row] = rs.getBigDecimal(index);
+                break;
+            case Types.DATE:
+                ((Object[]) values)[row] = rs.getDate(index);
+                break;
+            case Types.TIME:
+            case Types.TIME_WITH_TIMEZONE:
+                ((Object[]) values)[row] = rs.getTime(index, utcCalendar);
+                break;
+            case Types.TIMESTAMP:
+            case Types.TIMESTAMP_WITH_TIMEZONE:
+                ((Object[]) values)[row] = rs.getTimestamp(index, utcCalendar);
+                break;
+            default:
+                ((Object[]) values)[row] = rs.getObject(index);
+                break;
+        }
+        if (rs.wasNull()) {
+            columnBatch.setNull(column, row);
+        }
+    }
+
     private void validateAndSetRefRecordField(MapValue<String, Object> bStruct, String fieldName, int expectedTypeTag,
             int actualTypeTag, Object value, String exceptionMessage) throws PanickingApplicationException {
         setMatchingRefRecordField(bStruct, fieldName, value, expectedTypeTag == actualTypeTag, exceptionMessage);
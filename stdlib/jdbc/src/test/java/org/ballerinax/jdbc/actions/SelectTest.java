@@ -100,6 +100,19 @@ public class SelectTest {
         Assert.assertEquals(returns[0].stringValue(), "Peter");
     }
 
+    @Test(groups = SELECT_TEST)
+    public void testSelectWithFetchSize() {
+        BValue[] returns = BRunUtil.invoke(result, "testSelectWithFetchSize", args);
+        Assert.assertEquals(((BInteger) returns[0]).intValue(), 3);
+    }
+
+    @Test(groups = SELECT_TEST)
+    public void testArrayOfQueryParametersOfCachedQuery() {
+        BValue[] returns = BRunUtil.invoke(result, "testArrayOfQueryParametersOfCachedQuery", args);
+        Assert.assertEquals(returns[0].stringValue(), "");
+        Assert.assertEquals(returns[1].stringValue(), "Peter");
+    }
+
     @Test(groups = SELECT_TEST)
     public void testBoolArrayOfQueryParameters() {
         BValue[] returns = BRunUtil.invoke(result, "testBoolArrayOfQueryParameters", args);
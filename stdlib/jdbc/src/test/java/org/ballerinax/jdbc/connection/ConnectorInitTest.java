@@ -64,6 +64,16 @@ public class ConnectorInitTest {
          Assert.assertEquals(returns[0].stringValue(), expected);
     }
 
+    @Test
+    public void testConnectorWithAsyncExecution() {
+        BValue[] returns = BRunUtil.invoke(result, "testConnectorWithAsyncExecution", args);
+        final String expected = "[{\"FIRSTNAME\":\"Peter\"}]";
+        Assert.assertEquals(returns[0].stringValue(), expected);
+        Assert.assertEquals(returns[1].stringValue(), "{ballerinax/java.jdbc}DatabaseError");
+        Assert.assertTrue(returns[2].stringValue().contains("failed to execute select query:"));
+        Assert.assertTrue(returns[2].stringValue().contains("NONEXISTENTTABLE"));
+    }
+
     @Test
     public void testConnectorWithDataSourceClass() {
         BValue[] returns = BRunUtil.invokeFunction(result, "testConnectorWithDataSourceClass", args);
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.jdbc.datasource;
+
+import org.ballerinax.jdbc.statement.ParsedQuery;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests the cache of parsed queries of a datasource.
+ *
+ * @since 1.2.0
+ */
+public class QueryCacheTest {
+
+    private static final String QUERY_1 = "SELECT * FROM Customers WHERE id = ?";
+    private static final String QUERY_2 = "SELECT * FROM Customers WHERE name = ?";
+    private static final String QUERY_3 = "SELECT * FROM Customers WHERE age = ?";
+
+    @Test
+    public void testCacheHitAndMiss() {
+        // a datasource created with a data source class name has no JDBC URL, hence no peer address
+        QueryCache cache = new QueryCache(2, null);
+        ParsedQuery parsedQuery = cache.get(QUERY_1);
+        Assert.assertEquals(parsedQuery.getQuery(), QUERY_1);
+        Assert.assertSame(cache.get(QUERY_1), parsedQuery);
+        Assert.assertNotSame(cache.get(QUERY_2), parsedQuery);
+    }
+
+    @Test
+    public void testLeastRecentlyUsedQueryEvicted() {
+        QueryCache cache = new QueryCache(2, "jdbc:h2:mem:TEST_QUERY_CACHE");
+        ParsedQuery parsedQuery1 = cache.get(QUERY_1);
+        ParsedQuery parsedQuery2 = cache.get(QUERY_2);
+        Assert.assertSame(cache.get(QUERY_2), parsedQuery2);
+        Assert.assertSame(cache.get(QUERY_1), parsedQuery1);
+
+        ParsedQuery parsedQuery3 = cache.get(QUERY_3);
+        Assert.assertSame(cache.get(QUERY_3), parsedQuery3);
+        Assert.assertSame(cache.get(QUERY_1), parsedQuery1);
+        Assert.assertNotSame(cache.get(QUERY_2), parsedQuery2);
+    }
+
+    @Test
+    public void testHitsAndMissesCounted() {
+        QueryCache cache = new QueryCache(1, null);
+        cache.get(QUERY_1);
+        cache.get(QUERY_1);
+        cache.get(QUERY_1);
+        cache.get(QUERY_2);
+        cache.get(QUERY_1);
+        Assert.assertEquals(cache.getHitCount(), 2);
+        Assert.assertEquals(cache.getMissCount(), 3);
+    }
+
+    @Test
+    public void testDisabledCache() {
+        QueryCache cache = new QueryCache(0, null);
+        ParsedQuery parsedQuery = cache.get(QUERY_1);
+        Assert.assertEquals(parsedQuery.getQuery(), QUERY_1);
+        Assert.assertNotSame(cache.get(QUERY_1), parsedQuery);
+        Assert.assertEquals(cache.getHitCount(), 0);
+        Assert.assertEquals(cache.getMissCount(), 2);
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.jdbc.methods;
+
+import org.ballerinalang.jvm.BallerinaErrors;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BMapType;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.ballerinalang.jvm.values.MapValue;
+import org.ballerinalang.jvm.values.MapValueImpl;
+import org.ballerinalang.jvm.values.ObjectValue;
+import org.ballerinalang.jvm.values.ValueCreator;
+import org.ballerinax.jdbc.Constants;
+import org.ballerinax.jdbc.statement.SQLStatement;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Tests that a statement which fails with a panic or an unexpected exception gives the same result whether it is
+ * executed by the strand or off the strand.
+ *
+ * @since 1.2.0
+ */
+public class ExternActionsTest {
+
+    private static final String FAILURE_REASON = "{ballerinax/java.jdbc}TestError";
+
+    private ExecutorService executor;
+
+    @BeforeClass
+    public void setup() {
+        this.executor = Executors.newSingleThreadExecutor();
+        // The error detail records are created by the generated code of the module, which unit tests do not have
+        ValueCreator.addValueCreator(Constants.JDBC_PACKAGE_ID.org, Constants.JDBC_PACKAGE_ID.name,
+                                     Constants.JDBC_PACKAGE_ID.version, new ValueCreator() {
+            @Override
+            public MapValue<String, Object> createRecordValue(String recordTypeName) {
+                return new MapValueImpl<>(new BMapType(BTypes.typeAnydata));
+            }
+
+            @Override
+            public ObjectValue createObjectValue(String objectTypeName, Scheduler scheduler, Strand parent,
+                                                 Map<String, Object> properties, Object[] args) {
+                throw new UnsupportedOperationException();
+            }
+        });
+    }
+
+    @AfterClass
+    public void cleanup() {
+        this.executor.shutdown();
+    }
+
+    @Test(description = "A panic of a statement executed by the strand is returned as an error")
+    public void testPanicReturnedByStrand() throws Throwable {
+        assertPanicReturned(executeOnStrand(panickingStatement()));
+    }
+
+    @Test(description = "A panic of a statement executed off the strand is returned as an error")
+    public void testPanicReturnedOffStrand() throws Throwable {
+        assertPanicReturned(executeOffStrand(panickingStatement()));
+    }
+
+    @Test(description = "An exception of a statement executed by the strand is returned as an error")
+    public void testExceptionReturnedByStrand() throws Throwable {
+        assertExceptionReturned(executeOnStrand(throwingStatement()));
+    }
+
+    @Test(description = "An exception of a statement executed off the strand is returned as an error")
+    public void testExceptionReturnedOffStrand() throws Throwable {
+        assertExceptionReturned(executeOffStrand(throwingStatement()));
+    }
+
+    private static SQLStatement panickingStatement() {
+        return () -> {
+            throw BallerinaErrors.createError(FAILURE_REASON, "statement failed");
+        };
+    }
+
+    private static SQLStatement throwingStatement() {
+        return () -> {
+            throw new NoClassDefFoundError("org/h2/Driver");
+        };
+    }
+
+    private static void assertPanicReturned(Object result) {
+        Assert.assertTrue(result instanceof ErrorValue);
+        Assert.assertEquals(((ErrorValue) result).getReason(), FAILURE_REASON);
+    }
+
+    private static void assertExceptionReturned(Object result) {
+        Assert.assertTrue(result instanceof ErrorValue);
+        ErrorValue error = (ErrorValue) result;
+        Assert.assertEquals(error.getReason(), Constants.APPLICATION_ERROR_CODE);
+        Assert.assertEquals(((MapValue) error.getDetails()).get("message"),
+                            "failed to execute statement: org/h2/Driver");
+    }
+
+    private static Object executeOnStrand(SQLStatement statement) {
+        Strand strand = new Strand(new Scheduler(1, false), null, null);
+        return ExternActions.execute(statement, null, strand);
+    }
+
+    private Object executeOffStrand(SQLStatement statement) throws Throwable {
+        Scheduler scheduler = new Scheduler(1, false);
+        Object[] result = new Object[1];
+        boolean[] executed = new boolean[1];
+        // The strand function returns when the strand is parked, and reads the result when it is resumed, as
+        // generated code does
+        Function<Object[], Object> function = params -> {
+            Strand strand = (Strand) params[0];
+            if (!executed[0]) {
+                executed[0] = true;
+                Assert.assertNull(ExternActions.execute(statement, executor, strand));
+                Assert.assertTrue(strand.isYielded());
+                return null;
+            }
+            result[0] = strand.returnValue;
+            return null;
+        };
+        scheduler.schedule(new Object[1], function, null, null, null, BTypes.typeNull);
+        scheduler.start();
+        return result[0];
+    }
+}
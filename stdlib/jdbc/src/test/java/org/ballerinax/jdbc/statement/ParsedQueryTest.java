@@ -0,0 +1,66 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.jdbc.statement;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Tests finding the place holders of a query and expanding them for array parameters.
+ *
+ * @since 1.2.0
+ */
+public class ParsedQueryTest {
+
+    @Test
+    public void testQueryWithoutArraysIsNotRewritten() {
+        String query = "SELECT * FROM Customers WHERE id = ? AND name = ?";
+        Assert.assertSame(new ParsedQuery(query).expand(new int[]{1, 1}, 2), query);
+    }
+
+    @Test
+    public void testArrayParametersExpand() {
+        ParsedQuery query = new ParsedQuery("SELECT * FROM Customers WHERE id IN (?) AND name = ? AND age IN (?)");
+        Assert.assertEquals(query.expand(new int[]{3, 1, 2}, 3),
+                            "SELECT * FROM Customers WHERE id IN (?,?,?) AND name = ? AND age IN (?,?)");
+    }
+
+    @Test
+    public void testPlaceholdersInQuotesAreSkipped() {
+        ParsedQuery query = new ParsedQuery("SELECT 'it''s ?', \"what's ?\" FROM Customers WHERE id IN (?)");
+        Assert.assertEquals(query.expand(new int[]{2}, 1),
+                            "SELECT 'it''s ?', \"what's ?\" FROM Customers WHERE id IN (?,?)");
+    }
+
+    @Test
+    public void testPlaceholdersInCommentsAreSkipped() {
+        ParsedQuery query = new ParsedQuery("SELECT * FROM Customers -- id = ?\n"
+                                                    + "WHERE /* name = ? */ id IN (?) AND name = ? /* ? */");
+        Assert.assertEquals(query.expand(new int[]{2, 1}, 2),
+                            "SELECT * FROM Customers -- id = ?\n"
+                                    + "WHERE /* name = ? */ id IN (?,?) AND name = ? /* ? */");
+        // a comment running to the end of the query
+        Assert.assertEquals(new ParsedQuery("SELECT * FROM Customers WHERE id IN (?) -- ?").expand(new int[]{2}, 1),
+                            "SELECT * FROM Customers WHERE id IN (?,?) -- ?");
+    }
+
+    @Test
+    public void testMoreParametersThanPlaceholders() {
+        ParsedQuery query = new ParsedQuery("SELECT * FROM Customers WHERE name = '?' -- AND id = ?");
+        Assert.assertEquals(query.expand(new int[]{2}, 1), "");
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinax.jdbc.table;
+
+import org.ballerinalang.jvm.ColumnDefinition;
+import org.ballerinalang.jvm.TableResourceManager;
+import org.ballerinalang.jvm.types.TypeTags;
+import org.ballerinalang.jvm.util.exceptions.BallerinaErrorReasons;
+import org.ballerinalang.jvm.values.ErrorValue;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests reading the rows of a result set in batches of columns.
+ *
+ * @since 1.2.0
+ */
+public class ColumnBatchTest {
+
+    private static final String JDBC_URL = "jdbc:h2:mem:TEST_COLUMN_BATCH;DB_CLOSE_DELAY=-1";
+    private Connection setupConnection;
+
+    @BeforeClass
+    public void setup() throws SQLException {
+        setupConnection = DriverManager.getConnection(JDBC_URL, "SA", "");
+        try (Statement stmt = setupConnection.createStatement()) {
+            stmt.executeUpdate("CREATE TABLE Items (id BIGINT, name VARCHAR(20), price DOUBLE, available BOOLEAN)");
+            stmt.executeUpdate("INSERT INTO Items VALUES (1, 'Apple', 1.5, TRUE), (2, 'Banana', NULL, FALSE), "
+                                       + "(3, NULL, 2.25, TRUE), (4, 'Date', 4.0, FALSE), (5, 'Fig', 3.75, TRUE)");
+        }
+    }
+
+    @Test
+    public void testReadInBatches() throws SQLException {
+        SQLDataIterator iterator = select();
+        ColumnBatch batch = iterator.nextColumnBatch(2);
+        Assert.assertEquals(batch.getRowCount(), 2);
+        Assert.assertEquals(batch.getColumnCount(), 4);
+        Assert.assertEquals(batch.getColumnName(0), "ID");
+        Assert.assertEquals(batch.getLongColumn(0)[0], 1L);
+        Assert.assertEquals(batch.getLongColumn(0)[1], 2L);
+        Assert.assertEquals(batch.getObjectColumn(1)[1], "Banana");
+        Assert.assertEquals(batch.getDoubleColumn(2)[0], 1.5);
+        Assert.assertTrue(batch.isNull(2, 1));
+        Assert.assertFalse(batch.getBooleanColumn(3)[1]);
+        Assert.assertNull(batch.getLongColumn(1));
+
+        batch = iterator.nextColumnBatch(2);
+        Assert.assertEquals(batch.getRowCount(), 2);
+        Assert.assertEquals(batch.getLongColumn(0)[0], 3L);
+        Assert.assertTrue(batch.isNull(1, 0));
+        Assert.assertFalse(batch.isNull(2, 1));
+
+        // The last batch is not full, so the result set is closed after reading it
+        batch = iterator.nextColumnBatch(2);
+        Assert.assertEquals(batch.getRowCount(), 1);
+        Assert.assertEquals(batch.getObjectColumn(1)[0], "Fig");
+        Assert.assertEquals(iterator.nextColumnBatch(2).getRowCount(), 0);
+    }
+
+    @Test
+    public void testNonPositiveBatchSize() throws SQLException {
+        SQLDataIterator iterator = select();
+        try {
+            iterator.nextColumnBatch(0);
+            Assert.fail("a batch size of 0 has to be rejected");
+        } catch (ErrorValue e) {
+            Assert.assertEquals(e.getReason(), BallerinaErrorReasons.TABLE_OPERATION_ERROR);
+            Assert.assertEquals(e.getDetails().toString(),
+                                "message=the maximum number of rows of a batch has to be positive: 0");
+        } finally {
+            iterator.close();
+        }
+    }
+
+    @AfterClass
+    public void cleanup() throws SQLException {
+        try (Statement stmt = setupConnection.createStatement()) {
+            stmt.executeUpdate("DROP TABLE Items");
+        }
+        setupConnection.close();
+    }
+
+    private static SQLDataIterator select() throws SQLException {
+        Connection conn = DriverManager.getConnection(JDBC_URL, "SA", "");
+        PreparedStatement stmt = conn.prepareStatement("SELECT id, name, price, available FROM Items ORDER BY id");
+        ResultSet rs = stmt.executeQuery();
+        List<ColumnDefinition> columnDefs = new ArrayList<>();
+        columnDefs.add(new SQLDataIterator.SQLColumnDefinition("ID", TypeTags.INT_TAG, Types.BIGINT));
+        columnDefs.add(new SQLDataIterator.SQLColumnDefinition("NAME", TypeTags.STRING_TAG, Types.VARCHAR));
+        columnDefs.add(new SQLDataIterator.SQLColumnDefinition("PRICE", TypeTags.FLOAT_TAG, Types.DOUBLE));
+        columnDefs.add(new SQLDataIterator.SQLColumnDefinition("AVAILABLE", TypeTags.BOOLEAN_TAG, Types.BOOLEAN));
+        return new SQLDataIterator(new TableResourceManager(conn, stmt, true), rs, null, columnDefs, null, "H2");
+    }
+}
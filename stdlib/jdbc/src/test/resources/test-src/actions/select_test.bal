@@ -35,6 +35,10 @@ type ResultCount record {
 };
 
 //TODO:Refactor record
+type RegistrationID record {
+    int REGISTRATIONID;
+};
+
 type ResultCustomers record {
     string FIRSTNAME;
 };
@@ -195,6 +199,56 @@ function testArrayOfQueryParameters(string jdbcURL) returns string {
     return firstName;
 }
 
+function testSelectWithFetchSize(string jdbcURL) returns int {
+    jdbc:Client testDB = new ({
+        url: jdbcURL,
+        username: jdbcUserName,
+        password: jdbcPassword,
+        poolOptions: {maximumPoolSize: 1},
+        fetchSize: 1
+    });
+
+    var dt = testDB->select("SELECT registrationID from Customers UNION ALL SELECT registrationID from Customers " +
+        "UNION ALL SELECT registrationID from Customers", RegistrationID);
+    int total = 0;
+    if (dt is table<RegistrationID>) {
+        foreach var x in dt {
+            total += x.REGISTRATIONID;
+        }
+    }
+    checkpanic testDB.stop();
+    return total;
+}
+
+function testArrayOfQueryParametersOfCachedQuery(string jdbcURL) returns [string, string] {
+    jdbc:Client testDB = new ({
+        url: jdbcURL,
+        username: jdbcUserName,
+        password: jdbcPassword,
+        poolOptions: {maximumPoolSize: 1}
+    });
+
+    string query = "SELECT  FirstName from Customers where lastName = 'A?' or registrationID in(?)";
+    jdbc:Parameter para1 = {sqlType: jdbc:TYPE_INTEGER, value: [4343]};
+    var dt1 = testDB->select(query, ResultCustomers, para1);
+    string firstName1 = "";
+    if (dt1 is table<ResultCustomers>) {
+        foreach var x in dt1 {
+            firstName1 = <@untainted>x.FIRSTNAME;
+        }
+    }
+    jdbc:Parameter para2 = {sqlType: jdbc:TYPE_INTEGER, value: [4343, 1, 5]};
+    var dt2 = testDB->select(query, ResultCustomers, para2);
+    string firstName2 = "";
+    if (dt2 is table<ResultCustomers>) {
+        foreach var x in dt2 {
+            firstName2 = <@untainted>x.FIRSTNAME;
+        }
+    }
+    checkpanic testDB.stop();
+    return [firstName1, firstName2];
+}
+
 //TODO:Refactor with proper tables
 function testBoolArrayOfQueryParameters(string jdbcURL) returns string {
     jdbc:Client testDB = new ({
@@ -121,6 +121,32 @@ function testConnectorWithWorkers(string jdbcURL) returns @tainted json {
     return wait w1;
 }
 
+function testConnectorWithAsyncExecution(string jdbcURL) returns @tainted [json, string, string] {
+    jdbc:Client testDB = new ({
+        url: jdbcURL,
+        username: "SA",
+        password: "",
+        poolOptions: {maximumPoolSize: 1, asyncExecution: true}
+    });
+
+    var updateResult = testDB->update("UPDATE Customers SET FirstName = 'Peter' where registrationID = 1");
+    var errorResult = testDB->select("SELECT  FirstName from NonExistentTable", ());
+    var dt = testDB->select("SELECT  FirstName from Customers where registrationID = 1", ());
+
+    json j = getJsonConversionResult(dt);
+    checkpanic testDB.stop();
+    string reason = "";
+    string message = "";
+    if (errorResult is jdbc:DatabaseError) {
+        reason = <@untainted>errorResult.reason();
+        message = <@untainted><string>errorResult.detail()["message"];
+    }
+    if (updateResult is jdbc:UpdateResult) {
+        return [updateResult.updatedRowCount == 1 ? j : "unexpected updated row count", reason, message];
+    }
+    return ["unexpected update error", reason, message];
+}
+
 function testConnectorWithDataSourceClass(string jdbcURL) returns @tainted json {
     jdbc:Client testDB = new ({
         url: jdbcURL,
@@ -26,7 +26,6 @@ import com.rabbitmq.client.Envelope;
 import org.ballerinalang.jvm.BRuntime;
 import org.ballerinalang.jvm.BallerinaValues;
 import org.ballerinalang.jvm.JSONParser;
-import org.ballerinalang.jvm.JSONUtils;
 import org.ballerinalang.jvm.XMLFactory;
 import org.ballerinalang.jvm.scheduling.Strand;
 import org.ballerinalang.jvm.types.AttachedFunction;
@@ -166,7 +165,7 @@ public class MessageDispatcher {
             case TypeTags.STRING_TAG:
                 return new String(message, StandardCharsets.UTF_8.name());
             case TypeTags.JSON_TAG:
-                return JSONParser.parse(new String(message, StandardCharsets.UTF_8.name()));
+                return JSONParser.parse(message);
             case TypeTags.XML_TAG:
                 return XMLFactory.parse(new String(message, StandardCharsets.UTF_8.name()));
             case TypeTags.FLOAT_TAG:
@@ -174,8 +173,7 @@ public class MessageDispatcher {
             case TypeTags.INT_TAG:
                 return Integer.parseInt(new String(message, StandardCharsets.UTF_8.name()));
             case TypeTags.RECORD_TYPE_TAG:
-                return JSONUtils.convertJSONToRecord(JSONParser.parse(new String(message,
-                        StandardCharsets.UTF_8.name())), (BStructureType) dataType);
+                return JSONParser.parseRecord(message, (BStructureType) dataType);
             case TypeTags.ARRAY_TAG:
                 if (((BArrayType) dataType).getElementType().getTag() == TypeTags.BYTE_TAG) {
                     return message;
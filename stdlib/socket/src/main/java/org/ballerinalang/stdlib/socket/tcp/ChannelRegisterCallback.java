@@ -38,6 +38,16 @@ public class ChannelRegisterCallback {
         this.initialInterest = initialInterest;
     }
 
+    /**
+     * Create a callback for a client accepted by a listener, which no worker waits on.
+     *
+     * @param socketService the service of the accepted client
+     * @param initialInterest the interest set to register the client channel with
+     */
+    ChannelRegisterCallback(SocketService socketService, int initialInterest) {
+        this(socketService, null, initialInterest);
+    }
+
     public SocketService getSocketService() {
         return socketService;
     }
@@ -52,7 +62,9 @@ public class ChannelRegisterCallback {
      * @param serviceAttached whether to invoke onConnect or not.
      */
     public void notifyRegister(boolean serviceAttached) {
-        callback.notifySuccess();
+        if (callback != null) {
+            callback.notifySuccess();
+        }
         if (serviceAttached) {
             SelectorDispatcher.invokeOnConnect(socketService);
         }
@@ -64,6 +76,12 @@ public class ChannelRegisterCallback {
      * @param errorMsg the error message
      */
     public void notifyFailure(String errorMsg) {
+        if (callback == null) {
+            // An accepted client, hence the error is dispatched to the onError of the listener service.
+            SelectorDispatcher.invokeOnError(
+                    new SocketService(socketService.getScheduler(), socketService.getService()), errorMsg);
+            return;
+        }
         ErrorValue error = SocketUtils.createSocketError(errorMsg);
         callback.notifyFailure(error);
         // We don't need to dispatch the error to the onError here.
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.socket.tcp;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * A bounded pool of direct {@link ByteBuffer}s which the socket data is read into. Reading into a direct buffer saves
+ * the copy through a temporary direct buffer that a read into a heap buffer needs, and pooling the buffers saves
+ * allocating a buffer of the size of the socket receive buffer for each read.
+ * <p>
+ * Both the number and the size of the pooled buffers are bounded, so the direct memory held by the pool is bounded
+ * too. Reads larger than the maximum buffer size, such as reads of a large expected length, get a heap buffer which
+ * is not pooled.
+ *
+ * @since 1.2.0
+ */
+class DirectBufferPool {
+
+    private final BlockingQueue<ByteBuffer> buffers;
+    private final int maxBufferSize;
+
+    DirectBufferPool(int maxPooledBuffers, int maxBufferSize) {
+        this.buffers = new ArrayBlockingQueue<>(maxPooledBuffers);
+        this.maxBufferSize = maxBufferSize;
+    }
+
+    /**
+     * Get a buffer from the pool, or allocate a new one if there is no pooled buffer large enough.
+     *
+     * @param size number of bytes to read into the buffer
+     * @return a cleared buffer whose limit is the given size
+     */
+    ByteBuffer acquire(int size) {
+        if (size > maxBufferSize) {
+            return ByteBuffer.allocate(size);
+        }
+        ByteBuffer buffer = buffers.poll();
+        // A pooled buffer which is too small is dropped, so that the pool adapts to larger receive buffers.
+        if (buffer == null || buffer.capacity() < size) {
+            buffer = ByteBuffer.allocateDirect(size);
+        }
+        buffer.clear();
+        buffer.limit(size);
+        return buffer;
+    }
+
+    /**
+     * Return a buffer to the pool. The buffer is dropped if it is not one of the buffers the pool hands out, or if
+     * the pool is full.
+     *
+     * @param buffer buffer that is no longer used
+     */
+    void release(ByteBuffer buffer) {
+        if (buffer.isDirect() && buffer.capacity() <= maxBufferSize) {
+            buffers.offer(buffer);
+        }
+    }
+}
@@ -18,6 +18,7 @@
 
 package org.ballerinalang.stdlib.socket.tcp;
 
+import org.ballerinalang.config.ConfigRegistry;
 import org.ballerinalang.jvm.BallerinaValues;
 import org.ballerinalang.jvm.runtime.BLangThreadFactory;
 import org.ballerinalang.jvm.types.BArrayType;
@@ -60,7 +61,11 @@ import static org.ballerinalang.stdlib.socket.SocketConstants.ErrorCode.ReadTime
 import static org.ballerinalang.stdlib.socket.SocketConstants.SOCKET_PACKAGE_ID;
 
 /**
- * This will manage the Selector instance and handle the accept, read and write operations.
+ * This will manage the Selector instances and handle the accept, read and write operations.
+ * <p>
+ * Channels are spread over a group of selector loops, each running on its own thread. The loop of a channel is
+ * picked from the hash code of the channel, so all the events of a connection are handled by the same loop. The
+ * number of loops defaults to the number of processors and can be set with the b7a.socket.selectorCount config.
  *
  * @since 0.985.0
  */
@@ -68,22 +73,76 @@ public class SelectorManager {
 
     private static final Logger log = LoggerFactory.getLogger(SelectorManager.class);
 
-    private Selector selector;
+    private static final String SELECTOR_COUNT_CONFIG = "b7a.socket.selectorCount";
+    private static final int POOLED_BUFFERS_PER_SELECTOR = 4;
+    // Large enough for the default socket receive buffers, so that reads of a whole receive buffer are pooled
+    private static final int MAX_POOLED_BUFFER_SIZE = 256 * 1024;
+
+    private final SelectorLoop[] selectorLoops;
+    private final DirectBufferPool bufferPool;
     private ThreadFactory threadFactory = new BLangThreadFactory("socket-selector");
     private ExecutorService executor = null;
     private boolean running = false;
-    private boolean executing = true;
-    private ConcurrentLinkedQueue<ChannelRegisterCallback> registerPendingSockets = new ConcurrentLinkedQueue<>();
-    private ConcurrentLinkedQueue<Integer> readReadySockets = new ConcurrentLinkedQueue<>();
+    private volatile boolean executing = true;
     private final Object startStopLock = new Object();
-    private static final BTupleType receiveFromResultTuple = new BTupleType(
-            Arrays.asList(new BArrayType(BTypes.typeByte), BTypes.typeInt,
-                    BallerinaValues.createRecordValue(SOCKET_PACKAGE_ID, "Address").getType()));
     private static final BTupleType tcpReadResultTuple = new BTupleType(
             Arrays.asList(new BArrayType(BTypes.typeByte), BTypes.typeInt));
 
     private SelectorManager() throws IOException {
-        selector = Selector.open();
+        this(getSelectorCount());
+    }
+
+    SelectorManager(int selectorCount) throws IOException {
+        selectorLoops = new SelectorLoop[selectorCount];
+        for (int i = 0; i < selectorCount; i++) {
+            selectorLoops[i] = new SelectorLoop(Selector.open());
+        }
+        // Reads are done by the selector threads as well as by the workers which invoke the read actions.
+        bufferPool = new DirectBufferPool(selectorCount * POOLED_BUFFERS_PER_SELECTOR, MAX_POOLED_BUFFER_SIZE);
+    }
+
+    static int getSelectorCount() {
+        int defaultCount = Runtime.getRuntime().availableProcessors();
+        try {
+            ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+            if (configRegistry.contains(SELECTOR_COUNT_CONFIG)) {
+                long selectorCount = configRegistry.getAsInt(SELECTOR_COUNT_CONFIG);
+                if (selectorCount > 0 && selectorCount <= defaultCount * 8L) {
+                    return (int) selectorCount;
+                }
+                log.warn("Invalid value " + selectorCount + " for " + SELECTOR_COUNT_CONFIG + ", hence using "
+                        + defaultCount + " selectors");
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn(e.getMessage() + ", hence using " + defaultCount + " selectors");
+        }
+        return defaultCount;
+    }
+
+    private SelectorLoop getSelectorLoop(int socketHashCode) {
+        return selectorLoops[getSelectorLoopIndex(socketHashCode)];
+    }
+
+    int getSelectorLoopIndex(int socketHashCode) {
+        return (socketHashCode & Integer.MAX_VALUE) % selectorLoops.length;
+    }
+
+    Selector getSelector(int socketHashCode) {
+        return getSelectorLoop(socketHashCode).selector;
+    }
+
+    DirectBufferPool getBufferPool() {
+        return bufferPool;
+    }
+
+    /**
+     * Holds the type of the receiveFrom results. The Address record type is only available once the socket module
+     * is initialized, hence the type is created on the first receive rather than with the manager.
+     */
+    private static class ReceiveFromResultTypeHolder {
+        private static final BTupleType receiveFromResultTuple = new BTupleType(
+                Arrays.asList(new BArrayType(BTypes.typeByte), BTypes.typeInt,
+                        BallerinaValues.createRecordValue(SOCKET_PACKAGE_ID, "Address").getType()));
     }
 
     /**
@@ -118,8 +177,7 @@ public class SelectorManager {
      *                      packageInfo and A {@link SelectableChannel}.
      */
     public void registerChannel(ChannelRegisterCallback callback) {
-        registerPendingSockets.add(callback);
-        selector.wakeup();
+        getSelectorLoop(callback.getSocketService().getSocketChannel().hashCode()).registerChannel(callback);
     }
 
     /**
@@ -128,7 +186,7 @@ public class SelectorManager {
      * @param channel {@link SelectableChannel} that about to unregister.
      */
     public void unRegisterChannel(SelectableChannel channel) {
-        final SelectionKey selectionKey = channel.keyFor(selector);
+        final SelectionKey selectionKey = channel.keyFor(getSelectorLoop(channel.hashCode()).selector);
         if (selectionKey != null) {
             selectionKey.cancel();
         }
@@ -140,8 +198,7 @@ public class SelectorManager {
      * @param socketHashCode hashCode of the read ready socket.
      */
     void invokePendingReadReadyResources(int socketHashCode) {
-        readReadySockets.add(socketHashCode);
-        selector.wakeup();
+        getSelectorLoop(socketHashCode).invokePendingReadReadyResources(socketHashCode);
     }
 
     /**
@@ -153,84 +210,27 @@ public class SelectorManager {
                 return;
             }
             if (executor == null || executor.isTerminated()) {
-                executor = Executors.newSingleThreadExecutor(threadFactory);
+                executor = Executors.newFixedThreadPool(selectorLoops.length, threadFactory);
             }
             running = true;
             executing = true;
-            executor.execute(this::execute);
-        }
-    }
-
-    private void execute() {
-        while (executing) {
-            try {
-                registerChannels();
-                invokeReadReadyResources();
-                if (selector.select() == 0) {
-                    continue;
-                }
-                Iterator<SelectionKey> keyIterator = selector.selectedKeys().iterator();
-                while (keyIterator.hasNext()) {
-                    SelectionKey key = keyIterator.next();
-                    keyIterator.remove();
-                    performAction(key);
-                }
-            } catch (Throwable e) {
-                log.error("An error occurred in selector loop: " + e.getMessage(), e);
-            }
-        }
-    }
-
-    /*
-    Channel registration has to be done in the same thread that selector loops runs.
-     */
-    private void registerChannels() {
-        ChannelRegisterCallback channelRegisterCallback;
-        while ((channelRegisterCallback = registerPendingSockets.poll()) != null) {
-            SocketService socketService = channelRegisterCallback.getSocketService();
-            try {
-                socketService.getSocketChannel()
-                        .register(selector, channelRegisterCallback.getInitialInterest(), socketService);
-            } catch (ClosedChannelException e) {
-                channelRegisterCallback.notifyFailure("socket already closed");
-                continue;
-            }
-            // Notification needs to happen to the client connection in the socket server only if the client has
-            // a callback service.
-            boolean serviceAttached = (socketService.getService() != null
-                    && channelRegisterCallback.getInitialInterest() == OP_READ);
-            channelRegisterCallback.notifyRegister(serviceAttached);
-        }
-    }
-
-    private void invokeReadReadyResources() {
-        final Iterator<Integer> iterator = readReadySockets.iterator();
-        while (iterator.hasNext()) {
-            Integer socketHashCode = iterator.next();
-            // Removing an entry from the readReadySockets queue is fine. This will cleanup the last entry that add due
-            // execution of TCPSocketReadCallback.
-            final SocketReader socketReader = ReadReadySocketMap.getInstance().get(socketHashCode);
-            // SocketReader can be null if there is no new read ready notification.
-            if (socketReader == null) {
-                continue;
+            for (SelectorLoop selectorLoop : selectorLoops) {
+                executor.execute(selectorLoop::execute);
             }
-            iterator.remove();
-            final SocketService socketService = socketReader.getSocketService();
-            invokeReadReadyResource(socketService);
         }
     }
 
-    private void performAction(SelectionKey key) {
+    private void performAction(SelectorLoop selectorLoop, SelectionKey key) {
         if (!key.isValid()) {
             key.cancel();
         } else if (key.isAcceptable()) {
-            onAccept(key);
+            onAccept(selectorLoop, key);
         } else if (key.isReadable()) {
             onReadReady(key);
         }
     }
 
-    private void onAccept(SelectionKey key) {
+    private void onAccept(SelectorLoop selectorLoop, SelectionKey key) {
         SocketService socketService = (SocketService) key.attachment();
         ServerSocketChannel server = (ServerSocketChannel) socketService.getSocketChannel();
         try {
@@ -240,10 +240,16 @@ public class SelectorManager {
             // We don't need the ServerSocketChannel in here since we have all the necessary resources.
             SocketService clientSocketService = new SocketService(client, socketService.getScheduler(),
                     socketService.getService(), socketService.getReadTimeout());
-            // Registering the channel against the selector directly without going through the queue,
-            // since we are in same thread.
-            client.register(selector, OP_READ, clientSocketService);
-            SelectorDispatcher.invokeOnConnect(clientSocketService);
+            SelectorLoop clientSelectorLoop = getSelectorLoop(client.hashCode());
+            if (clientSelectorLoop == selectorLoop) {
+                // Registering the channel against the selector directly without going through the queue,
+                // since we are in same thread.
+                client.register(selectorLoop.selector, OP_READ, clientSocketService);
+                SelectorDispatcher.invokeOnConnect(clientSocketService);
+            } else {
+                // The client is handed over to its own selector loop, which invokes the onConnect once registered.
+                clientSelectorLoop.registerChannel(new ChannelRegisterCallback(clientSocketService, OP_READ));
+            }
         } catch (ClosedByInterruptException e) {
             SelectorDispatcher
                     .invokeOnError(new SocketService(socketService.getScheduler(), socketService.getService()),
@@ -312,18 +318,19 @@ public class SelectorManager {
 
     private void readUdpSocket(SocketReader socketReader, ReadPendingCallback callback) {
         DatagramChannel channel = (DatagramChannel) socketReader.getSocketService().getSocketChannel();
+        ByteBuffer buffer = null;
         try {
-            ByteBuffer buffer = createBuffer(callback, channel);
+            buffer = createBuffer(callback, channel);
             final InetSocketAddress remoteAddress = (InetSocketAddress) channel.receive(buffer);
             callback.resetTimeout();
             final int bufferPosition = buffer.position();
             callback.updateCurrentLength(bufferPosition);
             // Re-register for read ready events.
             socketReader.getSelectionKey().interestOps(OP_READ);
-            selector.wakeup();
+            socketReader.getSelectionKey().selector().wakeup();
             if (callback.getExpectedLength() != DEFAULT_EXPECTED_READ_LENGTH) {
                 if (callback.getBuffer() == null) {
-                    callback.setBuffer(ByteBuffer.allocate(buffer.capacity()));
+                    callback.setBuffer(ByteBuffer.allocate(callback.getExpectedLength()));
                 }
                 buffer.flip();
                 callback.getBuffer().put(buffer);
@@ -347,36 +354,50 @@ public class SelectorManager {
         } catch (Throwable e) {
             log.error(e.getMessage(), e);
             processError(callback, ReadTimedOutError, "error while on receiveFrom operation");
+        } finally {
+            if (buffer != null) {
+                bufferPool.release(buffer);
+            }
         }
     }
 
     private void readTcpSocket(SocketReader socketReader, ReadPendingCallback callback) {
         SocketChannel socketChannel = (SocketChannel) socketReader.getSocketService().getSocketChannel();
+        ByteBuffer buffer = null;
         try {
-            ByteBuffer buffer = createBuffer(callback, socketChannel);
+            buffer = createBuffer(callback, socketChannel);
             int read = socketChannel.read(buffer);
             callback.resetTimeout();
+            byte[] bytes;
             if (read < 0) {
                 SelectorManager.getInstance().unRegisterChannel(socketChannel);
+                bytes = SocketUtils.getByteArrayFromByteBuffer(callback.getBuffer() == null ? buffer : callback
+                        .getBuffer());
             } else {
                 callback.updateCurrentLength(read);
                 // Re-register for read ready events.
                 socketReader.getSelectionKey().interestOps(OP_READ);
-                selector.wakeup();
-                if (callback.getBuffer() == null) {
-                    callback.setBuffer(ByteBuffer.allocate(buffer.capacity()));
-                }
-                buffer.flip();
-                callback.getBuffer().put(buffer);
-                if (callback.getExpectedLength() != DEFAULT_EXPECTED_READ_LENGTH
-                        && callback.getExpectedLength() != callback.getCurrentLength()) {
-                    ReadPendingSocketMap.getInstance().add(socketChannel.hashCode(), callback);
-                    invokeRead(socketChannel.hashCode(), socketReader.getSocketService().getService() != null);
-                    return;
+                socketReader.getSelectionKey().selector().wakeup();
+                if (callback.getExpectedLength() == DEFAULT_EXPECTED_READ_LENGTH) {
+                    // The content of a single read is copied straight from the pooled buffer, into an array of the
+                    // size of the content rather than of the socket receive buffer.
+                    bytes = SocketUtils.getByteArrayFromByteBuffer(buffer);
+                } else {
+                    // The content of several reads is gathered until the expected length is read.
+                    if (callback.getBuffer() == null) {
+                        callback.setBuffer(ByteBuffer.allocate(callback.getExpectedLength()));
+                    }
+                    buffer.flip();
+                    callback.getBuffer().put(buffer);
+                    if (callback.getExpectedLength() != callback.getCurrentLength()) {
+                        ReadPendingSocketMap.getInstance().add(socketChannel.hashCode(), callback);
+                        invokeRead(socketChannel.hashCode(), socketReader.getSocketService().getService() != null);
+                        return;
+                    }
+                    // The gathered content fills the array of the buffer, which is not used again.
+                    bytes = callback.getBuffer().array();
                 }
             }
-            byte[] bytes = SocketUtils
-                    .getByteArrayFromByteBuffer(callback.getBuffer() == null ? buffer : callback.getBuffer());
             callback.getCallback().setReturnValues(createTcpSocketReturnValue(callback, bytes));
             callback.getCallback().notifySuccess();
             callback.cancelTimeout();
@@ -390,6 +411,10 @@ public class SelectorManager {
         } catch (Throwable e) {
             log.error(e.getMessage(), e);
             processError(callback, null, "error while on read operation");
+        } finally {
+            if (buffer != null) {
+                bufferPool.release(buffer);
+            }
         }
     }
 
@@ -412,7 +437,7 @@ public class SelectorManager {
         MapValue<String, Object> address = BallerinaValues.createRecordValue(SOCKET_PACKAGE_ID, "Address");
         address.put("port", remoteAddress.getPort());
         address.put("host", remoteAddress.getHostName());
-        TupleValueImpl contentTuple = new TupleValueImpl(receiveFromResultTuple);
+        TupleValueImpl contentTuple = new TupleValueImpl(ReceiveFromResultTypeHolder.receiveFromResultTuple);
         contentTuple.add(0, new ArrayValueImpl(bytes));
         contentTuple.add(1, Long.valueOf(callback.getCurrentLength()));
         contentTuple.add(2, address);
@@ -421,13 +446,13 @@ public class SelectorManager {
 
     private ByteBuffer createBuffer(ReadPendingCallback callback, int osBufferSize) {
         ByteBuffer buffer;
-        // If the length is not specified in the read action then create a byte buffer to match the size of
+        // If the length is not specified in the read action then take a byte buffer to match the size of
         // the receiver buffer.
         if (callback.getExpectedLength() == DEFAULT_EXPECTED_READ_LENGTH) {
-            buffer = ByteBuffer.allocate(osBufferSize);
+            buffer = bufferPool.acquire(osBufferSize);
         } else {
             int newBufferSize = callback.getExpectedLength() - callback.getCurrentLength();
-            buffer = ByteBuffer.allocate(newBufferSize);
+            buffer = bufferPool.acquire(newBufferSize);
         }
         return buffer;
     }
@@ -471,7 +496,93 @@ public class SelectorManager {
         synchronized (startStopLock) {
             executing = false;
             running = false;
+            for (SelectorLoop selectorLoop : selectorLoops) {
+                selectorLoop.selector.wakeup();
+            }
+        }
+    }
+
+    /**
+     * A selector and the queues of the work which has to be done in the thread of its loop.
+     */
+    private class SelectorLoop {
+
+        private final Selector selector;
+        private final ConcurrentLinkedQueue<ChannelRegisterCallback> registerPendingSockets =
+                new ConcurrentLinkedQueue<>();
+        private final ConcurrentLinkedQueue<Integer> readReadySockets = new ConcurrentLinkedQueue<>();
+
+        SelectorLoop(Selector selector) {
+            this.selector = selector;
+        }
+
+        void registerChannel(ChannelRegisterCallback callback) {
+            registerPendingSockets.add(callback);
             selector.wakeup();
         }
+
+        void invokePendingReadReadyResources(int socketHashCode) {
+            readReadySockets.add(socketHashCode);
+            selector.wakeup();
+        }
+
+        void execute() {
+            while (executing) {
+                try {
+                    registerChannels();
+                    invokeReadReadyResources();
+                    if (selector.select() == 0) {
+                        continue;
+                    }
+                    Iterator<SelectionKey> keyIterator = selector.selectedKeys().iterator();
+                    while (keyIterator.hasNext()) {
+                        SelectionKey key = keyIterator.next();
+                        keyIterator.remove();
+                        performAction(this, key);
+                    }
+                } catch (Throwable e) {
+                    log.error("An error occurred in selector loop: " + e.getMessage(), e);
+                }
+            }
+        }
+
+        /*
+        Channel registration has to be done in the same thread that selector loops runs.
+         */
+        private void registerChannels() {
+            ChannelRegisterCallback channelRegisterCallback;
+            while ((channelRegisterCallback = registerPendingSockets.poll()) != null) {
+                SocketService socketService = channelRegisterCallback.getSocketService();
+                try {
+                    socketService.getSocketChannel()
+                            .register(selector, channelRegisterCallback.getInitialInterest(), socketService);
+                } catch (ClosedChannelException e) {
+                    channelRegisterCallback.notifyFailure("socket already closed");
+                    continue;
+                }
+                // Notification needs to happen to the client connection in the socket server only if the client has
+                // a callback service.
+                boolean serviceAttached = (socketService.getService() != null
+                        && channelRegisterCallback.getInitialInterest() == OP_READ);
+                channelRegisterCallback.notifyRegister(serviceAttached);
+            }
+        }
+
+        private void invokeReadReadyResources() {
+            final Iterator<Integer> iterator = readReadySockets.iterator();
+            while (iterator.hasNext()) {
+                Integer socketHashCode = iterator.next();
+                // Removing an entry from the readReadySockets queue is fine. This will cleanup the last entry that
+                // add due execution of TCPSocketReadCallback.
+                final SocketReader socketReader = ReadReadySocketMap.getInstance().get(socketHashCode);
+                // SocketReader can be null if there is no new read ready notification.
+                if (socketReader == null) {
+                    continue;
+                }
+                iterator.remove();
+                final SocketService socketService = socketReader.getSocketService();
+                invokeReadReadyResource(socketService);
+            }
+        }
     }
 }
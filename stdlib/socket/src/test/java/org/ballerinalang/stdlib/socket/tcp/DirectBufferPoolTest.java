@@ -0,0 +1,96 @@
+/*
+ * Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.socket.tcp;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Unit tests for the pool of direct buffers which socket data is read into.
+ */
+public class DirectBufferPoolTest {
+
+    @Test(description = "Test that a released buffer is handed out again, cleared and limited to the requested size")
+    public void testReleasedBufferIsReused() {
+        DirectBufferPool pool = new DirectBufferPool(2, 1024);
+        ByteBuffer buffer = pool.acquire(1024);
+        Assert.assertTrue(buffer.isDirect());
+        Assert.assertEquals(buffer.position(), 0);
+        Assert.assertEquals(buffer.limit(), 1024);
+        buffer.put(new byte[100]);
+        pool.release(buffer);
+
+        ByteBuffer reused = pool.acquire(512);
+        Assert.assertSame(reused, buffer);
+        Assert.assertEquals(reused.position(), 0);
+        Assert.assertEquals(reused.limit(), 512);
+    }
+
+    @Test(description = "Test that a pooled buffer smaller than the requested size is replaced")
+    public void testSmallBufferIsDropped() {
+        DirectBufferPool pool = new DirectBufferPool(2, 1024);
+        ByteBuffer small = pool.acquire(16);
+        pool.release(small);
+
+        ByteBuffer large = pool.acquire(64);
+        Assert.assertNotSame(large, small);
+        Assert.assertEquals(large.limit(), 64);
+        pool.release(large);
+        Assert.assertSame(pool.acquire(64), large);
+    }
+
+    @Test(description = "Test that the pool keeps no more than its maximum number of buffers")
+    public void testPoolIsBounded() {
+        DirectBufferPool pool = new DirectBufferPool(2, 1024);
+        ByteBuffer first = pool.acquire(8);
+        ByteBuffer second = pool.acquire(8);
+        ByteBuffer third = pool.acquire(8);
+        pool.release(first);
+        pool.release(second);
+        pool.release(third);
+
+        Assert.assertSame(pool.acquire(8), first);
+        Assert.assertSame(pool.acquire(8), second);
+        Assert.assertNotSame(pool.acquire(8), third);
+    }
+
+    @Test(description = "Test that reads larger than the maximum buffer size get heap buffers which are not pooled")
+    public void testLargeBufferIsNotPooled() {
+        DirectBufferPool pool = new DirectBufferPool(2, 1024);
+        ByteBuffer large = pool.acquire(4096);
+        Assert.assertFalse(large.isDirect());
+        Assert.assertEquals(large.limit(), 4096);
+        pool.release(large);
+
+        ByteBuffer small = pool.acquire(512);
+        Assert.assertTrue(small.isDirect());
+        Assert.assertNotSame(small, large);
+        Assert.assertNotSame(pool.acquire(4096), large);
+    }
+
+    @Test(description = "Test that a direct buffer larger than the maximum buffer size is not pooled")
+    public void testOversizedDirectBufferIsDropped() {
+        DirectBufferPool pool = new DirectBufferPool(2, 1024);
+        pool.release(ByteBuffer.allocateDirect(2048));
+        ByteBuffer buffer = pool.acquire(1024);
+        Assert.assertEquals(buffer.capacity(), 1024);
+    }
+}
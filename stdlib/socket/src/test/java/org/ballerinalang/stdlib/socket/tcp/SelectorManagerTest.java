@@ -0,0 +1,200 @@
+/*
+ * Copyright (c) 2020 WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.ballerinalang.stdlib.socket.tcp;
+
+import org.ballerinalang.config.ConfigRegistry;
+import org.ballerinalang.jvm.scheduling.Scheduler;
+import org.ballerinalang.jvm.scheduling.Strand;
+import org.ballerinalang.jvm.types.BTypes;
+import org.ballerinalang.jvm.values.ArrayValue;
+import org.ballerinalang.jvm.values.TupleValueImpl;
+import org.ballerinalang.jvm.values.connector.NonBlockingCallback;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+
+import static java.nio.channels.SelectionKey.OP_READ;
+import static org.ballerinalang.stdlib.socket.SocketConstants.DEFAULT_EXPECTED_READ_LENGTH;
+
+/**
+ * Unit tests for spreading channels over the selector loops and reading from them.
+ */
+public class SelectorManagerTest {
+
+    private static final String SELECTOR_COUNT_CONFIG = "b7a.socket.selectorCount";
+    private static final long READ_TIMEOUT = 60000;
+
+    private SelectorManager selectorManager;
+    private ServerSocketChannel server;
+
+    @BeforeClass
+    public void setup() throws IOException {
+        selectorManager = new SelectorManager(4);
+        server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress("localhost", 0));
+    }
+
+    @AfterMethod
+    public void resetConfig() {
+        ConfigRegistry.getInstance().removeConfiguration(SELECTOR_COUNT_CONFIG);
+    }
+
+    @AfterClass
+    public void cleanup() throws IOException {
+        server.close();
+    }
+
+    @Test(description = "Test the number of selector loops taken from the config")
+    public void testSelectorCount() {
+        int processors = Runtime.getRuntime().availableProcessors();
+        Assert.assertEquals(SelectorManager.getSelectorCount(), processors);
+
+        ConfigRegistry configRegistry = ConfigRegistry.getInstance();
+        configRegistry.addConfiguration(SELECTOR_COUNT_CONFIG, 3L);
+        Assert.assertEquals(SelectorManager.getSelectorCount(), 3);
+        configRegistry.addConfiguration(SELECTOR_COUNT_CONFIG, "2");
+        Assert.assertEquals(SelectorManager.getSelectorCount(), 2);
+
+        // Invalid values fall back to a loop per processor
+        configRegistry.addConfiguration(SELECTOR_COUNT_CONFIG, 0L);
+        Assert.assertEquals(SelectorManager.getSelectorCount(), processors);
+        configRegistry.addConfiguration(SELECTOR_COUNT_CONFIG, processors * 8L + 1);
+        Assert.assertEquals(SelectorManager.getSelectorCount(), processors);
+        configRegistry.addConfiguration(SELECTOR_COUNT_CONFIG, "many");
+        Assert.assertEquals(SelectorManager.getSelectorCount(), processors);
+    }
+
+    @Test(description = "Test that a channel always maps to the same selector loop")
+    public void testSelectorLoopAffinity() throws IOException {
+        int[] hashCodes = {0, 1, 2, 3, 7, -1, -7, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        for (int hashCode : hashCodes) {
+            int index = selectorManager.getSelectorLoopIndex(hashCode);
+            Assert.assertTrue(index >= 0 && index < 4, "index " + index + " of hash code " + hashCode);
+            Assert.assertEquals(selectorManager.getSelectorLoopIndex(hashCode), index);
+            Assert.assertSame(selectorManager.getSelector(hashCode), selectorManager.getSelector(hashCode));
+        }
+        // Consecutive hash codes are spread over all the loops
+        for (int i = 0; i < 4; i++) {
+            Assert.assertEquals(selectorManager.getSelectorLoopIndex(i), i);
+        }
+        Assert.assertNotSame(selectorManager.getSelector(0), selectorManager.getSelector(1));
+
+        // A channel is unregistered from the selector of the loop it was registered to
+        try (SocketChannel channel = SocketChannel.open()) {
+            channel.configureBlocking(false);
+            SelectionKey key = channel.register(selectorManager.getSelector(channel.hashCode()), OP_READ);
+            selectorManager.unRegisterChannel(channel);
+            Assert.assertFalse(key.isValid());
+        }
+    }
+
+    @Test(description = "Test that a read returns an array of the size of the content read")
+    public void testReadIsSizedToContent() throws Exception {
+        try (SocketChannel client = SocketChannel.open(server.getLocalAddress());
+             SocketChannel accepted = server.accept()) {
+            SelectionKey key = registerForRead(accepted);
+            Strand strand = newStrand();
+            client.write(ByteBuffer.wrap("hello".getBytes(StandardCharsets.UTF_8)));
+
+            ReadPendingCallback callback = read(accepted, key, strand, DEFAULT_EXPECTED_READ_LENGTH);
+            // The content is copied straight out of the pooled buffer, without a heap buffer of the size of the
+            // socket receive buffer in between.
+            Assert.assertNull(callback.getBuffer());
+            byte[] content = getContent(strand, 5);
+            Assert.assertEquals(new String(content, StandardCharsets.UTF_8), "hello");
+        }
+    }
+
+    @Test(description = "Test that reads with an expected length are gathered into a single array")
+    public void testReadGathersExpectedLength() throws Exception {
+        try (SocketChannel client = SocketChannel.open(server.getLocalAddress());
+             SocketChannel accepted = server.accept()) {
+            SelectionKey key = registerForRead(accepted);
+            Strand strand = newStrand();
+            client.write(ByteBuffer.wrap("abcd".getBytes(StandardCharsets.UTF_8)));
+
+            ReadPendingCallback callback = read(accepted, key, strand, 8);
+            Assert.assertNull(strand.returnValue);
+            Assert.assertEquals(callback.getCurrentLength(), 4);
+            Assert.assertEquals(callback.getBuffer().capacity(), 8);
+
+            // The pending read is completed by the next read ready notification
+            client.write(ByteBuffer.wrap("efgh".getBytes(StandardCharsets.UTF_8)));
+            awaitReadable(key);
+            ReadReadySocketMap.getInstance().add(new SocketReader(new SocketService(accepted, null, null,
+                                                                                    READ_TIMEOUT), key));
+            selectorManager.invokeRead(accepted.hashCode(), false);
+            byte[] content = getContent(strand, 8);
+            Assert.assertEquals(new String(content, StandardCharsets.UTF_8), "abcdefgh");
+        }
+    }
+
+    private SelectionKey registerForRead(SocketChannel channel) throws IOException {
+        channel.configureBlocking(false);
+        return channel.register(selectorManager.getSelector(channel.hashCode()), OP_READ);
+    }
+
+    private static Strand newStrand() {
+        // The strand is never run, it only has to accept the return value of the read.
+        return new Scheduler(1, false).schedule(new Object[1], params -> null, null, null, null,
+                                                BTypes.typeNull).strand;
+    }
+
+    private ReadPendingCallback read(SocketChannel channel, SelectionKey key, Strand strand, int expectedLength)
+            throws IOException {
+        awaitReadable(key);
+        int socketHash = channel.hashCode();
+        ReadPendingCallback callback = new ReadPendingCallback(new NonBlockingCallback(strand), expectedLength,
+                                                               socketHash, READ_TIMEOUT);
+        ReadReadySocketMap.getInstance().add(new SocketReader(new SocketService(channel, null, null, READ_TIMEOUT),
+                                                              key));
+        ReadPendingSocketMap.getInstance().add(socketHash, callback);
+        selectorManager.invokeRead(socketHash, false);
+        return callback;
+    }
+
+    private static void awaitReadable(SelectionKey key) throws IOException {
+        Selector selector = key.selector();
+        Assert.assertTrue(selector.select(10000) > 0, "no data to read");
+        selector.selectedKeys().clear();
+    }
+
+    private static byte[] getContent(Strand strand, int length) throws ReflectiveOperationException {
+        TupleValueImpl result = (TupleValueImpl) strand.returnValue;
+        Assert.assertEquals(result.get(1), (long) length);
+        ArrayValue content = (ArrayValue) result.get(0);
+        // The array holding the content has the size of the content, not of the buffers it was read into
+        Field byteValues = content.getClass().getDeclaredField("byteValues");
+        byteValues.setAccessible(true);
+        Assert.assertEquals(((byte[]) byteValues.get(content)).length, length);
+        return content.getBytes();
+    }
+}
@@ -19,23 +19,30 @@
 package org.ballerinalang.stdlib.task.objects;
 
 import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
+import org.ballerinalang.stdlib.task.utils.HashedWheelTimer;
 import org.quartz.Scheduler;
 import org.quartz.SchedulerException;
 import org.quartz.impl.StdSchedulerFactory;
 
 import java.util.Properties;
+import java.util.concurrent.TimeUnit;
 
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_MISFIRE_THRESHOLD;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_MISFIRE_THRESHOLD_VALUE;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_THREAD_COUNT;
 import static org.ballerinalang.stdlib.task.utils.TaskConstants.QUARTZ_THREAD_COUNT_VALUE;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TIMER_TICKS_PER_WHEEL;
+import static org.ballerinalang.stdlib.task.utils.TaskConstants.TIMER_TICK_DURATION_MILLIS;
 
 
 /**
- * Task manager to handle schedulers in ballerina tasks.
+ * Task manager to handle schedulers in ballerina tasks. Appointments are scheduled with Quartz, and timers with a
+ * timing wheel.
  */
 public class TaskManager {
     private Scheduler scheduler;
+    private final HashedWheelTimer timerWheel =
+            new HashedWheelTimer(TIMER_TICK_DURATION_MILLIS, TimeUnit.MILLISECONDS, TIMER_TICKS_PER_WHEEL);
 
     private static class TaskManagerHelper {
         private static final TaskManager INSTANCE = new TaskManager();
@@ -61,6 +68,10 @@ public class TaskManager {
         return this.scheduler;
     }
 
+    public HashedWheelTimer getTimerWheel() {
+        return this.timerWheel;
+    }
+
     private Properties createSchedulerProperties() {
         Properties properties = new Properties();
         properties.setProperty(QUARTZ_MISFIRE_THRESHOLD, QUARTZ_MISFIRE_THRESHOLD_VALUE);
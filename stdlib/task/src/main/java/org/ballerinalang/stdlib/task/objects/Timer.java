@@ -18,27 +18,29 @@
 package org.ballerinalang.stdlib.task.objects;
 
 import org.ballerinalang.stdlib.task.exceptions.SchedulingException;
-import org.ballerinalang.stdlib.task.utils.TaskJob;
-import org.quartz.JobDataMap;
-import org.quartz.JobDetail;
-import org.quartz.SchedulerException;
-import org.quartz.SimpleScheduleBuilder;
-import org.quartz.Trigger;
+import org.ballerinalang.stdlib.task.utils.HashedWheelTimer;
+import org.ballerinalang.stdlib.task.utils.TaskExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
-import java.util.Date;
-
-import static org.quartz.JobBuilder.newJob;
-import static org.quartz.SimpleScheduleBuilder.simpleSchedule;
-import static org.quartz.TriggerBuilder.newTrigger;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Represents a Timer object used to create and run Timers.
+ * <p>
+ * Timers are scheduled with the timing wheel of the {@link TaskManager}, which dispatches the services of a timer to
+ * the strand scheduler. The runs of a timer which are due while the timer is paused are skipped, but are counted
+ * against the maximum number of runs.
  *
  * @since 0.995.0
  */
 public class Timer extends AbstractTask {
 
+    private static final Logger log = LoggerFactory.getLogger(Timer.class);
+
     private long interval, delay;
+    private volatile boolean paused = false;
+    private volatile Schedule schedule;
 
     /**
      * Creates a Timer object.
@@ -74,14 +76,40 @@ public class Timer extends AbstractTask {
      */
     @Override
     public void start() throws SchedulingException {
-        JobDataMap jobDataMap = getJobDataMapFromTask();
-        try {
-            scheduleTimer(jobDataMap);
-        } catch (SchedulerException e) {
-            throw new SchedulingException("Failed to schedule task.", e);
+        Schedule newSchedule = new Schedule(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(this.getDelay()));
+        this.schedule = newSchedule;
+        newSchedule.timeout = TaskManager.getInstance().getTimerWheel().newTimeout(newSchedule::run,
+                this.getDelay(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void stop() {
+        Schedule currentSchedule = this.schedule;
+        this.schedule = null;
+        if (currentSchedule != null && currentSchedule.timeout != null) {
+            currentSchedule.timeout.cancel();
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void pause() {
+        paused = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void resume() {
+        paused = false;
+    }
+
     /**
      * Gets the interval of this Timer.
      *
@@ -119,49 +147,58 @@ public class Timer extends AbstractTask {
     }
 
     /**
-     * Schedule a Timer.
-     *
-     * @param jobData Map containing the details of the job.
-     * @throws SchedulerException if scheduling is failed.
+     * The runs of a started timer. A new schedule is created each time the timer is started, and a schedule which is
+     * no longer the schedule of the timer does not run the services.
      */
-    private void scheduleTimer(JobDataMap jobData) throws SchedulerException, SchedulingException {
-        SimpleScheduleBuilder schedule = createSchedulerBuilder(this.getInterval(), this.getMaxRuns());
-        String triggerId = this.getId();
-        JobDetail job = newJob(TaskJob.class).usingJobData(jobData).withIdentity(triggerId).build();
-        Trigger trigger;
-
-        if (this.getDelay() > 0) {
-            Date startTime = new Date(System.currentTimeMillis() + this.getDelay());
-            trigger = newTrigger()
-                    .withIdentity(triggerId)
-                    .startAt(startTime)
-                    .forJob(job)
-                    .withSchedule(schedule)
-                    .build();
-        } else {
-            trigger = newTrigger()
-                    .withIdentity(triggerId)
-                    .startNow()
-                    .forJob(job)
-                    .withSchedule(schedule)
-                    .build();
+    private class Schedule {
+
+        // Accessed by the thread of the timing wheel only
+        private long nextRunTime;
+        private long runs;
+        private volatile HashedWheelTimer.Timeout timeout;
+
+        Schedule(long nextRunTime) {
+            this.nextRunTime = nextRunTime;
         }
 
-        TaskManager.getInstance().getScheduler().scheduleJob(job, trigger);
-        quartzJobs.put(triggerId, job.getKey());
-    }
+        /**
+         * Run the services of the timer, and schedule the next run. This is invoked by the thread of the timing
+         * wheel.
+         */
+        void run() {
+            long currentTime = System.nanoTime();
+            // All the runs which are due are done, since the interval of the timer can be shorter than a tick of the
+            // timing wheel.
+            while (nextRunTime - currentTime <= 0) {
+                if (schedule != this) {
+                    return;
+                }
+                if (!paused) {
+                    runServices();
+                }
+                runs++;
+                if (getMaxRuns() > 0 && runs >= getMaxRuns()) {
+                    return;
+                }
+                nextRunTime += TimeUnit.MILLISECONDS.toNanos(getInterval());
+            }
+            timeout = TaskManager.getInstance().getTimerWheel().newTimeout(this::run, nextRunTime - currentTime,
+                    TimeUnit.NANOSECONDS);
+        }
 
-    private static SimpleScheduleBuilder createSchedulerBuilder(long interval, long maxRuns) {
-        SimpleScheduleBuilder simpleScheduleBuilder = simpleSchedule()
-                .withMisfireHandlingInstructionNextWithRemainingCount()
-                .withIntervalInMilliseconds(interval);
-        if (maxRuns > 0) {
-            // Quartz uses number of repeats, but we count total number of runs.
-            // Hence we subtract 1 from the maxRuns to get the repeat count.
-            simpleScheduleBuilder.withRepeatCount((int) (maxRuns - 1));
-        } else {
-            simpleScheduleBuilder.repeatForever();
+        /**
+         * Dispatch the services of the timer. A service which cannot be dispatched is logged and skipped, so that the
+         * other services still run and the next run is still scheduled.
+         */
+        private void runServices() {
+            for (ServiceInformation serviceInformation : getServicesMap().values()) {
+                try {
+                    TaskExecutor.executeFunction(serviceInformation);
+                } catch (RuntimeException e) {
+                    log.error("error occurred while running the timer service "
+                                      + serviceInformation.getServiceName(), e);
+                }
+            }
         }
-        return simpleScheduleBuilder;
     }
 }
@@ -90,4 +90,8 @@ public class TaskConstants {
     public static final String QUARTZ_MISFIRE_THRESHOLD_VALUE = "5000";
     public static final String QUARTZ_THREAD_POOL_CLASS_VALUE = "org.quartz.simpl.SimpleThreadPool";
     public static final String QUARTZ_JOB_STORE_CLASS_VALUE = "org.quartz.simpl.RAMJobStore";
+
+    // Timing wheel of the timers, which covers about 5 seconds in a round of the wheel
+    public static final long TIMER_TICK_DURATION_MILLIS = 10;
+    public static final int TIMER_TICKS_PER_WHEEL = 512;
 }
@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2020, WSO2 Inc. (http://www.wso2.org) All Rights Reserved.
+ *
+ * WSO2 Inc. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.ballerinalang.stdlib.task.utils;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tests for the timing wheel of the task timers.
+ */
+public class HashedWheelTimerTest {
+
+    @Test(description = "Tests that timeouts run after their delay, including delays longer than a round")
+    public void testTimeoutsExpire() throws InterruptedException {
+        HashedWheelTimer timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS, 8);
+        int count = 1000;
+        CountDownLatch latch = new CountDownLatch(count);
+        AtomicInteger early = new AtomicInteger();
+        for (int i = 0; i < count; i++) {
+            long delay = i % 200;
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delay);
+            timer.newTimeout(() -> {
+                if (System.nanoTime() - deadline < 0) {
+                    early.incrementAndGet();
+                }
+                latch.countDown();
+            }, delay, TimeUnit.MILLISECONDS);
+        }
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(early.get(), 0);
+    }
+
+    @Test(description = "Tests that a cancelled timeout does not run")
+    public void testCancelledTimeout() throws InterruptedException {
+        HashedWheelTimer timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS, 512);
+        AtomicInteger runs = new AtomicInteger();
+        HashedWheelTimer.Timeout cancelled = timer.newTimeout(runs::incrementAndGet, 50, TimeUnit.MILLISECONDS);
+        CountDownLatch latch = new CountDownLatch(1);
+        HashedWheelTimer.Timeout expired = timer.newTimeout(latch::countDown, 100, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(cancelled.cancel());
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(runs.get(), 0);
+        Assert.assertTrue(cancelled.isCancelled());
+        Assert.assertTrue(expired.isExpired());
+        Assert.assertFalse(expired.cancel());
+    }
+
+    @Test(description = "Tests that a timeout which fails does not stop the timeouts which follow it")
+    public void testFailingTimeout() throws InterruptedException {
+        HashedWheelTimer timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS, 8);
+        timer.newTimeout(() -> {
+            throw new IllegalStateException("failing timeout");
+        }, 20, TimeUnit.MILLISECONDS);
+        CountDownLatch latch = new CountDownLatch(1);
+        timer.newTimeout(latch::countDown, 50, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test(description = "Tests scheduling and cancelling timeouts from several threads at once")
+    public void testConcurrentScheduleAndCancel() throws InterruptedException {
+        HashedWheelTimer timer = new HashedWheelTimer(10, TimeUnit.MILLISECONDS, 512);
+        AtomicInteger runs = new AtomicInteger();
+        AtomicInteger notCancelled = new AtomicInteger();
+        int threads = 4;
+        int timeoutsPerThread = 10000;
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            new Thread(() -> {
+                for (int j = 0; j < timeoutsPerThread; j++) {
+                    // Half of the timeouts are due while the others are still being scheduled
+                    long delay = j % 2 == 0 ? 60000 : 20;
+                    HashedWheelTimer.Timeout timeout = timer.newTimeout(runs::incrementAndGet, delay,
+                            TimeUnit.MILLISECONDS);
+                    if (!timeout.cancel()) {
+                        notCancelled.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            }).start();
+        }
+        Assert.assertTrue(done.await(60, TimeUnit.SECONDS));
+        // Wait for the timeouts which would have been due, had they not been cancelled
+        CountDownLatch latch = new CountDownLatch(1);
+        timer.newTimeout(latch::countDown, 100, TimeUnit.MILLISECONDS);
+        Assert.assertTrue(latch.await(10, TimeUnit.SECONDS));
+        Assert.assertEquals(notCancelled.get(), 0);
+        Assert.assertEquals(runs.get(), 0);
+    }
+}